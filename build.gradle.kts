@@ -1,6 +1,7 @@
 plugins {
     id("org.openrewrite.build.recipe-library") version "latest.release"
     id("org.openrewrite.build.moderne-source-available-license") version "latest.release"
+    id("me.champeau.jmh") version "latest.release"
 }
 
 group = "org.openrewrite.recipe"
@@ -65,8 +66,14 @@ dependencies {
 
     testRuntimeOnly("org.codehaus.plexus:plexus-container-default:2.+")
 
+    jmh("org.apache.commons:commons-lang3:3.+")
 }
 
 tasks.withType<JavaCompile> {
     options.compilerArgs.add("-Arewrite.javaParserClasspathFrom=resources")
 }
+
+// The benchmarks compare the code emitted by the recipes, which may use Java 11 APIs such as `String#repeat`
+tasks.named<JavaCompile>("compileJmhJava") {
+    options.release.set(17)
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.commons.lang;
+
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@code StringUtils#repeat}, {@code #leftPad}, {@code #rightPad} and {@code #center} with the
+ * {@code String#repeat} based code that {@link RepeatAndPadToJdk} replaces them with.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RepeatAndPadBenchmark {
+
+    @Param({"8", "80"})
+    int width;
+
+    @Param({"-", "amount"})
+    String s;
+
+    @Benchmark
+    public String repeatStringUtils() {
+        return StringUtils.repeat(s, width);
+    }
+
+    @Benchmark
+    public String repeatJdk() {
+        return s == null ? null : s.repeat(Math.max(0, width));
+    }
+
+    @Benchmark
+    public String leftPadStringUtils() {
+        return StringUtils.leftPad(s, width);
+    }
+
+    @Benchmark
+    public String leftPadJdk() {
+        return s == null || s.length() >= width ? s : " ".repeat(width - s.length()) + s;
+    }
+
+    @Benchmark
+    public String rightPadStringUtils() {
+        return StringUtils.rightPad(s, width);
+    }
+
+    @Benchmark
+    public String rightPadJdk() {
+        return s == null || s.length() >= width ? s : s + " ".repeat(width - s.length());
+    }
+
+    @Benchmark
+    public String centerStringUtils() {
+        return StringUtils.center(s, width);
+    }
+
+    @Benchmark
+    public String centerJdk() {
+        return s == null || s.length() >= width ? s :
+                " ".repeat((width - s.length()) / 2) + s + " ".repeat(width - s.length() - (width - s.length()) / 2);
+    }
+}
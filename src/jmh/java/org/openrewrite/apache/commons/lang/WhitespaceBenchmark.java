@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.commons.lang;
+
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares {@code StringUtils#deleteWhitespace} and {@code #split} with the {@code String#replaceAll} and
+ * {@code String#split} code of the {@link ApacheCommonsStringUtils} templates, and with the precompiled
+ * {@code Pattern} that {@link PrecompileRegexPatterns} rewrites that code to.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WhitespaceBenchmark {
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    @Param({"key=value", "GET /index.html HTTP/1.1 200 1024 \t0.003s"})
+    String s;
+
+    @Benchmark
+    public String deleteWhitespaceStringUtils() {
+        return StringUtils.deleteWhitespace(s);
+    }
+
+    @Benchmark
+    public String deleteWhitespaceTemplate() {
+        return s == null ? null : s.replaceAll("\\s+", "");
+    }
+
+    @Benchmark
+    public String deleteWhitespacePrecompiled() {
+        return s == null ? null : WHITESPACE.matcher(s).replaceAll("");
+    }
+
+    @Benchmark
+    public String[] splitStringUtils() {
+        return StringUtils.split(s);
+    }
+
+    @Benchmark
+    public String[] splitTemplate() {
+        return s == null ? null : s.split("\\s+");
+    }
+
+    @Benchmark
+    public String[] splitPrecompiled() {
+        return s == null ? null : WHITESPACE.split(s);
+    }
+}
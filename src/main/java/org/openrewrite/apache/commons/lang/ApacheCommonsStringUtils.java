@@ -299,28 +299,7 @@ public class ApacheCommonsStringUtils {
     //    }
     //}
 
-    // NOTE: These two methods don't generate the recipe templates right
-    //public static class LeftPad {
-    //    @BeforeTemplate
-    //    String before(String s, int l) {
-    //        return StringUtils.leftPad(s, l);
-    //    }
-    //    @AfterTemplate
-    //    String after(String s, int l) {
-    //        return String.format("%" + l + "s", s);
-    //    }
-    //}
-
-    //public static class RightPad {
-    //    @BeforeTemplate
-    //    String before(String s, int l) {
-    //        return StringUtils.rightPad(s, l);
-    //    }
-    //    @AfterTemplate
-    //    String after(String s, int l) {
-    //        return String.format("%" + (-l) + "s", s);
-    //    }
-    //}
+    // NOTE: leftPad and rightPad are replaced with `String.repeat` in RepeatAndPadToJdk, which requires Java 11
 
     //public static class Join {
     //    @BeforeTemplate
@@ -405,18 +384,7 @@ public class ApacheCommonsStringUtils {
     //    }
     //}
 
-    // NOTE: Similar issues to what LeftPad and RightPad have
-    //public static class Center {
-    //    @BeforeTemplate
-    //    String before(String s, int size) {
-    //        return StringUtils.center(s, size);
-    //    }
-
-    //    @AfterTemplate
-    //    String after(String s, int size) {
-    //        return String.format("%" + size + "s" + s + "%" + size + "s", "", "");
-    //    }
-    //}
+    // NOTE: center is replaced with `String.repeat` in RepeatAndPadToJdk, which requires Java 11
 
     @RecipeDescriptor(
             name = "Replace `StringUtils.removeEnd(String, String)` with JDK provided API",
@@ -435,17 +403,7 @@ public class ApacheCommonsStringUtils {
         }
     }
 
-    //public static class Repeat {
-    //    @BeforeTemplate
-    //    String before(String s, int l) {
-    //        return StringUtils.repeat(s, l);
-    //    }
-    //
-    //    @AfterTemplate
-    //    String after(String s, int l) {
-    //        return (s == null ? null : new String(new char[l]).replace("\0", s));
-    //    }
-    //}
+    // NOTE: repeat is replaced with `String.repeat` in RepeatAndPadToJdk, which requires Java 11
 
     // NOTE: requires dedicated recipe to clean up `Pattern.quote(",")`
     //public static class ReplaceOnce {
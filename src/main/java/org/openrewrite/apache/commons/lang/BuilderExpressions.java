@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.commons.lang;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+
+/**
+ * The JDK code for the values compared, hashed and printed by the commons-lang {@code EqualsBuilder},
+ * {@code HashCodeBuilder} and {@code ToStringBuilder}, for both commons-lang 2 and 3.
+ */
+final class BuilderExpressions {
+    static final String[] BUILDER_PACKAGES = {"org.apache.commons.lang.builder", "org.apache.commons.lang3.builder"};
+
+    private BuilderExpressions() {
+    }
+
+    static MethodMatcher[] matchers(String pattern) {
+        MethodMatcher[] matchers = new MethodMatcher[BUILDER_PACKAGES.length];
+        for (int i = 0; i < BUILDER_PACKAGES.length; i++) {
+            matchers[i] = new MethodMatcher(BUILDER_PACKAGES[i] + "." + pattern);
+        }
+        return matchers;
+    }
+
+    static boolean matchesAny(MethodMatcher[] matchers, @Nullable J tree) {
+        for (MethodMatcher matcher : matchers) {
+            if (tree instanceof J.MethodInvocation && matcher.matches((J.MethodInvocation) tree) ||
+                tree instanceof J.NewClass && matcher.matches((J.NewClass) tree)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the element of {@code Objects.hash(..)} for a value, or null for values that may hold an array at
+     * runtime, which the builders hash by content
+     */
+    static @Nullable String hashCodeElement(@Nullable JavaType type, String value) {
+        if (isPrimitive(type)) {
+            return value;
+        } else if (type instanceof JavaType.Array) {
+            return (isPrimitiveArray(type) ? "Arrays.hashCode(" : "Arrays.deepHashCode(") + value + ")";
+        }
+        return isComparableByEquals(type) ? value : null;
+    }
+
+    /**
+     * @return the comparison of two values, or null for values that may hold an array at runtime
+     */
+    static @Nullable String equalsComparison(@Nullable JavaType type, String left, String right) {
+        if (type == JavaType.Primitive.Double) {
+            return "Double.compare(" + left + ", " + right + ") == 0";
+        } else if (type == JavaType.Primitive.Float) {
+            return "Float.compare(" + left + ", " + right + ") == 0";
+        } else if (isPrimitive(type)) {
+            return left + " == " + right;
+        } else if (type instanceof JavaType.Array) {
+            return (isPrimitiveArray(type) ? "Arrays.equals(" : "Arrays.deepEquals(") + left + ", " + right + ")";
+        }
+        return isComparableByEquals(type) ? "Objects.equals(" + left + ", " + right + ")" : null;
+    }
+
+    /**
+     * @return the value as printed by the default {@code ToStringStyle}, or null for arrays, which it prints as
+     * {@code {a,b}}
+     */
+    static @Nullable String toStringValue(@Nullable JavaType type, String value) {
+        if (isPrimitive(type)) {
+            return value;
+        }
+        return isComparableByEquals(type) ? "Objects.toString(" + value + ", \"<null>\")" : null;
+    }
+
+    /**
+     * @return the prefix of the default {@code ToStringStyle}, up to the first field
+     */
+    static String toStringPrefix() {
+        return "getClass().getName() + \"@\" + Integer.toHexString(System.identityHashCode(this)) + \"[";
+    }
+
+    /**
+     * @return true unless the replaced expression is a whole value, such as a return value or an argument, where a
+     * conditional, binary or concatenation needs no parentheses
+     */
+    static boolean needsParentheses(Cursor cursor) {
+        Object parent = cursor.getParentTreeCursor().getValue();
+        if (parent instanceof J.MethodInvocation) {
+            return ((J.MethodInvocation) parent).getSelect() == cursor.getValue();
+        }
+        return !(parent instanceof J.Return ||
+                 parent instanceof J.VariableDeclarations.NamedVariable ||
+                 parent instanceof J.Assignment ||
+                 parent instanceof J.NewClass ||
+                 parent instanceof J.Lambda ||
+                 parent instanceof J.Parentheses);
+    }
+
+    private static boolean isPrimitive(@Nullable JavaType type) {
+        return type instanceof JavaType.Primitive && type != JavaType.Primitive.String && type != JavaType.Primitive.Null;
+    }
+
+    private static boolean isPrimitiveArray(JavaType type) {
+        return isPrimitive(((JavaType.Array) type).getElemType());
+    }
+
+    private static boolean isComparableByEquals(@Nullable JavaType type) {
+        if (type == JavaType.Primitive.String) {
+            return true;
+        }
+        JavaType.FullyQualified fq = TypeUtils.asFullyQualified(type);
+        return fq != null && !(type instanceof JavaType.GenericTypeVariable) &&
+               !TypeUtils.isObject(type) && !"java.io.Serializable".equals(fq.getFullyQualifiedName()) &&
+               !"java.lang.Cloneable".equals(fq.getFullyQualifiedName());
+    }
+}
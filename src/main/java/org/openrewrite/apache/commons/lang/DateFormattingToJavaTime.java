@@ -0,0 +1,288 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.commons.lang;
+
+import lombok.Getter;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.apache.internal.ClassConstants;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.time.Duration;
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+import static java.util.Objects.requireNonNull;
+
+public class DateFormattingToJavaTime extends Recipe {
+    private static final String FQN_DATE_TIME_FORMATTER = "java.time.format.DateTimeFormatter";
+    private static final String FQN_RESOLVER_STYLE = "java.time.format.ResolverStyle";
+
+    private static final MethodMatcher FORMAT = new MethodMatcher("org.apache.commons.lang3.time.DateFormatUtils format(java.util.Date, String)");
+    private static final MethodMatcher FORMAT_MILLIS = new MethodMatcher("org.apache.commons.lang3.time.DateFormatUtils format(long, String)");
+    private static final MethodMatcher FORMAT_UTC = new MethodMatcher("org.apache.commons.lang3.time.DateFormatUtils formatUTC(java.util.Date, String)");
+    private static final MethodMatcher FORMAT_UTC_MILLIS = new MethodMatcher("org.apache.commons.lang3.time.DateFormatUtils formatUTC(long, String)");
+    private static final MethodMatcher FAST_DATE_FORMAT_GET_INSTANCE = new MethodMatcher("org.apache.commons.lang3.time.FastDateFormat getInstance(String)");
+    private static final MethodMatcher FAST_DATE_FORMAT = new MethodMatcher("org.apache.commons.lang3.time.FastDateFormat format(java.util.Date)");
+    private static final MethodMatcher FAST_DATE_FORMAT_MILLIS = new MethodMatcher("org.apache.commons.lang3.time.FastDateFormat format(long)");
+    private static final MethodMatcher PARSE_DATE = new MethodMatcher("org.apache.commons.lang3.time.DateUtils parseDate(String, String...)");
+
+    private static final String FORMATTERS = "dateTimeFormatters";
+
+    @Getter
+    final String displayName = "Use cached `DateTimeFormatter` constants instead of `DateUtils` and `DateFormatUtils`";
+
+    @Getter
+    final String description = "Replace `DateFormatUtils.format(date, pattern)`, `formatUTC`, " +
+            "`FastDateFormat.getInstance(pattern).format(date)` and `DateUtils.parseDate(text, pattern)` of " +
+            "commons-lang3 with a `private static final DateTimeFormatter` per pattern. `DateUtils.parseDate` creates a " +
+            "`SimpleDateFormat` on every call, and `DateFormatUtils` looks the pattern up in the `FastDateFormat` cache. " +
+            "Only literal patterns whose letters mean the same to `SimpleDateFormat` and `DateTimeFormatter` are " +
+            "replaced. Parsing stays lenient, but numeric fields must have the width of the pattern, and calls inside " +
+            "a `try` catching `ParseException`, or in a method declaring to throw it, are left alone, as " +
+            "`DateTimeFormatter` throws `DateTimeParseException`.";
+
+    @Getter
+    final Duration estimatedEffortPerOccurrence = Duration.ofMinutes(5);
+
+    @Getter
+    final Set<String> tags = new HashSet<>(Arrays.asList("apache", "commons"));
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                Preconditions.or(
+                        new UsesMethod<>(FORMAT),
+                        new UsesMethod<>(FORMAT_MILLIS),
+                        new UsesMethod<>(FORMAT_UTC),
+                        new UsesMethod<>(FORMAT_UTC_MILLIS),
+                        new UsesMethod<>(FAST_DATE_FORMAT_GET_INSTANCE),
+                        new UsesMethod<>(PARSE_DATE)),
+                new JavaVisitor<ExecutionContext>() {
+
+                    @Override
+                    public J visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                        if (!ClassConstants.canDeclare(classDecl) ||
+                                getCursor().getParentTreeCursor().firstEnclosing(J.MethodDeclaration.class) != null) {
+                            return super.visitClassDeclaration(classDecl, ctx);
+                        }
+                        Map<String, Formatter> formatters = new LinkedHashMap<>();
+                        for (Statement statement : classDecl.getBody().getStatements()) {
+                            if (statement instanceof J.VariableDeclarations) {
+                                J.VariableDeclarations field = (J.VariableDeclarations) statement;
+                                for (J.VariableDeclarations.NamedVariable variable : field.getVariables()) {
+                                    String pattern = ofPattern(variable.getInitializer());
+                                    if (pattern != null && field.hasModifier(J.Modifier.Type.Static) && field.hasModifier(J.Modifier.Type.Final)) {
+                                        formatters.putIfAbsent(pattern, new Formatter(variable.getSimpleName(), null, false));
+                                    }
+                                }
+                            }
+                        }
+                        ClassConstants.Position position = ClassConstants.position(classDecl, ClassConstants.firstIndex(classDecl));
+                        getCursor().putMessage(FORMATTERS, new Formatters(formatters, ClassConstants.memberNames(classDecl), position));
+
+                        J.ClassDeclaration cd = (J.ClassDeclaration) super.visitClassDeclaration(classDecl, ctx);
+                        List<Formatter> added = new ArrayList<>();
+                        for (Formatter f : formatters.values()) {
+                            if (f.getPattern() != null) {
+                                added.add(f);
+                            }
+                        }
+                        if (added.isEmpty()) {
+                            return cd;
+                        }
+                        maybeAddImport(FQN_DATE_TIME_FORMATTER);
+                        for (Formatter f : added) {
+                            if (f.isLenient()) {
+                                maybeAddImport(FQN_RESOLVER_STYLE);
+                            }
+                        }
+                        return ClassConstants.declare(this, cd, position.getIndex(), added, (c, f, coordinates) ->
+                                JavaTemplate.builder("private static final DateTimeFormatter " + f.getName() +
+                                                     " = DateTimeFormatter.ofPattern(#{any(String)})" +
+                                                     (f.isLenient() ? ".withResolverStyle(ResolverStyle.LENIENT);" : ";"))
+                                        .imports(FQN_DATE_TIME_FORMATTER, FQN_RESOLVER_STYLE)
+                                        .build()
+                                        .apply(updateCursor(c), coordinates, f.getPattern()), ctx);
+                    }
+
+                    @Override
+                    public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J j = super.visitMethodInvocation(method, ctx);
+                        if (!(j instanceof J.MethodInvocation) || !ClassConstants.insideMethod(getCursor())) {
+                            return j;
+                        }
+                        J.MethodInvocation m = (J.MethodInvocation) j;
+                        Expression pattern;
+                        Expression value;
+                        String zone = "ZoneId.systemDefault()";
+                        boolean millis = false;
+                        if (FORMAT.matches(m) || FORMAT_MILLIS.matches(m) || FORMAT_UTC.matches(m) || FORMAT_UTC_MILLIS.matches(m)) {
+                            value = m.getArguments().get(0);
+                            pattern = m.getArguments().get(1);
+                            millis = FORMAT_MILLIS.matches(m) || FORMAT_UTC_MILLIS.matches(m);
+                            if (FORMAT_UTC.matches(m) || FORMAT_UTC_MILLIS.matches(m)) {
+                                zone = "ZoneOffset.UTC";
+                            }
+                        } else if ((FAST_DATE_FORMAT.matches(m) || FAST_DATE_FORMAT_MILLIS.matches(m)) &&
+                                   FAST_DATE_FORMAT_GET_INSTANCE.matches(m.getSelect())) {
+                            value = m.getArguments().get(0);
+                            pattern = ((J.MethodInvocation) requireNonNull(m.getSelect())).getArguments().get(0);
+                            millis = FAST_DATE_FORMAT_MILLIS.matches(m);
+                        } else if (PARSE_DATE.matches(m) && m.getArguments().size() == 2 && !handlesParseException()) {
+                            return parseDate(m);
+                        } else {
+                            return m;
+                        }
+                        String literal = literal(pattern);
+                        if (literal == null || !PatternLetters.canFormat(literal) ||
+                                !millis && !(value instanceof J.Identifier || value instanceof J.FieldAccess ||
+                                             value instanceof J.MethodInvocation || value instanceof J.NewClass)) {
+                            return m;
+                        }
+                        J.Identifier formatter = formatter(pattern, literal, false);
+                        if (formatter == null) {
+                            return m;
+                        }
+                        maybeAddImport("java.time.Instant");
+                        maybeAddImport(zone.startsWith("ZoneId") ? "java.time.ZoneId" : "java.time.ZoneOffset");
+                        maybeRemoveImports();
+                        return JavaTemplate.builder("#{any(java.time.format.DateTimeFormatter)}.format(Instant.ofEpochMilli(" +
+                                                    (millis ? "#{any(long)}" : "#{any(java.util.Date)}.getTime()") +
+                                                    ").atZone(" + zone + "))")
+                                .imports("java.time.Instant", "java.time.ZoneId", "java.time.ZoneOffset")
+                                .build()
+                                .apply(updateCursor(m), m.getCoordinates().replace(), formatter, value);
+                    }
+
+                    private J parseDate(J.MethodInvocation m) {
+                        Expression pattern = m.getArguments().get(1);
+                        String literal = literal(pattern);
+                        PatternLetters.Fields fields = literal == null ? null : PatternLetters.parseableFields(literal);
+                        if (fields == null) {
+                            return m;
+                        }
+                        J.Identifier formatter = formatter(pattern, literal, true);
+                        if (formatter == null) {
+                            return m;
+                        }
+                        String template = fields == PatternLetters.Fields.DATE ?
+                                "Date.from(LocalDate.parse(#{any(String)}, #{any(java.time.format.DateTimeFormatter)}).atStartOfDay(ZoneId.systemDefault()).toInstant())" :
+                                "Date.from(LocalDateTime.parse(#{any(String)}, #{any(java.time.format.DateTimeFormatter)}).atZone(ZoneId.systemDefault()).toInstant())";
+                        maybeAddImport("java.util.Date");
+                        maybeAddImport(fields == PatternLetters.Fields.DATE ? "java.time.LocalDate" : "java.time.LocalDateTime");
+                        maybeAddImport("java.time.ZoneId");
+                        maybeRemoveImports();
+                        return JavaTemplate.builder(template)
+                                .imports("java.util.Date", "java.time.LocalDate", "java.time.LocalDateTime", "java.time.ZoneId")
+                                .build()
+                                .apply(updateCursor(m), m.getCoordinates().replace(), m.getArguments().get(0), formatter);
+                    }
+
+                    /**
+                     * @return the constant for a pattern, declared by the class if it has none yet, or null when the
+                     * class cannot declare one
+                     */
+                    private J.@Nullable Identifier formatter(Expression pattern, String literal, boolean lenient) {
+                        Cursor classCursor = getCursor().dropParentUntil(J.ClassDeclaration.class::isInstance);
+                        Formatters formatters = classCursor.getMessage(FORMATTERS);
+                        if (formatters == null || !formatters.getPosition().isInitializedFor(getCursor())) {
+                            return null;
+                        }
+                        Formatter f = formatters.getFormatters().computeIfAbsent(lenient ? "lenient:" + literal : literal, k -> new Formatter(
+                                ClassConstants.uniqueName(formatters.getNames(), PatternLetters.constantName(literal)),
+                                pattern.withPrefix(Space.EMPTY), lenient));
+                        return new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, emptyList(), f.getName(),
+                                JavaType.ShallowClass.build(FQN_DATE_TIME_FORMATTER), null);
+                    }
+
+                    /**
+                     * @return true when a surrounding {@code try} catches {@code ParseException}, or the enclosing
+                     * method declares to throw it, which would no longer be thrown: {@code java.time} throws an
+                     * unchecked {@code DateTimeParseException} instead
+                     */
+                    private boolean handlesParseException() {
+                        Cursor c = getCursor().getParentTreeCursor();
+                        for (; !(c.getValue() instanceof J.MethodDeclaration) && !(c.getValue() instanceof J.ClassDeclaration) &&
+                               !(c.getValue() instanceof J.Lambda);
+                             c = c.getParentTreeCursor()) {
+                            if (c.getValue() instanceof J.Try) {
+                                for (J.Try.Catch aCatch : ((J.Try) c.getValue()).getCatches()) {
+                                    if (TypeUtils.isAssignableTo("java.text.ParseException", aCatch.getParameter().getType())) {
+                                        return true;
+                                    }
+                                }
+                            }
+                        }
+                        if (c.getValue() instanceof J.MethodDeclaration && ((J.MethodDeclaration) c.getValue()).getThrows() != null) {
+                            for (NameTree thrown : ((J.MethodDeclaration) c.getValue()).getThrows()) {
+                                if (TypeUtils.isAssignableTo("java.text.ParseException", thrown.getType())) {
+                                    return true;
+                                }
+                            }
+                        }
+                        return false;
+                    }
+
+                    private void maybeRemoveImports() {
+                        maybeRemoveImport("org.apache.commons.lang3.time.DateFormatUtils");
+                        maybeRemoveImport("org.apache.commons.lang3.time.DateUtils");
+                        maybeRemoveImport("org.apache.commons.lang3.time.FastDateFormat");
+                    }
+                });
+    }
+
+    private static @Nullable String literal(Expression e) {
+        return e instanceof J.Literal && ((J.Literal) e).getValue() instanceof String ? (String) ((J.Literal) e).getValue() : null;
+    }
+
+    /**
+     * @return the pattern of a {@code DateTimeFormatter.ofPattern("..")} initializer, if it is one
+     */
+    private static @Nullable String ofPattern(@Nullable Expression initializer) {
+        if (initializer instanceof J.MethodInvocation &&
+                "ofPattern".equals(((J.MethodInvocation) initializer).getSimpleName()) &&
+                ((J.MethodInvocation) initializer).getArguments().size() == 1 &&
+                TypeUtils.isOfClassType(((J.MethodInvocation) initializer).getType(), FQN_DATE_TIME_FORMATTER)) {
+            return literal(((J.MethodInvocation) initializer).getArguments().get(0));
+        }
+        return null;
+    }
+
+    @Value
+    private static class Formatters {
+        Map<String, Formatter> formatters;
+        Set<String> names;
+        ClassConstants.Position position;
+    }
+
+    @Value
+    private static class Formatter {
+        String name;
+
+        // null for formatters that already exist in the class
+        @Nullable
+        Expression pattern;
+
+        boolean lenient;
+    }
+}
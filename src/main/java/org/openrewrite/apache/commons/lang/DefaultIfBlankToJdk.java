@@ -15,11 +15,10 @@
  */
 package org.openrewrite.apache.commons.lang;
 
-import lombok.Getter;
-import org.openrewrite.ExecutionContext;
-import org.openrewrite.Preconditions;
-import org.openrewrite.Recipe;
-import org.openrewrite.TreeVisitor;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
@@ -33,25 +32,34 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
+import static org.openrewrite.apache.commons.lang.RepeatableArgumentMatcher.bindingName;
+import static org.openrewrite.apache.commons.lang.RepeatableArgumentMatcher.canBindArgument;
 import static org.openrewrite.apache.commons.lang.RepeatableArgumentMatcher.isRepeatableArgument;
 
+@EqualsAndHashCode(callSuper = false)
+@Value
 public class DefaultIfBlankToJdk extends Recipe {
     private static final String DEFAULT_IF_BLANK_REPLACEMENT =
             "#{any(String)} == null || #{any(String)}.isBlank() ? #{any(String)} : #{any(String)}";
 
     private static final MethodMatcher defaultIfBlankMatcher = new MethodMatcher("*..StringUtils defaultIfBlank(..)");
 
-    @Getter
-    final String displayName = "Replace StringUtils#defaultIfBlank(String, String) with JDK equivalent";
+    @Option(displayName = "Evaluate arguments once",
+            description = "Also replace calls whose first argument is a `String` expression other than a variable, " +
+                    "field or simple getter, binding it once: `defaultIfBlank(getName(), fallback)` becomes " +
+                    "`getName() instanceof String name && !name.isBlank() ? name : fallback`. Only applied on Java 21 " +
+                    "and later. Defaults to `false`.",
+            required = false)
+    @Nullable
+    Boolean evaluateArgumentsOnce;
 
-    @Getter
-    final String description = "Replace `StringUtils#defaultIfBlank(s, fallback)` with `s == null || s.isBlank() ? fallback : s`.";
+    String displayName = "Replace StringUtils#defaultIfBlank(String, String) with JDK equivalent";
 
-    @Getter
-    final Duration estimatedEffortPerOccurrence = Duration.ofMinutes(1);
+    String description = "Replace `StringUtils#defaultIfBlank(s, fallback)` with `s == null || s.isBlank() ? fallback : s`.";
 
-    @Getter
-    final Set<String> tags = new HashSet<>(Arrays.asList("apache", "commons"));
+    Duration estimatedEffortPerOccurrence = Duration.ofMinutes(1);
+
+    Set<String> tags = new HashSet<>(Arrays.asList("apache", "commons"));
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
@@ -62,16 +70,26 @@ public class DefaultIfBlankToJdk extends Recipe {
         return Preconditions.check(precondition, new JavaVisitor<ExecutionContext>() {
             @Override
             public J visitMethodInvocation(J.MethodInvocation mi, ExecutionContext ctx) {
-                if (!defaultIfBlankMatcher.matches(mi) || !isRepeatableArgument(mi.getArguments().get(0))) {
+                if (!defaultIfBlankMatcher.matches(mi)) {
                     return super.visitMethodInvocation(mi, ctx);
                 }
 
                 Expression arg0 = mi.getArguments().get(0);
                 Expression arg1 = mi.getArguments().get(1);
-                maybeRemoveImport("org.apache.commons.lang3.StringUtils");
-                return JavaTemplate.apply(DEFAULT_IF_BLANK_REPLACEMENT,
-                        updateCursor(mi), mi.getCoordinates().replace(),
-                        arg0, arg0, arg1, arg0);
+                if (isRepeatableArgument(arg0)) {
+                    maybeRemoveImport("org.apache.commons.lang3.StringUtils");
+                    return JavaTemplate.apply(DEFAULT_IF_BLANK_REPLACEMENT,
+                            updateCursor(mi), mi.getCoordinates().replace(),
+                            arg0, arg0, arg1, arg0);
+                }
+                if (Boolean.TRUE.equals(evaluateArgumentsOnce) && canBindArgument(arg0, getCursor())) {
+                    String name = bindingName(arg0, getCursor());
+                    maybeRemoveImport("org.apache.commons.lang3.StringUtils");
+                    return JavaTemplate.apply("#{any(String)} instanceof String " + name + " && !" + name + ".isBlank() ? " + name + " : #{any(String)}",
+                            updateCursor(mi), mi.getCoordinates().replace(),
+                            arg0, arg1);
+                }
+                return super.visitMethodInvocation(mi, ctx);
             }
         });
     }
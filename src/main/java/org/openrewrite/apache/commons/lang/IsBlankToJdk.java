@@ -15,11 +15,10 @@
  */
 package org.openrewrite.apache.commons.lang;
 
-import lombok.Getter;
-import org.openrewrite.ExecutionContext;
-import org.openrewrite.Preconditions;
-import org.openrewrite.Recipe;
-import org.openrewrite.TreeVisitor;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
@@ -33,21 +32,30 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
+import static org.openrewrite.apache.commons.lang.RepeatableArgumentMatcher.bindingName;
+import static org.openrewrite.apache.commons.lang.RepeatableArgumentMatcher.canBindArgument;
 import static org.openrewrite.apache.commons.lang.RepeatableArgumentMatcher.isRepeatableArgument;
 
+@EqualsAndHashCode(callSuper = false)
+@Value
 public class IsBlankToJdk extends Recipe {
 
-    @Getter
-    final String displayName = "Replace any StringUtils#isBlank(String) and #isNotBlank(String)";
+    @Option(displayName = "Evaluate arguments once",
+            description = "Also replace calls whose argument is not a variable, field or simple getter, binding it to a " +
+                    "pattern variable as in `getName() instanceof String name && !name.isBlank()`, so that the argument " +
+                    "is still evaluated once. Requires Java 21, as such a `String` pattern does not compile before. " +
+                    "Defaults to `false`, which leaves these calls unchanged.",
+            required = false)
+    @Nullable
+    Boolean evaluateArgumentsOnce;
 
-    @Getter
-    final String description = "Replace any `StringUtils#isBlank(String)` and `#isNotBlank(String)` with `s == null || s.isBlank()` and `s != null && !s.isBlank()`.";
+    String displayName = "Replace any StringUtils#isBlank(String) and #isNotBlank(String)";
 
-    @Getter
-    final Duration estimatedEffortPerOccurrence = Duration.ofMinutes(1);
+    String description = "Replace any `StringUtils#isBlank(String)` and `#isNotBlank(String)` with `s == null || s.isBlank()` and `s != null && !s.isBlank()`.";
 
-    @Getter
-    final Set<String> tags = new HashSet<>(Arrays.asList("apache", "commons"));
+    Duration estimatedEffortPerOccurrence = Duration.ofMinutes(1);
+
+    Set<String> tags = new HashSet<>(Arrays.asList("apache", "commons"));
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
@@ -87,17 +95,17 @@ public class IsBlankToJdk extends Recipe {
                 }
 
                 Expression arg = mi.getArguments().get(0);
-                if (!isRepeatableArgument(arg)) {
-                    return super.visitUnary(unary, ctx);
+                if (isRepeatableArgument(arg)) {
+                    // Swap: !isBlank -> isNotBlank replacement, !isNotBlank -> isBlank replacement
+                    String template = isBlankCall ? IS_NOT_BLANK_REPLACEMENT : IS_BLANK_REPLACEMENT;
+                    maybeRemoveImports();
+                    return JavaTemplate.apply(template, updateCursor(unary), unary.getCoordinates().replace(), arg, arg);
                 }
-
-                // Swap: !isBlank -> isNotBlank replacement, !isNotBlank -> isBlank replacement
-                String template = isBlankCall ? IS_NOT_BLANK_REPLACEMENT : IS_BLANK_REPLACEMENT;
-                maybeRemoveImport("org.apache.commons.lang3.StringUtils");
-                maybeRemoveImport("org.apache.maven.shared.utils.StringUtils");
-                maybeRemoveImport("org.codehaus.plexus.util.StringUtils");
-
-                return JavaTemplate.apply(template, updateCursor(unary), unary.getCoordinates().replace(), arg, arg);
+                if (Boolean.TRUE.equals(evaluateArgumentsOnce) && canBindArgument(arg, getCursor())) {
+                    maybeRemoveImports();
+                    return JavaTemplate.apply(bindingTemplate(!isBlankCall, arg), updateCursor(unary), unary.getCoordinates().replace(), arg);
+                }
+                return super.visitUnary(unary, ctx);
             }
 
             @Override
@@ -112,15 +120,30 @@ public class IsBlankToJdk extends Recipe {
                 // Replace StringUtils.isBlank(var) with var == null || var.isBlank()
                 if (isRepeatableArgument(arg)) {
                     String template = isBlankCall ? IS_BLANK_REPLACEMENT : IS_NOT_BLANK_REPLACEMENT;
-                    maybeRemoveImport("org.apache.commons.lang3.StringUtils");
-                    maybeRemoveImport("org.apache.maven.shared.utils.StringUtils");
-                    maybeRemoveImport("org.codehaus.plexus.util.StringUtils");
-
+                    maybeRemoveImports();
                     return JavaTemplate.apply(template, updateCursor(mi), mi.getCoordinates().replace(), arg, arg);
                 }
 
+                // Replace StringUtils.isBlank(call()) with !(call() instanceof String s && !s.isBlank())
+                if (Boolean.TRUE.equals(evaluateArgumentsOnce) && canBindArgument(arg, getCursor())) {
+                    maybeRemoveImports();
+                    return JavaTemplate.apply(bindingTemplate(isBlankCall, arg), updateCursor(mi), mi.getCoordinates().replace(), arg);
+                }
+
                 return super.visitMethodInvocation(mi, ctx);
             }
+
+            private String bindingTemplate(boolean isBlank, Expression arg) {
+                String name = bindingName(arg, getCursor());
+                String notBlank = "#{any(String)} instanceof String " + name + " && !" + name + ".isBlank()";
+                return isBlank ? "!(" + notBlank + ")" : notBlank;
+            }
+
+            private void maybeRemoveImports() {
+                maybeRemoveImport("org.apache.commons.lang3.StringUtils");
+                maybeRemoveImport("org.apache.maven.shared.utils.StringUtils");
+                maybeRemoveImport("org.codehaus.plexus.util.StringUtils");
+            }
         });
     }
 }
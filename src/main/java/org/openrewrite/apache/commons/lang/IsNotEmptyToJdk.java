@@ -15,12 +15,10 @@
  */
 package org.openrewrite.apache.commons.lang;
 
-import lombok.Getter;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
 import org.jspecify.annotations.Nullable;
-import org.openrewrite.ExecutionContext;
-import org.openrewrite.Preconditions;
-import org.openrewrite.Recipe;
-import org.openrewrite.TreeVisitor;
+import org.openrewrite.*;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
@@ -34,21 +32,30 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
+import static org.openrewrite.apache.commons.lang.RepeatableArgumentMatcher.bindingName;
+import static org.openrewrite.apache.commons.lang.RepeatableArgumentMatcher.canBindArgument;
 import static org.openrewrite.apache.commons.lang.RepeatableArgumentMatcher.isRepeatableArgument;
 
+@EqualsAndHashCode(callSuper = false)
+@Value
 public class IsNotEmptyToJdk extends Recipe {
 
-    @Getter
-    final String displayName = "Replace any StringUtils#isEmpty(String) and #isNotEmpty(String)";
+    @Option(displayName = "Evaluate arguments once",
+            description = "Also replace `String` arguments that are not a variable, field or simple getter, such as " +
+                    "`StringUtils.isEmpty(line.strip())`, with a pattern variable: " +
+                    "`!(line.strip() instanceof String s && !s.isEmpty())`. The argument is then evaluated once, as " +
+                    "in the original call. Only applied on Java 21 and later. Defaults to `false`.",
+            required = false)
+    @Nullable
+    Boolean evaluateArgumentsOnce;
 
-    @Getter
-    final String description = "Replace any `StringUtils#isEmpty(String)` and `#isNotEmpty(String)` with `s == null || s.isEmpty()` and `s != null && !s.isEmpty()`.";
+    String displayName = "Replace any StringUtils#isEmpty(String) and #isNotEmpty(String)";
 
-    @Getter
-    final Duration estimatedEffortPerOccurrence = Duration.ofMinutes(1);
+    String description = "Replace any `StringUtils#isEmpty(String)` and `#isNotEmpty(String)` with `s == null || s.isEmpty()` and `s != null && !s.isEmpty()`.";
 
-    @Getter
-    final Set<String> tags = new HashSet<>(Arrays.asList("apache", "commons"));
+    Duration estimatedEffortPerOccurrence = Duration.ofMinutes(1);
+
+    Set<String> tags = new HashSet<>(Arrays.asList("apache", "commons"));
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
@@ -103,6 +110,17 @@ public class IsNotEmptyToJdk extends Recipe {
                     return replacementTemplate.apply(updateCursor(mi), mi.getCoordinates().replace(), ((J.MethodInvocation) arg).getSelect());
                 }
 
+                // Replace StringUtils.isEmpty(call()) with !(call() instanceof String s && !s.isEmpty())
+                if (Boolean.TRUE.equals(evaluateArgumentsOnce) && canBindArgument(arg, getCursor())) {
+                    String name = bindingName(arg, getCursor());
+                    String notEmpty = "#{any(String)} instanceof String " + name + " && !" + name + ".isEmpty()";
+                    maybeRemoveImport("org.apache.commons.lang3.StringUtils");
+                    maybeRemoveImport("org.apache.maven.shared.utils.StringUtils");
+                    maybeRemoveImport("org.codehaus.plexus.util.StringUtils");
+                    return JavaTemplate.apply(isEmptyCall ? "!(" + notEmpty + ")" : notEmpty,
+                            updateCursor(mi), mi.getCoordinates().replace(), arg);
+                }
+
                 return super.visitMethodInvocation(mi, ctx);
             }
         });
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.commons.lang;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The subset of {@code SimpleDateFormat} pattern letters that {@code DateTimeFormatter} reads the same way.
+ */
+final class PatternLetters {
+
+    enum Fields {
+        DATE,
+        DATE_TIME
+    }
+
+    private PatternLetters() {
+    }
+
+    /**
+     * @return true when {@code DateTimeFormatter.ofPattern(pattern)} formats like {@code FastDateFormat}
+     */
+    static boolean canFormat(String pattern) {
+        Map<Character, Integer> letters = letters(pattern);
+        if (letters == null) {
+            return false;
+        }
+        for (Map.Entry<Character, Integer> letter : letters.entrySet()) {
+            int count = letter.getValue();
+            switch (letter.getKey()) {
+                case 'y':
+                    if (count == 3 || count > 4) {
+                        return false;
+                    }
+                    break;
+                case 'M':
+                case 'E':
+                    if (count > 4) {
+                        return false;
+                    }
+                    break;
+                case 'd':
+                case 'H':
+                case 'h':
+                case 'm':
+                case 's':
+                    if (count > 2) {
+                        return false;
+                    }
+                    break;
+                case 'S':
+                    // Milliseconds in SimpleDateFormat, but the fraction of the second in DateTimeFormatter
+                    if (count != 3) {
+                        return false;
+                    }
+                    break;
+                case 'a':
+                    if (count != 1) {
+                        return false;
+                    }
+                    break;
+                default:
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the fields {@code DateTimeFormatter} parses from the pattern like {@code SimpleDateFormat} does, or null
+     * for patterns with text, two digit years or without a full date
+     */
+    static @Nullable Fields parseableFields(String pattern) {
+        Map<Character, Integer> letters = letters(pattern);
+        if (letters == null || !canFormat(pattern) ||
+                letters.getOrDefault('y', 0) != 4 || letters.getOrDefault('M', 3) > 2 || !letters.containsKey('d') ||
+                letters.containsKey('E') || letters.containsKey('h') || letters.containsKey('a')) {
+            return null;
+        }
+        if (letters.containsKey('H') || letters.containsKey('m') || letters.containsKey('s') || letters.containsKey('S')) {
+            return letters.containsKey('H') && letters.containsKey('m') ? Fields.DATE_TIME : null;
+        }
+        return Fields.DATE;
+    }
+
+    static String constantName(String pattern) {
+        Map<Character, Integer> letters = letters(pattern);
+        boolean date = letters != null && (letters.containsKey('y') || letters.containsKey('M') ||
+                                           letters.containsKey('d') || letters.containsKey('E'));
+        boolean time = letters != null && (letters.containsKey('H') || letters.containsKey('h') ||
+                                           letters.containsKey('m') || letters.containsKey('s'));
+        return date && time ? "DATE_TIME_FORMATTER" : date ? "DATE_FORMATTER" : time ? "TIME_FORMATTER" : "FORMATTER";
+    }
+
+    /**
+     * @return the number of times each pattern letter is repeated, or null when a letter is used twice, a quote is not
+     * closed or the pattern uses characters that {@code DateTimeFormatter} reserves
+     */
+    private static @Nullable Map<Character, Integer> letters(String pattern) {
+        Map<Character, Integer> letters = new LinkedHashMap<>();
+        for (int i = 0; i < pattern.length(); ) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                int end = pattern.indexOf('\'', i + 1);
+                if (end == -1) {
+                    return null;
+                }
+                i = end + 1;
+            } else if (c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z') {
+                int run = 1;
+                while (i + run < pattern.length() && pattern.charAt(i + run) == c) {
+                    run++;
+                }
+                if (letters.put(c, run) != null) {
+                    return null;
+                }
+                i += run;
+            } else if ("[]{}#".indexOf(c) != -1) {
+                return null;
+            } else {
+                i++;
+            }
+        }
+        return letters;
+    }
+}
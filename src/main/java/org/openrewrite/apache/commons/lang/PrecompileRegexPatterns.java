@@ -0,0 +1,241 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.commons.lang;
+
+import lombok.Getter;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.apache.internal.ClassConstants;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static java.util.Collections.emptyList;
+
+public class PrecompileRegexPatterns extends Recipe {
+
+    private static final String FQN_PATTERN = "java.util.regex.Pattern";
+
+    private static final MethodMatcher MATCHES = new MethodMatcher("java.lang.String matches(String)");
+    private static final MethodMatcher REPLACE_ALL = new MethodMatcher("java.lang.String replaceAll(String, String)");
+    private static final MethodMatcher REPLACE_FIRST = new MethodMatcher("java.lang.String replaceFirst(String, String)");
+    private static final MethodMatcher SPLIT = new MethodMatcher("java.lang.String split(String, ..)");
+    private static final MethodMatcher COMPILE = new MethodMatcher(FQN_PATTERN + " compile(String)");
+
+    // The regular expression the `StringUtils` replacements emit for `deleteWhitespace` and `split`
+    private static final String WHITESPACE_REGEX = "\\s+";
+    private static final String WHITESPACE_NAME = "WHITESPACE";
+    private static final String PATTERN_NAME = "PATTERN";
+
+    private static final String PATTERNS = "precompiledPatterns";
+
+    @Getter
+    final String displayName = "Use a precompiled `Pattern` instead of `String` regex methods";
+
+    @Getter
+    final String description = "Hoists the literal regular expressions of `String.matches`, `replaceAll`, `replaceFirst` " +
+            "and `split` into `private static final Pattern` constants, as these `String` methods compile the regular " +
+            "expression on every call. This also covers the `\"\\\\s+\"` regular expression emitted for " +
+            "`StringUtils.deleteWhitespace(s)` and `StringUtils.split(s)`. Single character `split` separators are left " +
+            "alone, as `String.split` does not compile a `Pattern` for those.";
+
+    @Getter
+    final Duration estimatedEffortPerOccurrence = Duration.ofMinutes(1);
+
+    @Getter
+    final Set<String> tags = new HashSet<>(Arrays.asList("apache", "commons"));
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                Preconditions.or(
+                        new UsesMethod<>(MATCHES),
+                        new UsesMethod<>(REPLACE_ALL),
+                        new UsesMethod<>(REPLACE_FIRST),
+                        new UsesMethod<>(SPLIT)),
+                new JavaVisitor<ExecutionContext>() {
+
+                    @Override
+                    public J visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                        if (!ClassConstants.canDeclare(classDecl) ||
+                                getCursor().getParentTreeCursor().firstEnclosing(J.MethodDeclaration.class) != null) {
+                            return super.visitClassDeclaration(classDecl, ctx);
+                        }
+                        Map<String, Precompiled> patterns = new LinkedHashMap<>();
+                        for (Statement statement : classDecl.getBody().getStatements()) {
+                            if (statement instanceof J.VariableDeclarations) {
+                                J.VariableDeclarations field = (J.VariableDeclarations) statement;
+                                for (J.VariableDeclarations.NamedVariable variable : field.getVariables()) {
+                                    String regex = compiledRegex(variable.getInitializer());
+                                    if (regex != null && field.hasModifier(J.Modifier.Type.Static) && field.hasModifier(J.Modifier.Type.Final)) {
+                                        patterns.putIfAbsent(regex, new Precompiled(variable.getSimpleName(), null));
+                                    }
+                                }
+                            }
+                        }
+                        ClassConstants.Position position = ClassConstants.position(classDecl, ClassConstants.firstIndex(classDecl));
+                        getCursor().putMessage(PATTERNS, new Patterns(patterns, ClassConstants.memberNames(classDecl), position));
+
+                        J.ClassDeclaration cd = (J.ClassDeclaration) super.visitClassDeclaration(classDecl, ctx);
+                        List<Precompiled> added = new ArrayList<>();
+                        for (Precompiled p : patterns.values()) {
+                            if (p.getRegex() != null) {
+                                added.add(p);
+                            }
+                        }
+                        if (added.isEmpty()) {
+                            return cd;
+                        }
+                        maybeAddImport(FQN_PATTERN);
+                        return ClassConstants.declare(this, cd, position.getIndex(), added, (c, p, coordinates) ->
+                                JavaTemplate.builder("private static final Pattern " + p.getName() + " = Pattern.compile(#{any(String)});")
+                                        .imports(FQN_PATTERN)
+                                        .build()
+                                        .apply(updateCursor(c), coordinates, p.getRegex()), ctx);
+                    }
+
+                    @Override
+                    public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J j = super.visitMethodInvocation(method, ctx);
+                        if (!(j instanceof J.MethodInvocation)) {
+                            return j;
+                        }
+                        J.MethodInvocation m = (J.MethodInvocation) j;
+                        String template = template(m);
+                        if (template == null || m.getSelect() == null || !ClassConstants.insideMethod(getCursor())) {
+                            return m;
+                        }
+                        Cursor classCursor = getCursor().dropParentUntil(J.ClassDeclaration.class::isInstance);
+                        Patterns patterns = classCursor.getMessage(PATTERNS);
+                        if (patterns == null || !patterns.getPosition().isInitializedFor(getCursor())) {
+                            return m;
+                        }
+                        J.Literal regex = (J.Literal) m.getArguments().get(0);
+                        Precompiled p = patterns.getPatterns().computeIfAbsent((String) regex.getValue(), r -> new Precompiled(
+                                ClassConstants.uniqueName(patterns.getNames(), WHITESPACE_REGEX.equals(r) ? WHITESPACE_NAME : PATTERN_NAME),
+                                regex.withPrefix(Space.EMPTY)));
+                        J.Identifier pattern = new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, emptyList(), p.getName(),
+                                JavaType.ShallowClass.build(FQN_PATTERN), null);
+                        List<Object> parameters = new ArrayList<>();
+                        parameters.add(pattern);
+                        parameters.add(m.getSelect());
+                        parameters.addAll(m.getArguments().subList(1, m.getArguments().size()));
+                        return JavaTemplate.builder(template)
+                                .build()
+                                .apply(getCursor(), m.getCoordinates().replace(), parameters.toArray());
+                    }
+
+                    /**
+                     * @return the template calling the precompiled pattern instead, or null when the call is left alone
+                     */
+                    private @Nullable String template(J.MethodInvocation m) {
+                        String regex = literalRegex(m.getArguments().get(0));
+                        if (regex == null) {
+                            return null;
+                        }
+                        if (MATCHES.matches(m)) {
+                            return "#{any(java.util.regex.Pattern)}.matcher(#{any(String)}).matches()";
+                        } else if (REPLACE_ALL.matches(m)) {
+                            return "#{any(java.util.regex.Pattern)}.matcher(#{any(String)}).replaceAll(#{any(String)})";
+                        } else if (REPLACE_FIRST.matches(m)) {
+                            return "#{any(java.util.regex.Pattern)}.matcher(#{any(String)}).replaceFirst(#{any(String)})";
+                        } else if (SPLIT.matches(m) && !isSplitFastPath(regex)) {
+                            return m.getArguments().size() == 1 ?
+                                    "#{any(java.util.regex.Pattern)}.split(#{any(String)})" :
+                                    "#{any(java.util.regex.Pattern)}.split(#{any(String)}, #{any(int)})";
+                        }
+                        return null;
+                    }
+                });
+    }
+
+    /**
+     * @return the value of a literal regular expression, when it compiles; a constant that does not would otherwise
+     * fail the initialization of the whole class instead of the single call
+     */
+    private static @Nullable String literalRegex(Expression regex) {
+        if (!(regex instanceof J.Literal) || !(((J.Literal) regex).getValue() instanceof String)) {
+            return null;
+        }
+        String value = (String) ((J.Literal) regex).getValue();
+        try {
+            Pattern.compile(value);
+            return value;
+        } catch (PatternSyntaxException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Mirrors the check in {@code String.split(String, int)}, which splits on a single character, or a single
+     * escaped character, without compiling a {@code Pattern}.
+     */
+    private static boolean isSplitFastPath(String regex) {
+        char ch;
+        if (regex.length() == 1) {
+            ch = regex.charAt(0);
+            if (".$|()[{^?*+\\".indexOf(ch) != -1) {
+                return false;
+            }
+        } else if (regex.length() == 2 && regex.charAt(0) == '\\') {
+            ch = regex.charAt(1);
+            if (Character.isLetterOrDigit(ch) && ch < 128) {
+                return false;
+            }
+        } else {
+            return false;
+        }
+        return !Character.isSurrogate(ch);
+    }
+
+    /**
+     * @return the regular expression of a {@code Pattern.compile("..")} initializer, if it is one
+     */
+    private static @Nullable String compiledRegex(@Nullable Expression initializer) {
+        if (COMPILE.matches(initializer)) {
+            Expression regex = ((J.MethodInvocation) initializer).getArguments().get(0);
+            if (regex instanceof J.Literal && ((J.Literal) regex).getValue() instanceof String) {
+                return (String) ((J.Literal) regex).getValue();
+            }
+        }
+        return null;
+    }
+
+    @Value
+    private static class Patterns {
+        Map<String, Precompiled> patterns;
+        Set<String> names;
+        ClassConstants.Position position;
+    }
+
+    @Value
+    private static class Precompiled {
+        String name;
+
+        // null for patterns that already exist in the class
+        @Nullable
+        Expression regex;
+    }
+}
@@ -0,0 +1,331 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.commons.lang;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.apache.internal.ClassConstants;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.marker.JavaVersion;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.regex.Pattern;
+
+import static java.util.Collections.emptyList;
+import static java.util.Objects.requireNonNull;
+
+public class RandomUtilsToJdk extends Recipe {
+    private static final String RANDOM_UTILS = "org.apache.commons.lang3.RandomUtils";
+    private static final String RANDOM_STRING_UTILS = "org.apache.commons.lang3.RandomStringUtils";
+    private static final String FQN_SECURE_RANDOM = "java.security.SecureRandom";
+
+    private static final MethodMatcher NEXT_INT = new MethodMatcher(RANDOM_UTILS + " nextInt(..)");
+    private static final MethodMatcher NEXT_LONG = new MethodMatcher(RANDOM_UTILS + " nextLong(..)");
+    private static final MethodMatcher NEXT_DOUBLE = new MethodMatcher(RANDOM_UTILS + " nextDouble(..)");
+    private static final MethodMatcher NEXT_BOOLEAN = new MethodMatcher(RANDOM_UTILS + " nextBoolean()");
+    private static final MethodMatcher NEXT_BYTES = new MethodMatcher(RANDOM_UTILS + " nextBytes(int)");
+    private static final MethodMatcher RANDOM_ALPHANUMERIC = new MethodMatcher(RANDOM_STRING_UTILS + " randomAlphanumeric(int)");
+
+    private static final String ALPHANUMERIC = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+
+    // Names of variables, fields and methods that hold or produce secrets
+    private static final Pattern SECURITY_CONTEXT = Pattern.compile(
+            "(?i).*(token|passw|secret|nonce|salt|otp|csrf|credential|apikey|api_key|session).*");
+
+    private static final String SECURE_RANDOM_NAME = "SECURE_RANDOM";
+    private static final String SECURE_RANDOM = "secureRandom";
+
+    @Getter
+    final String displayName = "Replace `RandomUtils` and `RandomStringUtils` with `ThreadLocalRandom` or `SecureRandom`";
+
+    @Getter
+    final String description = "Replace `RandomUtils.nextInt`, `nextLong`, `nextDouble`, `nextBoolean`, `nextBytes` and " +
+            "`RandomStringUtils.randomAlphanumeric(count)` of commons-lang3 with `ThreadLocalRandom.current()`, which " +
+            "does not contend on the single `Random` shared by all threads. Where the result is assigned to, or passed " +
+            "as, a token, password, secret, salt or similar, a `private static final SecureRandom` is used instead. " +
+            "Ranges are only replaced when they are literals that `RandomUtils` accepts. Meant for commons-lang3 " +
+            "before 3.15, as later versions already use a `SecureRandom`.";
+
+    @Getter
+    final Duration estimatedEffortPerOccurrence = Duration.ofMinutes(2);
+
+    @Getter
+    final Set<String> tags = new HashSet<>(Arrays.asList("apache", "commons"));
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                Preconditions.or(new UsesType<>(RANDOM_UTILS, false), new UsesType<>(RANDOM_STRING_UTILS, false)),
+                new JavaVisitor<ExecutionContext>() {
+
+                    @Override
+                    public J visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                        if (!ClassConstants.canDeclare(classDecl) ||
+                                getCursor().getParentTreeCursor().firstEnclosing(J.MethodDeclaration.class) != null) {
+                            return super.visitClassDeclaration(classDecl, ctx);
+                        }
+                        String existing = null;
+                        int index = ClassConstants.firstIndex(classDecl);
+                        for (Statement statement : classDecl.getBody().getStatements()) {
+                            if (statement instanceof J.VariableDeclarations) {
+                                J.VariableDeclarations field = (J.VariableDeclarations) statement;
+                                for (J.VariableDeclarations.NamedVariable variable : field.getVariables()) {
+                                    if (existing == null && field.hasModifier(J.Modifier.Type.Static) &&
+                                            field.hasModifier(J.Modifier.Type.Final) &&
+                                            TypeUtils.isOfClassType(variable.getType(), FQN_SECURE_RANDOM)) {
+                                        existing = variable.getSimpleName();
+                                        index = classDecl.getBody().getStatements().indexOf(statement);
+                                    }
+                                }
+                            }
+                        }
+                        String name = existing != null ? existing :
+                                ClassConstants.uniqueName(ClassConstants.memberNames(classDecl), SECURE_RANDOM_NAME);
+                        SecureRandomField secureRandom = new SecureRandomField(name, existing != null,
+                                ClassConstants.position(classDecl, index));
+                        getCursor().putMessage(SECURE_RANDOM, secureRandom);
+
+                        J.ClassDeclaration cd = (J.ClassDeclaration) super.visitClassDeclaration(classDecl, ctx);
+                        if (secureRandom.exists || !secureRandom.used) {
+                            return cd;
+                        }
+                        maybeAddImport(FQN_SECURE_RANDOM);
+                        return ClassConstants.declare(this, cd, index, Collections.singletonList(name), (c, n, coordinates) ->
+                                JavaTemplate.builder("private static final SecureRandom " + n + " = new SecureRandom();")
+                                        .imports(FQN_SECURE_RANDOM)
+                                        .build()
+                                        .apply(updateCursor(c), coordinates), ctx);
+                    }
+
+                    @Override
+                    public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J j = super.visitMethodInvocation(method, ctx);
+                        if (!(j instanceof J.MethodInvocation)) {
+                            return j;
+                        }
+                        J.MethodInvocation m = (J.MethodInvocation) j;
+                        if (NEXT_BYTES.matches(m)) {
+                            return m;
+                        }
+                        boolean secure = isSecurityContext();
+                        String call = call(m, secure && !isJava17());
+                        if (call == null) {
+                            return m;
+                        }
+                        return replace(call, m, secure, getCursor());
+                    }
+
+                    @Override
+                    public J visitBlock(J.Block block, ExecutionContext ctx) {
+                        J.Block b = (J.Block) super.visitBlock(block, ctx);
+                        // byte[] bytes = RandomUtils.nextBytes(n) -> byte[] bytes = new byte[n]; random.nextBytes(bytes)
+                        for (int i = 0; i < b.getStatements().size(); i++) {
+                            Statement statement = b.getStatements().get(i);
+                            if (!(statement instanceof J.VariableDeclarations) ||
+                                    ((J.VariableDeclarations) statement).getVariables().size() != 1 ||
+                                    !NEXT_BYTES.matches(((J.VariableDeclarations) statement).getVariables().get(0).getInitializer())) {
+                                continue;
+                            }
+                            J.VariableDeclarations.NamedVariable variable = ((J.VariableDeclarations) statement).getVariables().get(0);
+                            J.MethodInvocation nextBytes = (J.MethodInvocation) requireNonNull(variable.getInitializer());
+                            Cursor variableCursor = new Cursor(new Cursor(updateCursor(b), statement), variable);
+                            J.Identifier secureRandom = null;
+                            if (SECURITY_CONTEXT.matcher(variable.getSimpleName()).matches() || isSecurityContext(variableCursor)) {
+                                secureRandom = secureRandom(variableCursor);
+                                if (secureRandom == null) {
+                                    continue;
+                                }
+                            }
+                            b = JavaTemplate.builder("new byte[#{any(int)}]")
+                                    .build()
+                                    .apply(updateCursor(b), nextBytes.getCoordinates().replace(), nextBytes.getArguments().get(0));
+                            Statement declared = b.getStatements().get(i);
+                            if (secureRandom != null) {
+                                b = JavaTemplate.builder("#{any(java.security.SecureRandom)}.nextBytes(" + variable.getSimpleName() + ");")
+                                        .contextSensitive()
+                                        .build()
+                                        .apply(updateCursor(b), declared.getCoordinates().after(), secureRandom);
+                            } else {
+                                maybeAddImport("java.util.concurrent.ThreadLocalRandom");
+                                b = JavaTemplate.builder("ThreadLocalRandom.current().nextBytes(" + variable.getSimpleName() + ");")
+                                        .contextSensitive()
+                                        .imports("java.util.concurrent.ThreadLocalRandom")
+                                        .build()
+                                        .apply(updateCursor(b), declared.getCoordinates().after());
+                            }
+                            maybeRemoveImport(RANDOM_UTILS);
+                        }
+                        return b;
+                    }
+
+                    /**
+                     * @return the replacement, with the random generator as first parameter, or null if the call, or
+                     * its arguments, are not replaced
+                     */
+                    private @Nullable String call(J.MethodInvocation m, boolean secureBeforeJava17) {
+                        List<Expression> args = m.getArguments().get(0) instanceof J.Empty ? emptyList() : m.getArguments();
+                        String random = "#{any(java.util.Random)}";
+                        if (NEXT_INT.matches(m)) {
+                            if (args.isEmpty()) {
+                                return random + ".nextInt(Integer.MAX_VALUE)";
+                            } else if (args.size() == 2 && isRange(args)) {
+                                if (((Number) ((J.Literal) args.get(0)).getValue()).doubleValue() == 0) {
+                                    return random + ".nextInt(" + print(args.get(1)) + ")";
+                                }
+                                return secureBeforeJava17 ? null : random + ".nextInt(" + print(args.get(0)) + ", " + print(args.get(1)) + ")";
+                            }
+                        } else if (secureBeforeJava17) {
+                            // SecureRandom has no bounded nextLong and nextDouble before Java 17
+                            return NEXT_BOOLEAN.matches(m) ? random + ".nextBoolean()" :
+                                    RANDOM_ALPHANUMERIC.matches(m) ? alphanumeric(random, args.get(0)) : null;
+                        } else if (NEXT_LONG.matches(m)) {
+                            if (args.isEmpty()) {
+                                return random + ".nextLong(Long.MAX_VALUE)";
+                            } else if (args.size() == 2 && isRange(args)) {
+                                return random + ".nextLong(" + print(args.get(0)) + ", " + print(args.get(1)) + ")";
+                            }
+                        } else if (NEXT_DOUBLE.matches(m)) {
+                            if (args.isEmpty()) {
+                                return random + ".nextDouble(Double.MAX_VALUE)";
+                            } else if (args.size() == 2 && isRange(args)) {
+                                return random + ".nextDouble(" + print(args.get(0)) + ", " + print(args.get(1)) + ")";
+                            }
+                        } else if (NEXT_BOOLEAN.matches(m)) {
+                            return random + ".nextBoolean()";
+                        } else if (RANDOM_ALPHANUMERIC.matches(m)) {
+                            return alphanumeric(random, args.get(0));
+                        }
+                        return null;
+                    }
+
+                    private String alphanumeric(String random, Expression count) {
+                        return random + ".ints(" + print(count) + ", 0, " + ALPHANUMERIC.length() + ")" +
+                               ".map(\"" + ALPHANUMERIC + "\"::charAt)" +
+                               ".collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)" +
+                               ".toString()";
+                    }
+
+                    private String print(Expression e) {
+                        return e.printTrimmed(getCursor());
+                    }
+
+                    private J replace(String call, J.MethodInvocation m, boolean secure, Cursor cursor) {
+                        Expression random;
+                        if (secure) {
+                            random = secureRandom(cursor);
+                            if (random == null) {
+                                return m;
+                            }
+                        } else {
+                            maybeAddImport("java.util.concurrent.ThreadLocalRandom");
+                            random = null;
+                            call = call.replace("#{any(java.util.Random)}", "ThreadLocalRandom.current()");
+                        }
+                        maybeRemoveImport(RANDOM_UTILS);
+                        maybeRemoveImport(RANDOM_STRING_UTILS);
+                        JavaTemplate template = JavaTemplate.builder(call)
+                                .contextSensitive()
+                                .imports("java.util.concurrent.ThreadLocalRandom")
+                                .build();
+                        return random == null ?
+                                template.apply(updateCursor(m), m.getCoordinates().replace()) :
+                                template.apply(updateCursor(m), m.getCoordinates().replace(), random);
+                    }
+
+                    /**
+                     * @return the static {@code SecureRandom} field, declared by the class if it has none yet, or null
+                     * when the class cannot declare one
+                     */
+                    private J.@Nullable Identifier secureRandom(Cursor cursor) {
+                        Cursor classCursor = cursor.dropParentUntil(v -> v instanceof J.ClassDeclaration || v == Cursor.ROOT_VALUE);
+                        SecureRandomField field = classCursor.getMessage(SECURE_RANDOM);
+                        if (field == null || !field.position.isInitializedFor(cursor)) {
+                            return null;
+                        }
+                        field.used = true;
+                        return new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, emptyList(), field.name,
+                                JavaType.ShallowClass.build(FQN_SECURE_RANDOM), null);
+                    }
+
+                    private boolean isSecurityContext() {
+                        return isSecurityContext(getCursor());
+                    }
+
+                    private boolean isJava17() {
+                        JavaSourceFile sourceFile = getCursor().firstEnclosing(JavaSourceFile.class);
+                        return sourceFile != null && sourceFile.getMarkers().findFirst(JavaVersion.class)
+                                .map(version -> version.getMajorVersion() >= 17)
+                                .orElse(false);
+                    }
+                });
+    }
+
+    /**
+     * @return true when the random value is stored in, or passed to, something named like a secret
+     */
+    private static boolean isSecurityContext(Cursor cursor) {
+        for (Cursor c = cursor.getParentTreeCursor(); !(c.getValue() instanceof J.ClassDeclaration) && c.getValue() != Cursor.ROOT_VALUE;
+             c = c.getParentTreeCursor()) {
+            Object value = c.getValue();
+            String name = null;
+            if (value instanceof J.VariableDeclarations.NamedVariable) {
+                name = ((J.VariableDeclarations.NamedVariable) value).getSimpleName();
+            } else if (value instanceof J.Assignment) {
+                Expression variable = ((J.Assignment) value).getVariable();
+                name = variable instanceof J.FieldAccess ? ((J.FieldAccess) variable).getSimpleName() :
+                        variable instanceof J.Identifier ? ((J.Identifier) variable).getSimpleName() : null;
+            } else if (value instanceof J.MethodInvocation) {
+                name = ((J.MethodInvocation) value).getSimpleName();
+            } else if (value instanceof J.MethodDeclaration) {
+                return SECURITY_CONTEXT.matcher(((J.MethodDeclaration) value).getSimpleName()).matches();
+            }
+            if (name != null && SECURITY_CONTEXT.matcher(name).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return true for literal bounds that {@code RandomUtils} accepts and that are not equal, as the JDK methods
+     * require the origin to be less than the bound
+     */
+    private static boolean isRange(List<Expression> args) {
+        if (!(args.get(0) instanceof J.Literal) || !(args.get(1) instanceof J.Literal) ||
+                !(((J.Literal) args.get(0)).getValue() instanceof Number) || !(((J.Literal) args.get(1)).getValue() instanceof Number)) {
+            return false;
+        }
+        double start = ((Number) ((J.Literal) args.get(0)).getValue()).doubleValue();
+        double end = ((Number) ((J.Literal) args.get(1)).getValue()).doubleValue();
+        return 0 <= start && start < end;
+    }
+
+    @RequiredArgsConstructor
+    private static class SecureRandomField {
+        final String name;
+        final boolean exists;
+        final ClassConstants.Position position;
+        boolean used;
+    }
+}
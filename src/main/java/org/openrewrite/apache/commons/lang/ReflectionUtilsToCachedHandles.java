@@ -0,0 +1,513 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.commons.lang;
+
+import lombok.Getter;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.apache.internal.ClassConstants;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesJavaVersion;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.time.Duration;
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+import static java.util.Objects.requireNonNull;
+
+public class ReflectionUtilsToCachedHandles extends Recipe {
+    private static final MethodMatcher READ_FIELD = new MethodMatcher("org.apache.commons.lang3.reflect.FieldUtils readField(Object, String)");
+    private static final MethodMatcher READ_FIELD_FORCE_ACCESS = new MethodMatcher("org.apache.commons.lang3.reflect.FieldUtils readField(Object, String, boolean)");
+    private static final MethodMatcher WRITE_FIELD = new MethodMatcher("org.apache.commons.lang3.reflect.FieldUtils writeField(Object, String, Object)");
+    private static final MethodMatcher WRITE_FIELD_FORCE_ACCESS = new MethodMatcher("org.apache.commons.lang3.reflect.FieldUtils writeField(Object, String, Object, boolean)");
+    private static final MethodMatcher INVOKE_METHOD = new MethodMatcher("org.apache.commons.lang3.reflect.MethodUtils invokeMethod(Object, String)");
+    private static final MethodMatcher INVOKE_METHOD_ARGS = new MethodMatcher("org.apache.commons.lang3.reflect.MethodUtils invokeMethod(Object, String, Object...)");
+    private static final MethodMatcher INVOKE_CONSTRUCTOR = new MethodMatcher("org.apache.commons.lang3.reflect.ConstructorUtils invokeConstructor(Class, Object...)");
+
+    private static final String HANDLES = "reflectionHandles";
+
+    @Getter
+    final String displayName = "Use cached `VarHandle`, `Method` and `Constructor` constants instead of `FieldUtils`, `MethodUtils` and `ConstructorUtils`";
+
+    @Getter
+    final String description = "Replace `FieldUtils.readField` and `writeField`, `MethodUtils.invokeMethod` and " +
+            "`ConstructorUtils.invokeConstructor` of commons-lang3 with a `private static final` handle per member, " +
+            "resolved once in a static initializer instead of by name on every call. Only calls with a literal member " +
+            "name on a target whose type declares exactly one matching member are replaced. Fields become a `VarHandle`, " +
+            "using `MethodHandles.privateLookupIn` where `forceAccess` is `true`. Methods and constructors become a " +
+            "`Method` or `Constructor`, as `MethodHandle.invoke` declares `Throwable` and could not replace an " +
+            "expression. Calls inside a `try` catching an exception that would no longer be thrown are left alone.";
+
+    @Getter
+    final Duration estimatedEffortPerOccurrence = Duration.ofMinutes(5);
+
+    @Getter
+    final Set<String> tags = new HashSet<>(Arrays.asList("apache", "commons"));
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        TreeVisitor<?, ExecutionContext> precondition = Preconditions.and(
+                new UsesJavaVersion<>(9),
+                Preconditions.or(
+                        new UsesMethod<>(READ_FIELD),
+                        new UsesMethod<>(READ_FIELD_FORCE_ACCESS),
+                        new UsesMethod<>(WRITE_FIELD),
+                        new UsesMethod<>(WRITE_FIELD_FORCE_ACCESS),
+                        new UsesMethod<>(INVOKE_METHOD),
+                        new UsesMethod<>(INVOKE_METHOD_ARGS),
+                        new UsesMethod<>(INVOKE_CONSTRUCTOR)));
+        return Preconditions.check(precondition, new JavaVisitor<ExecutionContext>() {
+
+            @Override
+            public J visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                if (!ClassConstants.canDeclare(classDecl) ||
+                        getCursor().getParentTreeCursor().firstEnclosing(J.MethodDeclaration.class) != null) {
+                    return super.visitClassDeclaration(classDecl, ctx);
+                }
+                Handles handles = new Handles(new LinkedHashMap<>(), ClassConstants.memberNames(classDecl),
+                        ClassConstants.position(classDecl, ClassConstants.firstIndex(classDecl)));
+                getCursor().putMessage(HANDLES, handles);
+
+                J.ClassDeclaration cd = (J.ClassDeclaration) super.visitClassDeclaration(classDecl, ctx);
+                if (handles.getHandles().isEmpty()) {
+                    return cd;
+                }
+                int first = handles.getPosition().getIndex();
+                Set<String> imports = new LinkedHashSet<>();
+                StringBuilder initializer = new StringBuilder("static {\ntry {\n");
+                List<Handle> added = new ArrayList<>(handles.getHandles().values());
+                for (Handle h : added) {
+                    imports.add(h.getKind().getFqn());
+                    imports.addAll(h.getImports());
+                    initializer.append(h.getName()).append(" = ").append(h.getLookup()).append(";\n");
+                }
+                initializer.append("} catch (ReflectiveOperationException e) {\n" +
+                                   "throw new ExceptionInInitializerError(e);\n" +
+                                   "}\n}");
+                for (String fqn : imports) {
+                    maybeAddImport(fqn);
+                }
+                cd = ClassConstants.declare(this, cd, first, added, (c, h, coordinates) -> {
+                    Set<String> fieldImports = new LinkedHashSet<>(h.getImports());
+                    fieldImports.add(h.getKind().getFqn());
+                    return JavaTemplate.builder("private static final " + h.getKind().getDeclaredType(h.getOwner()) + " " + h.getName() + ";")
+                            .contextSensitive()
+                            .imports(fieldImports.toArray(new String[0]))
+                            .build()
+                            .apply(updateCursor(c), coordinates);
+                }, ctx);
+                return ClassConstants.declare(this, cd, first + added.size(), Collections.singletonList(initializer.toString()),
+                        (c, code, coordinates) -> JavaTemplate.builder(code)
+                                .contextSensitive()
+                                .imports(imports.toArray(new String[0]))
+                                .build()
+                                .apply(updateCursor(c), coordinates), ctx);
+            }
+
+            @Override
+            public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J j = super.visitMethodInvocation(method, ctx);
+                if (!(j instanceof J.MethodInvocation) || !ClassConstants.insideMethod(getCursor())) {
+                    return j;
+                }
+                J.MethodInvocation m = (J.MethodInvocation) j;
+                List<Expression> args = m.getArguments();
+                if (READ_FIELD.matches(m) || READ_FIELD_FORCE_ACCESS.matches(m)) {
+                    J.Identifier handle = fieldHandle(args.get(0), args.get(1), forceAccess(args, 2), false);
+                    if (handle == null) {
+                        return m;
+                    }
+                    maybeRemoveImport("org.apache.commons.lang3.reflect.FieldUtils");
+                    return JavaTemplate.builder("#{any(java.lang.invoke.VarHandle)}." + accessMode(args.get(0), args.get(1), "get") + "(#{any()})")
+                            .build()
+                            .apply(updateCursor(m), m.getCoordinates().replace(), handle, args.get(0));
+                } else if ((WRITE_FIELD.matches(m) || WRITE_FIELD_FORCE_ACCESS.matches(m)) &&
+                           getCursor().getParentTreeCursor().getValue() instanceof J.Block) {
+                    J.Identifier handle = fieldHandle(args.get(0), args.get(1), forceAccess(args, 3), true);
+                    if (handle == null) {
+                        return m;
+                    }
+                    maybeRemoveImport("org.apache.commons.lang3.reflect.FieldUtils");
+                    return JavaTemplate.builder("#{any(java.lang.invoke.VarHandle)}." + accessMode(args.get(0), args.get(1), "set") + "(#{any()}, #{any()})")
+                            .build()
+                            .apply(updateCursor(m), m.getCoordinates().replace(), handle, args.get(0), args.get(2));
+                } else if (INVOKE_METHOD.matches(m) || INVOKE_METHOD_ARGS.matches(m)) {
+                    List<Expression> invokeArgs = arguments(args.subList(2, args.size()));
+                    J.Identifier handle = methodHandle(args.get(0), args.get(1), invokeArgs);
+                    if (handle == null) {
+                        return m;
+                    }
+                    maybeRemoveImport("org.apache.commons.lang3.reflect.MethodUtils");
+                    List<Object> parameters = new ArrayList<>();
+                    parameters.add(handle);
+                    parameters.add(args.get(0));
+                    parameters.addAll(invokeArgs);
+                    return JavaTemplate.builder("#{any(java.lang.reflect.Method)}.invoke(#{any()}" + anyArguments(invokeArgs.size(), true) + ")")
+                            .build()
+                            .apply(updateCursor(m), m.getCoordinates().replace(), parameters.toArray());
+                } else if (INVOKE_CONSTRUCTOR.matches(m)) {
+                    List<Expression> invokeArgs = arguments(args.subList(1, args.size()));
+                    J.Identifier handle = constructorHandle(args.get(0), invokeArgs);
+                    if (handle == null) {
+                        return m;
+                    }
+                    maybeRemoveImport("org.apache.commons.lang3.reflect.ConstructorUtils");
+                    List<Object> parameters = new ArrayList<>();
+                    parameters.add(handle);
+                    parameters.addAll(invokeArgs);
+                    return JavaTemplate.builder("#{any(java.lang.reflect.Constructor)}.newInstance(" + anyArguments(invokeArgs.size(), false) + ")")
+                            .build()
+                            .apply(updateCursor(m), m.getCoordinates().replace(), parameters.toArray());
+                }
+                return m;
+            }
+
+            private J.@Nullable Identifier fieldHandle(Expression target, Expression name, @Nullable Boolean forceAccess, boolean write) {
+                String fieldName = literal(name);
+                JavaType.FullyQualified targetType = TypeUtils.asFullyQualified(target.getType());
+                if (fieldName == null || forceAccess == null || targetType == null ||
+                        catches("java.lang.IllegalAccessException") || catches("java.lang.ReflectiveOperationException")) {
+                    return null;
+                }
+                JavaType.Variable field = field(targetType, fieldName);
+                if (field == null || field.hasFlags(Flag.Static) || write && field.hasFlags(Flag.Final)) {
+                    return null;
+                }
+                JavaType.FullyQualified owner = TypeUtils.asFullyQualified(field.getOwner());
+                boolean accessible = field.hasFlags(Flag.Public) && owner != null && owner.getFlags().contains(Flag.Public);
+                if (owner == null || !accessible && !forceAccess) {
+                    return null;
+                }
+                Set<String> imports = new LinkedHashSet<>();
+                String ownerLiteral = classLiteral(owner, imports);
+                String typeLiteral = classLiteral(field.getType(), imports);
+                if (ownerLiteral == null || typeLiteral == null) {
+                    return null;
+                }
+                imports.add("java.lang.invoke.MethodHandles");
+                String lookup = accessible ?
+                        "MethodHandles.lookup()" :
+                        "MethodHandles.privateLookupIn(" + ownerLiteral + ", MethodHandles.lookup())";
+                return handle(Kind.VAR_HANDLE, owner, fieldName,
+                        lookup + ".findVarHandle(" + ownerLiteral + ", \"" + fieldName + "\", " + typeLiteral + ")", imports);
+            }
+
+            /**
+             * @return the {@code VarHandle} access mode, where plain {@code get} and {@code set} would lose the memory
+             * ordering of a volatile field that reflection keeps
+             */
+            private String accessMode(Expression target, Expression name, String plain) {
+                JavaType.FullyQualified targetType = requireNonNull(TypeUtils.asFullyQualified(target.getType()));
+                JavaType.Variable field = requireNonNull(field(targetType, requireNonNull(literal(name))));
+                return field.hasFlags(Flag.Volatile) ? plain + "Volatile" : plain;
+            }
+
+            private J.@Nullable Identifier methodHandle(Expression target, Expression name, @Nullable List<Expression> args) {
+                String methodName = literal(name);
+                JavaType.FullyQualified targetType = TypeUtils.asFullyQualified(target.getType());
+                if (methodName == null || args == null || targetType == null || !targetType.getFlags().contains(Flag.Public) ||
+                        catches("java.lang.NoSuchMethodException")) {
+                    return null;
+                }
+                Map<List<String>, JavaType.Method> candidates = new LinkedHashMap<>();
+                methods(targetType, methodName, args.size(), candidates, new HashSet<>());
+                JavaType.Method method = onlyApplicable(candidates, args);
+                // `getMethod` finds public methods of non-public superclasses too, which `invoke` cannot access
+                if (method != null && !method.getDeclaringType().getFlags().contains(Flag.Public)) {
+                    return null;
+                }
+                Set<String> imports = new LinkedHashSet<>();
+                String ownerLiteral = classLiteral(targetType, imports);
+                String parameterLiterals = method == null ? null : parameterLiterals(method, imports);
+                if (ownerLiteral == null || parameterLiterals == null) {
+                    return null;
+                }
+                return handle(Kind.METHOD, targetType, methodName,
+                        ownerLiteral + ".getMethod(\"" + methodName + "\"" + parameterLiterals + ")", imports);
+            }
+
+            private J.@Nullable Identifier constructorHandle(Expression classLiteral, @Nullable List<Expression> args) {
+                if (!(classLiteral instanceof J.FieldAccess) || !"class".equals(((J.FieldAccess) classLiteral).getSimpleName()) ||
+                        args == null || catches("java.lang.NoSuchMethodException")) {
+                    return null;
+                }
+                JavaType.FullyQualified type = TypeUtils.asFullyQualified(((J.FieldAccess) classLiteral).getTarget().getType());
+                if (type == null || !type.getFlags().contains(Flag.Public) || type.getFlags().contains(Flag.Abstract) || !type.getTypeParameters().isEmpty()) {
+                    return null;
+                }
+                Map<List<String>, JavaType.Method> candidates = new LinkedHashMap<>();
+                for (JavaType.Method constructor : type.getMethods()) {
+                    if (constructor.isConstructor() && constructor.hasFlags(Flag.Public) && !constructor.hasFlags(Flag.Varargs) &&
+                            constructor.getParameterTypes().size() == args.size()) {
+                        candidates.put(signature(constructor), constructor);
+                    }
+                }
+                JavaType.Method constructor = onlyApplicable(candidates, args);
+                Set<String> imports = new LinkedHashSet<>();
+                String ownerLiteral = classLiteral(type, imports);
+                String parameterLiterals = constructor == null ? null : parameterLiterals(constructor, imports);
+                if (ownerLiteral == null || parameterLiterals == null) {
+                    return null;
+                }
+                return handle(Kind.CONSTRUCTOR, type, null,
+                        ownerLiteral + ".getConstructor(" + (parameterLiterals.isEmpty() ? "" : parameterLiterals.substring(2)) + ")", imports);
+            }
+
+            /**
+             * @return the constant for a member, declared by the class if it has none yet, or null when the class
+             * cannot declare one
+             */
+            private J.@Nullable Identifier handle(Kind kind, JavaType.FullyQualified owner, @Nullable String member,
+                                                  String lookup, Set<String> imports) {
+                Cursor classCursor = getCursor().dropParentUntil(J.ClassDeclaration.class::isInstance);
+                Handles handles = classCursor.getMessage(HANDLES);
+                if (handles == null || !handles.getPosition().isInitializedFor(getCursor())) {
+                    return null;
+                }
+                Handle h = handles.getHandles().computeIfAbsent(kind + ":" + lookup, k -> new Handle(kind,
+                        ClassConstants.uniqueName(handles.getNames(), constantName(owner.getClassName(), member == null ? "constructor" : member)),
+                        owner.getClassName(), lookup, imports));
+                return new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, emptyList(), h.getName(),
+                        JavaType.ShallowClass.build(kind.getFqn()), null);
+            }
+
+            /**
+             * @return true when a surrounding {@code try} catches the exception, which would no longer be thrown
+             */
+            private boolean catches(String exception) {
+                for (Cursor c = getCursor().getParentTreeCursor(); !(c.getValue() instanceof J.MethodDeclaration) &&
+                                                                   !(c.getValue() instanceof J.ClassDeclaration) &&
+                                                                   !(c.getValue() instanceof J.Lambda);
+                     c = c.getParentTreeCursor()) {
+                    if (c.getValue() instanceof J.Try) {
+                        for (J.Try.Catch aCatch : ((J.Try) c.getValue()).getCatches()) {
+                            JavaType caught = aCatch.getParameter().getType();
+                            List<JavaType> alternatives = caught instanceof JavaType.MultiCatch ?
+                                    ((JavaType.MultiCatch) caught).getThrowableTypes() :
+                                    Collections.singletonList(caught);
+                            for (JavaType alternative : alternatives) {
+                                if (TypeUtils.isAssignableTo(exception, alternative)) {
+                                    return true;
+                                }
+                            }
+                        }
+                    }
+                }
+                return false;
+            }
+        });
+    }
+
+    private static @Nullable String literal(Expression e) {
+        return e instanceof J.Literal && ((J.Literal) e).getValue() instanceof String ? (String) ((J.Literal) e).getValue() : null;
+    }
+
+    /**
+     * @return the literal {@code forceAccess} argument, {@code false} when there is none, or null when it is not a literal
+     */
+    private static @Nullable Boolean forceAccess(List<Expression> args, int index) {
+        if (args.size() <= index) {
+            return false;
+        }
+        Expression e = args.get(index);
+        return e instanceof J.Literal && ((J.Literal) e).getValue() instanceof Boolean ? (Boolean) ((J.Literal) e).getValue() : null;
+    }
+
+    /**
+     * @return the arguments passed to the member, or null when an array may be passed as the varargs array itself
+     */
+    private static @Nullable List<Expression> arguments(List<Expression> args) {
+        List<Expression> arguments = new ArrayList<>();
+        for (Expression arg : args) {
+            if (arg instanceof J.Empty) {
+                continue;
+            }
+            if (arg.getType() instanceof JavaType.Array || arg.getType() == null) {
+                return null;
+            }
+            arguments.add(arg);
+        }
+        return arguments;
+    }
+
+    private static String anyArguments(int count, boolean leadingComma) {
+        StringJoiner joiner = new StringJoiner(", ", leadingComma && count > 0 ? ", " : "", "");
+        for (int i = 0; i < count; i++) {
+            joiner.add("#{any()}");
+        }
+        return joiner.toString();
+    }
+
+    private static JavaType.@Nullable Variable field(JavaType.FullyQualified type, String name) {
+        for (JavaType.FullyQualified t = type; t != null; t = t.getSupertype()) {
+            for (JavaType.Variable member : t.getMembers()) {
+                if (name.equals(member.getName())) {
+                    return member;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Collects the public methods of a type and its supertypes that {@code Class.getMethod} could return, one per
+     * signature, with overriding methods first.
+     */
+    private static void methods(JavaType.FullyQualified type, String name, int arity,
+                                Map<List<String>, JavaType.Method> methods, Set<String> visited) {
+        if (!visited.add(type.getFullyQualifiedName())) {
+            return;
+        }
+        for (JavaType.Method method : type.getMethods()) {
+            if (name.equals(method.getName()) && method.hasFlags(Flag.Public) && !method.hasFlags(Flag.Varargs) &&
+                    method.getParameterTypes().size() == arity) {
+                methods.putIfAbsent(signature(method), method);
+            }
+        }
+        if (type.getSupertype() != null) {
+            methods(type.getSupertype(), name, arity, methods, visited);
+        }
+        for (JavaType.FullyQualified anInterface : type.getInterfaces()) {
+            methods(anInterface, name, arity, methods, visited);
+        }
+    }
+
+    private static List<String> signature(JavaType.Method method) {
+        List<String> signature = new ArrayList<>();
+        for (JavaType parameter : method.getParameterTypes()) {
+            signature.add(TypeUtils.toString(parameter));
+        }
+        return signature;
+    }
+
+    /**
+     * @return the method when it is the only candidate and accepts the arguments, so that resolving it by the runtime
+     * types of the arguments finds the same method
+     */
+    private static JavaType.@Nullable Method onlyApplicable(Map<List<String>, JavaType.Method> candidates, List<Expression> args) {
+        if (candidates.size() != 1) {
+            return null;
+        }
+        JavaType.Method method = candidates.values().iterator().next();
+        for (int i = 0; i < args.size(); i++) {
+            Expression arg = args.get(i);
+            JavaType parameter = method.getParameterTypes().get(i);
+            if (arg instanceof J.Literal && ((J.Literal) arg).getValue() == null) {
+                if (parameter instanceof JavaType.Primitive && parameter != JavaType.Primitive.String) {
+                    return null;
+                }
+            } else if (!TypeUtils.isAssignableTo(parameter, arg.getType())) {
+                return null;
+            }
+        }
+        return method;
+    }
+
+    private static @Nullable String parameterLiterals(JavaType.Method method, Set<String> imports) {
+        StringBuilder literals = new StringBuilder();
+        for (JavaType parameter : method.getParameterTypes()) {
+            String literal = classLiteral(parameter, imports);
+            if (literal == null) {
+                return null;
+            }
+            literals.append(", ").append(literal);
+        }
+        return literals.toString();
+    }
+
+    /**
+     * @return the class literal of the erased type, or null for types without a simple one, such as type variables,
+     * arrays and nested classes
+     */
+    private static @Nullable String classLiteral(@Nullable JavaType type, Set<String> imports) {
+        if (type == JavaType.Primitive.String) {
+            return "String.class";
+        }
+        if (type instanceof JavaType.Primitive) {
+            return type == JavaType.Primitive.Null || type == JavaType.Primitive.None || type == JavaType.Primitive.Void ?
+                    null : ((JavaType.Primitive) type).getKeyword() + ".class";
+        }
+        if (type instanceof JavaType.Class || type instanceof JavaType.Parameterized) {
+            JavaType.FullyQualified fq = (JavaType.FullyQualified) type;
+            if (fq.getOwningClass() != null) {
+                return null;
+            }
+            imports.add(fq.getFullyQualifiedName());
+            return fq.getClassName() + ".class";
+        }
+        return null;
+    }
+
+    static String constantName(String type, String member) {
+        StringBuilder name = new StringBuilder();
+        for (String part : Arrays.asList(type, member)) {
+            if (name.length() > 0) {
+                name.append('_');
+            }
+            for (int i = 0; i < part.length(); i++) {
+                char c = part.charAt(i);
+                if (Character.isUpperCase(c) && i > 0 && !Character.isUpperCase(part.charAt(i - 1))) {
+                    name.append('_');
+                }
+                name.append(Character.toUpperCase(c));
+            }
+        }
+        return name.toString();
+    }
+
+    @Getter
+    private enum Kind {
+        VAR_HANDLE("java.lang.invoke.VarHandle"),
+        METHOD("java.lang.reflect.Method"),
+        CONSTRUCTOR("java.lang.reflect.Constructor");
+
+        private final String fqn;
+
+        Kind(String fqn) {
+            this.fqn = fqn;
+        }
+
+        String getDeclaredType(String owner) {
+            String simpleName = fqn.substring(fqn.lastIndexOf('.') + 1);
+            return this == CONSTRUCTOR ? simpleName + "<" + owner + ">" : simpleName;
+        }
+    }
+
+    @Value
+    private static class Handles {
+        Map<String, Handle> handles;
+        Set<String> names;
+        ClassConstants.Position position;
+    }
+
+    @Value
+    private static class Handle {
+        Kind kind;
+        String name;
+        String owner;
+
+        // the expression assigned in the static initializer
+        String lookup;
+
+        Set<String> imports;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.commons.lang;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesJavaVersion;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.openrewrite.apache.commons.lang.RepeatableArgumentMatcher.isRepeatableArgument;
+
+public class RepeatAndPadToJdk extends Recipe {
+    private static final MethodMatcher REPEAT = new MethodMatcher("org.apache.commons.lang3.StringUtils repeat(String, int)");
+    private static final MethodMatcher LEFT_PAD = new MethodMatcher("org.apache.commons.lang3.StringUtils leftPad(String, int)");
+    private static final MethodMatcher RIGHT_PAD = new MethodMatcher("org.apache.commons.lang3.StringUtils rightPad(String, int)");
+    private static final MethodMatcher CENTER = new MethodMatcher("org.apache.commons.lang3.StringUtils center(String, int)");
+
+    private static final String REPEAT_REPLACEMENT =
+            "#{s:any(String)} == null ? null : #{s}.repeat(#{n:any(int)})";
+    private static final String REPEAT_ANY_COUNT_REPLACEMENT =
+            "#{s:any(String)} == null ? null : #{s}.repeat(Math.max(0, #{n:any(int)}))";
+    private static final String LEFT_PAD_REPLACEMENT =
+            "#{s:any(String)} == null || #{s}.length() >= #{n:any(int)} ? #{s} : \" \".repeat(#{n} - #{s}.length()) + #{s}";
+    private static final String RIGHT_PAD_REPLACEMENT =
+            "#{s:any(String)} == null || #{s}.length() >= #{n:any(int)} ? #{s} : #{s} + \" \".repeat(#{n} - #{s}.length())";
+    private static final String CENTER_REPLACEMENT =
+            "#{s:any(String)} == null || #{s}.length() >= #{n:any(int)} ? #{s} : " +
+            "\" \".repeat((#{n} - #{s}.length()) / 2) + #{s} + \" \".repeat(#{n} - #{s}.length() - (#{n} - #{s}.length()) / 2)";
+
+    @Getter
+    final String displayName = "Replace `StringUtils#repeat`, `#leftPad`, `#rightPad` and `#center` with `String#repeat`";
+
+    @Getter
+    final String description = "Replace `StringUtils#repeat(String, int)`, `#leftPad(String, int)`, `#rightPad(String, int)` " +
+            "and `#center(String, int)` with the Java 11 `String#repeat(int)`, keeping the `null` and length checks of " +
+            "`StringUtils`. Unlike `String.format` based padding, `String#repeat` allocates the result only once.";
+
+    @Getter
+    final Duration estimatedEffortPerOccurrence = Duration.ofMinutes(1);
+
+    @Getter
+    final Set<String> tags = new HashSet<>(Arrays.asList("apache", "commons"));
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        TreeVisitor<?, ExecutionContext> precondition = Preconditions.and(
+                new UsesJavaVersion<>(11),
+                Preconditions.or(
+                        new UsesMethod<>(REPEAT),
+                        new UsesMethod<>(LEFT_PAD),
+                        new UsesMethod<>(RIGHT_PAD),
+                        new UsesMethod<>(CENTER)));
+
+        return Preconditions.check(precondition, new JavaVisitor<ExecutionContext>() {
+            @Override
+            public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J j = super.visitMethodInvocation(method, ctx);
+                if (!(j instanceof J.MethodInvocation)) {
+                    return j;
+                }
+                J.MethodInvocation mi = (J.MethodInvocation) j;
+                String template = template(mi);
+                if (template == null || !isRepeatableArgument(mi.getArguments().get(0)) ||
+                        getCursor().getParentTreeCursor().getValue() instanceof J.Block) {
+                    return mi;
+                }
+                maybeRemoveImport("org.apache.commons.lang3.StringUtils");
+                return JavaTemplate.apply(needsParentheses() ? "(" + template + ")" : template,
+                        getCursor(), mi.getCoordinates().replace(), mi.getArguments().get(0), mi.getArguments().get(1));
+            }
+
+            private @Nullable String template(J.MethodInvocation mi) {
+                Expression n = mi.getArguments().get(1);
+                if (REPEAT.matches(mi)) {
+                    // `String#repeat` throws on a negative count, where `StringUtils` returns an empty string
+                    return n instanceof J.Literal && ((J.Literal) n).getValue() instanceof Integer &&
+                            (Integer) ((J.Literal) n).getValue() >= 0 ?
+                            REPEAT_REPLACEMENT : REPEAT_ANY_COUNT_REPLACEMENT;
+                }
+                if (!isRepeatableArgument(n)) {
+                    return null;
+                }
+                if (LEFT_PAD.matches(mi)) {
+                    return LEFT_PAD_REPLACEMENT;
+                } else if (RIGHT_PAD.matches(mi)) {
+                    return RIGHT_PAD_REPLACEMENT;
+                } else if (CENTER.matches(mi)) {
+                    return CENTER_REPLACEMENT;
+                }
+                return null;
+            }
+
+            /**
+             * @return true unless the conditional expression replaces a whole value, where it needs no parentheses
+             */
+            private boolean needsParentheses() {
+                Object parent = getCursor().getParentTreeCursor().getValue();
+                if (parent instanceof J.MethodInvocation) {
+                    return ((J.MethodInvocation) parent).getSelect() == getCursor().getValue();
+                }
+                return !(parent instanceof J.Return ||
+                         parent instanceof J.VariableDeclarations.NamedVariable ||
+                         parent instanceof J.Assignment ||
+                         parent instanceof J.NewClass ||
+                         parent instanceof J.NewArray ||
+                         parent instanceof J.Lambda ||
+                         parent instanceof J.Parentheses);
+            }
+        });
+    }
+}
@@ -15,11 +15,22 @@
  */
 package org.openrewrite.apache.commons.lang;
 
+import org.openrewrite.Cursor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.VariableNameUtils;
+import org.openrewrite.java.marker.JavaVersion;
 import org.openrewrite.java.template.Matcher;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
 import org.openrewrite.java.tree.TypeUtils;
 
+import javax.lang.model.SourceVersion;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.openrewrite.java.VariableNameUtils.GenerationStrategy.INCREMENT_NUMBER;
+
 public class RepeatableArgumentMatcher implements Matcher<Expression> {
     /**
      * @param arg an argument to a method invocation
@@ -37,6 +48,63 @@ public class RepeatableArgumentMatcher implements Matcher<Expression> {
                 TypeUtils.isAssignableTo("java.lang.String", ((J.MethodInvocation) arg).getMethodType());
     }
 
+    /**
+     * @param arg    an argument that is not repeatable
+     * @param cursor the cursor of the method invocation taking the argument
+     * @return true if the argument can be bound once with {@code arg instanceof String s}, without parentheses; this
+     * does not compile for an argument of type {@code String} before Java 21
+     */
+    static boolean canBindArgument(Expression arg, Cursor cursor) {
+        JavaSourceFile sourceFile = cursor.firstEnclosing(JavaSourceFile.class);
+        return TypeUtils.isString(arg.getType()) && !(arg instanceof J.Ternary || arg instanceof J.Assignment) &&
+               sourceFile != null &&
+               sourceFile.getMarkers().findFirst(JavaVersion.class)
+                       .map(version -> version.getMajorVersion() >= 21)
+                       .orElse(false);
+    }
+
+    /**
+     * @return a free name for the pattern variable binding the argument, after the property for a getter; as the
+     * binding of a guard clause like {@code if (!(arg instanceof String s)) return;} is in scope for the rest of the
+     * block, names declared later in the enclosing method are not free either
+     */
+    static String bindingName(Expression arg, Cursor cursor) {
+        String name = "s";
+        if (arg instanceof J.MethodInvocation) {
+            String method = ((J.MethodInvocation) arg).getSimpleName();
+            if (method.length() > 3 && method.startsWith("get") && Character.isUpperCase(method.charAt(3))) {
+                String property = Character.toLowerCase(method.charAt(3)) + method.substring(4);
+                if (!SourceVersion.isKeyword(property)) {
+                    name = property;
+                }
+            }
+        }
+        String candidate = VariableNameUtils.generateVariableName(name, cursor, INCREMENT_NUMBER);
+        Set<String> declared = declaredNames(cursor);
+        for (int i = 1; declared.contains(candidate); i++) {
+            candidate = name + i;
+        }
+        return candidate;
+    }
+
+    private static Set<String> declaredNames(Cursor cursor) {
+        Set<String> names = new HashSet<>();
+        J scope = cursor.firstEnclosing(J.MethodDeclaration.class);
+        if (scope == null) {
+            scope = cursor.firstEnclosing(J.Block.class);
+        }
+        if (scope != null) {
+            new JavaIsoVisitor<Set<String>>() {
+                @Override
+                public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, Set<String> n) {
+                    n.add(variable.getSimpleName());
+                    return super.visitVariable(variable, n);
+                }
+            }.visit(scope, names);
+        }
+        return names;
+    }
+
     @Override
     public boolean matches(Expression expr) {
         return isRepeatableArgument(expr);
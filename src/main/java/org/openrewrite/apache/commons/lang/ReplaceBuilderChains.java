@@ -0,0 +1,220 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.commons.lang;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+
+import java.time.Duration;
+import java.util.*;
+
+import static org.openrewrite.apache.commons.lang.BuilderExpressions.*;
+
+public class ReplaceBuilderChains extends Recipe {
+    private static final MethodMatcher[] TO_HASH_CODE = matchers("HashCodeBuilder toHashCode()");
+    private static final MethodMatcher[] IS_EQUALS = matchers("EqualsBuilder isEquals()");
+    private static final MethodMatcher[] TO_STRING = matchers("ToStringBuilder toString()");
+
+    private static final MethodMatcher[] NEW_HASH_CODE_BUILDER = matchers("HashCodeBuilder <constructor>(..)");
+    private static final MethodMatcher[] NEW_EQUALS_BUILDER = matchers("EqualsBuilder <constructor>()");
+    private static final MethodMatcher[] NEW_TO_STRING_BUILDER = matchers("ToStringBuilder <constructor>(Object)");
+
+    @Getter
+    final String displayName = "Replace `equals`, `hashCode` and `toString` builder chains with JDK code";
+
+    @Getter
+    final String description = "Replace `new HashCodeBuilder().append(a)..toHashCode()`, `new EqualsBuilder().append(a, " +
+            "o.a)..isEquals()` and `new ToStringBuilder(this).append(\"a\", a)..toString()` of commons-lang 2 and 3 " +
+            "with `Objects.hash`, `Objects.equals` and string concatenation, which do not allocate a builder on every " +
+            "call. Arrays are compared and hashed by content, like the builders do. The hash codes differ from those " +
+            "of `HashCodeBuilder`, and the string follows the default `ToStringStyle`.";
+
+    @Getter
+    final Duration estimatedEffortPerOccurrence = Duration.ofMinutes(2);
+
+    @Getter
+    final Set<String> tags = new HashSet<>(Arrays.asList("apache", "commons"));
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                Preconditions.or(
+                        new UsesType<>(BUILDER_PACKAGES[0] + ".*", false),
+                        new UsesType<>(BUILDER_PACKAGES[1] + ".*", false)),
+                new JavaVisitor<ExecutionContext>() {
+                    @Override
+                    public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J j = super.visitMethodInvocation(method, ctx);
+                        if (!(j instanceof J.MethodInvocation)) {
+                            return j;
+                        }
+                        J.MethodInvocation m = (J.MethodInvocation) j;
+                        String code;
+                        if (matchesAny(TO_HASH_CODE, m)) {
+                            code = hashCode(m);
+                        } else if (matchesAny(IS_EQUALS, m)) {
+                            code = equals(m);
+                        } else if (matchesAny(TO_STRING, m)) {
+                            code = toString(m);
+                        } else {
+                            return m;
+                        }
+                        if (code == null) {
+                            return m;
+                        }
+                        if (code.contains("Objects.")) {
+                            maybeAddImport("java.util.Objects");
+                        }
+                        if (code.contains("Arrays.")) {
+                            maybeAddImport("java.util.Arrays");
+                        }
+                        for (String pkg : BUILDER_PACKAGES) {
+                            maybeRemoveImport(pkg + ".EqualsBuilder");
+                            maybeRemoveImport(pkg + ".HashCodeBuilder");
+                            maybeRemoveImport(pkg + ".ToStringBuilder");
+                        }
+                        return JavaTemplate.builder(code)
+                                .contextSensitive()
+                                .imports("java.util.Arrays", "java.util.Objects")
+                                .build()
+                                .apply(updateCursor(m), m.getCoordinates().replace());
+                    }
+
+                    private @Nullable String hashCode(J.MethodInvocation m) {
+                        List<J.MethodInvocation> appends = appends(m, NEW_HASH_CODE_BUILDER);
+                        if (appends == null) {
+                            return null;
+                        }
+                        List<String> elements = new ArrayList<>();
+                        for (J.MethodInvocation append : appends) {
+                            if (append.getArguments().size() != 1) {
+                                return null;
+                            }
+                            Expression value = append.getArguments().get(0);
+                            String element = "appendSuper".equals(append.getSimpleName()) ?
+                                    print(value) : hashCodeElement(value.getType(), print(value));
+                            if (element == null) {
+                                return null;
+                            }
+                            elements.add(element);
+                        }
+                        return "Objects.hash(" + String.join(", ", elements) + ")";
+                    }
+
+                    private @Nullable String equals(J.MethodInvocation m) {
+                        List<J.MethodInvocation> appends = appends(m, NEW_EQUALS_BUILDER);
+                        if (appends == null) {
+                            return null;
+                        }
+                        List<String> comparisons = new ArrayList<>();
+                        for (J.MethodInvocation append : appends) {
+                            List<Expression> args = append.getArguments();
+                            String comparison;
+                            if ("appendSuper".equals(append.getSimpleName()) && args.size() == 1) {
+                                comparison = print(args.get(0));
+                            } else if (args.size() == 2 && (args.get(0).getType() == args.get(1).getType() ||
+                                                            !(args.get(0).getType() instanceof JavaType.Primitive) &&
+                                                            !(args.get(1).getType() instanceof JavaType.Primitive))) {
+                                comparison = equalsComparison(args.get(0).getType(), print(args.get(0)), print(args.get(1)));
+                            } else {
+                                return null;
+                            }
+                            if (comparison == null) {
+                                return null;
+                            }
+                            comparisons.add(comparison);
+                        }
+                        if (comparisons.isEmpty()) {
+                            return "true";
+                        }
+                        String code = String.join(" && ", comparisons);
+                        return (comparisons.size() > 1 || code.contains(" == ")) && needsParentheses(getCursor()) ?
+                                "(" + code + ")" : code;
+                    }
+
+                    private @Nullable String toString(J.MethodInvocation m) {
+                        List<J.MethodInvocation> appends = appends(m, NEW_TO_STRING_BUILDER);
+                        if (appends == null) {
+                            return null;
+                        }
+                        List<String> fields = new ArrayList<>();
+                        for (J.MethodInvocation append : appends) {
+                            List<Expression> args = append.getArguments();
+                            if (args.size() != 2 || !"append".equals(append.getSimpleName()) ||
+                                    !(args.get(0) instanceof J.Literal) || ((J.Literal) args.get(0)).getValueSource() == null ||
+                                    !((J.Literal) args.get(0)).getValueSource().matches("\"[^\"].*\"|\"\"")) {
+                                return null;
+                            }
+                            String source = ((J.Literal) args.get(0)).getValueSource();
+                            String value = toStringValue(args.get(1).getType(), print(args.get(1)));
+                            if (value == null) {
+                                return null;
+                            }
+                            fields.add(source.substring(1, source.length() - 1) + "=\" + " + value + " + \"");
+                        }
+                        String code = toStringPrefix() + String.join(",", fields) + "]\"";
+                        return needsParentheses(getCursor()) ? "(" + code + ")" : code;
+                    }
+
+                    /**
+                     * @return the {@code append} and {@code appendSuper} calls on a new builder, in order, or null if
+                     * the chain does not start with a new builder, or uses other methods
+                     */
+                    private @Nullable List<J.MethodInvocation> appends(J.MethodInvocation m, MethodMatcher[] constructor) {
+                        List<J.MethodInvocation> appends = new ArrayList<>();
+                        Expression select = m.getSelect();
+                        while (select instanceof J.MethodInvocation) {
+                            J.MethodInvocation append = (J.MethodInvocation) select;
+                            if (!"append".equals(append.getSimpleName()) && !"appendSuper".equals(append.getSimpleName())) {
+                                return null;
+                            }
+                            appends.add(0, append);
+                            select = append.getSelect();
+                        }
+                        if (!matchesAny(constructor, select) || ((J.NewClass) select).getBody() != null) {
+                            return null;
+                        }
+                        List<Expression> args = ((J.NewClass) select).getArguments();
+                        if (constructor == NEW_TO_STRING_BUILDER &&
+                                !(args.get(0) instanceof J.Identifier && "this".equals(((J.Identifier) args.get(0)).getSimpleName()))) {
+                            return null;
+                        }
+                        return appends;
+                    }
+
+                    /**
+                     * @return the source of an argument, in parentheses unless it binds tighter than any operator
+                     */
+                    private String print(Expression e) {
+                        String source = e.printTrimmed(getCursor());
+                        return e instanceof J.Identifier || e instanceof J.FieldAccess || e instanceof J.MethodInvocation ||
+                               e instanceof J.Literal || e instanceof J.ArrayAccess || e instanceof J.Parentheses ?
+                                source : "(" + source + ")";
+                    }
+                });
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.commons.lang;
+
+import lombok.Getter;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.VariableNameUtils;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+
+import java.time.Duration;
+import java.util.*;
+
+import static org.openrewrite.apache.commons.lang.BuilderExpressions.*;
+import static org.openrewrite.java.VariableNameUtils.GenerationStrategy.INCREMENT_NUMBER;
+
+public class ReplaceReflectionBuilders extends Recipe {
+    private static final MethodMatcher[] REFLECTION_HASH_CODE = matchers("HashCodeBuilder reflectionHashCode(Object, ..)");
+    private static final MethodMatcher[] REFLECTION_EQUALS = matchers("EqualsBuilder reflectionEquals(Object, Object, ..)");
+    private static final MethodMatcher[] REFLECTION_TO_STRING = matchers("ToStringBuilder reflectionToString(Object)");
+
+    private static final String FIELDS = "reflectedFields";
+
+    @Getter
+    final String displayName = "Replace reflective `equals`, `hashCode` and `toString` builders with field by field code";
+
+    @Getter
+    final String description = "Replace `HashCodeBuilder.reflectionHashCode(this)`, `EqualsBuilder.reflectionEquals(this, o)` " +
+            "and `ToStringBuilder.reflectionToString(this)` of commons-lang 2 and 3 with `Objects.hash`, `Objects.equals` " +
+            "and string concatenation over the non-static, non-transient fields of the class, which the builders " +
+            "otherwise look up by reflection on every call. Only `final` classes without a superclass are changed, as " +
+            "the builders also reflect on inherited fields and on the fields of subclasses. The hash codes differ " +
+            "from those of `HashCodeBuilder`, and instances of different classes are never equal.";
+
+    @Getter
+    final Duration estimatedEffortPerOccurrence = Duration.ofMinutes(5);
+
+    @Getter
+    final Set<String> tags = new HashSet<>(Arrays.asList("apache", "commons"));
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                Preconditions.or(
+                        new UsesType<>(BUILDER_PACKAGES[0] + ".*", false),
+                        new UsesType<>(BUILDER_PACKAGES[1] + ".*", false)),
+                new JavaVisitor<ExecutionContext>() {
+
+                    @Override
+                    public J visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                        List<Field> fields = fields(classDecl);
+                        if (fields != null) {
+                            getCursor().putMessage(FIELDS, fields);
+                        }
+                        return super.visitClassDeclaration(classDecl, ctx);
+                    }
+
+                    @Override
+                    public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J j = super.visitMethodInvocation(method, ctx);
+                        if (!(j instanceof J.MethodInvocation)) {
+                            return j;
+                        }
+                        J.MethodInvocation m = (J.MethodInvocation) j;
+                        boolean hashCode = matchesAny(REFLECTION_HASH_CODE, m);
+                        if (!hashCode && !matchesAny(REFLECTION_TO_STRING, m) ||
+                                m.getArguments().size() != 1 || !isThis(m.getArguments().get(0))) {
+                            return m;
+                        }
+                        List<Field> fields = enclosingFields();
+                        if (fields == null) {
+                            return m;
+                        }
+                        Set<String> shadowed = shadowedNames();
+                        List<String> values = new ArrayList<>();
+                        for (Field field : fields) {
+                            if (field.getExcludedBy().contains(hashCode ? "HashCodeExclude" : "ToStringExclude")) {
+                                continue;
+                            }
+                            String ref = shadowed.contains(field.getName()) ? "this." + field.getName() : field.getName();
+                            String value = hashCode ? hashCodeElement(field.getType(), ref) : toStringValue(field.getType(), ref);
+                            if (value == null) {
+                                return m;
+                            }
+                            values.add(hashCode ? value : field.getName() + "=\" + " + value + " + \"");
+                        }
+                        String code = hashCode ?
+                                "Objects.hash(" + String.join(", ", values) + ")" :
+                                toStringPrefix() + String.join(",", values) + "]\"";
+                        if (!hashCode && needsParentheses(getCursor())) {
+                            code = "(" + code + ")";
+                        }
+                        return replace(code, m, updateCursor(m));
+                    }
+
+                    @Override
+                    public J visitBlock(J.Block block, ExecutionContext ctx) {
+                        J.Block b = (J.Block) super.visitBlock(block, ctx);
+                        for (Statement statement : b.getStatements()) {
+                            if (statement instanceof J.Return && matchesAny(REFLECTION_EQUALS, ((J.Return) statement).getExpression())) {
+                                J.MethodInvocation m = (J.MethodInvocation) ((J.Return) statement).getExpression();
+                                String code = equalsStatements(m, updateCursor(b));
+                                if (code != null) {
+                                    return replace(code, statement, updateCursor(b));
+                                }
+                            }
+                        }
+                        return b;
+                    }
+
+                    private @Nullable String equalsStatements(J.MethodInvocation m, Cursor blockCursor) {
+                        if (m.getArguments().size() != 2 || !isThis(m.getArguments().get(0)) ||
+                                !(m.getArguments().get(1) instanceof J.Identifier)) {
+                            return null;
+                        }
+                        J.ClassDeclaration classDecl = blockCursor.firstEnclosing(J.ClassDeclaration.class);
+                        List<Field> fields = enclosingFields();
+                        if (classDecl == null || fields == null) {
+                            return null;
+                        }
+                        String other = ((J.Identifier) m.getArguments().get(1)).getSimpleName();
+                        String that = VariableNameUtils.generateVariableName("that", blockCursor, INCREMENT_NUMBER);
+                        Set<String> shadowed = shadowedNames();
+                        shadowed.add(other);
+                        shadowed.add(that);
+                        List<String> comparisons = new ArrayList<>();
+                        for (Field field : fields) {
+                            if (field.getExcludedBy().contains("EqualsExclude")) {
+                                continue;
+                            }
+                            String ref = shadowed.contains(field.getName()) ? "this." + field.getName() : field.getName();
+                            String comparison = equalsComparison(field.getType(), ref, that + "." + field.getName());
+                            if (comparison == null) {
+                                return null;
+                            }
+                            comparisons.add(comparison);
+                        }
+                        String type = classDecl.getSimpleName() + (classDecl.getTypeParameters() == null ||
+                                                                   classDecl.getTypeParameters().isEmpty() ? "" : "<?>");
+                        return "if (this == " + other + ") {\n" +
+                               "    return true;\n" +
+                               "}\n" +
+                               "if (" + other + " == null || getClass() != " + other + ".getClass()) {\n" +
+                               "    return false;\n" +
+                               "}\n" +
+                               (comparisons.isEmpty() ? "return true;" :
+                                       type + " " + that + " = (" + type + ") " + other + ";\n" +
+                                       "return " + String.join(" && ", comparisons) + ";");
+                    }
+
+                    private J replace(String code, J tree, Cursor cursor) {
+                        if (code.contains("Objects.")) {
+                            maybeAddImport("java.util.Objects");
+                        }
+                        if (code.contains("Arrays.")) {
+                            maybeAddImport("java.util.Arrays");
+                        }
+                        for (String pkg : BUILDER_PACKAGES) {
+                            maybeRemoveImport(pkg + ".EqualsBuilder");
+                            maybeRemoveImport(pkg + ".HashCodeBuilder");
+                            maybeRemoveImport(pkg + ".ToStringBuilder");
+                        }
+                        return JavaTemplate.builder(code)
+                                .contextSensitive()
+                                .imports("java.util.Arrays", "java.util.Objects")
+                                .build()
+                                .apply(cursor, ((Statement) tree).getCoordinates().replace());
+                    }
+
+                    /**
+                     * @return the fields of the class that {@code this} refers to, or null when the builders would
+                     * reflect on other fields too
+                     */
+                    private @Nullable List<Field> enclosingFields() {
+                        Cursor c = getCursor().dropParentUntil(v -> v instanceof J.ClassDeclaration ||
+                                                                    v instanceof J.NewClass && ((J.NewClass) v).getBody() != null ||
+                                                                    v == Cursor.ROOT_VALUE);
+                        return c.getValue() instanceof J.ClassDeclaration ? c.getMessage(FIELDS) : null;
+                    }
+
+                    /**
+                     * @return the parameters and local variables of the enclosing method, which hide fields of the same name
+                     */
+                    private Set<String> shadowedNames() {
+                        Set<String> names = new HashSet<>();
+                        J.MethodDeclaration method = getCursor().firstEnclosing(J.MethodDeclaration.class);
+                        if (method != null) {
+                            new JavaIsoVisitor<Set<String>>() {
+                                @Override
+                                public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, Set<String> names) {
+                                    names.add(variable.getSimpleName());
+                                    return super.visitVariable(variable, names);
+                                }
+                            }.visit(method, names);
+                        }
+                        return names;
+                    }
+                });
+    }
+
+    private static boolean isThis(Expression expression) {
+        return expression instanceof J.Identifier && "this".equals(((J.Identifier) expression).getSimpleName());
+    }
+
+    /**
+     * @return the fields the reflective builders use, or null if the class inherits fields they would use as well,
+     * or may be subclassed, as the builders reflect on the fields of the runtime class
+     */
+    private static @Nullable List<Field> fields(J.ClassDeclaration classDecl) {
+        if (classDecl.getKind() != J.ClassDeclaration.Kind.Type.Class || !classDecl.hasModifier(J.Modifier.Type.Final) ||
+                classDecl.getExtends() != null && !TypeUtils.isObject(classDecl.getExtends().getType())) {
+            return null;
+        }
+        List<Field> fields = new ArrayList<>();
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if (!(statement instanceof J.VariableDeclarations)) {
+                continue;
+            }
+            J.VariableDeclarations field = (J.VariableDeclarations) statement;
+            if (field.hasModifier(J.Modifier.Type.Static) || field.hasModifier(J.Modifier.Type.Transient)) {
+                continue;
+            }
+            Set<String> excludedBy = new HashSet<>();
+            for (J.Annotation annotation : field.getLeadingAnnotations()) {
+                excludedBy.add(annotation.getSimpleName());
+            }
+            for (J.VariableDeclarations.NamedVariable variable : field.getVariables()) {
+                if (!variable.getSimpleName().contains("$")) {
+                    fields.add(new Field(variable.getSimpleName(), variable.getType(), excludedBy));
+                }
+            }
+        }
+        return fields;
+    }
+
+    @Value
+    private static class Field {
+        String name;
+
+        @Nullable
+        JavaType type;
+
+        Set<String> excludedBy;
+    }
+}
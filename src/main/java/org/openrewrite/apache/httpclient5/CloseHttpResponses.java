@@ -0,0 +1,301 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.httpclient5;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.apache.table.UnclosedHttpResponses;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.openrewrite.Tree.randomId;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class CloseHttpResponses extends Recipe {
+
+    private static final String FQN_RESPONSE4 = "org.apache.http.client.methods.CloseableHttpResponse";
+    private static final String FQN_RESPONSE5 = "org.apache.hc.client5.http.impl.classic.CloseableHttpResponse";
+
+    private static final MethodMatcher EXECUTE4 = new MethodMatcher("org.apache.http.client.HttpClient execute(..)", true);
+    private static final MethodMatcher EXECUTE5 = new MethodMatcher("org.apache.hc.client5.http.classic.HttpClient execute(..)", true);
+    private static final MethodMatcher CONSUME4 = new MethodMatcher("org.apache.http.util.EntityUtils consume*(..)");
+    private static final MethodMatcher CONSUME5 = new MethodMatcher("org.apache.hc.core5.http.io.entity.EntityUtils consume*(..)");
+
+    transient UnclosedHttpResponses unclosedResponses = new UnclosedHttpResponses(this);
+
+    String displayName = "Close `CloseableHttpResponse` returned by `execute(..)`";
+
+    String description = "Finds `CloseableHttpResponse` instances returned by Apache HttpClient 4.x and 5.x `execute(..)` " +
+            "that are never closed and whose entity is never passed to `EntityUtils.consume(..)`. Such responses keep " +
+            "their connection leased from the pool, which eventually starves `PoolingHttpClientConnectionManager`. " +
+            "Local variables are wrapped in a try-with-resources block; the remaining sites are reported in a data table.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                Preconditions.or(new UsesMethod<>(EXECUTE4), new UsesMethod<>(EXECUTE5)),
+                new JavaIsoVisitor<ExecutionContext>() {
+
+                    @Override
+                    public J.Block visitBlock(J.Block block, ExecutionContext ctx) {
+                        J.Block b = super.visitBlock(block, ctx);
+                        Object parent = getCursor().getParentTreeCursor().getValue();
+                        if (parent instanceof J.ClassDeclaration || parent instanceof J.NewClass) {
+                            return b;
+                        }
+                        List<JRightPadded<Statement>> statements = closeResponses(b.getPadding().getStatements(), ctx);
+                        if (statements == b.getPadding().getStatements()) {
+                            return b;
+                        }
+                        return maybeAutoFormat(b, b.getPadding().withStatements(statements), ctx);
+                    }
+
+                    @Override
+                    public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
+                        if (isExecute(mi)) {
+                            Object parent = getCursor().getParentTreeCursor().getValue();
+                            if (parent instanceof J.Block) {
+                                report(mi, "Response is discarded without being closed", ctx);
+                            } else if (parent instanceof J.MethodInvocation && ((J.MethodInvocation) parent).getSelect() == method) {
+                                report(mi, "Response is dereferenced without being assigned to a variable", ctx);
+                            }
+                        }
+                        return mi;
+                    }
+
+                    private List<JRightPadded<Statement>> closeResponses(List<JRightPadded<Statement>> statements, ExecutionContext ctx) {
+                        List<JRightPadded<Statement>> result = new ArrayList<>(statements.size());
+                        boolean changed = false;
+                        int i = 0;
+                        while (i < statements.size()) {
+                            JRightPadded<Statement> padded = statements.get(i);
+                            J.VariableDeclarations vd = asResponseDeclaration(padded.getElement());
+                            if (vd == null) {
+                                result.add(padded);
+                                i++;
+                                continue;
+                            }
+
+                            String name = vd.getVariables().get(0).getSimpleName();
+                            ResponseUsage usage = new ResponseUsage(name);
+                            int end = i + 1;
+                            for (int j = i + 1; j < statements.size(); j++) {
+                                if (usage.scan(statements.get(j).getElement())) {
+                                    end = j + 1;
+                                }
+                            }
+
+                            J.MethodInvocation execute = (J.MethodInvocation) vd.getVariables().get(0).getInitializer();
+                            if (usage.closed || usage.escapes) {
+                                result.add(padded);
+                                i++;
+                                continue;
+                            }
+                            if (usage.reassigned) {
+                                report(execute, "Response variable is reassigned", ctx);
+                                result.add(padded);
+                                i++;
+                                continue;
+                            }
+                            if (!isCloseableResponse(vd.getType())) {
+                                report(execute, "Response is declared with a type that is not `Closeable`", ctx);
+                                result.add(padded);
+                                i++;
+                                continue;
+                            }
+
+                            // Keep anything declared inside the try block in scope for the statements that follow it
+                            if (declaresVariableUsedLater(statements.subList(i + 1, end), statements.subList(end, statements.size()))) {
+                                end = statements.size();
+                            }
+
+                            J.Block body = new J.Block(
+                                    randomId(),
+                                    Space.SINGLE_SPACE,
+                                    Markers.EMPTY,
+                                    JRightPadded.build(false),
+                                    closeResponses(statements.subList(i + 1, end), ctx),
+                                    Space.format("\n"));
+                            J.Try.Resource resource = new J.Try.Resource(randomId(), Space.EMPTY, Markers.EMPTY, vd.withPrefix(Space.EMPTY), false);
+                            J.Try tryWithResources = new J.Try(
+                                    randomId(),
+                                    vd.getPrefix(),
+                                    Markers.EMPTY,
+                                    JContainer.build(Space.SINGLE_SPACE, singletonList(JRightPadded.build(resource)), Markers.EMPTY),
+                                    body,
+                                    emptyList(),
+                                    null);
+                            result.add(JRightPadded.build((Statement) tryWithResources));
+                            changed = true;
+                            i = end;
+                        }
+                        return changed ? result : statements;
+                    }
+
+                    private J.@Nullable VariableDeclarations asResponseDeclaration(Statement statement) {
+                        if (!(statement instanceof J.VariableDeclarations)) {
+                            return null;
+                        }
+                        J.VariableDeclarations vd = (J.VariableDeclarations) statement;
+                        if (vd.getVariables().size() != 1) {
+                            return null;
+                        }
+                        Expression initializer = vd.getVariables().get(0).getInitializer();
+                        if (initializer instanceof J.MethodInvocation && isExecute((J.MethodInvocation) initializer)) {
+                            return vd;
+                        }
+                        return null;
+                    }
+
+                    private boolean declaresVariableUsedLater(List<JRightPadded<Statement>> wrapped, List<JRightPadded<Statement>> remaining) {
+                        for (JRightPadded<Statement> padded : wrapped) {
+                            if (padded.getElement() instanceof J.VariableDeclarations) {
+                                for (J.VariableDeclarations.NamedVariable variable : ((J.VariableDeclarations) padded.getElement()).getVariables()) {
+                                    ResponseUsage usage = new ResponseUsage(variable.getSimpleName());
+                                    for (JRightPadded<Statement> later : remaining) {
+                                        if (usage.scan(later.getElement())) {
+                                            return true;
+                                        }
+                                    }
+                                }
+                            }
+                        }
+                        return false;
+                    }
+
+                    private void report(J.MethodInvocation execute, String reason, ExecutionContext ctx) {
+                        J.MethodDeclaration md = getCursor().firstEnclosing(J.MethodDeclaration.class);
+                        unclosedResponses.insertRow(ctx, new UnclosedHttpResponses.Row(
+                                getCursor().firstEnclosingOrThrow(SourceFile.class).getSourcePath().toString(),
+                                md == null ? "" : md.getSimpleName(),
+                                execute.printTrimmed(getCursor()),
+                                reason));
+                    }
+                });
+    }
+
+    private static boolean isExecute(J.MethodInvocation mi) {
+        return (EXECUTE4.matches(mi) || EXECUTE5.matches(mi)) && isCloseableResponse(mi.getType());
+    }
+
+    private static boolean isCloseableResponse(@Nullable JavaType type) {
+        return TypeUtils.isAssignableTo(FQN_RESPONSE4, type) || TypeUtils.isAssignableTo(FQN_RESPONSE5, type);
+    }
+
+    /**
+     * Records how a local response variable is used by the statements following its declaration.
+     */
+    private static class ResponseUsage extends JavaIsoVisitor<Integer> {
+        private final String name;
+        private int nestedScopes;
+
+        boolean closed;
+        boolean escapes;
+        boolean reassigned;
+        boolean referenced;
+
+        ResponseUsage(String name) {
+            this.name = name;
+        }
+
+        /**
+         * @return true if the given statement references the variable
+         */
+        boolean scan(Statement statement) {
+            referenced = false;
+            visit(statement, 0);
+            return referenced;
+        }
+
+        @Override
+        public J.Lambda visitLambda(J.Lambda lambda, Integer p) {
+            nestedScopes++;
+            J.Lambda l = super.visitLambda(lambda, p);
+            nestedScopes--;
+            return l;
+        }
+
+        @Override
+        public J.NewClass visitNewClass(J.NewClass newClass, Integer p) {
+            if (newClass.getBody() == null) {
+                return super.visitNewClass(newClass, p);
+            }
+            nestedScopes++;
+            J.NewClass nc = super.visitNewClass(newClass, p);
+            nestedScopes--;
+            return nc;
+        }
+
+        @Override
+        public J.Identifier visitIdentifier(J.Identifier identifier, Integer p) {
+            if (!name.equals(identifier.getSimpleName()) || identifier.getFieldType() == null) {
+                return identifier;
+            }
+            Cursor parentCursor = getCursor().getParentTreeCursor();
+            Object parent = parentCursor.getValue();
+            if (parent instanceof J.FieldAccess && ((J.FieldAccess) parent).getName() == identifier) {
+                return identifier;
+            }
+            referenced = true;
+            if (nestedScopes > 0) {
+                escapes = true;
+            } else if (parent instanceof J.MethodInvocation) {
+                J.MethodInvocation mi = (J.MethodInvocation) parent;
+                if (mi.getSelect() == identifier) {
+                    if ("close".equals(mi.getSimpleName()) || "getEntity".equals(mi.getSimpleName()) && isConsumed(parentCursor)) {
+                        closed = true;
+                    }
+                } else if ("closeQuietly".equals(mi.getSimpleName())) {
+                    closed = true;
+                } else {
+                    escapes = true;
+                }
+            } else if (parent instanceof J.Try.Resource) {
+                closed = true;
+            } else if (parent instanceof J.Assignment) {
+                if (((J.Assignment) parent).getVariable() == identifier) {
+                    reassigned = true;
+                } else {
+                    escapes = true;
+                }
+            } else if (parent instanceof J.Return ||
+                       parent instanceof J.NewClass ||
+                       parent instanceof J.NewArray ||
+                       parent instanceof J.Ternary ||
+                       parent instanceof J.VariableDeclarations.NamedVariable) {
+                escapes = true;
+            }
+            return identifier;
+        }
+
+        private boolean isConsumed(Cursor getEntityCursor) {
+            Object consumer = getEntityCursor.getParentTreeCursor().getValue();
+            return consumer instanceof J.MethodInvocation &&
+                   (CONSUME4.matches((J.MethodInvocation) consumer) || CONSUME5.matches((J.MethodInvocation) consumer));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.httpclient5;
+
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.Flag;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Decides whether an expression evaluates to the same value on every call, so that it can be moved into a
+ * static field without changing behavior.
+ */
+final class ConstantExpressions {
+
+    private ConstantExpressions() {
+    }
+
+    /**
+     * @param expression   the expression to check
+     * @param factoryTypes types whose static methods and constructors are as constant as their arguments
+     * @return true if the expression only uses literals, static final fields and factories of those
+     */
+    static boolean isConstant(Expression expression, Collection<String> factoryTypes) {
+        if (expression instanceof J.Literal) {
+            return true;
+        }
+        if (expression instanceof J.Parentheses) {
+            return isConstant((Expression) ((J.Parentheses<?>) expression).getTree(), factoryTypes);
+        }
+        if (expression instanceof J.Unary) {
+            return isConstant(((J.Unary) expression).getExpression(), factoryTypes);
+        }
+        if (expression instanceof J.Binary) {
+            return isConstant(((J.Binary) expression).getLeft(), factoryTypes) &&
+                    isConstant(((J.Binary) expression).getRight(), factoryTypes);
+        }
+        if (expression instanceof J.Identifier || expression instanceof J.FieldAccess) {
+            JavaType.Variable variable = expression instanceof J.Identifier ?
+                    ((J.Identifier) expression).getFieldType() :
+                    ((J.FieldAccess) expression).getName().getFieldType();
+            return variable != null && variable.hasFlags(Flag.Static, Flag.Final);
+        }
+        if (expression instanceof J.MethodInvocation) {
+            J.MethodInvocation m = (J.MethodInvocation) expression;
+            if (m.getMethodType() == null) {
+                return false;
+            }
+            if (m.getMethodType().hasFlags(Flag.Static)) {
+                return factoryTypes.contains(m.getMethodType().getDeclaringType().getFullyQualifiedName()) &&
+                        areConstant(m.getArguments(), factoryTypes);
+            }
+            // "changeit".toCharArray() is the usual way to pass a key store password
+            return "toCharArray".equals(m.getSimpleName()) && m.getSelect() instanceof J.Literal;
+        }
+        if (expression instanceof J.NewClass) {
+            J.NewClass n = (J.NewClass) expression;
+            return n.getBody() == null && n.getConstructorType() != null &&
+                    factoryTypes.contains(n.getConstructorType().getDeclaringType().getFullyQualifiedName()) &&
+                    areConstant(n.getArguments(), factoryTypes);
+        }
+        return false;
+    }
+
+    static boolean areConstant(List<Expression> arguments, Collection<String> factoryTypes) {
+        for (Expression argument : arguments) {
+            if (!(argument instanceof J.Empty) && !isConstant(argument, factoryTypes)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.httpclient5;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.apache.table.AmbiguousConnectionState;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.Flag;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+
+import java.util.*;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class DisableConnectionState extends Recipe {
+
+    private static final String NOOP_USER_TOKEN_HANDLER4 = "org.apache.http.impl.client.NoopUserTokenHandler";
+    private static final String NOOP_USER_TOKEN_HANDLER5 = "org.apache.hc.client5.http.impl.NoopUserTokenHandler";
+
+    private static final String HTTP_CLIENT_BUILDER4 = "org.apache.http.impl.client.HttpClientBuilder";
+    private static final String HTTP_ASYNC_CLIENT_BUILDER4 = "org.apache.http.impl.nio.client.HttpAsyncClientBuilder";
+    private static final String HTTP_CLIENT_BUILDER5 = "org.apache.hc.client5.http.impl.classic.HttpClientBuilder";
+    private static final String HTTP_ASYNC_CLIENT_BUILDER5 = "org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder";
+
+    private static final Map<String, Builder> BUILDERS = new HashMap<>();
+
+    static {
+        BUILDERS.put(HTTP_CLIENT_BUILDER4,
+                new Builder(NOOP_USER_TOKEN_HANDLER4, "httpclient-4", "httpcore-4"));
+        BUILDERS.put(HTTP_ASYNC_CLIENT_BUILDER4,
+                new Builder(NOOP_USER_TOKEN_HANDLER4, "httpasyncclient-4", "httpclient-4", "httpcore-nio-4", "httpcore-4"));
+        BUILDERS.put(HTTP_CLIENT_BUILDER5,
+                new Builder(NOOP_USER_TOKEN_HANDLER5, "httpclient5", "httpcore5"));
+        BUILDERS.put(HTTP_ASYNC_CLIENT_BUILDER5,
+                new Builder(NOOP_USER_TOKEN_HANDLER5, "httpclient5", "httpcore5"));
+    }
+
+    private static final Set<String> CONNECTION_MANAGER_BUILDERS = new HashSet<>(Arrays.asList(
+            "org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder",
+            "org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder"));
+
+    private static final Set<String> CLIENT_FACTORIES = new HashSet<>(Arrays.asList(
+            "org.apache.http.impl.client.HttpClients",
+            "org.apache.http.impl.nio.client.HttpAsyncClients",
+            "org.apache.hc.client5.http.impl.classic.HttpClients",
+            "org.apache.hc.client5.http.impl.async.HttpAsyncClients"));
+
+    private static final Set<String> CONNECTION_STATE_SETTINGS = new HashSet<>(Arrays.asList(
+            "disableConnectionState", "setUserTokenHandler"));
+
+    // NTLM and SPNEGO tie the authenticated user to the connection
+    private static final Set<String> AUTHENTICATION_SETTINGS = new HashSet<>(Arrays.asList(
+            "setDefaultAuthSchemeRegistry", "setDefaultCredentialsProvider"));
+
+    // A custom SSL context may present a client certificate, whose principal becomes the user token
+    private static final Set<String> TLS_SETTINGS = new HashSet<>(Arrays.asList(
+            "setSSLContext", "setSSLSocketFactory", "setSSLStrategy", "setTlsSocketStrategy", "setTlsStrategy"));
+
+    private static final Set<String> COOKIE_SETTINGS = new HashSet<>(Arrays.asList(
+            "disableCookieManagement", "setDefaultCookieStore", "setDefaultCookieSpecRegistry"));
+
+    @Option(displayName = "Stateless clients",
+            description = "A method pattern selecting the methods that build stateless service to service clients. " +
+                    "Only builder chains inside matching methods are changed, as per request credentials supplied " +
+                    "through `HttpClientContext` are not visible on the builder.",
+            example = "com.example.InventoryClients *(..)")
+    String statelessClients;
+
+    @Option(displayName = "Connection state",
+            description = "`disableConnectionState` stops the client from tracking a user token at all, " +
+                    "`noopUserTokenHandler` keeps state tracking but installs `NoopUserTokenHandler`, so every " +
+                    "connection carries the same `null` token. Defaults to `disableConnectionState`.",
+            valid = {"disableConnectionState", "noopUserTokenHandler"},
+            example = "noopUserTokenHandler",
+            required = false)
+    @Nullable
+    String connectionState;
+
+    @Option(displayName = "Disable cookie management",
+            description = "Also call `disableCookieManagement()` on builders that do not configure cookies, for " +
+                    "stateless service to service clients.",
+            required = false)
+    @Nullable
+    Boolean disableCookieManagement;
+
+    transient AmbiguousConnectionState ambiguousConnectionState = new AmbiguousConnectionState(this);
+
+    String displayName = "Disable connection state for stateless HttpClient builders";
+
+    String description = "HttpClient attaches a user token, taken from NTLM authentication, a client certificate or " +
+            "the `HttpClientContext` principal, to pooled connections, which then cannot be reused by requests " +
+            "without that token. For stateless service to service clients this adds `disableConnectionState()` or a " +
+            "`NoopUserTokenHandler` to HttpClient 4.x and 5.x builder chains, and optionally " +
+            "`disableCookieManagement()`, in the methods selected as building stateless clients. Builders that " +
+            "configure authentication, TLS settings or a connection manager which may carry a user token, or that " +
+            "are configured across statements, are reported in a data table instead.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        boolean noopUserTokenHandler = "noopUserTokenHandler".equals(connectionState);
+        MethodMatcher statelessClient = new MethodMatcher(statelessClients, true);
+        return Preconditions.check(
+                Preconditions.or(
+                        new UsesType<>(HTTP_CLIENT_BUILDER4, false),
+                        new UsesType<>(HTTP_ASYNC_CLIENT_BUILDER4, false),
+                        new UsesType<>(HTTP_CLIENT_BUILDER5, false),
+                        new UsesType<>(HTTP_ASYNC_CLIENT_BUILDER5, false)),
+                new JavaIsoVisitor<ExecutionContext>() {
+                    @Override
+                    public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+                        JavaType.Method type = m.getMethodType();
+                        if (!"build".equals(m.getSimpleName()) || type == null || m.getSelect() == null) {
+                            return m;
+                        }
+                        Builder builder = BUILDERS.get(type.getDeclaringType().getFullyQualifiedName());
+                        if (builder == null) {
+                            return m;
+                        }
+                        J.MethodDeclaration md = getCursor().firstEnclosing(J.MethodDeclaration.class);
+                        if (md == null || !statelessClient.matches(md.getMethodType())) {
+                            return m;
+                        }
+
+                        Set<String> settings = new HashSet<>();
+                        boolean connectionManagerMayConfigureTls = false;
+                        Expression origin = m.getSelect();
+                        while (origin instanceof J.MethodInvocation && BUILDERS.containsKey(declaringType((J.MethodInvocation) origin)) &&
+                                !isFactory((J.MethodInvocation) origin)) {
+                            J.MethodInvocation setting = (J.MethodInvocation) origin;
+                            settings.add(setting.getSimpleName());
+                            if ("setConnectionManager".equals(setting.getSimpleName())) {
+                                connectionManagerMayConfigureTls |= mayConfigureTls(setting.getArguments().get(0));
+                            }
+                            origin = setting.getSelect();
+                        }
+                        if (!(origin instanceof J.MethodInvocation && isFactory((J.MethodInvocation) origin))) {
+                            report(m, "Builder is configured across statements", ctx);
+                            return m;
+                        }
+                        if (!Collections.disjoint(settings, CONNECTION_STATE_SETTINGS)) {
+                            return m;
+                        }
+                        if (!Collections.disjoint(settings, AUTHENTICATION_SETTINGS)) {
+                            report(m, "Builder configures authentication that may be connection based", ctx);
+                            return m;
+                        }
+                        if (!Collections.disjoint(settings, TLS_SETTINGS)) {
+                            report(m, "Builder configures TLS that may present a client certificate", ctx);
+                            return m;
+                        }
+                        if (connectionManagerMayConfigureTls) {
+                            report(m, "Builder sets a connection manager that may present a client certificate", ctx);
+                            return m;
+                        }
+
+                        String additions = noopUserTokenHandler ?
+                                ".setUserTokenHandler(NoopUserTokenHandler.INSTANCE)" :
+                                ".disableConnectionState()";
+                        if (Boolean.TRUE.equals(disableCookieManagement)) {
+                            if (Collections.disjoint(settings, COOKIE_SETTINGS)) {
+                                additions += ".disableCookieManagement()";
+                            } else if (!settings.contains("disableCookieManagement")) {
+                                report(m, "Builder configures cookies, cookie management was kept", ctx);
+                            }
+                        }
+                        if (noopUserTokenHandler) {
+                            maybeAddImport(builder.getNoopUserTokenHandler());
+                        }
+                        Expression select = m.getSelect();
+                        return m.withSelect(JavaTemplate.builder("#{any(" + type.getDeclaringType().getFullyQualifiedName() + ")}" + additions)
+                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, builder.getClasspath()))
+                                .imports(builder.getNoopUserTokenHandler())
+                                .build()
+                                .apply(new Cursor(getCursor(), select), select.getCoordinates().replace(), select));
+                    }
+
+                    private void report(J.MethodInvocation build, String reason, ExecutionContext ctx) {
+                        J.MethodDeclaration md = getCursor().firstEnclosing(J.MethodDeclaration.class);
+                        ambiguousConnectionState.insertRow(ctx, new AmbiguousConnectionState.Row(
+                                getCursor().firstEnclosingOrThrow(SourceFile.class).getSourcePath().toString(),
+                                md == null ? "" : md.getSimpleName(),
+                                build.printTrimmed(getCursor()),
+                                reason));
+                    }
+                });
+    }
+
+    private static @Nullable String declaringType(J.MethodInvocation method) {
+        return method.getMethodType() == null ? null : method.getMethodType().getDeclaringType().getFullyQualifiedName();
+    }
+
+    private static boolean isFactory(J.MethodInvocation method) {
+        String declaringType = declaringType(method);
+        if (declaringType == null || method.getMethodType() == null || !method.getMethodType().hasFlags(Flag.Static)) {
+            return false;
+        }
+        return CLIENT_FACTORIES.contains(declaringType) && "custom".equals(method.getSimpleName()) ||
+                BUILDERS.containsKey(declaringType) && "create".equals(method.getSimpleName());
+    }
+
+    /**
+     * A connection manager holds the TLS settings of the client, unless it is built inline by a pooling
+     * connection manager builder that does not configure any.
+     */
+    private static boolean mayConfigureTls(Expression connectionManager) {
+        Expression e = connectionManager;
+        while (e instanceof J.MethodInvocation) {
+            J.MethodInvocation method = (J.MethodInvocation) e;
+            JavaType.Method type = method.getMethodType();
+            if (type == null || !CONNECTION_MANAGER_BUILDERS.contains(type.getDeclaringType().getFullyQualifiedName()) ||
+                    TLS_SETTINGS.contains(method.getSimpleName())) {
+                return true;
+            }
+            if (type.hasFlags(Flag.Static) && "create".equals(method.getSimpleName())) {
+                return false;
+            }
+            e = method.getSelect();
+        }
+        return true;
+    }
+
+    @Value
+    private static class Builder {
+        String noopUserTokenHandler;
+        String[] classpath;
+
+        Builder(String noopUserTokenHandler, String... classpath) {
+            this.noopUserTokenHandler = noopUserTokenHandler;
+            this.classpath = classpath;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.httpclient5;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.apache.internal.ClassConstants;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class HoistConstantRequestConfig extends Recipe {
+
+    private static final String FQN_REQUEST_CONFIG4 = "org.apache.http.client.config.RequestConfig";
+    private static final String FQN_REQUEST_CONFIG5 = "org.apache.hc.client5.http.config.RequestConfig";
+
+    private static final MethodMatcher BUILD4 = new MethodMatcher(FQN_REQUEST_CONFIG4 + ".Builder build()");
+    private static final MethodMatcher BUILD5 = new MethodMatcher(FQN_REQUEST_CONFIG5 + ".Builder build()");
+    private static final MethodMatcher CUSTOM4 = new MethodMatcher(FQN_REQUEST_CONFIG4 + " custom()");
+    private static final MethodMatcher CUSTOM5 = new MethodMatcher(FQN_REQUEST_CONFIG5 + " custom()");
+
+    // Static factories that are as constant as their arguments
+    private static final List<String> CONSTANT_FACTORIES = Arrays.asList(
+            "org.apache.hc.core5.util.Timeout",
+            "org.apache.hc.core5.util.TimeValue",
+            "java.time.Duration");
+
+    private static final String CONSTANT_NAME = "REQUEST_CONFIG";
+    private static final String HOISTED_CONFIGS = "hoistedRequestConfigs";
+
+    String displayName = "Hoist constant `RequestConfig` to a shared constant";
+
+    String description = "Moves `RequestConfig.custom()...build()` chains that only use constant arguments out of " +
+            "methods into a `private static final RequestConfig`, so the builder and configuration are not " +
+            "allocated again on every request. Identical chains in a class share one constant. Chains passed to " +
+            "`HttpClientBuilder.setDefaultRequestConfig` are already built once per client and are left as is, as " +
+            "are chains in code that may run before the constant is initialized, such as the constructor of an enum. " +
+            "Works with both Apache HttpClient 4.x and 5.x.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                Preconditions.or(new UsesMethod<>(BUILD4), new UsesMethod<>(BUILD5)),
+                new JavaVisitor<ExecutionContext>() {
+
+                    @Override
+                    public J visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                        if (!ClassConstants.canDeclare(classDecl) ||
+                                getCursor().getParentTreeCursor().firstEnclosing(J.MethodDeclaration.class) != null) {
+                            return super.visitClassDeclaration(classDecl, ctx);
+                        }
+                        Map<String, Hoisted> hoisted = new LinkedHashMap<>();
+                        // Declare after the existing fields, so constants the chains refer to are initialized first
+                        int first = 0;
+                        for (int i = 0; i < classDecl.getBody().getStatements().size(); i++) {
+                            Statement statement = classDecl.getBody().getStatements().get(i);
+                            if (statement instanceof J.VariableDeclarations) {
+                                J.VariableDeclarations field = (J.VariableDeclarations) statement;
+                                for (J.VariableDeclarations.NamedVariable variable : field.getVariables()) {
+                                    if (field.hasModifier(J.Modifier.Type.Static) && field.hasModifier(J.Modifier.Type.Final) &&
+                                            variable.getInitializer() instanceof J.MethodInvocation &&
+                                            isConstantChain((J.MethodInvocation) variable.getInitializer())) {
+                                        hoisted.put(key(variable.getInitializer(), getCursor()), new Hoisted(variable.getSimpleName(), null, null));
+                                    }
+                                }
+                            }
+                            if (statement instanceof J.VariableDeclarations || statement instanceof J.EnumValueSet) {
+                                first = i + 1;
+                            }
+                        }
+                        ClassConstants.Position position = ClassConstants.position(classDecl, first);
+                        getCursor().putMessage(HOISTED_CONFIGS, new Constants(hoisted, ClassConstants.memberNames(classDecl), position));
+
+                        J.ClassDeclaration cd = (J.ClassDeclaration) super.visitClassDeclaration(classDecl, ctx);
+                        List<Hoisted> added = new ArrayList<>();
+                        for (Hoisted h : hoisted.values()) {
+                            if (h.getChain() != null) {
+                                added.add(h);
+                                maybeAddImport(h.getType());
+                            }
+                        }
+                        if (added.isEmpty()) {
+                            return cd;
+                        }
+                        return ClassConstants.declare(this, cd, first, added, (c, h, coordinates) ->
+                                JavaTemplate.builder("private static final RequestConfig " + h.getName() + " = #{any(" + h.getType() + ")};")
+                                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx,
+                                                "httpclient-4", "httpcore-4", "httpclient5", "httpcore5"))
+                                        .imports(h.getType())
+                                        .build()
+                                        .apply(updateCursor(c), coordinates, h.getChain()), ctx);
+                    }
+
+                    @Override
+                    public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J j = super.visitMethodInvocation(method, ctx);
+                        if (!(j instanceof J.MethodInvocation)) {
+                            return j;
+                        }
+                        J.MethodInvocation m = (J.MethodInvocation) j;
+                        if (!isConstantChain(m) || !ClassConstants.insideMethod(getCursor()) || isDefaultRequestConfig()) {
+                            return m;
+                        }
+                        Cursor classCursor = getCursor().dropParentUntil(J.ClassDeclaration.class::isInstance);
+                        Constants constants = classCursor.getMessage(HOISTED_CONFIGS);
+                        if (constants == null || !constants.getPosition().isInitializedFor(getCursor())) {
+                            return m;
+                        }
+                        String type = BUILD4.matches(m) ? FQN_REQUEST_CONFIG4 : FQN_REQUEST_CONFIG5;
+                        Hoisted h = constants.getHoisted().computeIfAbsent(key(m, getCursor()), k -> new Hoisted(
+                                ClassConstants.uniqueName(constants.getNames(), CONSTANT_NAME), m.withPrefix(Space.EMPTY), type));
+                        return new J.Identifier(Tree.randomId(), m.getPrefix(), Markers.EMPTY, emptyList(), h.getName(),
+                                JavaType.ShallowClass.build(type), null);
+                    }
+
+                    private boolean isDefaultRequestConfig() {
+                        Object parent = getCursor().getParentTreeCursor().getValue();
+                        return parent instanceof J.MethodInvocation &&
+                                "setDefaultRequestConfig".equals(((J.MethodInvocation) parent).getSimpleName());
+                    }
+                }
+        );
+    }
+
+    private static boolean isConstantChain(J.MethodInvocation build) {
+        if (!BUILD4.matches(build) && !BUILD5.matches(build)) {
+            return false;
+        }
+        for (Expression select = build.getSelect(); ; select = ((J.MethodInvocation) select).getSelect()) {
+            if (!(select instanceof J.MethodInvocation)) {
+                return false;
+            }
+            J.MethodInvocation m = (J.MethodInvocation) select;
+            if (CUSTOM4.matches(m) || CUSTOM5.matches(m)) {
+                return true;
+            }
+            if (!ConstantExpressions.areConstant(m.getArguments(), CONSTANT_FACTORIES)) {
+                return false;
+            }
+        }
+    }
+
+    private static String key(Expression chain, Cursor cursor) {
+        return chain.printTrimmed(cursor).replaceAll("\\s+", "");
+    }
+
+    @Value
+    private static class Constants {
+        Map<String, Hoisted> hoisted;
+        Set<String> names;
+        ClassConstants.Position position;
+    }
+
+    @Value
+    private static class Hoisted {
+        String name;
+
+        // null for constants that already exist in the class
+        @Nullable
+        J.MethodInvocation chain;
+
+        @Nullable
+        String type;
+    }
+}
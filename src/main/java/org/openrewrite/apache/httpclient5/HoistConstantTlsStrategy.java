@@ -0,0 +1,396 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.httpclient5;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.apache.internal.ClassConstants;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Collections.emptyList;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class HoistConstantTlsStrategy extends Recipe {
+
+    private static final String FQN_SSL_CONTEXT = "javax.net.ssl.SSLContext";
+    private static final String FQN_DEFAULT_TLS_STRATEGY = "org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy";
+
+    private static final List<String> SSL_CONTEXTS = Arrays.asList(
+            "org.apache.http.conn.ssl.SSLContexts",
+            "org.apache.http.ssl.SSLContexts",
+            "org.apache.hc.core5.ssl.SSLContexts");
+    private static final List<String> SSL_CONTEXT_BUILDERS = Arrays.asList(
+            "org.apache.http.conn.ssl.SSLContextBuilder",
+            "org.apache.http.ssl.SSLContextBuilder",
+            "org.apache.hc.core5.ssl.SSLContextBuilder");
+
+    // Types whose constructors and static factories are as constant as their arguments
+    private static final List<String> CONSTANT_FACTORIES = Arrays.asList(
+            "java.io.File",
+            "java.nio.file.Paths",
+            "org.apache.http.conn.ssl.TrustSelfSignedStrategy",
+            "org.apache.http.conn.ssl.TrustAllStrategy",
+            "org.apache.http.conn.ssl.DefaultHostnameVerifier",
+            "org.apache.hc.client5.http.ssl.TrustSelfSignedStrategy",
+            "org.apache.hc.client5.http.ssl.TrustAllStrategy",
+            "org.apache.hc.client5.http.ssl.DefaultHostnameVerifier");
+
+    private static final String HOLDER_NAME = "TlsHolder";
+    private static final String SSL_CONTEXT_NAME = "SSL_CONTEXT";
+    private static final String TLS_STRATEGY_NAME = "TLS_STRATEGY";
+    private static final String HOLDER = "tlsHolder";
+    private static final String HOISTED_LOCALS = "hoistedSslContextLocals";
+
+    String displayName = "Share constant `SSLContext` and `DefaultClientTlsStrategy` instances";
+
+    String description = "Moves `SSLContext` construction from `SSLContexts` and `SSLContextBuilder`, and " +
+            "`DefaultClientTlsStrategy` construction on top of it, out of methods into a lazily initialized static " +
+            "holder class when they only use constant arguments, such as a trust store file and password. Identical " +
+            "constructions in a class share one instance, which avoids parsing the key store again on every call " +
+            "and lets connections resume TLS sessions. A key store that cannot be loaded fails the first use of the " +
+            "holder with an `ExceptionInInitializerError` instead of a checked exception, so constructions inside a " +
+            "`try` catching those exceptions, or in a method declaring them, are kept.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                Preconditions.or(
+                        new UsesType<>(SSL_CONTEXTS.get(0), false),
+                        new UsesType<>(SSL_CONTEXTS.get(1), false),
+                        new UsesType<>(SSL_CONTEXTS.get(2), false),
+                        new UsesType<>(FQN_DEFAULT_TLS_STRATEGY, false)),
+                new JavaVisitor<ExecutionContext>() {
+
+                    @Override
+                    public J visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                        if (!ClassConstants.canDeclare(classDecl) ||
+                                getCursor().getParentTreeCursor().firstEnclosing(J.MethodDeclaration.class) != null) {
+                            return super.visitClassDeclaration(classDecl, ctx);
+                        }
+                        String holderName = ClassConstants.uniqueName(ClassConstants.memberNames(classDecl), HOLDER_NAME);
+                        Holder holder = new Holder(holderName, new LinkedHashMap<>(), new LinkedHashMap<>());
+                        getCursor().putMessage(HOLDER, holder);
+
+                        J.ClassDeclaration cd = (J.ClassDeclaration) super.visitClassDeclaration(classDecl, ctx);
+                        if (holder.getSslContexts().isEmpty()) {
+                            return cd;
+                        }
+                        return addHolder(cd, holder, ctx);
+                    }
+
+                    @Override
+                    public J visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                        getCursor().putMessage(HOISTED_LOCALS, new HashMap<String, Constant>());
+                        return super.visitMethodDeclaration(method, ctx);
+                    }
+
+                    @Override
+                    public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J j = super.visitMethodInvocation(method, ctx);
+                        Holder holder = holder();
+                        if (!(j instanceof J.MethodInvocation) || holder == null || !isConstantSslContext((J.MethodInvocation) j) ||
+                                handlesCheckedException((J.MethodInvocation) j)) {
+                            return j;
+                        }
+                        J.MethodInvocation m = (J.MethodInvocation) j;
+                        Constant sslContext = holder.getSslContexts().computeIfAbsent(key(m, getCursor()),
+                                k -> new Constant(SSL_CONTEXT_NAME + suffix(holder.getSslContexts()), m.withPrefix(Space.EMPTY)));
+                        return holderAccess(holder, sslContext, m);
+                    }
+
+                    @Override
+                    public J visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
+                        J j = super.visitNewClass(newClass, ctx);
+                        Holder holder = holder();
+                        if (!(j instanceof J.NewClass) || holder == null) {
+                            return j;
+                        }
+                        J.NewClass n = (J.NewClass) j;
+                        if (n.getBody() != null || !TypeUtils.isOfClassType(n.getType(), FQN_DEFAULT_TLS_STRATEGY) ||
+                                !ConstantExpressions.areConstant(n.getArguments().subList(1, n.getArguments().size()), CONSTANT_FACTORIES)) {
+                            return n;
+                        }
+                        Constant sslContext = hoistedSslContext(holder, n.getArguments().get(0));
+                        if (sslContext == null) {
+                            return n;
+                        }
+                        J.NewClass strategy = n.withPrefix(Space.EMPTY).withArguments(ListUtils.mapFirst(n.getArguments(), a ->
+                                new J.Identifier(Tree.randomId(), a.getPrefix(), Markers.EMPTY, emptyList(), sslContext.getName(), a.getType(), null)));
+                        Constant tlsStrategy = holder.getTlsStrategies().computeIfAbsent(key(strategy, getCursor()),
+                                k -> new Constant(TLS_STRATEGY_NAME + suffix(holder.getTlsStrategies()), strategy));
+                        return holderAccess(holder, tlsStrategy, n);
+                    }
+
+                    @Override
+                    public J visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+                        J.VariableDeclarations vd = (J.VariableDeclarations) super.visitVariableDeclarations(multiVariable, ctx);
+                        Holder holder = holder();
+                        Map<String, Constant> locals = getCursor().getNearestMessage(HOISTED_LOCALS);
+                        if (holder == null || locals == null || vd.getVariables().size() != 1) {
+                            return vd;
+                        }
+                        J.VariableDeclarations.NamedVariable variable = vd.getVariables().get(0);
+                        Constant sslContext = hoistedSslContext(holder, variable.getInitializer());
+                        if (sslContext != null && !isReassigned(variable.getSimpleName())) {
+                            locals.put(variable.getSimpleName(), sslContext);
+                        }
+                        return vd;
+                    }
+
+                    private J.ClassDeclaration addHolder(J.ClassDeclaration cd, Holder holder, ExecutionContext ctx) {
+                        StringBuilder code = new StringBuilder("private static final class ").append(holder.getName()).append(" {\n");
+                        List<Object> parameters = new ArrayList<>();
+                        List<Constant> throwing = new ArrayList<>();
+                        Set<String> caught = new TreeSet<>();
+                        for (Constant sslContext : holder.getSslContexts().values()) {
+                            Set<String> thrown = checkedExceptions(sslContext.getExpression());
+                            code.append("static final SSLContext ").append(sslContext.getName());
+                            if (thrown.isEmpty()) {
+                                code.append(" = #{any(").append(FQN_SSL_CONTEXT).append(")}");
+                                parameters.add(sslContext.getExpression());
+                            } else {
+                                throwing.add(sslContext);
+                                caught.addAll(thrown);
+                            }
+                            code.append(";\n");
+                        }
+                        if (!throwing.isEmpty()) {
+                            code.append("\nstatic {\ntry {\n");
+                            for (Constant sslContext : throwing) {
+                                code.append(sslContext.getName()).append(" = #{any(").append(FQN_SSL_CONTEXT).append(")};\n");
+                                parameters.add(sslContext.getExpression());
+                            }
+                            code.append("} catch (").append(String.join(" | ", caught)).append(" e) {\n")
+                                    .append("throw new ExceptionInInitializerError(e);\n}\n}\n");
+                            if (!holder.getTlsStrategies().isEmpty()) {
+                                code.append("\n");
+                            }
+                        }
+                        for (Constant tlsStrategy : holder.getTlsStrategies().values()) {
+                            code.append("static final DefaultClientTlsStrategy ").append(tlsStrategy.getName())
+                                    .append(" = #{any(").append(FQN_DEFAULT_TLS_STRATEGY).append(")};\n");
+                            parameters.add(tlsStrategy.getExpression());
+                        }
+                        code.append("}");
+
+                        maybeAddImport(FQN_SSL_CONTEXT);
+                        if (!holder.getTlsStrategies().isEmpty()) {
+                            maybeAddImport(FQN_DEFAULT_TLS_STRATEGY);
+                        }
+                        if (caught.contains("GeneralSecurityException")) {
+                            maybeAddImport("java.security.GeneralSecurityException");
+                        }
+                        if (caught.contains("IOException")) {
+                            maybeAddImport("java.io.IOException");
+                        }
+                        return ClassConstants.declare(this, cd, cd.getBody().getStatements().size(),
+                                Collections.singletonList(code.toString()), (c, holderCode, coordinates) -> JavaTemplate.builder(holderCode)
+                                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx,
+                                                "httpclient-4", "httpcore-4", "httpclient5", "httpcore5"))
+                                        .imports(FQN_SSL_CONTEXT, FQN_DEFAULT_TLS_STRATEGY, "java.security.GeneralSecurityException", "java.io.IOException")
+                                        .build()
+                                        .apply(updateCursor(c), coordinates, parameters.toArray()), ctx);
+                    }
+
+                    private @Nullable Holder holder() {
+                        Cursor method = getCursor().dropParentUntil(c -> c instanceof J.MethodDeclaration ||
+                                c instanceof J.ClassDeclaration || c == Cursor.ROOT_VALUE);
+                        if (!(method.getValue() instanceof J.MethodDeclaration)) {
+                            return null;
+                        }
+                        return method.dropParentUntil(J.ClassDeclaration.class::isInstance).getMessage(HOLDER);
+                    }
+
+                    private @Nullable Constant hoistedSslContext(Holder holder, @Nullable Expression expression) {
+                        if (expression instanceof J.FieldAccess &&
+                                ((J.FieldAccess) expression).getTarget() instanceof J.Identifier &&
+                                holder.getName().equals(((J.Identifier) ((J.FieldAccess) expression).getTarget()).getSimpleName())) {
+                            String name = ((J.FieldAccess) expression).getSimpleName();
+                            for (Constant sslContext : holder.getSslContexts().values()) {
+                                if (sslContext.getName().equals(name)) {
+                                    return sslContext;
+                                }
+                            }
+                        } else if (expression instanceof J.Identifier) {
+                            Map<String, Constant> locals = getCursor().getNearestMessage(HOISTED_LOCALS);
+                            return locals == null ? null : locals.get(((J.Identifier) expression).getSimpleName());
+                        }
+                        return null;
+                    }
+
+                    /**
+                     * Hoisting moves the checked exceptions of the construction into the holder, which would leave
+                     * an enclosing {@code catch} of one of them without anything throwing it, and a method declaring
+                     * one of them without ever throwing it to its callers.
+                     */
+                    private boolean handlesCheckedException(J.MethodInvocation sslContext) {
+                        List<JavaType> thrown = checkedExceptionTypes(sslContext);
+                        if (thrown.isEmpty()) {
+                            return false;
+                        }
+                        List<JavaType> handled = new ArrayList<>();
+                        for (Cursor c = getCursor(); c != null; c = c.getParent()) {
+                            if (c.getValue() instanceof J.Try) {
+                                for (J.Try.Catch catch_ : ((J.Try) c.getValue()).getCatches()) {
+                                    JavaType caught = catch_.getParameter().getType();
+                                    handled.addAll(caught instanceof JavaType.MultiCatch ?
+                                            ((JavaType.MultiCatch) caught).getThrowableTypes() : Collections.singletonList(caught));
+                                }
+                            } else if (c.getValue() instanceof J.MethodDeclaration) {
+                                List<NameTree> throws_ = ((J.MethodDeclaration) c.getValue()).getThrows();
+                                if (throws_ != null) {
+                                    for (NameTree exception : throws_) {
+                                        handled.add(exception.getType());
+                                    }
+                                }
+                                break;
+                            }
+                        }
+                        for (JavaType alternative : handled) {
+                            // catching or declaring Exception or Throwable always compiles and is rarely part of a contract
+                            if (TypeUtils.isOfClassType(alternative, "java.lang.Exception") ||
+                                    TypeUtils.isOfClassType(alternative, "java.lang.Throwable")) {
+                                continue;
+                            }
+                            for (JavaType exception : thrown) {
+                                if (TypeUtils.isAssignableTo(exception, alternative) || TypeUtils.isAssignableTo(alternative, exception)) {
+                                    return true;
+                                }
+                            }
+                        }
+                        return false;
+                    }
+
+                    private boolean isReassigned(String name) {
+                        J.MethodDeclaration method = getCursor().firstEnclosingOrThrow(J.MethodDeclaration.class);
+                        AtomicBoolean reassigned = new AtomicBoolean();
+                        new JavaIsoVisitor<AtomicBoolean>() {
+                            @Override
+                            public J.Assignment visitAssignment(J.Assignment assignment, AtomicBoolean found) {
+                                if (assignment.getVariable() instanceof J.Identifier &&
+                                        name.equals(((J.Identifier) assignment.getVariable()).getSimpleName())) {
+                                    found.set(true);
+                                }
+                                return super.visitAssignment(assignment, found);
+                            }
+                        }.visit(method.getBody(), reassigned);
+                        return reassigned.get();
+                    }
+                }
+        );
+    }
+
+    private static boolean isConstantSslContext(J.MethodInvocation method) {
+        JavaType.Method type = method.getMethodType();
+        if (type == null) {
+            return false;
+        }
+        String declaringType = type.getDeclaringType().getFullyQualifiedName();
+        if (SSL_CONTEXTS.contains(declaringType)) {
+            return "createDefault".equals(method.getSimpleName()) || "createSystemDefault".equals(method.getSimpleName());
+        }
+        if (!SSL_CONTEXT_BUILDERS.contains(declaringType) || !"build".equals(method.getSimpleName())) {
+            return false;
+        }
+        for (Expression select = method.getSelect(); select instanceof J.MethodInvocation; select = ((J.MethodInvocation) select).getSelect()) {
+            J.MethodInvocation m = (J.MethodInvocation) select;
+            if (m.getMethodType() == null) {
+                return false;
+            }
+            String selectType = m.getMethodType().getDeclaringType().getFullyQualifiedName();
+            if (SSL_CONTEXTS.contains(selectType) && "custom".equals(m.getSimpleName()) ||
+                    SSL_CONTEXT_BUILDERS.contains(selectType) && "create".equals(m.getSimpleName())) {
+                return true;
+            }
+            if (!SSL_CONTEXT_BUILDERS.contains(selectType) ||
+                    !ConstantExpressions.areConstant(m.getArguments(), CONSTANT_FACTORIES)) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static J.FieldAccess holderAccess(Holder holder, Constant constant, Expression replaced) {
+        return new J.FieldAccess(
+                Tree.randomId(),
+                replaced.getPrefix(),
+                Markers.EMPTY,
+                new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, emptyList(), holder.getName(), null, null),
+                JLeftPadded.build(new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, emptyList(),
+                        constant.getName(), replaced.getType(), null)),
+                replaced.getType());
+    }
+
+    private static Set<String> checkedExceptions(Expression sslContext) {
+        Set<String> thrown = new TreeSet<>();
+        for (JavaType exception : checkedExceptionTypes(sslContext)) {
+            // Key store loading only throws I/O and security exceptions
+            thrown.add(TypeUtils.isAssignableTo("java.io.IOException", exception) ||
+                    TypeUtils.isOfClassType(exception, "java.io.IOException") ? "IOException" : "GeneralSecurityException");
+        }
+        return thrown;
+    }
+
+    private static List<JavaType> checkedExceptionTypes(Expression sslContext) {
+        List<JavaType> thrown = new ArrayList<>();
+        for (Expression e = sslContext; e instanceof J.MethodInvocation; e = ((J.MethodInvocation) e).getSelect()) {
+            JavaType.Method type = ((J.MethodInvocation) e).getMethodType();
+            if (type == null) {
+                continue;
+            }
+            for (JavaType exception : type.getThrownExceptions()) {
+                if (!TypeUtils.isAssignableTo("java.lang.RuntimeException", exception)) {
+                    thrown.add(exception);
+                }
+            }
+        }
+        return thrown;
+    }
+
+    private static String key(J tree, Cursor cursor) {
+        return tree.printTrimmed(cursor).replaceAll("\\s+", "");
+    }
+
+    private static String suffix(Map<String, Constant> constants) {
+        return constants.isEmpty() ? "" : "_" + (constants.size() + 1);
+    }
+
+    @Value
+    private static class Holder {
+        String name;
+        Map<String, Constant> sslContexts;
+        Map<String, Constant> tlsStrategies;
+    }
+
+    @Value
+    private static class Constant {
+        String name;
+        Expression expression;
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.httpclient5;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class MigrateCommonsHttpClientConfiguration extends Recipe {
+
+    private static final String FQN_CLIENT = "org.apache.hc.client5.http.impl.classic.CloseableHttpClient";
+    private static final String FQN_CLIENTS = "org.apache.hc.client5.http.impl.classic.HttpClients";
+    private static final String FQN_CONNECTION_MANAGER = "org.apache.hc.client5.http.io.HttpClientConnectionManager";
+    private static final String FQN_POOLING = "org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager";
+    private static final String FQN_PARAMS = "org.apache.commons.httpclient.params.HttpConnectionManagerParams";
+    private static final String FQN_CONTENT_TYPE = "org.apache.hc.core5.http.ContentType";
+
+    // Commons HttpClient 3.x constructors and methods, matched after their types were changed to the 5.x classic types
+    private static final MethodMatcher NEW_CLIENT = new MethodMatcher(FQN_CLIENT + " <constructor>()");
+    private static final MethodMatcher NEW_CLIENT_WITH_MANAGER = new MethodMatcher(FQN_CLIENT + " <constructor>(" + FQN_CONNECTION_MANAGER + ")");
+    private static final MethodMatcher GET_PARAMS = new MethodMatcher(FQN_POOLING + " getParams()");
+    private static final MethodMatcher SET_MAX_TOTAL = new MethodMatcher(FQN_PARAMS + " setMaxTotalConnections(int)");
+    private static final MethodMatcher SET_MAX_PER_HOST = new MethodMatcher(FQN_PARAMS + " setDefaultMaxConnectionsPerHost(int)");
+    private static final MethodMatcher NEW_STRING_ENTITY = new MethodMatcher("org.apache.hc.core5.http.io.entity.StringEntity <constructor>(String, String, String)");
+    private static final List<MethodMatcher> NEW_ENTITY_WITHOUT_CONTENT_TYPE = Arrays.asList(
+            new MethodMatcher("org.apache.hc.core5.http.io.entity.ByteArrayEntity <constructor>(byte[])"),
+            new MethodMatcher("org.apache.hc.core5.http.io.entity.ByteArrayEntity <constructor>(byte[], String)"),
+            new MethodMatcher("org.apache.hc.core5.http.io.entity.InputStreamEntity <constructor>(java.io.InputStream)"),
+            new MethodMatcher("org.apache.hc.core5.http.io.entity.InputStreamEntity <constructor>(java.io.InputStream, String)"),
+            new MethodMatcher("org.apache.hc.core5.http.io.entity.InputStreamEntity <constructor>(java.io.InputStream, long)"),
+            new MethodMatcher("org.apache.hc.core5.http.io.entity.InputStreamEntity <constructor>(java.io.InputStream, long, String)"));
+
+    String displayName = "Migrate Commons HttpClient 3.x client, connection manager and request entity construction";
+
+    String description = "Replaces `new HttpClient()` and `new HttpClient(connectionManager)` from Commons HttpClient 3.x with " +
+            "`HttpClients` factories, moves `MultiThreadedHttpConnectionManager` pool limits onto the " +
+            "`PoolingHttpClientConnectionManager`, and passes request entity content types as `ContentType`. " +
+            "Expects the 3.x types to have been changed to their HttpClient 5.x classic counterparts already.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                Preconditions.or(
+                        new UsesMethod<>(NEW_CLIENT),
+                        new UsesMethod<>(NEW_CLIENT_WITH_MANAGER),
+                        new UsesMethod<>(SET_MAX_TOTAL),
+                        new UsesMethod<>(SET_MAX_PER_HOST),
+                        new UsesMethod<>(NEW_STRING_ENTITY),
+                        new UsesType<>("org.apache.hc.core5.http.io.entity.ByteArrayEntity", false),
+                        new UsesType<>("org.apache.hc.core5.http.io.entity.InputStreamEntity", false)),
+                new JavaVisitor<ExecutionContext>() {
+
+                    @Override
+                    public J visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
+                        J j = super.visitNewClass(newClass, ctx);
+                        if (!(j instanceof J.NewClass)) {
+                            return j;
+                        }
+                        J.NewClass nc = (J.NewClass) j;
+                        if (NEW_CLIENT.matches(nc)) {
+                            maybeAddImport(FQN_CLIENTS);
+                            return template("HttpClients.createDefault()", ctx)
+                                    .apply(getCursor(), nc.getCoordinates().replace());
+                        }
+                        if (NEW_CLIENT_WITH_MANAGER.matches(nc)) {
+                            maybeAddImport(FQN_CLIENTS);
+                            return template("HttpClients.custom().setConnectionManager(#{any(" + FQN_CONNECTION_MANAGER + ")}).build()", ctx)
+                                    .apply(getCursor(), nc.getCoordinates().replace(), nc.getArguments().get(0));
+                        }
+                        if (NEW_STRING_ENTITY.matches(nc)) {
+                            return withStringContentType(nc, ctx);
+                        }
+                        for (MethodMatcher matcher : NEW_ENTITY_WITHOUT_CONTENT_TYPE) {
+                            if (matcher.matches(nc)) {
+                                return withContentType(nc, ctx);
+                            }
+                        }
+                        return nc;
+                    }
+
+                    @Override
+                    public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J j = super.visitMethodInvocation(method, ctx);
+                        if (!(j instanceof J.MethodInvocation)) {
+                            return j;
+                        }
+                        J.MethodInvocation mi = (J.MethodInvocation) j;
+                        boolean maxTotal = SET_MAX_TOTAL.matches(mi);
+                        if ((maxTotal || SET_MAX_PER_HOST.matches(mi)) &&
+                                GET_PARAMS.matches(mi.getSelect()) &&
+                                ((J.MethodInvocation) mi.getSelect()).getSelect() != null) {
+                            // `connectionManager.getParams().setMaxTotalConnections(n)` to `connectionManager.setMaxTotal(n)`
+                            return template("#{any(" + FQN_POOLING + ")}." + (maxTotal ? "setMaxTotal" : "setDefaultMaxPerRoute") + "(#{any(int)})", ctx)
+                                    .apply(getCursor(), mi.getCoordinates().replace(),
+                                            ((J.MethodInvocation) mi.getSelect()).getSelect(), mi.getArguments().get(0));
+                        }
+                        return mi;
+                    }
+
+                    /**
+                     * The 3.x {@code StringRequestEntity(content, contentType, charset)} takes the content type and
+                     * charset as strings, where the content type may already carry parameters such as the charset
+                     * and both may be {@code null}.
+                     */
+                    private J withStringContentType(J.NewClass nc, ExecutionContext ctx) {
+                        Expression contentType = nc.getArguments().get(1);
+                        Expression charset = nc.getArguments().get(2);
+                        boolean withCharset = !J.Literal.isLiteralValue(charset, null);
+                        String code;
+                        List<Object> parameters = new ArrayList<>();
+                        parameters.add(nc.getArguments().get(0));
+                        if (J.Literal.isLiteralValue(contentType, null)) {
+                            // Without a content type 3.x sends no header, while a 5.x entity only takes its charset
+                            // from a content type, so a given charset is kept as `text/plain` like `StringEntity(String, Charset)`
+                            code = withCharset ?
+                                    "new StringEntity(#{any(String)}, ContentType.TEXT_PLAIN.withCharset(#{any(String)}))" :
+                                    "new StringEntity(#{any(String)}, (ContentType) null)";
+                        } else {
+                            parameters.add(contentType);
+                            // `ContentType.create(..)` rejects a mime type with parameters, which `parse(..)` accepts
+                            Object literal = contentType instanceof J.Literal ? ((J.Literal) contentType).getValue() : null;
+                            boolean mimeType = literal instanceof String && !((String) literal).contains(";");
+                            if (mimeType) {
+                                code = withCharset ?
+                                        "new StringEntity(#{any(String)}, ContentType.create(#{any(String)}, #{any(String)}))" :
+                                        "new StringEntity(#{any(String)}, ContentType.create(#{any(String)}))";
+                            } else {
+                                code = withCharset ?
+                                        "new StringEntity(#{any(String)}, ContentType.parse(#{any(String)}).withCharset(#{any(String)}))" :
+                                        "new StringEntity(#{any(String)}, ContentType.parse(#{any(String)}))";
+                            }
+                        }
+                        if (withCharset) {
+                            parameters.add(charset);
+                        }
+                        maybeAddImport(FQN_CONTENT_TYPE);
+                        return template(code, ctx).apply(getCursor(), nc.getCoordinates().replace(), parameters.toArray());
+                    }
+
+                    /**
+                     * The 3.x entities take an optional content type string as their last argument, which the
+                     * 5.x entities expect as a (nullable) {@code ContentType}.
+                     */
+                    private J withContentType(J.NewClass nc, ExecutionContext ctx) {
+                        JavaType.Method constructor = nc.getConstructorType();
+                        if (constructor == null) {
+                            return nc;
+                        }
+                        List<JavaType> parameterTypes = constructor.getParameterTypes();
+                        boolean withContentType = TypeUtils.isString(parameterTypes.get(parameterTypes.size() - 1));
+                        List<Object> parameters = new ArrayList<>();
+                        StringBuilder code = new StringBuilder("new ")
+                                .append(constructor.getDeclaringType().getClassName())
+                                .append('(');
+                        for (int i = 0; i < parameterTypes.size(); i++) {
+                            if (i > 0) {
+                                code.append(", ");
+                            }
+                            if (withContentType && i == parameterTypes.size() - 1) {
+                                code.append("ContentType.parse(#{any(String)})");
+                            } else if (parameterTypes.get(i) instanceof JavaType.Array) {
+                                code.append("#{anyArray(byte)}");
+                            } else if (parameterTypes.get(i) == JavaType.Primitive.Long) {
+                                code.append("#{any(long)}");
+                            } else {
+                                code.append("#{any(java.io.InputStream)}");
+                            }
+                            parameters.add(nc.getArguments().get(i));
+                        }
+                        code.append(withContentType ? ")" : ", null)");
+                        if (withContentType) {
+                            maybeAddImport(FQN_CONTENT_TYPE);
+                        }
+                        return template(code.toString(), ctx)
+                                .apply(getCursor(), nc.getCoordinates().replace(), parameters.toArray());
+                    }
+
+                    private JavaTemplate template(String code, ExecutionContext ctx) {
+                        return JavaTemplate.builder(code)
+                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "httpclient5", "httpcore5"))
+                                .imports(FQN_CLIENTS,
+                                        FQN_CONTENT_TYPE,
+                                        "org.apache.hc.core5.http.io.entity.StringEntity",
+                                        "org.apache.hc.core5.http.io.entity.ByteArrayEntity",
+                                        "org.apache.hc.core5.http.io.entity.InputStreamEntity")
+                                .build();
+                    }
+                });
+    }
+}
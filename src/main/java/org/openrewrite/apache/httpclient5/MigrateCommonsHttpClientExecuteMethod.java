@@ -0,0 +1,325 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.httpclient5;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.*;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.*;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.UnaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class MigrateCommonsHttpClientExecuteMethod extends Recipe {
+
+    private static final String FQN_CLIENT = "org.apache.hc.client5.http.impl.classic.CloseableHttpClient";
+    private static final String FQN_REQUEST = "org.apache.hc.core5.http.ClassicHttpRequest";
+    private static final String FQN_RESPONSE = "org.apache.hc.client5.http.impl.classic.CloseableHttpResponse";
+    private static final String FQN_ENTITY_UTILS = "org.apache.hc.core5.http.io.entity.EntityUtils";
+
+    // Commons HttpClient 3.x methods, matched after their declaring types were changed to the 5.x classic types
+    private static final MethodMatcher EXECUTE_METHOD = new MethodMatcher(FQN_CLIENT + " executeMethod(" + FQN_REQUEST + ")");
+    private static final MethodMatcher RELEASE_CONNECTION = new MethodMatcher("org.apache.hc..* releaseConnection()");
+
+    /**
+     * Response accessors of the 3.x {@code HttpMethod}, mapped to the equivalent call on the 5.x response.
+     */
+    private static final Map<MethodMatcher, String> RESPONSE_ACCESSORS = new LinkedHashMap<>();
+
+    static {
+        String response = "#{any(" + FQN_RESPONSE + ")}";
+        RESPONSE_ACCESSORS.put(new MethodMatcher("org.apache.hc..* getStatusCode()"), response + ".getCode()");
+        RESPONSE_ACCESSORS.put(new MethodMatcher("org.apache.hc..* getStatusText()"), response + ".getReasonPhrase()");
+        RESPONSE_ACCESSORS.put(new MethodMatcher("org.apache.hc..* getResponseBody()"), "EntityUtils.toByteArray(" + response + ".getEntity())");
+        RESPONSE_ACCESSORS.put(new MethodMatcher("org.apache.hc..* getResponseBodyAsString()"), "EntityUtils.toString(" + response + ".getEntity())");
+        RESPONSE_ACCESSORS.put(new MethodMatcher("org.apache.hc..* getResponseBodyAsStream()"), response + ".getEntity().getContent()");
+        RESPONSE_ACCESSORS.put(new MethodMatcher("org.apache.hc..* getResponseContentLength()"), response + ".getEntity().getContentLength()");
+        RESPONSE_ACCESSORS.put(new MethodMatcher("org.apache.hc..* getResponseHeader(String)"), response + ".getFirstHeader(#{any(String)})");
+        RESPONSE_ACCESSORS.put(new MethodMatcher("org.apache.hc..* getResponseHeaders()"), response + ".getHeaders()");
+        RESPONSE_ACCESSORS.put(new MethodMatcher("org.apache.hc..* getResponseHeaders(String)"), response + ".getHeaders(#{any(String)})");
+    }
+
+    String displayName = "Migrate Commons HttpClient 3.x `executeMethod(..)` to a closed `CloseableHttpResponse`";
+
+    String description = "Rewrites Commons HttpClient 3.x `client.executeMethod(method)` followed by `method.releaseConnection()`, " +
+            "either in a `finally` block or later in the same block, into `try (CloseableHttpResponse response = client.execute(method))`. " +
+            "Status, header and body accessors that 3.x exposes on the request are read from the response instead. " +
+            "Sites where the request is used in any other way after execution are left unchanged. " +
+            "Expects the 3.x types to have been changed to their HttpClient 5.x classic counterparts already.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(new UsesMethod<>(EXECUTE_METHOD), new JavaVisitor<ExecutionContext>() {
+
+            @Override
+            public J visitBlock(J.Block block, ExecutionContext ctx) {
+                J.Block b = (J.Block) super.visitBlock(block, ctx);
+                for (int i = 0; i < b.getStatements().size(); i++) {
+                    List<Statement> statements = b.getStatements();
+                    Statement statement = statements.get(i);
+                    J.Block converted;
+                    if (statement instanceof J.Try) {
+                        converted = convertTryFinally(b, (J.Try) statement, ctx);
+                    } else {
+                        converted = convertUntilRelease(b, i, ctx);
+                    }
+                    if (converted != null) {
+                        b = converted;
+                    }
+                }
+                return b;
+            }
+
+            /**
+             * {@code try { client.executeMethod(method); ... } finally { method.releaseConnection(); }}
+             */
+            private J.@Nullable Block convertTryFinally(J.Block b, J.Try tryable, ExecutionContext ctx) {
+                if (tryable.getResources() != null || tryable.getFinally() == null || tryable.getBody().getStatements().isEmpty()) {
+                    return null;
+                }
+                List<Statement> body = tryable.getBody().getStatements();
+                J.MethodInvocation execute = executeOf(body.get(0));
+                if (execute == null) {
+                    return null;
+                }
+                String request = requestName(execute);
+                List<Statement> finallyStatements = requireNonNull(tryable.getFinally()).getStatements();
+                List<Statement> remainingFinally = ListUtils.map(finallyStatements, s -> isRelease(s, request) ? null : s);
+                if (remainingFinally.size() == finallyStatements.size()) {
+                    return null;
+                }
+                J.Block finallyBlock = remainingFinally.isEmpty() ? null : requireNonNull(tryable.getFinally()).withStatements(remainingFinally);
+                return convert(b, tryable, execute, body, ctx, t -> t.withCatches(tryable.getCatches()).withFinally(finallyBlock));
+            }
+
+            /**
+             * {@code client.executeMethod(method); ... method.releaseConnection();} within the same block.
+             */
+            private J.@Nullable Block convertUntilRelease(J.Block b, int index, ExecutionContext ctx) {
+                List<Statement> statements = b.getStatements();
+                J.MethodInvocation execute = executeOf(statements.get(index));
+                if (execute == null) {
+                    return null;
+                }
+                String request = requestName(execute);
+                for (int i = index + 1; i < statements.size(); i++) {
+                    if (isRelease(statements.get(i), request)) {
+                        int release = i;
+                        List<Statement> body = statements.subList(index, release);
+                        if (isReferencedAfter(body, statements.subList(release + 1, statements.size()))) {
+                            return null;
+                        }
+                        J.Block converted = convert(b, statements.get(index), execute, body, ctx, t -> t);
+                        return converted == null ? null : converted.withStatements(ListUtils.map(converted.getStatements(),
+                                (j, s) -> j > index && j <= release ? null : s));
+                    }
+                }
+                return null;
+            }
+
+            /**
+             * Replaces {@code statement} with a try-with-resources block holding the response of {@code execute},
+             * moving {@code body} into it with the response accessors rewritten.
+             */
+            private J.@Nullable Block convert(J.Block b, Statement statement, J.MethodInvocation execute, List<Statement> body,
+                                              ExecutionContext ctx, UnaryOperator<J.Try> finish) {
+                String request = requestName(execute);
+                Cursor blockCursor = updateCursor(b);
+                J.Try t = JavaTemplate.builder("try (CloseableHttpResponse " + responseName(b) + " = #{any(" + FQN_CLIENT + ")}.execute(#{any(" + FQN_REQUEST + ")})) {\n}")
+                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "httpclient5", "httpcore5"))
+                        .imports(FQN_RESPONSE)
+                        .build()
+                        .apply(new Cursor(blockCursor, statement), statement.getCoordinates().replace(),
+                                execute.getSelect(), execute.getArguments().get(0));
+                // The status code returned by `executeMethod(..)` is read from the response, unless it was ignored
+                List<Statement> moved = new ArrayList<>(body.get(0) instanceof J.MethodInvocation ? body.subList(1, body.size()) : body);
+                t = finish.apply(t.withBody(t.getBody().withStatements(moved)).withPrefix(statement.getPrefix()));
+
+                J.Try finalTry = t;
+                J.Block withTry = b.withStatements(ListUtils.map(b.getStatements(), s -> s == statement ? finalTry : s));
+                J.Identifier response = ((J.VariableDeclarations) requireNonNull(t.getResources()).get(0).getVariableDeclarations())
+                        .getVariables().get(0).getName();
+                J.Try rewritten = (J.Try) new ResponseAccessors(execute, request, response)
+                        .visitNonNull(t, ctx, updateCursor(withTry));
+                if (usesRequestAsResponse(rewritten.getBody(), request)) {
+                    updateCursor(b);
+                    return null;
+                }
+                maybeAddImport(FQN_RESPONSE);
+                maybeAddImport(FQN_ENTITY_UTILS);
+                J.Try formatted = (J.Try) autoFormat(rewritten, ctx, blockCursor);
+                return b.withStatements(ListUtils.map(b.getStatements(), s -> s == statement ? formatted : s));
+            }
+
+            private String responseName(J.Block b) {
+                J.MethodDeclaration md = getCursor().firstEnclosing(J.MethodDeclaration.class);
+                String source = md == null ? b.printTrimmed(getCursor()) : md.printTrimmed(getCursor());
+                String name = "response";
+                for (int i = 2; source.matches("(?s).*\\b" + name + "\\b.*"); i++) {
+                    name = "response" + i;
+                }
+                return name;
+            }
+        });
+    }
+
+    /**
+     * Reads the response accessors from the 5.x response instead of the request.
+     */
+    private static class ResponseAccessors extends JavaVisitor<ExecutionContext> {
+        private final J.MethodInvocation execute;
+        private final String request;
+        private final J.Identifier response;
+
+        ResponseAccessors(J.MethodInvocation execute, String request, J.Identifier response) {
+            this.execute = execute;
+            this.request = request;
+            this.response = response.withPrefix(Space.EMPTY);
+        }
+
+        @Override
+        public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+            J.MethodInvocation mi = (J.MethodInvocation) super.visitMethodInvocation(method, ctx);
+            if (mi.getId().equals(execute.getId())) {
+                // `executeMethod(..)` returns the status code
+                return JavaTemplate.builder("#{any(" + FQN_RESPONSE + ")}.getCode()")
+                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "httpclient5", "httpcore5"))
+                        .build()
+                        .apply(getCursor(), mi.getCoordinates().replace(), response);
+            }
+            if (!isIdentifier(mi.getSelect(), request)) {
+                return mi;
+            }
+            for (Map.Entry<MethodMatcher, String> accessor : RESPONSE_ACCESSORS.entrySet()) {
+                if (accessor.getKey().matches(mi)) {
+                    return apply(accessor.getValue(), mi, ctx);
+                }
+            }
+            return mi;
+        }
+
+        private J apply(String code, J.MethodInvocation mi, ExecutionContext ctx) {
+            List<Object> parameters = new ArrayList<>();
+            parameters.add(response);
+            for (Expression argument : mi.getArguments()) {
+                if (!(argument instanceof J.Empty)) {
+                    parameters.add(argument);
+                }
+            }
+            return JavaTemplate.builder(code)
+                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "httpclient5", "httpcore5"))
+                    .imports(FQN_ENTITY_UTILS)
+                    .build()
+                    .apply(getCursor(), mi.getCoordinates().replace(), parameters.toArray());
+        }
+    }
+
+    private static J.@Nullable MethodInvocation executeOf(Statement statement) {
+        Expression expression = null;
+        if (statement instanceof J.MethodInvocation) {
+            expression = (J.MethodInvocation) statement;
+        } else if (statement instanceof J.VariableDeclarations && ((J.VariableDeclarations) statement).getVariables().size() == 1) {
+            expression = ((J.VariableDeclarations) statement).getVariables().get(0).getInitializer();
+        } else if (statement instanceof J.Assignment) {
+            expression = ((J.Assignment) statement).getAssignment();
+        }
+        if (!EXECUTE_METHOD.matches(expression)) {
+            return null;
+        }
+        J.MethodInvocation execute = (J.MethodInvocation) requireNonNull(expression);
+        return execute.getSelect() != null && execute.getArguments().get(0) instanceof J.Identifier ? execute : null;
+    }
+
+    private static String requestName(J.MethodInvocation execute) {
+        return ((J.Identifier) execute.getArguments().get(0)).getSimpleName();
+    }
+
+    private static boolean isRelease(Statement statement, String request) {
+        return statement instanceof J.MethodInvocation &&
+               RELEASE_CONNECTION.matches((J.MethodInvocation) statement) &&
+               isIdentifier(((J.MethodInvocation) statement).getSelect(), request);
+    }
+
+    private static boolean isIdentifier(@Nullable Expression expression, String name) {
+        return expression instanceof J.Identifier && name.equals(((J.Identifier) expression).getSimpleName());
+    }
+
+    /**
+     * Whether the request is still used after execution other than to call a method unrelated to the response,
+     * e.g. passed on to code that reads the response from it.
+     */
+    private static boolean usesRequestAsResponse(J.Block body, String request) {
+        AtomicBoolean found = new AtomicBoolean();
+        new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, AtomicBoolean f) {
+                if (request.equals(identifier.getSimpleName())) {
+                    Object parent = getCursor().getParentTreeCursor().getValue();
+                    if (!(parent instanceof J.MethodInvocation) || ((J.MethodInvocation) parent).getSelect() != identifier) {
+                        f.set(true);
+                    } else {
+                        String name = ((J.MethodInvocation) parent).getSimpleName();
+                        if (name.startsWith("getResponse") || name.startsWith("getStatus") || "releaseConnection".equals(name)) {
+                            f.set(true);
+                        }
+                    }
+                }
+                return identifier;
+            }
+        }.visit(body, found);
+        return found.get();
+    }
+
+    /**
+     * Whether locals declared in {@code moved} are used by {@code following}, so they can't be scoped to a try block.
+     */
+    private static boolean isReferencedAfter(List<Statement> moved, List<Statement> following) {
+        Set<String> declared = new HashSet<>();
+        for (Statement statement : moved) {
+            if (statement instanceof J.VariableDeclarations) {
+                for (J.VariableDeclarations.NamedVariable variable : ((J.VariableDeclarations) statement).getVariables()) {
+                    declared.add(variable.getSimpleName());
+                }
+            }
+        }
+        if (declared.isEmpty()) {
+            return false;
+        }
+        AtomicBoolean found = new AtomicBoolean();
+        JavaIsoVisitor<AtomicBoolean> references = new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, AtomicBoolean f) {
+                if (declared.contains(identifier.getSimpleName())) {
+                    f.set(true);
+                }
+                return identifier;
+            }
+        };
+        for (Statement statement : following) {
+            references.visit(statement, found);
+        }
+        return found.get();
+    }
+}
@@ -0,0 +1,333 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.httpclient5;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.*;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class MigrateConnectionConfigBufferSizes extends Recipe {
+
+    private static final String FQN_CONNECTION_CONFIG = "org.apache.http.config.ConnectionConfig";
+    private static final String FQN_POOL_CONN_MANAGER4 = "org.apache.http.impl.conn.PoolingHttpClientConnectionManager";
+    private static final String FQN_HTTP_CLIENT_BUILDER4 = "org.apache.http.impl.client.HttpClientBuilder";
+    private static final String FQN_HTTP_CLIENT_BUILDER5 = "org.apache.hc.client5.http.impl.classic.HttpClientBuilder";
+    private static final String FQN_POOLING_BUILDER5 = "org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder";
+    private static final String FQN_CONNECTION_FACTORY5 = "org.apache.hc.client5.http.impl.io.ManagedHttpClientConnectionFactory";
+    private static final String FQN_HTTP1_CONFIG = "org.apache.hc.core5.http.config.Http1Config";
+    private static final String FQN_CHAR_CODING_CONFIG = "org.apache.hc.core5.http.config.CharCodingConfig";
+
+    private static final MethodMatcher CUSTOM = new MethodMatcher(FQN_CONNECTION_CONFIG + " custom()");
+    private static final MethodMatcher BUILD = new MethodMatcher(FQN_CONNECTION_CONFIG + ".Builder build()");
+    private static final MethodMatcher BUILDER_SETTER = new MethodMatcher(FQN_CONNECTION_CONFIG + ".Builder set*(..)");
+    private static final MethodMatcher POOL_SET_CONFIG = new MethodMatcher(FQN_POOL_CONN_MANAGER4 + " setDefaultConnectionConfig(" + FQN_CONNECTION_CONFIG + ")");
+    private static final MethodMatcher CLIENT_SET_CONFIG = new MethodMatcher(FQN_HTTP_CLIENT_BUILDER4 + " setDefaultConnectionConfig(" + FQN_CONNECTION_CONFIG + ")");
+    private static final MethodMatcher CLIENT_BUILDER_METHOD = new MethodMatcher(FQN_HTTP_CLIENT_BUILDER4 + " *(..)");
+
+    private static final Map<String, String> HTTP1_CONFIG_SETTERS = new LinkedHashMap<String, String>() {{
+        put("setBufferSize", "setBufferSize(#{any(int)})");
+        put("setFragmentSizeHint", "setChunkSizeHint(#{any(int)})");
+    }};
+    private static final Map<String, String> CHAR_CODING_CONFIG_SETTERS = new LinkedHashMap<String, String>() {{
+        put("setCharset", "setCharset(#{any(java.nio.charset.Charset)})");
+        put("setMalformedInputAction", "setMalformedInputAction(#{any(java.nio.charset.CodingErrorAction)})");
+        put("setUnmappableInputAction", "setUnmappableInputAction(#{any(java.nio.charset.CodingErrorAction)})");
+    }};
+
+    /**
+     * {@code HttpClientBuilder} settings that only apply to the connection manager it creates internally, and would be
+     * ignored once an explicit connection manager is set.
+     */
+    private static final Set<String> CONNECTION_MANAGER_SETTINGS = new HashSet<>(Arrays.asList(
+            "setConnectionManager", "setMaxConnTotal", "setMaxConnPerRoute", "setSSLContext", "setSSLSocketFactory",
+            "setSSLHostnameVerifier", "setDefaultSocketConfig", "setConnectionTimeToLive", "setDnsResolver",
+            "setPublicSuffixMatcher", "useSystemProperties"));
+
+    String displayName = "Migrate `ConnectionConfig` buffer sizes to `Http1Config` and `CharCodingConfig`";
+
+    String description = "HttpCore 4.x `ConnectionConfig.custom().setBufferSize(..).setFragmentSizeHint(..)` has no " +
+            "counterpart on the HttpClient 5.x `ConnectionConfig`. The buffer sizes move to `Http1Config` " +
+            "(`setBufferSize`, `setChunkSizeHint`) and the charset settings to `CharCodingConfig`, both passed to a " +
+            "`ManagedHttpClientConnectionFactory` of a `PoolingHttpClientConnectionManager`. Only inline " +
+            "`ConnectionConfig` builder chains are migrated.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                Preconditions.or(new UsesMethod<>(POOL_SET_CONFIG), new UsesMethod<>(CLIENT_SET_CONFIG)),
+                new JavaIsoVisitor<ExecutionContext>() {
+
+                    @Override
+                    public J.Block visitBlock(J.Block block, ExecutionContext ctx) {
+                        J.Block b = super.visitBlock(block, ctx);
+                        List<Statement> statements = b.getStatements();
+                        for (int i = 0; i < statements.size(); i++) {
+                            Statement statement = statements.get(i);
+                            if (!(statement instanceof J.MethodInvocation) || !POOL_SET_CONFIG.matches((J.MethodInvocation) statement)) {
+                                continue;
+                            }
+                            J.MethodInvocation setConfig = (J.MethodInvocation) statement;
+                            Map<String, Expression> settings = connectionConfigSettings(setConfig.getArguments().get(0));
+                            if (settings == null || !(setConfig.getSelect() instanceof J.Identifier)) {
+                                continue;
+                            }
+                            String name = ((J.Identifier) setConfig.getSelect()).getSimpleName();
+                            for (int j = 0; j < i; j++) {
+                                J.VariableDeclarations.NamedVariable pool = pooledConnectionManager(statements.get(j), name);
+                                if (pool == null) {
+                                    continue;
+                                }
+                                Expression initializer = Objects.requireNonNull(pool.getInitializer());
+                                Expression connectionManager = template(connectionManager(settings), ctx)
+                                        .apply(new Cursor(getCursor(), initializer), initializer.getCoordinates().replace(),
+                                                settings.values().toArray());
+                                J.VariableDeclarations.NamedVariable migrated = pool.withInitializer(connectionManager);
+                                int declaration = j;
+                                b = b.withStatements(ListUtils.map(statements, (k, s) -> {
+                                    if (k == declaration) {
+                                        J.VariableDeclarations vd = (J.VariableDeclarations) s;
+                                        return vd.withVariables(ListUtils.map(vd.getVariables(), v -> v == pool ? migrated : v));
+                                    }
+                                    return s == setConfig ? null : s;
+                                }));
+                                addImports();
+                                return b;
+                            }
+                        }
+                        return b;
+                    }
+
+                    @Override
+                    public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+                        if (!CLIENT_SET_CONFIG.matches(m) || m.getSelect() == null || configuresConnectionManager(m)) {
+                            return m;
+                        }
+                        Map<String, Expression> settings = connectionConfigSettings(m.getArguments().get(0));
+                        if (settings == null) {
+                            return m;
+                        }
+                        List<Object> parameters = new ArrayList<>();
+                        parameters.add(m.getSelect());
+                        parameters.addAll(settings.values());
+                        addImports();
+                        return template("#{any(" + FQN_HTTP_CLIENT_BUILDER5 + ")}.setConnectionManager(" +
+                                        connectionManager(settings) + ")", ctx)
+                                .apply(getCursor(), m.getCoordinates().replace(), parameters.toArray());
+                    }
+
+                    /**
+                     * The setters of an inline {@code ConnectionConfig.custom()...build()} chain keyed by name, or
+                     * {@code null} when the chain contains settings that cannot be migrated.
+                     */
+                    private @Nullable Map<String, Expression> connectionConfigSettings(Expression config) {
+                        if (!(config instanceof J.MethodInvocation) || !BUILD.matches((J.MethodInvocation) config)) {
+                            return null;
+                        }
+                        Map<String, Expression> settings = new LinkedHashMap<>();
+                        Expression select = ((J.MethodInvocation) config).getSelect();
+                        while (select instanceof J.MethodInvocation && BUILDER_SETTER.matches((J.MethodInvocation) select)) {
+                            J.MethodInvocation setter = (J.MethodInvocation) select;
+                            if (!HTTP1_CONFIG_SETTERS.containsKey(setter.getSimpleName()) &&
+                                    !CHAR_CODING_CONFIG_SETTERS.containsKey(setter.getSimpleName()) ||
+                                    settings.containsKey(setter.getSimpleName())) {
+                                return null;
+                            }
+                            settings.put(setter.getSimpleName(), setter.getArguments().get(0));
+                            select = setter.getSelect();
+                        }
+                        if (!(select instanceof J.MethodInvocation) || !CUSTOM.matches((J.MethodInvocation) select) || settings.isEmpty()) {
+                            return null;
+                        }
+                        // order the settings like the template parameters
+                        Map<String, Expression> ordered = new LinkedHashMap<>();
+                        for (String setter : HTTP1_CONFIG_SETTERS.keySet()) {
+                            if (settings.containsKey(setter)) {
+                                ordered.put(setter, settings.get(setter));
+                            }
+                        }
+                        for (String setter : CHAR_CODING_CONFIG_SETTERS.keySet()) {
+                            if (settings.containsKey(setter)) {
+                                ordered.put(setter, settings.get(setter));
+                            }
+                        }
+                        return ordered;
+                    }
+
+                    private String connectionManager(Map<String, Expression> settings) {
+                        StringBuilder factory = new StringBuilder("ManagedHttpClientConnectionFactory.builder()");
+                        appendConfig(factory, "http1Config", "Http1Config", HTTP1_CONFIG_SETTERS, settings);
+                        appendConfig(factory, "charCodingConfig", "CharCodingConfig", CHAR_CODING_CONFIG_SETTERS, settings);
+                        return "PoolingHttpClientConnectionManagerBuilder.create()" +
+                                ".setConnectionFactory(" + factory + ".build())" +
+                                ".build()";
+                    }
+
+                    private void appendConfig(StringBuilder factory, String method, String configType,
+                                              Map<String, String> setters, Map<String, Expression> settings) {
+                        StringBuilder config = new StringBuilder();
+                        for (Map.Entry<String, String> setter : setters.entrySet()) {
+                            if (settings.containsKey(setter.getKey())) {
+                                config.append('.').append(setter.getValue());
+                            }
+                        }
+                        if (config.length() > 0) {
+                            factory.append('.').append(method).append('(').append(configType).append(".custom()")
+                                    .append(config).append(".build())");
+                        }
+                    }
+
+                    private J.VariableDeclarations.@Nullable NamedVariable pooledConnectionManager(Statement statement, String name) {
+                        if (statement instanceof J.VariableDeclarations) {
+                            for (J.VariableDeclarations.NamedVariable variable : ((J.VariableDeclarations) statement).getVariables()) {
+                                if (name.equals(variable.getSimpleName()) && variable.getInitializer() instanceof J.NewClass &&
+                                        TypeUtils.isOfClassType(variable.getInitializer().getType(), FQN_POOL_CONN_MANAGER4) &&
+                                        ((J.NewClass) variable.getInitializer()).getArguments().stream().allMatch(J.Empty.class::isInstance)) {
+                                    return variable;
+                                }
+                            }
+                        }
+                        return null;
+                    }
+
+                    private boolean configuresConnectionManager(J.MethodInvocation setConfig) {
+                        for (Expression select = setConfig.getSelect(); select instanceof J.MethodInvocation;
+                             select = ((J.MethodInvocation) select).getSelect()) {
+                            if (CLIENT_BUILDER_METHOD.matches((J.MethodInvocation) select) &&
+                                    CONNECTION_MANAGER_SETTINGS.contains(((J.MethodInvocation) select).getSimpleName())) {
+                                return true;
+                            }
+                        }
+                        for (Cursor c = getCursor().getParentTreeCursor(); c.getValue() instanceof J.MethodInvocation; c = c.getParentTreeCursor()) {
+                            J.MethodInvocation outer = c.getValue();
+                            if (CLIENT_BUILDER_METHOD.matches(outer) && CONNECTION_MANAGER_SETTINGS.contains(outer.getSimpleName())) {
+                                return true;
+                            }
+                        }
+                        Cursor top = outermostCall(getCursor());
+                        Object parent = top.getParentTreeCursor().getValue();
+                        if (parent instanceof J.Return || parent instanceof MethodCall) {
+                            // the builder is configured further out of sight
+                            return isBuilder(((J.MethodInvocation) top.getValue()).getType());
+                        }
+                        JavaType.Variable builder = builderVariable(getCursor());
+                        return builder != null && configuresConnectionManager(builder);
+                    }
+
+                    /**
+                     * Settings on a builder variable in other statements also configure the internal connection
+                     * manager, so look at all uses of the variable in the class. Uses other than calling a builder
+                     * method on it, such as passing it along, count as configuring it.
+                     */
+                    private boolean configuresConnectionManager(JavaType.Variable builder) {
+                        Cursor classCursor = getCursor().dropParentUntil(J.ClassDeclaration.class::isInstance);
+                        AtomicBoolean configures = new AtomicBoolean();
+                        new JavaIsoVisitor<Integer>() {
+                            @Override
+                            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, Integer p) {
+                                if (CLIENT_BUILDER_METHOD.matches(method) && CONNECTION_MANAGER_SETTINGS.contains(method.getSimpleName()) &&
+                                        builder.equals(builderVariable(getCursor()))) {
+                                    configures.set(true);
+                                }
+                                return super.visitMethodInvocation(method, p);
+                            }
+
+                            @Override
+                            public J.Identifier visitIdentifier(J.Identifier identifier, Integer p) {
+                                if (builder.equals(identifier.getFieldType())) {
+                                    Object parent = getCursor().getParentTreeCursor().getValue();
+                                    if (!(parent instanceof J.MethodInvocation && ((J.MethodInvocation) parent).getSelect() == identifier) &&
+                                            !(parent instanceof J.VariableDeclarations.NamedVariable) &&
+                                            !(parent instanceof J.Assignment && ((J.Assignment) parent).getVariable() == identifier)) {
+                                        configures.set(true);
+                                    }
+                                }
+                                return identifier;
+                            }
+                        }.visit(classCursor.getValue(), 0, classCursor.getParentOrThrow());
+                        return configures.get();
+                    }
+
+                    /**
+                     * @return the builder variable a builder call is made on, or whose value the chain of the call is
+                     */
+                    private JavaType.@Nullable Variable builderVariable(Cursor call) {
+                        Expression root = ((J.MethodInvocation) call.getValue()).getSelect();
+                        while (root instanceof J.MethodInvocation) {
+                            root = ((J.MethodInvocation) root).getSelect();
+                        }
+                        if (root instanceof J.Identifier && ((J.Identifier) root).getFieldType() != null) {
+                            return ((J.Identifier) root).getFieldType();
+                        }
+                        Cursor top = outermostCall(call);
+                        if (!isBuilder(((J.MethodInvocation) top.getValue()).getType())) {
+                            return null;
+                        }
+                        Object parent = top.getParentTreeCursor().getValue();
+                        if (parent instanceof J.VariableDeclarations.NamedVariable) {
+                            return ((J.VariableDeclarations.NamedVariable) parent).getVariableType();
+                        }
+                        if (parent instanceof J.Assignment && ((J.Assignment) parent).getVariable() instanceof J.Identifier) {
+                            return ((J.Identifier) ((J.Assignment) parent).getVariable()).getFieldType();
+                        }
+                        return null;
+                    }
+
+                    private Cursor outermostCall(Cursor call) {
+                        Cursor top = call;
+                        for (Cursor c = call.getParentTreeCursor(); c.getValue() instanceof J.MethodInvocation &&
+                                                                    ((J.MethodInvocation) c.getValue()).getSelect() == top.getValue();
+                             c = c.getParentTreeCursor()) {
+                            top = c;
+                        }
+                        return top;
+                    }
+
+                    private boolean isBuilder(@Nullable JavaType type) {
+                        return TypeUtils.isOfClassType(type, FQN_HTTP_CLIENT_BUILDER4);
+                    }
+
+                    private void addImports() {
+                        maybeRemoveImport(FQN_CONNECTION_CONFIG);
+                        maybeAddImport(FQN_POOLING_BUILDER5);
+                        maybeAddImport(FQN_CONNECTION_FACTORY5);
+                        maybeAddImport(FQN_HTTP1_CONFIG);
+                        maybeAddImport(FQN_CHAR_CODING_CONFIG);
+                    }
+
+                    private JavaTemplate template(String code, ExecutionContext ctx) {
+                        return JavaTemplate.builder(code)
+                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "httpclient5", "httpcore5"))
+                                .imports(FQN_POOLING_BUILDER5, FQN_CONNECTION_FACTORY5, FQN_HTTP1_CONFIG, FQN_CHAR_CODING_CONFIG)
+                                .build();
+                    }
+                }
+        );
+    }
+}
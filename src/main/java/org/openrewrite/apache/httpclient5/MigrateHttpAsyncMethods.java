@@ -17,19 +17,19 @@ package org.openrewrite.apache.httpclient5;
 
 import lombok.EqualsAndHashCode;
 import lombok.Value;
-import org.openrewrite.ExecutionContext;
-import org.openrewrite.Preconditions;
-import org.openrewrite.Recipe;
-import org.openrewrite.TreeVisitor;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
 import org.openrewrite.java.search.UsesType;
-import org.openrewrite.java.tree.Expression;
-import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.*;
 
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @EqualsAndHashCode(callSuper = false)
 @Value
@@ -39,20 +39,87 @@ public class MigrateHttpAsyncMethods extends Recipe {
     private static final String FQN_ASYNC_REQUEST_BUILDER = "org.apache.hc.core5.http.nio.support.AsyncRequestBuilder";
     private static final String FQN_ASYNC_ENTITY_PRODUCERS = "org.apache.hc.core5.http.nio.entity.AsyncEntityProducers";
     private static final String FQN_SIMPLE_RESPONSE_CONSUMER = "org.apache.hc.client5.http.async.methods.SimpleResponseConsumer";
+    private static final String FQN_CHAR_CONSUMER = "org.apache.http.nio.client.methods.AsyncCharConsumer";
+    private static final String FQN_BYTE_CONSUMER = "org.apache.http.nio.client.methods.AsyncByteConsumer";
+    private static final String FQN_CHAR_RESPONSE_CONSUMER = "org.apache.hc.client5.http.async.methods.AbstractCharResponseConsumer";
+    private static final String FQN_BIN_RESPONSE_CONSUMER = "org.apache.hc.client5.http.async.methods.AbstractBinResponseConsumer";
+    private static final String FQN_CONTENT_TYPE = "org.apache.hc.core5.http.ContentType";
+
+    /**
+     * Callbacks of the 4.x {@code AbstractAsyncResponseConsumer} that have no counterpart on the 5.x streaming consumers.
+     */
+    private static final Set<String> UNMAPPED_CALLBACKS = new HashSet<>(Arrays.asList(
+            "onEntityEnclosed", "onContentReceived", "onClose", "createDecoder", "getContentType", "responseReceived",
+            "consumeContent", "responseCompleted", "cancel", "failed", "close", "getException", "getResult", "isDone"));
 
     private static final MethodMatcher CREATE_POST = new MethodMatcher(FQN_OLD + " createPost(..)");
     private static final MethodMatcher CREATE_GET = new MethodMatcher(FQN_OLD + " createGet(..)");
     private static final MethodMatcher CREATE_CONSUMER = new MethodMatcher(FQN_OLD + " createConsumer()");
 
+    @Option(displayName = "Migrate streaming consumers",
+            description = "When enabled, anonymous and named subclasses of the 4.x streaming `AsyncCharConsumer` and " +
+                    "`AsyncByteConsumer` are migrated to the 5.x `AbstractCharResponseConsumer` and " +
+                    "`AbstractBinResponseConsumer`, which keep consuming the body incrementally with back-pressure " +
+                    "instead of buffering it like `SimpleResponseConsumer`. Consumers overriding callbacks without a " +
+                    "5.x counterpart, or using the `IOControl` or `HttpContext` callback arguments, are left unchanged. " +
+                    "Defaults to `false`.",
+            required = false)
+    @Nullable
+    Boolean migrateStreamingConsumers;
+
     String displayName = "Migrate `HttpAsyncMethods` factory calls to HttpClient 5.x";
 
     String description = "Rewrites `HttpAsyncMethods.createPost/createGet/createConsumer` from Apache " +
             "HttpAsyncClient 4.x to their HttpClient 5.x equivalents using `AsyncRequestBuilder`, " +
-            "`AsyncEntityProducers`, and `SimpleResponseConsumer`.";
+            "`AsyncEntityProducers`, and `SimpleResponseConsumer`. Optionally migrates streaming " +
+            "`AsyncCharConsumer` and `AsyncByteConsumer` implementations to their 5.x streaming counterparts.";
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>(FQN_OLD, false), new JavaVisitor<ExecutionContext>() {
+        TreeVisitor<?, ExecutionContext> precondition = Boolean.TRUE.equals(migrateStreamingConsumers) ?
+                Preconditions.or(
+                        new UsesType<>(FQN_OLD, false),
+                        new UsesType<>(FQN_CHAR_CONSUMER, false),
+                        new UsesType<>(FQN_BYTE_CONSUMER, false)) :
+                new UsesType<>(FQN_OLD, false);
+        return Preconditions.check(precondition, new JavaVisitor<ExecutionContext>() {
+
+            @Override
+            public J visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
+                J.NewClass nc = (J.NewClass) super.visitNewClass(newClass, ctx);
+                if (!Boolean.TRUE.equals(migrateStreamingConsumers) || nc.getBody() == null ||
+                        nc.getClazz() == null || !nc.getArguments().stream().allMatch(J.Empty.class::isInstance)) {
+                    return nc;
+                }
+                Boolean chars = consumerKind(nc.getClazz().getType());
+                if (chars == null) {
+                    return nc;
+                }
+                TypeTree clazz = supertype(nc.getClazz(), chars);
+                J.Block body = streamingConsumerBody(nc.getBody(), chars, ctx);
+                if (clazz == null || body == null) {
+                    return nc;
+                }
+                return autoFormat(nc.withClazz(clazz).withBody(body), ctx, getCursor().getParentOrThrow());
+            }
+
+            @Override
+            public J visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                J.ClassDeclaration cd = (J.ClassDeclaration) super.visitClassDeclaration(classDecl, ctx);
+                if (!Boolean.TRUE.equals(migrateStreamingConsumers) || cd.getExtends() == null) {
+                    return cd;
+                }
+                Boolean chars = consumerKind(cd.getExtends().getType());
+                if (chars == null) {
+                    return cd;
+                }
+                TypeTree supertype = supertype(cd.getExtends(), chars);
+                J.Block body = streamingConsumerBody(cd.getBody(), chars, ctx);
+                if (supertype == null || body == null) {
+                    return cd;
+                }
+                return autoFormat(cd.withExtends(supertype).withBody(body), ctx, getCursor().getParentOrThrow());
+            }
 
             @Override
             public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
@@ -95,6 +162,157 @@ public class MigrateHttpAsyncMethods extends Recipe {
                 }
                 return mi;
             }
+
+            private @Nullable Boolean consumerKind(@Nullable JavaType type) {
+                if (TypeUtils.isOfClassType(type, FQN_CHAR_CONSUMER)) {
+                    return true;
+                }
+                if (TypeUtils.isOfClassType(type, FQN_BYTE_CONSUMER)) {
+                    return false;
+                }
+                return null;
+            }
+
+            private @Nullable TypeTree supertype(TypeTree tree, boolean chars) {
+                String fqn = chars ? FQN_CHAR_RESPONSE_CONSUMER : FQN_BIN_RESPONSE_CONSUMER;
+                JavaType.ShallowClass type = JavaType.ShallowClass.build(fqn);
+                if (tree instanceof J.Identifier) {
+                    return ((J.Identifier) tree).withSimpleName(type.getClassName()).withType(type);
+                }
+                if (tree instanceof J.ParameterizedType && ((J.ParameterizedType) tree).getClazz() instanceof J.Identifier) {
+                    J.ParameterizedType pt = (J.ParameterizedType) tree;
+                    J.Identifier clazz = ((J.Identifier) pt.getClazz()).withSimpleName(type.getClassName()).withType(type);
+                    JavaType ptType = pt.getType() instanceof JavaType.Parameterized ?
+                            ((JavaType.Parameterized) pt.getType()).withType(type) : type;
+                    return pt.withClazz(clazz).withType(ptType);
+                }
+                return null;
+            }
+
+            /**
+             * Maps the 4.x callbacks onto the abstract methods of the 5.x streaming consumer, or returns
+             * {@code null} when the consumer relies on a callback or argument that has no 5.x counterpart.
+             */
+            private J.@Nullable Block streamingConsumerBody(J.Block body, boolean chars, ExecutionContext ctx) {
+                J.MethodDeclaration onResponse = null;
+                J.MethodDeclaration onData = null;
+                J.MethodDeclaration buildResult = null;
+                J.MethodDeclaration releaseResources = null;
+                List<Statement> retained = new ArrayList<>();
+                for (Statement statement : body.getStatements()) {
+                    if (!(statement instanceof J.MethodDeclaration)) {
+                        retained.add(statement);
+                        continue;
+                    }
+                    J.MethodDeclaration md = (J.MethodDeclaration) statement;
+                    String name = md.getSimpleName();
+                    int params = parameterCount(md);
+                    if ("onResponseReceived".equals(name) && params == 1) {
+                        onResponse = md;
+                    } else if ((chars ? "onCharReceived" : "onByteReceived").equals(name) && params == 2 &&
+                            !isReferenced(md, 1)) {
+                        onData = md;
+                    } else if ("buildResult".equals(name) && params == 1 && !isReferenced(md, 0)) {
+                        buildResult = md;
+                    } else if ("releaseResources".equals(name) && params == 0) {
+                        releaseResources = md;
+                    } else if (UNMAPPED_CALLBACKS.contains(name) ||
+                            (chars ? "onCharReceived" : "onByteReceived").equals(name) || "buildResult".equals(name)) {
+                        return null;
+                    } else {
+                        retained.add(statement);
+                    }
+                }
+                if (onResponse == null || onData == null || buildResult == null ||
+                        onResponse.getBody() == null || onData.getBody() == null || buildResult.getBody() == null) {
+                    return null;
+                }
+
+                J.Block withoutCallbacks = body.withStatements(retained);
+                J.Block templated = JavaTemplate.builder(
+                                "@Override\n" +
+                                "protected void start(HttpResponse response, ContentType contentType) {\n" +
+                                "}\n" +
+                                "@Override\n" +
+                                "protected void data(" + (chars ? "CharBuffer" : "ByteBuffer") + " src, boolean endOfStream) {\n" +
+                                "}\n" +
+                                "@Override\n" +
+                                "protected int capacityIncrement() {\n" +
+                                "    return 8192;\n" +
+                                "}\n" +
+                                "@Override\n" +
+                                "protected Object buildResult() {\n" +
+                                "    return null;\n" +
+                                "}\n" +
+                                "@Override\n" +
+                                "public void releaseResources() {\n" +
+                                "}")
+                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "httpclient5", "httpcore5"))
+                        .imports("org.apache.hc.core5.http.HttpResponse", FQN_CONTENT_TYPE,
+                                chars ? "java.nio.CharBuffer" : "java.nio.ByteBuffer")
+                        .build()
+                        .apply(new Cursor(getCursor(), withoutCallbacks), withoutCallbacks.getCoordinates().lastStatement());
+
+                J.MethodDeclaration response = onResponse;
+                J.MethodDeclaration data = onData;
+                J.MethodDeclaration result = buildResult;
+                J.MethodDeclaration release = releaseResources;
+                J.Block migrated = templated.withStatements(ListUtils.map(templated.getStatements(), (i, s) -> {
+                    if (i < retained.size() || !(s instanceof J.MethodDeclaration)) {
+                        return s;
+                    }
+                    J.MethodDeclaration md = (J.MethodDeclaration) s;
+                    switch (md.getSimpleName()) {
+                        case "start":
+                            return md.withParameters(ListUtils.mapFirst(md.getParameters(), p -> response.getParameters().get(0)))
+                                    .getPadding().withThrows(response.getPadding().getThrows())
+                                    .withBody(response.getBody());
+                        case "data":
+                            return md.withParameters(ListUtils.mapFirst(md.getParameters(), p -> data.getParameters().get(0)))
+                                    .getPadding().withThrows(data.getPadding().getThrows())
+                                    .withBody(data.getBody());
+                        case "buildResult":
+                            return md.withReturnTypeExpression(result.getReturnTypeExpression())
+                                    .getPadding().withThrows(result.getPadding().getThrows())
+                                    .withBody(result.getBody());
+                        case "releaseResources":
+                            return release == null ? md : md.withBody(release.getBody());
+                        default:
+                            return md;
+                    }
+                }));
+
+                maybeRemoveImport(chars ? FQN_CHAR_CONSUMER : FQN_BYTE_CONSUMER);
+                maybeRemoveImport("org.apache.http.nio.IOControl");
+                maybeRemoveImport("org.apache.http.protocol.HttpContext");
+                maybeAddImport(chars ? FQN_CHAR_RESPONSE_CONSUMER : FQN_BIN_RESPONSE_CONSUMER);
+                maybeAddImport(FQN_CONTENT_TYPE);
+                return migrated;
+            }
+
+            private int parameterCount(J.MethodDeclaration md) {
+                return (int) md.getParameters().stream().filter(p -> !(p instanceof J.Empty)).count();
+            }
+
+            private boolean isReferenced(J.MethodDeclaration md, int parameterIndex) {
+                Statement param = md.getParameters().get(parameterIndex);
+                if (!(param instanceof J.VariableDeclarations) || md.getBody() == null) {
+                    return true;
+                }
+                String name = ((J.VariableDeclarations) param).getVariables().get(0).getSimpleName();
+                AtomicBoolean referenced = new AtomicBoolean();
+                new JavaIsoVisitor<AtomicBoolean>() {
+                    @Override
+                    public J.Identifier visitIdentifier(J.Identifier identifier, AtomicBoolean found) {
+                        if (name.equals(identifier.getSimpleName()) && !(getCursor().getParentTreeCursor().getValue() instanceof J.FieldAccess &&
+                                ((J.FieldAccess) getCursor().getParentTreeCursor().getValue()).getName() == identifier)) {
+                            found.set(true);
+                        }
+                        return identifier;
+                    }
+                }.visit(md.getBody(), referenced, new Cursor(getCursor(), md));
+                return referenced.get();
+            }
         });
     }
 }
@@ -0,0 +1,353 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.httpclient5;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class MigrateRetryHandlers extends Recipe {
+
+    private static final String FQN_RETRY_HANDLER = "org.apache.http.client.HttpRequestRetryHandler";
+    private static final String FQN_SERVICE_UNAVAILABLE_STRATEGY = "org.apache.http.client.ServiceUnavailableRetryStrategy";
+    private static final String FQN_DEFAULT_RETRY_HANDLER = "org.apache.http.impl.client.DefaultHttpRequestRetryHandler";
+    private static final String FQN_STANDARD_RETRY_HANDLER = "org.apache.http.impl.client.StandardHttpRequestRetryHandler";
+    private static final String FQN_DEFAULT_SERVICE_UNAVAILABLE_STRATEGY = "org.apache.http.impl.client.DefaultServiceUnavailableRetryStrategy";
+    private static final String FQN_RETRY_STRATEGY = "org.apache.hc.client5.http.HttpRequestRetryStrategy";
+    private static final String FQN_DEFAULT_RETRY_STRATEGY = "org.apache.hc.client5.http.impl.DefaultHttpRequestRetryStrategy";
+    private static final String FQN_TIME_VALUE = "org.apache.hc.core5.util.TimeValue";
+    private static final String FQN_HTTP_CLIENT_BUILDER = "org.apache.http.impl.client.HttpClientBuilder";
+
+    private static final MethodMatcher SET_SERVICE_UNAVAILABLE_STRATEGY = new MethodMatcher(FQN_HTTP_CLIENT_BUILDER + " setServiceUnavailableRetryStrategy(..)");
+    private static final MethodMatcher SET_RETRY_HANDLER = new MethodMatcher(FQN_HTTP_CLIENT_BUILDER + " setRetryHandler(..)");
+    private static final MethodMatcher HANDLER_RETRY_REQUEST = new MethodMatcher(FQN_RETRY_HANDLER + " retryRequest(java.io.IOException, int, org.apache.http.protocol.HttpContext)", true);
+    private static final MethodMatcher STRATEGY_RETRY_INTERVAL = new MethodMatcher(FQN_SERVICE_UNAVAILABLE_STRATEGY + " getRetryInterval()", true);
+
+    // DefaultHttpRequestRetryHandler retries three times without delay, 5.x adds a delay between attempts
+    private static final String DEFAULT_RETRY_COUNT = "3";
+    private static final String DEFAULT_RETRY_INTERVAL = "TimeValue.ofSeconds(1L)";
+
+    private static final String RESPONSE_RETRY_METHODS =
+            "@Override\n" +
+            "public boolean retryRequest(HttpResponse response, int execCount, HttpContext context) {\n" +
+            "    return false;\n" +
+            "}\n" +
+            "@Override\n" +
+            "public TimeValue getRetryInterval(HttpResponse response, int execCount, HttpContext context) {\n" +
+            "    return " + DEFAULT_RETRY_INTERVAL + ";\n" +
+            "}";
+
+    String displayName = "Migrate retry handlers to `HttpRequestRetryStrategy`";
+
+    String description = "Migrates Apache HttpClient 4.x `HttpRequestRetryHandler` and `ServiceUnavailableRetryStrategy` " +
+            "usages to the 5.x `HttpRequestRetryStrategy`. `DefaultHttpRequestRetryHandler`, " +
+            "`StandardHttpRequestRetryHandler` and `DefaultServiceUnavailableRetryStrategy` become a " +
+            "`DefaultHttpRequestRetryStrategy` with the same retry count and a `TimeValue` retry interval; it honours " +
+            "`Retry-After` on `429` and `503` responses and only retries idempotent requests. Custom implementations " +
+            "and lambdas get the methods of the 5.x interface, keeping their retry decision.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                Preconditions.or(
+                        new UsesType<>(FQN_RETRY_HANDLER, false),
+                        new UsesType<>(FQN_SERVICE_UNAVAILABLE_STRATEGY, false),
+                        new UsesType<>(FQN_DEFAULT_RETRY_HANDLER, false),
+                        new UsesType<>(FQN_STANDARD_RETRY_HANDLER, false),
+                        new UsesType<>(FQN_DEFAULT_SERVICE_UNAVAILABLE_STRATEGY, false)),
+                new JavaVisitor<ExecutionContext>() {
+
+                    @Override
+                    public J visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
+                        J j = super.visitNewClass(newClass, ctx);
+                        if (!(j instanceof J.NewClass)) {
+                            return j;
+                        }
+                        J.NewClass nc = (J.NewClass) j;
+                        List<Expression> args = nc.getArguments().get(0) instanceof J.Empty ? new ArrayList<>() : nc.getArguments();
+                        if (nc.getBody() == null && (TypeUtils.isOfClassType(nc.getType(), FQN_DEFAULT_RETRY_HANDLER) ||
+                                TypeUtils.isOfClassType(nc.getType(), FQN_STANDARD_RETRY_HANDLER))) {
+                            if (args.isEmpty()) {
+                                return defaultRetryStrategy(DEFAULT_RETRY_COUNT, DEFAULT_RETRY_INTERVAL, ctx);
+                            }
+                            if (args.size() == 2) {
+                                // 5.x never retries non-idempotent requests, whether or not they were sent
+                                return defaultRetryStrategy("#{any(int)}", DEFAULT_RETRY_INTERVAL, ctx, args.get(0));
+                            }
+                            return nc;
+                        }
+                        if (nc.getBody() == null && TypeUtils.isOfClassType(nc.getType(), FQN_DEFAULT_SERVICE_UNAVAILABLE_STRATEGY)) {
+                            if (args.isEmpty()) {
+                                return defaultRetryStrategy("1", DEFAULT_RETRY_INTERVAL, ctx);
+                            }
+                            if (args.size() == 2) {
+                                return defaultRetryStrategy("#{any(int)}", "TimeValue.ofMilliseconds(#{any(int)})", ctx, args.get(0), args.get(1));
+                            }
+                            return nc;
+                        }
+                        if (nc.getBody() != null && nc.getClazz() != null && args.isEmpty()) {
+                            J.Block body = null;
+                            if (TypeUtils.isOfClassType(nc.getClazz().getType(), FQN_RETRY_HANDLER)) {
+                                body = migrateRetryHandler(nc.getBody(), ctx);
+                            } else if (TypeUtils.isOfClassType(nc.getClazz().getType(), FQN_SERVICE_UNAVAILABLE_STRATEGY)) {
+                                body = migrateServiceUnavailableStrategy(nc.getBody(), ctx);
+                            }
+                            if (body != null) {
+                                return autoFormat(nc.withClazz(retryStrategyType(nc.getClazz())).withBody(body), ctx, getCursor().getParentOrThrow());
+                            }
+                        }
+                        return nc;
+                    }
+
+                    @Override
+                    public J visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                        J.ClassDeclaration cd = (J.ClassDeclaration) super.visitClassDeclaration(classDecl, ctx);
+                        if (cd.getImplements() == null) {
+                            return cd;
+                        }
+                        for (TypeTree iface : cd.getImplements()) {
+                            J.Block body = null;
+                            if (TypeUtils.isOfClassType(iface.getType(), FQN_RETRY_HANDLER)) {
+                                body = migrateRetryHandler(cd.getBody(), ctx);
+                            } else if (TypeUtils.isOfClassType(iface.getType(), FQN_SERVICE_UNAVAILABLE_STRATEGY)) {
+                                body = migrateServiceUnavailableStrategy(cd.getBody(), ctx);
+                            }
+                            if (body != null) {
+                                cd = cd.withImplements(ListUtils.map(cd.getImplements(), i -> i == iface ? retryStrategyType(i) : i))
+                                        .withBody(body);
+                                return autoFormat(cd, ctx, getCursor().getParentOrThrow());
+                            }
+                        }
+                        return cd;
+                    }
+
+                    @Override
+                    public J visitLambda(J.Lambda lambda, ExecutionContext ctx) {
+                        J.Lambda l = (J.Lambda) super.visitLambda(lambda, ctx);
+                        if (!TypeUtils.isOfClassType(l.getType(), FQN_RETRY_HANDLER) || l.getParameters().getParameters().size() != 3) {
+                            return l;
+                        }
+                        List<String> names = new ArrayList<>();
+                        for (J parameter : l.getParameters().getParameters()) {
+                            if (!(parameter instanceof J.VariableDeclarations)) {
+                                return l;
+                            }
+                            names.add(((J.VariableDeclarations) parameter).getVariables().get(0).getSimpleName());
+                        }
+                        boolean expressionBody = l.getBody() instanceof Expression;
+                        J.NewClass strategy = template(
+                                "new HttpRequestRetryStrategy() {\n" +
+                                "@Override\n" +
+                                "public boolean retryRequest(HttpRequest " + requestParameterName(l.getBody(), names) +
+                                ", IOException " + names.get(0) + ", int " +
+                                names.get(1) + ", HttpContext " + names.get(2) + ") {\n" +
+                                (expressionBody ? "    return #{any(boolean)};\n" : "") +
+                                "}\n" +
+                                RESPONSE_RETRY_METHODS + "\n" +
+                                "}", ctx)
+                                .apply(getCursor(), l.getCoordinates().replace(), expressionBody ? new Object[]{l.getBody()} : new Object[0]);
+                        if (!expressionBody && strategy.getBody() != null) {
+                            J.Block body = (J.Block) l.getBody();
+                            strategy = strategy.withBody(strategy.getBody().withStatements(ListUtils.mapFirst(strategy.getBody().getStatements(),
+                                    s -> ((J.MethodDeclaration) s).withBody(body))));
+                        }
+                        addImports();
+                        return autoFormat(strategy, ctx, getCursor().getParentOrThrow());
+                    }
+
+                    @Override
+                    public J visitFieldAccess(J.FieldAccess fieldAccess, ExecutionContext ctx) {
+                        J j = super.visitFieldAccess(fieldAccess, ctx);
+                        if (j instanceof J.FieldAccess && "INSTANCE".equals(((J.FieldAccess) j).getSimpleName()) &&
+                                TypeUtils.isOfClassType(((J.FieldAccess) j).getTarget().getType(), FQN_DEFAULT_RETRY_HANDLER)) {
+                            return defaultRetryStrategy(DEFAULT_RETRY_COUNT, DEFAULT_RETRY_INTERVAL, ctx);
+                        }
+                        return j;
+                    }
+
+                    @Override
+                    public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J.MethodInvocation m = (J.MethodInvocation) super.visitMethodInvocation(method, ctx);
+                        if (SET_RETRY_HANDLER.matches(m) ||
+                                SET_SERVICE_UNAVAILABLE_STRATEGY.matches(m) && !alsoSetsRetryHandler(m)) {
+                            JavaType.Method type = m.getMethodType() == null ? null : m.getMethodType().withName("setRetryStrategy");
+                            return m.withName(m.getName().withSimpleName("setRetryStrategy").withType(type)).withMethodType(type);
+                        }
+                        return m;
+                    }
+
+                    // HttpClient 5 has a single retry strategy, two 4.x strategies on one builder are left for review
+                    private boolean alsoSetsRetryHandler(J.MethodInvocation method) {
+                        for (Expression select = method.getSelect(); select instanceof J.MethodInvocation;
+                             select = ((J.MethodInvocation) select).getSelect()) {
+                            // the select has already been visited and may be renamed
+                            if ("setRetryStrategy".equals(((J.MethodInvocation) select).getSimpleName()) || SET_RETRY_HANDLER.matches(select)) {
+                                return true;
+                            }
+                        }
+                        for (Cursor c = getCursor().getParentTreeCursor(); c.getValue() instanceof J.MethodInvocation; c = c.getParentTreeCursor()) {
+                            if (SET_RETRY_HANDLER.matches((J.MethodInvocation) c.getValue())) {
+                                return true;
+                            }
+                        }
+                        return false;
+                    }
+
+                    private J.@Nullable Block migrateRetryHandler(J.Block body, ExecutionContext ctx) {
+                        J.MethodDeclaration retryRequest = null;
+                        for (Statement statement : body.getStatements()) {
+                            if (statement instanceof J.MethodDeclaration &&
+                                    HANDLER_RETRY_REQUEST.matches(((J.MethodDeclaration) statement).getMethodType())) {
+                                retryRequest = (J.MethodDeclaration) statement;
+                            }
+                        }
+                        if (retryRequest == null || retryRequest.getBody() == null) {
+                            return null;
+                        }
+                        List<String> names = parameterNames(retryRequest);
+                        J.MethodDeclaration original = retryRequest;
+                        J.Block withoutOriginal = body.withStatements(ListUtils.map(body.getStatements(), s -> s == original ? null : s));
+                        J.Block migrated = template(
+                                "@Override\n" +
+                                "public boolean retryRequest(HttpRequest " + requestParameterName(retryRequest.getBody(), names) +
+                                ", IOException " + names.get(0) + ", int " +
+                                names.get(1) + ", HttpContext " + names.get(2) + ") {\n" +
+                                "}\n" +
+                                RESPONSE_RETRY_METHODS, ctx)
+                                .apply(new Cursor(getCursor(), withoutOriginal), withoutOriginal.getCoordinates().lastStatement());
+                        int index = withoutOriginal.getStatements().size();
+                        addImports();
+                        return migrated.withStatements(ListUtils.map(migrated.getStatements(), (i, s) -> i == index ?
+                                ((J.MethodDeclaration) s).withBody(original.getBody()) : s));
+                    }
+
+                    private J.@Nullable Block migrateServiceUnavailableStrategy(J.Block body, ExecutionContext ctx) {
+                        J.MethodDeclaration retryInterval = null;
+                        for (Statement statement : body.getStatements()) {
+                            if (statement instanceof J.MethodDeclaration &&
+                                    STRATEGY_RETRY_INTERVAL.matches(((J.MethodDeclaration) statement).getMethodType())) {
+                                retryInterval = (J.MethodDeclaration) statement;
+                            }
+                        }
+                        if (retryInterval == null || retryInterval.getBody() == null ||
+                                retryInterval.getBody().getStatements().size() != 1 ||
+                                !(retryInterval.getBody().getStatements().get(0) instanceof J.Return) ||
+                                ((J.Return) retryInterval.getBody().getStatements().get(0)).getExpression() == null) {
+                            return null;
+                        }
+                        J.MethodDeclaration original = retryInterval;
+                        Expression interval = ((J.Return) retryInterval.getBody().getStatements().get(0)).getExpression();
+                        J.Block withoutOriginal = body.withStatements(ListUtils.map(body.getStatements(), s -> s == original ? null : s));
+                        addImports();
+                        return template(
+                                "@Override\n" +
+                                "public boolean retryRequest(HttpRequest request, IOException exception, int execCount, HttpContext context) {\n" +
+                                "    return false;\n" +
+                                "}\n" +
+                                "@Override\n" +
+                                "public TimeValue getRetryInterval(HttpResponse response, int execCount, HttpContext context) {\n" +
+                                "    return TimeValue.ofMilliseconds(#{any(long)});\n" +
+                                "}", ctx)
+                                .apply(new Cursor(getCursor(), withoutOriginal), withoutOriginal.getCoordinates().lastStatement(), interval);
+                    }
+
+                    /**
+                     * The 4.x body moves into a method with an additional request parameter, which must neither clash
+                     * with its variables, such as the usual {@code HttpRequest request = clientContext.getRequest()},
+                     * nor shadow a variable or field it refers to.
+                     */
+                    private String requestParameterName(J body, List<String> parameterNames) {
+                        Set<String> taken = new HashSet<>(parameterNames);
+                        new JavaIsoVisitor<Set<String>>() {
+                            @Override
+                            public J.Identifier visitIdentifier(J.Identifier identifier, Set<String> names) {
+                                names.add(identifier.getSimpleName());
+                                return identifier;
+                            }
+                        }.visit(body, taken);
+                        String name = "request";
+                        for (int i = 1; taken.contains(name); i++) {
+                            name = "request" + i;
+                        }
+                        return name;
+                    }
+
+                    private List<String> parameterNames(J.MethodDeclaration method) {
+                        List<String> names = new ArrayList<>();
+                        for (Statement parameter : method.getParameters()) {
+                            names.add(((J.VariableDeclarations) parameter).getVariables().get(0).getSimpleName());
+                        }
+                        return names;
+                    }
+
+                    private TypeTree retryStrategyType(TypeTree tree) {
+                        JavaType.ShallowClass type = JavaType.ShallowClass.build(FQN_RETRY_STRATEGY);
+                        maybeRemoveImport(FQN_RETRY_HANDLER);
+                        maybeRemoveImport(FQN_SERVICE_UNAVAILABLE_STRATEGY);
+                        maybeAddImport(FQN_RETRY_STRATEGY);
+                        return new J.Identifier(Tree.randomId(), tree.getPrefix(), tree.getMarkers(), new ArrayList<>(),
+                                type.getClassName(), type, null);
+                    }
+
+                    private J defaultRetryStrategy(String retries, String interval, ExecutionContext ctx, Object... parameters) {
+                        maybeRemoveImport(FQN_DEFAULT_RETRY_HANDLER);
+                        maybeRemoveImport(FQN_STANDARD_RETRY_HANDLER);
+                        maybeRemoveImport(FQN_DEFAULT_SERVICE_UNAVAILABLE_STRATEGY);
+                        maybeAddImport(FQN_DEFAULT_RETRY_STRATEGY);
+                        maybeAddImport(FQN_TIME_VALUE);
+                        return template("new DefaultHttpRequestRetryStrategy(" + retries + ", " + interval + ")", ctx)
+                                .apply(getCursor(), ((J) getCursor().getValue()).getCoordinates().replace(), parameters);
+                    }
+
+                    private void addImports() {
+                        maybeAddImport(FQN_RETRY_STRATEGY);
+                        maybeAddImport("org.apache.http.HttpRequest");
+                        maybeAddImport("org.apache.http.HttpResponse");
+                        maybeAddImport("org.apache.http.protocol.HttpContext");
+                        maybeAddImport("java.io.IOException");
+                        maybeAddImport(FQN_TIME_VALUE);
+                    }
+
+                    private JavaTemplate template(String code, ExecutionContext ctx) {
+                        // 4.x message types are kept, they are migrated with the rest of the HttpClient 5 class mapping
+                        return JavaTemplate.builder(code)
+                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx,
+                                        "httpclient-4", "httpcore-4", "httpclient5", "httpcore5"))
+                                .imports(FQN_RETRY_STRATEGY, FQN_DEFAULT_RETRY_STRATEGY, FQN_TIME_VALUE,
+                                        "org.apache.http.HttpRequest", "org.apache.http.HttpResponse",
+                                        "org.apache.http.protocol.HttpContext", "java.io.IOException")
+                                .build();
+                    }
+                }
+        );
+    }
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.httpclient5;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.*;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Objects.requireNonNull;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class ReplaceIdleConnectionMonitorThread extends ScanningRecipe<Map<String, ReplaceIdleConnectionMonitorThread.Eviction>> {
+
+    private static final String FQN_HTTP_CLIENT_BUILDER4 = "org.apache.http.impl.client.HttpClientBuilder";
+    private static final String FQN_HTTP_CLIENT_BUILDER5 = "org.apache.hc.client5.http.impl.classic.HttpClientBuilder";
+    private static final String FQN_CONN_MANAGER4 = "org.apache.http.conn.HttpClientConnectionManager";
+    private static final String FQN_CONN_POOL_CONTROL5 = "org.apache.hc.core5.pool.ConnPoolControl";
+    private static final String FQN_TIME_VALUE = "org.apache.hc.core5.util.TimeValue";
+
+    private static final MethodMatcher CLOSE_EXPIRED4 = new MethodMatcher(FQN_CONN_MANAGER4 + " closeExpiredConnections()", true);
+    private static final MethodMatcher CLOSE_IDLE4 = new MethodMatcher(FQN_CONN_MANAGER4 + " closeIdleConnections(long, java.util.concurrent.TimeUnit)", true);
+    private static final MethodMatcher CLOSE_EXPIRED5 = new MethodMatcher(FQN_CONN_POOL_CONTROL5 + " closeExpired()", true);
+    private static final MethodMatcher CLOSE_IDLE5 = new MethodMatcher(FQN_CONN_POOL_CONTROL5 + " closeIdle(" + FQN_TIME_VALUE + ")", true);
+    private static final MethodMatcher BUILD4 = new MethodMatcher(FQN_HTTP_CLIENT_BUILDER4 + " build()");
+    private static final MethodMatcher BUILD5 = new MethodMatcher(FQN_HTTP_CLIENT_BUILDER5 + " build()");
+    private static final MethodMatcher THREAD_START = new MethodMatcher("java.lang.Thread start()", true);
+    private static final MethodMatcher THREAD_SET_DAEMON = new MethodMatcher("java.lang.Thread setDaemon(boolean)", true);
+
+    String displayName = "Replace idle connection monitor threads with `HttpClientBuilder` eviction";
+
+    String description = "Detects hand-written `Thread` subclasses that periodically call `closeExpiredConnections()` and " +
+            "`closeIdleConnections(..)` (or `closeExpired()` and `closeIdle(..)`) on a connection manager. Where such a " +
+            "monitor is started for a connection manager that is passed to an `HttpClientBuilder` in the same block, the " +
+            "monitor is removed and the builder is configured with `evictExpiredConnections()` and " +
+            "`evictIdleConnections(..)` instead, which use the built-in `IdleConnectionEvictor`. The monitor class itself " +
+            "is left in place.";
+
+    @Value
+    public static class Eviction {
+        boolean expired;
+
+        /**
+         * The idle time as passed to the monitor: either a {@code long} and a {@code TimeUnit}, or a single {@code TimeValue}.
+         */
+        List<Expression> idleTime;
+    }
+
+    @Override
+    public Map<String, Eviction> getInitialValue(ExecutionContext ctx) {
+        return new HashMap<>();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Map<String, Eviction> monitors) {
+        return new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
+                if (cd.getType() == null || !TypeUtils.isAssignableTo("java.lang.Thread", cd.getType())) {
+                    return cd;
+                }
+                AtomicBoolean expired = new AtomicBoolean();
+                List<List<Expression>> idleTimes = new ArrayList<>();
+                new JavaIsoVisitor<Integer>() {
+                    @Override
+                    public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, Integer p) {
+                        if (CLOSE_EXPIRED4.matches(method) || CLOSE_EXPIRED5.matches(method)) {
+                            expired.set(true);
+                        } else if (CLOSE_IDLE4.matches(method) || CLOSE_IDLE5.matches(method)) {
+                            idleTimes.add(method.getArguments());
+                        }
+                        return super.visitMethodInvocation(method, p);
+                    }
+                }.visit(cd.getBody(), 0);
+                if (idleTimes.size() > 1 || (!expired.get() && idleTimes.isEmpty()) ||
+                        (!idleTimes.isEmpty() && !idleTimes.get(0).stream().allMatch(ReplaceIdleConnectionMonitorThread::isConstant))) {
+                    return cd;
+                }
+                monitors.put(cd.getType().getFullyQualifiedName(),
+                        new Eviction(expired.get(), idleTimes.isEmpty() ? Collections.emptyList() : idleTimes.get(0)));
+                return cd;
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Map<String, Eviction> monitors) {
+        if (monitors.isEmpty()) {
+            return TreeVisitor.noop();
+        }
+        return new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.Block visitBlock(J.Block block, ExecutionContext ctx) {
+                J.Block b = super.visitBlock(block, ctx);
+                for (Statement statement : b.getStatements()) {
+                    J.NewClass monitor = startedMonitor(statement, b);
+                    if (monitor == null) {
+                        continue;
+                    }
+                    Eviction eviction = monitors.get(requireNonNull(TypeUtils.asFullyQualified(monitor.getType())).getFullyQualifiedName());
+                    String connectionManager = connectionManagerArgument(monitor);
+                    if (connectionManager == null) {
+                        continue;
+                    }
+                    J.Block evicting = (J.Block) new AddEviction(connectionManager, eviction).visitNonNull(b, ctx, getCursor().getParentOrThrow());
+                    if (evicting != b) {
+                        return removeMonitor(evicting, statement);
+                    }
+                }
+                return b;
+            }
+
+            /**
+             * A monitor started by {@code new Monitor(..).start()}, or declared as a local variable that is only
+             * started in this block.
+             */
+            private J.@Nullable NewClass startedMonitor(Statement statement, J.Block block) {
+                if (statement instanceof J.MethodInvocation && THREAD_START.matches((J.MethodInvocation) statement) &&
+                        ((J.MethodInvocation) statement).getSelect() instanceof J.NewClass) {
+                    J.NewClass monitor = (J.NewClass) ((J.MethodInvocation) statement).getSelect();
+                    return isMonitor(monitor) ? monitor : null;
+                }
+                if (statement instanceof J.VariableDeclarations && ((J.VariableDeclarations) statement).getVariables().size() == 1) {
+                    J.VariableDeclarations.NamedVariable variable = ((J.VariableDeclarations) statement).getVariables().get(0);
+                    if (!(variable.getInitializer() instanceof J.NewClass) || !isMonitor((J.NewClass) variable.getInitializer())) {
+                        return null;
+                    }
+                    AtomicBoolean started = new AtomicBoolean();
+                    AtomicBoolean otherUse = new AtomicBoolean();
+                    new JavaIsoVisitor<Integer>() {
+                        @Override
+                        public J.Identifier visitIdentifier(J.Identifier identifier, Integer p) {
+                            if (variable.getSimpleName().equals(identifier.getSimpleName()) && identifier != variable.getName()) {
+                                Object parent = getCursor().getParentTreeCursor().getValue();
+                                if (parent instanceof J.MethodInvocation && ((J.MethodInvocation) parent).getSelect() == identifier &&
+                                        getCursor().getParentTreeCursor().getParentTreeCursor().getValue() == block) {
+                                    if (THREAD_START.matches((J.MethodInvocation) parent)) {
+                                        started.set(true);
+                                        return identifier;
+                                    }
+                                    if (THREAD_SET_DAEMON.matches((J.MethodInvocation) parent)) {
+                                        return identifier;
+                                    }
+                                }
+                                otherUse.set(true);
+                            }
+                            return identifier;
+                        }
+                    }.visit(block, 0, getCursor().getParentOrThrow());
+                    return started.get() && !otherUse.get() ? (J.NewClass) variable.getInitializer() : null;
+                }
+                return null;
+            }
+
+            private boolean isMonitor(J.NewClass newClass) {
+                JavaType.FullyQualified type = TypeUtils.asFullyQualified(newClass.getType());
+                return newClass.getBody() == null && type != null && monitors.containsKey(type.getFullyQualifiedName());
+            }
+
+            private @Nullable String connectionManagerArgument(J.NewClass monitor) {
+                for (Expression argument : monitor.getArguments()) {
+                    if (argument instanceof J.Identifier &&
+                            (TypeUtils.isAssignableTo(FQN_CONN_MANAGER4, argument.getType()) ||
+                             TypeUtils.isAssignableTo(FQN_CONN_POOL_CONTROL5, argument.getType()))) {
+                        return ((J.Identifier) argument).getSimpleName();
+                    }
+                }
+                return null;
+            }
+
+            private J.Block removeMonitor(J.Block block, Statement monitor) {
+                String name = monitor instanceof J.VariableDeclarations ?
+                        ((J.VariableDeclarations) monitor).getVariables().get(0).getSimpleName() : null;
+                return block.withStatements(ListUtils.map(block.getStatements(), s -> {
+                    if (s == monitor) {
+                        return null;
+                    }
+                    if (name != null && s instanceof J.MethodInvocation && ((J.MethodInvocation) s).getSelect() instanceof J.Identifier &&
+                            name.equals(((J.Identifier) ((J.MethodInvocation) s).getSelect()).getSimpleName())) {
+                        return null;
+                    }
+                    return s;
+                }));
+            }
+        };
+    }
+
+    private static boolean isConstant(Expression expression) {
+        if (expression instanceof J.Literal) {
+            return true;
+        }
+        if (expression instanceof J.FieldAccess) {
+            // the expression is copied into another class, where only public constants qualified by their type resolve
+            J.FieldAccess fieldAccess = (J.FieldAccess) expression;
+            JavaType.Variable field = fieldAccess.getName().getFieldType();
+            JavaType.FullyQualified owner = field == null ? null : TypeUtils.asFullyQualified(field.getOwner());
+            return owner != null && field.hasFlags(Flag.Public, Flag.Static, Flag.Final) &&
+                   owner.getFlags().contains(Flag.Public) && qualifyingType(fieldAccess) != null;
+        }
+        if (expression instanceof J.Binary) {
+            return isConstant(((J.Binary) expression).getLeft()) && isConstant(((J.Binary) expression).getRight());
+        }
+        if (expression instanceof J.MethodInvocation) {
+            J.MethodInvocation mi = (J.MethodInvocation) expression;
+            return mi.getMethodType() != null && mi.getMethodType().hasFlags(Flag.Static) &&
+                    TypeUtils.isOfClassType(mi.getMethodType().getDeclaringType(), FQN_TIME_VALUE) &&
+                    mi.getArguments().stream().allMatch(ReplaceIdleConnectionMonitorThread::isConstant);
+        }
+        return false;
+    }
+
+    /**
+     * @return the type that qualifies a constant, when the constant is qualified by a type name rather than an instance
+     */
+    private static JavaType.@Nullable FullyQualified qualifyingType(J.FieldAccess fieldAccess) {
+        Expression target = fieldAccess.getTarget();
+        if (target instanceof J.Identifier && ((J.Identifier) target).getFieldType() == null ||
+                target instanceof J.FieldAccess && ((J.FieldAccess) target).getName().getFieldType() == null) {
+            return TypeUtils.asFullyQualified(target.getType());
+        }
+        return null;
+    }
+
+    @Value
+    @EqualsAndHashCode(callSuper = false)
+    private static class AddEviction extends JavaIsoVisitor<ExecutionContext> {
+        String connectionManager;
+        Eviction eviction;
+
+        @Override
+        public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+            J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+            boolean v4 = BUILD4.matches(m);
+            if (!v4 && !BUILD5.matches(m) || !usesConnectionManager(m)) {
+                return m;
+            }
+            List<Expression> idleTime = eviction.getIdleTime();
+            if (v4 && idleTime.size() == 1) {
+                // a TimeValue cannot be passed to the 4.x builder
+                return m;
+            }
+            StringBuilder code = new StringBuilder("#{any(" + (v4 ? FQN_HTTP_CLIENT_BUILDER4 : FQN_HTTP_CLIENT_BUILDER5) + ")}");
+            if (eviction.isExpired()) {
+                code.append(".evictExpiredConnections()");
+            }
+            if (idleTime.size() == 2) {
+                code.append(v4 ?
+                        ".evictIdleConnections(#{any(long)}, #{any(java.util.concurrent.TimeUnit)})" :
+                        ".evictIdleConnections(TimeValue.of(#{any(long)}, #{any(java.util.concurrent.TimeUnit)}))");
+            } else if (idleTime.size() == 1) {
+                code.append(".evictIdleConnections(#{any(" + FQN_TIME_VALUE + ")})");
+            }
+            List<Object> parameters = new ArrayList<>();
+            Expression builder = requireNonNull(m.getSelect());
+            parameters.add(builder);
+            parameters.addAll(idleTime);
+            // the idle time expressions are copied from the monitor and may need its imports
+            if (!v4 && !idleTime.isEmpty()) {
+                maybeAddImport(FQN_TIME_VALUE);
+            }
+            Set<String> qualifyingTypes = new LinkedHashSet<>();
+            for (Expression expression : idleTime) {
+                new JavaIsoVisitor<Set<String>>() {
+                    @Override
+                    public J.FieldAccess visitFieldAccess(J.FieldAccess fieldAccess, Set<String> types) {
+                        JavaType.FullyQualified type = qualifyingType(fieldAccess);
+                        if (type != null && fieldAccess.getTarget() instanceof J.Identifier) {
+                            types.add(type.getFullyQualifiedName());
+                        }
+                        return super.visitFieldAccess(fieldAccess, types);
+                    }
+                }.visit(expression, qualifyingTypes);
+            }
+            for (String type : qualifyingTypes) {
+                maybeAddImport(type);
+            }
+            return m.withSelect(JavaTemplate.builder(code.toString())
+                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, v4 ? "httpclient-4" : "httpclient5", v4 ? "httpcore-4" : "httpcore5"))
+                    .imports(FQN_TIME_VALUE)
+                    .build()
+                    .apply(new Cursor(getCursor(), builder), builder.getCoordinates().replace(), parameters.toArray()));
+        }
+
+        private boolean usesConnectionManager(J.MethodInvocation build) {
+            boolean uses = false;
+            for (Expression select = build.getSelect(); select instanceof J.MethodInvocation; select = ((J.MethodInvocation) select).getSelect()) {
+                J.MethodInvocation link = (J.MethodInvocation) select;
+                if ("setConnectionManagerShared".equals(link.getSimpleName()) ||
+                        "evictIdleConnections".equals(link.getSimpleName()) ||
+                        "evictExpiredConnections".equals(link.getSimpleName())) {
+                    return false;
+                }
+                if ("setConnectionManager".equals(link.getSimpleName()) && link.getArguments().get(0) instanceof J.Identifier &&
+                        connectionManager.equals(((J.Identifier) link.getArguments().get(0)).getSimpleName())) {
+                    uses = true;
+                }
+            }
+            return uses;
+        }
+    }
+}
@@ -0,0 +1,352 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.httpclient5;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.apache.internal.ClassConstants;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Collections.emptyList;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class ShareStartedAsyncClient extends Recipe {
+
+    private static final String FQN_ASYNC_CLIENT4 = "org.apache.http.impl.nio.client.CloseableHttpAsyncClient";
+    private static final String FQN_ASYNC_CLIENT5 = "org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient";
+    private static final String FQN_CLOSE_MODE = "org.apache.hc.core5.io.CloseMode";
+
+    private static final MethodMatcher CREATE4 = new MethodMatcher("org.apache.http.impl.nio.client.HttpAsyncClients create*()");
+    private static final MethodMatcher CREATE5 = new MethodMatcher("org.apache.hc.client5.http.impl.async.HttpAsyncClients create*()");
+
+    private static final String HOLDER_NAME = "AsyncClientHolder";
+    private static final String CLIENT_NAME = "CLIENT";
+    private static final String HOLDER = "asyncClientHolder";
+
+    String displayName = "Share a started async HttpClient instead of creating one per call";
+
+    String description = "Finds `HttpAsyncClients.create*()` clients that are created, started and closed within a " +
+            "single method, which starts an I/O reactor with its dispatcher threads and selector on every call. The " +
+            "client moves into a lazily initialized static holder class that starts it once and closes it from a " +
+            "JVM shutdown hook, and the method uses the shared client. Works with both Apache HttpAsyncClient 4.x " +
+            "and HttpClient 5.x.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                Preconditions.or(new UsesMethod<>(CREATE4), new UsesMethod<>(CREATE5)),
+                new JavaVisitor<ExecutionContext>() {
+
+                    @Override
+                    public J visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                        if (!ClassConstants.canDeclare(classDecl) ||
+                                getCursor().getParentTreeCursor().firstEnclosing(J.MethodDeclaration.class) != null) {
+                            return super.visitClassDeclaration(classDecl, ctx);
+                        }
+                        String holderName = ClassConstants.uniqueName(ClassConstants.memberNames(classDecl), HOLDER_NAME);
+                        Holder holder = new Holder(holderName, new LinkedHashMap<>());
+                        getCursor().putMessage(HOLDER, holder);
+
+                        J.ClassDeclaration cd = (J.ClassDeclaration) super.visitClassDeclaration(classDecl, ctx);
+                        return holder.getClients().isEmpty() ? cd : addHolder(cd, holder, ctx);
+                    }
+
+                    @Override
+                    public J visitBlock(J.Block block, ExecutionContext ctx) {
+                        J.Block b = (J.Block) super.visitBlock(block, ctx);
+                        Holder holder = holder();
+                        if (holder == null) {
+                            return b;
+                        }
+                        for (int i = 0; i < b.getStatements().size(); i++) {
+                            J.Block shared = shareClient(b, i, holder);
+                            if (shared != null) {
+                                b = shared;
+                            }
+                        }
+                        return b == block ? b : maybeAutoFormat(block, b, ctx);
+                    }
+
+                    private J.@Nullable Block shareClient(J.Block block, int index, Holder holder) {
+                        Statement statement = block.getStatements().get(index);
+                        if (statement instanceof J.Try) {
+                            return shareTryWithResources(block, (J.Try) statement, holder);
+                        }
+                        if (!(statement instanceof J.VariableDeclarations) || index + 1 >= block.getStatements().size()) {
+                            return null;
+                        }
+                        J.VariableDeclarations declaration = (J.VariableDeclarations) statement;
+                        J.MethodInvocation factory = factory(declaration);
+                        if (factory == null || !compatible(holder, factory)) {
+                            return null;
+                        }
+                        String name = declaration.getVariables().get(0).getSimpleName();
+                        if (!isLifecycleCall(block.getStatements().get(index + 1), name, "start")) {
+                            return null;
+                        }
+                        Statement start = block.getStatements().get(index + 1);
+                        List<Statement> statements = new ArrayList<>();
+                        boolean closed = false;
+                        for (Statement s : block.getStatements()) {
+                            if (s == start) {
+                                continue;
+                            } else if (s == declaration) {
+                                s = declaration.withVariables(ListUtils.mapFirst(declaration.getVariables(),
+                                        v -> v.withInitializer(holderAccess(holder, factory))));
+                            } else if (!closed && block.getStatements().indexOf(s) > index && isLifecycleCall(s, name, "close")) {
+                                closed = true;
+                                continue;
+                            } else if (!closed && block.getStatements().indexOf(s) > index && s instanceof J.Try &&
+                                    closesInFinally((J.Try) s, name)) {
+                                closed = true;
+                                J.Try t = (J.Try) s;
+                                if (t.getCatches().isEmpty() && t.getResources() == null) {
+                                    statements.addAll(t.getBody().getStatements());
+                                    continue;
+                                }
+                                s = t.withFinally(null);
+                            }
+                            statements.add(s);
+                        }
+                        J.Block shared = block.withStatements(statements);
+                        if (!closed || stillManaged(shared, name)) {
+                            return null;
+                        }
+                        register(holder, factory);
+                        return shared;
+                    }
+
+                    private J.@Nullable Block shareTryWithResources(J.Block block, J.Try t, Holder holder) {
+                        if (t.getResources() == null || t.getResources().size() != 1 || !t.getCatches().isEmpty() ||
+                                t.getFinally() != null || !(t.getResources().get(0).getVariableDeclarations() instanceof J.VariableDeclarations) ||
+                                t.getBody().getStatements().isEmpty()) {
+                            return null;
+                        }
+                        J.VariableDeclarations declaration = (J.VariableDeclarations) t.getResources().get(0).getVariableDeclarations();
+                        J.MethodInvocation factory = factory(declaration);
+                        if (factory == null || !compatible(holder, factory)) {
+                            return null;
+                        }
+                        String name = declaration.getVariables().get(0).getSimpleName();
+                        if (!isLifecycleCall(t.getBody().getStatements().get(0), name, "start")) {
+                            return null;
+                        }
+                        List<Statement> statements = new ArrayList<>();
+                        for (Statement s : block.getStatements()) {
+                            if (s == t) {
+                                statements.add(declaration.withPrefix(t.getPrefix())
+                                        .withVariables(ListUtils.mapFirst(declaration.getVariables(),
+                                                v -> v.withInitializer(holderAccess(holder, factory)))));
+                                statements.addAll(t.getBody().getStatements().subList(1, t.getBody().getStatements().size()));
+                            } else {
+                                statements.add(s);
+                            }
+                        }
+                        J.Block shared = block.withStatements(statements);
+                        if (stillManaged(shared, name)) {
+                            return null;
+                        }
+                        register(holder, factory);
+                        return shared;
+                    }
+
+                    private @Nullable Holder holder() {
+                        Cursor method = getCursor().dropParentUntil(c -> c instanceof J.MethodDeclaration ||
+                                c instanceof J.ClassDeclaration || c == Cursor.ROOT_VALUE);
+                        if (!(method.getValue() instanceof J.MethodDeclaration)) {
+                            return null;
+                        }
+                        return method.dropParentUntil(J.ClassDeclaration.class::isInstance).getMessage(HOLDER);
+                    }
+
+                    private J.ClassDeclaration addHolder(J.ClassDeclaration cd, Holder holder, ExecutionContext ctx) {
+                        boolean httpClient4 = holder.getClients().values().iterator().next().isHttpClient4();
+                        StringBuilder fields = new StringBuilder();
+                        StringBuilder lifecycle = new StringBuilder();
+                        List<Object> parameters = new ArrayList<>();
+                        for (Client client : holder.getClients().values()) {
+                            fields.append("static final CloseableHttpAsyncClient ").append(client.getName())
+                                    .append(" = #{any(").append(httpClient4 ? FQN_ASYNC_CLIENT4 : FQN_ASYNC_CLIENT5).append(")};\n");
+                            parameters.add(client.getFactory());
+                            lifecycle.append(client.getName()).append(".start();\n");
+                        }
+                        for (Client client : holder.getClients().values()) {
+                            if (httpClient4) {
+                                lifecycle.append("Runtime.getRuntime().addShutdownHook(new Thread(() -> {\n")
+                                        .append("try {\n").append(client.getName()).append(".close();\n")
+                                        .append("} catch (IOException ignored) {\n")
+                                        .append("// the JVM is shutting down\n")
+                                        .append("}\n}));\n");
+                            } else {
+                                lifecycle.append("Runtime.getRuntime().addShutdownHook(new Thread(() -> ")
+                                        .append(client.getName()).append(".close(CloseMode.GRACEFUL)));\n");
+                            }
+                        }
+                        String code = "private static final class " + holder.getName() + " {\n" + fields +
+                                "\nstatic {\n" + lifecycle + "}\n}";
+
+                        String clientType = httpClient4 ? FQN_ASYNC_CLIENT4 : FQN_ASYNC_CLIENT5;
+                        String closeType = httpClient4 ? "java.io.IOException" : FQN_CLOSE_MODE;
+                        maybeAddImport(clientType);
+                        maybeAddImport(closeType);
+                        return ClassConstants.declare(this, cd, cd.getBody().getStatements().size(),
+                                Collections.singletonList(code), (c, holderCode, coordinates) -> JavaTemplate.builder(holderCode)
+                                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, httpClient4 ?
+                                                new String[]{"httpasyncclient-4", "httpcore-nio-4", "httpclient-4", "httpcore-4"} :
+                                                new String[]{"httpclient5", "httpcore5"}))
+                                        .imports(clientType, closeType)
+                                        .build()
+                                        .apply(updateCursor(c), coordinates, parameters.toArray()), ctx);
+                    }
+                });
+    }
+
+    private static J.@Nullable MethodInvocation factory(J.VariableDeclarations declaration) {
+        if (declaration.getVariables().size() != 1 ||
+                !(TypeUtils.isOfClassType(declaration.getType(), FQN_ASYNC_CLIENT4) ||
+                        TypeUtils.isOfClassType(declaration.getType(), FQN_ASYNC_CLIENT5))) {
+            return null;
+        }
+        Expression initializer = declaration.getVariables().get(0).getInitializer();
+        if (initializer instanceof J.MethodInvocation &&
+                (CREATE4.matches(initializer) || CREATE5.matches(initializer)) &&
+                TypeUtils.isAssignableTo(declaration.getType(), ((J.MethodInvocation) initializer).getType())) {
+            return (J.MethodInvocation) initializer;
+        }
+        return null;
+    }
+
+    // 4.x and 5.x clients share a simple name, keep a holder to one of them
+    private static boolean compatible(Holder holder, J.MethodInvocation factory) {
+        return holder.getClients().isEmpty() ||
+                holder.getClients().values().iterator().next().isHttpClient4() == CREATE4.matches(factory);
+    }
+
+    private static boolean isLifecycleCall(Statement statement, String client, String method) {
+        if (!(statement instanceof J.MethodInvocation)) {
+            return false;
+        }
+        J.MethodInvocation m = (J.MethodInvocation) statement;
+        return method.equals(m.getSimpleName()) && m.getSelect() instanceof J.Identifier &&
+                client.equals(((J.Identifier) m.getSelect()).getSimpleName());
+    }
+
+    private static boolean closesInFinally(J.Try t, String client) {
+        return t.getFinally() != null && t.getFinally().getStatements().size() == 1 &&
+                isLifecycleCall(t.getFinally().getStatements().get(0), client, "close");
+    }
+
+    /**
+     * @return true if the client is still started, closed or shut down by the method, or used other than by calling
+     * one of its methods, such as passed as an argument, returned, reassigned or captured by a lambda, which may
+     * manage it in turn
+     */
+    private static boolean stillManaged(J.Block block, String client) {
+        AtomicBoolean managed = new AtomicBoolean();
+        new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, AtomicBoolean found) {
+                if (method.getSelect() instanceof J.Identifier &&
+                        client.equals(((J.Identifier) method.getSelect()).getSimpleName()) &&
+                        ("close".equals(method.getSimpleName()) || "start".equals(method.getSimpleName()) ||
+                                "initiateShutdown".equals(method.getSimpleName()) || "awaitShutdown".equals(method.getSimpleName()))) {
+                    found.set(true);
+                }
+                return super.visitMethodInvocation(method, found);
+            }
+
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, AtomicBoolean found) {
+                if (client.equals(identifier.getSimpleName()) && !isName(identifier) &&
+                        (!isSelect(identifier) || isCaptured())) {
+                    found.set(true);
+                }
+                return super.visitIdentifier(identifier, found);
+            }
+
+            private boolean isName(J.Identifier identifier) {
+                Object parent = getCursor().getParentTreeCursor().getValue();
+                return parent instanceof J.VariableDeclarations.NamedVariable && ((J.VariableDeclarations.NamedVariable) parent).getName() == identifier ||
+                        parent instanceof J.MethodInvocation && ((J.MethodInvocation) parent).getName() == identifier ||
+                        parent instanceof J.FieldAccess && ((J.FieldAccess) parent).getName() == identifier;
+            }
+
+            private boolean isSelect(J.Identifier identifier) {
+                Object parent = getCursor().getParentTreeCursor().getValue();
+                return parent instanceof J.MethodInvocation && ((J.MethodInvocation) parent).getSelect() == identifier;
+            }
+
+            private boolean isCaptured() {
+                return getCursor().firstEnclosing(J.Lambda.class) != null ||
+                        getCursor().dropParentUntil(c -> c instanceof J.NewClass && ((J.NewClass) c).getBody() != null ||
+                                c == Cursor.ROOT_VALUE).getValue() != Cursor.ROOT_VALUE;
+            }
+        }.visit(block, managed);
+        return managed.get();
+    }
+
+    private static void register(Holder holder, J.MethodInvocation factory) {
+        holder.getClients().computeIfAbsent(factory.getSimpleName(), k -> new Client(
+                CLIENT_NAME + (holder.getClients().isEmpty() ? "" : "_" + (holder.getClients().size() + 1)),
+                factory.withPrefix(Space.EMPTY),
+                CREATE4.matches(factory)));
+    }
+
+    private static J.FieldAccess holderAccess(Holder holder, J.MethodInvocation factory) {
+        Client client = holder.getClients().get(factory.getSimpleName());
+        String name = client != null ? client.getName() :
+                CLIENT_NAME + (holder.getClients().isEmpty() ? "" : "_" + (holder.getClients().size() + 1));
+        return new J.FieldAccess(
+                Tree.randomId(),
+                factory.getPrefix(),
+                Markers.EMPTY,
+                new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, emptyList(), holder.getName(), null, null),
+                JLeftPadded.build(new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, emptyList(),
+                        name, factory.getType(), null)),
+                factory.getType());
+    }
+
+    @Value
+    private static class Holder {
+        String name;
+
+        /**
+         * Shared clients by the name of their factory method.
+         */
+        Map<String, Client> clients;
+    }
+
+    @Value
+    private static class Client {
+        String name;
+        J.MethodInvocation factory;
+        boolean httpClient4;
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.httpclient5;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class StreamMultipartFileBodies extends Recipe {
+
+    private static final String MIME4 = "org.apache.http.entity.mime";
+    private static final String MIME5 = "org.apache.hc.client5.http.entity.mime";
+    private static final String FQN_CONTENT_TYPE4 = "org.apache.http.entity.ContentType";
+    private static final String FQN_CONTENT_TYPE5 = "org.apache.hc.core5.http.ContentType";
+
+    private static final MethodMatcher ADD_BINARY_BODY4 = new MethodMatcher(MIME4 + ".MultipartEntityBuilder addBinaryBody(String, byte[])");
+    private static final MethodMatcher ADD_BINARY_BODY_NAMED4 = new MethodMatcher(MIME4 + ".MultipartEntityBuilder addBinaryBody(String, byte[], " + FQN_CONTENT_TYPE4 + ", String)");
+    private static final MethodMatcher ADD_BINARY_BODY5 = new MethodMatcher(MIME5 + ".MultipartEntityBuilder addBinaryBody(String, byte[])");
+    private static final MethodMatcher ADD_BINARY_BODY_NAMED5 = new MethodMatcher(MIME5 + ".MultipartEntityBuilder addBinaryBody(String, byte[], " + FQN_CONTENT_TYPE5 + ", String)");
+    private static final MethodMatcher NEW_BYTE_ARRAY_BODY4 = new MethodMatcher(MIME4 + ".content.ByteArrayBody <constructor>(byte[], ..)");
+    private static final MethodMatcher NEW_BYTE_ARRAY_BODY5 = new MethodMatcher(MIME5 + ".ByteArrayBody <constructor>(byte[], ..)");
+
+    private static final MethodMatcher FILES_READ_ALL_BYTES = new MethodMatcher("java.nio.file.Files readAllBytes(java.nio.file.Path)");
+    private static final MethodMatcher FILE_UTILS_READ = new MethodMatcher("org.apache.commons.io.FileUtils readFileToByteArray(java.io.File)");
+    private static final MethodMatcher FILE_TO_PATH = new MethodMatcher("java.io.File toPath()");
+
+    String displayName = "Stream multipart file uploads instead of reading them into a byte array";
+
+    String description = "Replaces Apache HttpClient 4.x and 5.x multipart `addBinaryBody(name, Files.readAllBytes(path))` " +
+            "and `new ByteArrayBody(Files.readAllBytes(path), ..)` with the `File` based `addBinaryBody(..)` overloads and " +
+            "`FileBody`, which stream the file when the request is written instead of holding it on the heap. " +
+            "`FileUtils.readFileToByteArray(file)` is handled the same way. The file is read when the request is sent " +
+            "rather than when the part is added, so it must remain in place until then; parts that did not declare a " +
+            "file name get the name of the file, and paths must belong to the default file system. Sites inside a " +
+            "`try` block that catches `IOException` are left unchanged.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                Preconditions.and(
+                        Preconditions.or(new UsesMethod<>(FILES_READ_ALL_BYTES), new UsesMethod<>(FILE_UTILS_READ)),
+                        Preconditions.or(
+                                new UsesMethod<>(ADD_BINARY_BODY4),
+                                new UsesMethod<>(ADD_BINARY_BODY_NAMED4),
+                                new UsesMethod<>(ADD_BINARY_BODY5),
+                                new UsesMethod<>(ADD_BINARY_BODY_NAMED5),
+                                new UsesMethod<>(NEW_BYTE_ARRAY_BODY4),
+                                new UsesMethod<>(NEW_BYTE_ARRAY_BODY5))),
+                new JavaVisitor<ExecutionContext>() {
+
+                    @Override
+                    public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J j = super.visitMethodInvocation(method, ctx);
+                        if (!(j instanceof J.MethodInvocation)) {
+                            return j;
+                        }
+                        J.MethodInvocation mi = (J.MethodInvocation) j;
+                        boolean v4 = ADD_BINARY_BODY4.matches(mi) || ADD_BINARY_BODY_NAMED4.matches(mi);
+                        if (!v4 && !ADD_BINARY_BODY5.matches(mi) && !ADD_BINARY_BODY_NAMED5.matches(mi) ||
+                                mi.getSelect() == null) {
+                            return mi;
+                        }
+                        FileSource file = fileSource(mi.getArguments().get(1));
+                        if (file == null || catchesIOException()) {
+                            return mi;
+                        }
+                        List<Object> parameters = new ArrayList<>();
+                        parameters.add(mi.getSelect());
+                        parameters.add(mi.getArguments().get(0));
+                        parameters.add(file.getArgument());
+                        String code = "#{any(" + (v4 ? MIME4 : MIME5) + ".MultipartEntityBuilder)}.addBinaryBody(#{any(String)}, " + file.getCode();
+                        if (mi.getArguments().size() == 4) {
+                            code += ", #{any(" + (v4 ? FQN_CONTENT_TYPE4 : FQN_CONTENT_TYPE5) + ")}, #{any(String)}";
+                            parameters.add(mi.getArguments().get(2));
+                            parameters.add(mi.getArguments().get(3));
+                        }
+                        maybeRemoveImport("java.nio.file.Files");
+                        maybeRemoveImport("org.apache.commons.io.FileUtils");
+                        return template(code + ")", v4, ctx)
+                                .apply(getCursor(), mi.getCoordinates().replace(), parameters.toArray());
+                    }
+
+                    @Override
+                    public J visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
+                        J j = super.visitNewClass(newClass, ctx);
+                        if (!(j instanceof J.NewClass)) {
+                            return j;
+                        }
+                        J.NewClass nc = (J.NewClass) j;
+                        boolean v4 = NEW_BYTE_ARRAY_BODY4.matches(nc);
+                        if (!v4 && !NEW_BYTE_ARRAY_BODY5.matches(nc) || !isContentBodyArgument(nc)) {
+                            return nc;
+                        }
+                        FileSource file = fileSource(nc.getArguments().get(0));
+                        JavaType.Method constructor = nc.getConstructorType();
+                        if (file == null || constructor == null || catchesIOException()) {
+                            return nc;
+                        }
+                        String contentType = v4 ? FQN_CONTENT_TYPE4 : FQN_CONTENT_TYPE5;
+                        List<JavaType> parameterTypes = constructor.getParameterTypes();
+                        List<Object> parameters = new ArrayList<>();
+                        parameters.add(file.getArgument());
+                        String code;
+                        if (parameterTypes.size() == 3 && TypeUtils.isOfClassType(parameterTypes.get(1), contentType)) {
+                            // ByteArrayBody(byte[], ContentType, String filename)
+                            code = "new FileBody(" + file.getCode() + ", #{any(" + contentType + ")}, #{any(String)})";
+                            parameters.add(nc.getArguments().get(1));
+                            parameters.add(nc.getArguments().get(2));
+                        } else if (parameterTypes.size() == 2 && TypeUtils.isOfClassType(parameterTypes.get(1), contentType)) {
+                            // ByteArrayBody(byte[], ContentType)
+                            code = "new FileBody(" + file.getCode() + ", #{any(" + contentType + ")})";
+                            parameters.add(nc.getArguments().get(1));
+                        } else if (parameterTypes.size() == 2 && TypeUtils.isString(parameterTypes.get(1))) {
+                            // ByteArrayBody(byte[], String filename)
+                            code = "new FileBody(" + file.getCode() + ", ContentType.DEFAULT_BINARY, #{any(String)})";
+                            parameters.add(nc.getArguments().get(1));
+                            maybeAddImport(contentType);
+                        } else {
+                            return nc;
+                        }
+                        String fileBody = v4 ? MIME4 + ".content.FileBody" : MIME5 + ".FileBody";
+                        maybeAddImport(fileBody);
+                        maybeRemoveImport(v4 ? MIME4 + ".content.ByteArrayBody" : MIME5 + ".ByteArrayBody");
+                        maybeRemoveImport("java.nio.file.Files");
+                        maybeRemoveImport("org.apache.commons.io.FileUtils");
+                        return template(code, v4, ctx)
+                                .apply(getCursor(), nc.getCoordinates().replace(), parameters.toArray());
+                    }
+
+                    /**
+                     * A {@code ByteArrayBody} is only replaced where any {@code ContentBody} is accepted,
+                     * e.g. {@code addPart(name, body)}.
+                     */
+                    private boolean isContentBodyArgument(J.NewClass nc) {
+                        Object parent = getCursor().getParentTreeCursor().getValue();
+                        if (!(parent instanceof MethodCall) || ((MethodCall) parent).getMethodType() == null) {
+                            return false;
+                        }
+                        MethodCall call = (MethodCall) parent;
+                        int index = call.getArguments().indexOf(nc);
+                        List<JavaType> parameterTypes = requireNonNull(call.getMethodType()).getParameterTypes();
+                        if (index < 0 || index >= parameterTypes.size()) {
+                            return false;
+                        }
+                        JavaType.FullyQualified parameterType = TypeUtils.asFullyQualified(parameterTypes.get(index));
+                        return parameterType != null && parameterType.getClassName().endsWith("ContentBody");
+                    }
+
+                    /**
+                     * Removing the read may leave a {@code catch (IOException e)} without anything throwing it.
+                     */
+                    private boolean catchesIOException() {
+                        for (Cursor c = getCursor(); c != null && !(c.getValue() instanceof J.MethodDeclaration); c = c.getParent()) {
+                            if (c.getValue() instanceof J.Try) {
+                                for (J.Try.Catch catch_ : ((J.Try) c.getValue()).getCatches()) {
+                                    if (TypeUtils.isAssignableTo("java.io.IOException", catch_.getParameter().getType())) {
+                                        return true;
+                                    }
+                                }
+                            }
+                        }
+                        return false;
+                    }
+
+                    private JavaTemplate template(String code, boolean v4, ExecutionContext ctx) {
+                        return JavaTemplate.builder(code)
+                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, v4 ?
+                                        new String[]{"httpmime-4", "httpcore-4"} :
+                                        new String[]{"httpclient5", "httpcore5"}))
+                                .imports(v4 ? MIME4 + ".content.FileBody" : MIME5 + ".FileBody", v4 ? FQN_CONTENT_TYPE4 : FQN_CONTENT_TYPE5)
+                                .build();
+                    }
+                });
+    }
+
+    private static @Nullable FileSource fileSource(Expression bytes) {
+        if (FILES_READ_ALL_BYTES.matches(bytes)) {
+            Expression path = ((J.MethodInvocation) bytes).getArguments().get(0);
+            if (FILE_TO_PATH.matches(path) && ((J.MethodInvocation) path).getSelect() != null) {
+                // Files.readAllBytes(file.toPath())
+                return new FileSource("#{any(java.io.File)}", ((J.MethodInvocation) path).getSelect());
+            }
+            return new FileSource("#{any(java.nio.file.Path)}.toFile()", path);
+        }
+        if (FILE_UTILS_READ.matches(bytes)) {
+            return new FileSource("#{any(java.io.File)}", ((J.MethodInvocation) bytes).getArguments().get(0));
+        }
+        return null;
+    }
+
+    @Value
+    private static class FileSource {
+        String code;
+        Expression argument;
+    }
+}
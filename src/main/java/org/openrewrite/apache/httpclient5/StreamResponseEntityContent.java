@@ -0,0 +1,192 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.httpclient5;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class StreamResponseEntityContent extends Recipe {
+
+    private static final String FQN_ENTITY_UTILS4 = "org.apache.http.util.EntityUtils";
+    private static final String FQN_ENTITY_UTILS5 = "org.apache.hc.core5.http.io.entity.EntityUtils";
+
+    private static final MethodMatcher TO_STRING4 = new MethodMatcher(FQN_ENTITY_UTILS4 + " toString(org.apache.http.HttpEntity, ..)");
+    private static final MethodMatcher TO_BYTE_ARRAY4 = new MethodMatcher(FQN_ENTITY_UTILS4 + " toByteArray(org.apache.http.HttpEntity)");
+    private static final MethodMatcher TO_STRING5 = new MethodMatcher(FQN_ENTITY_UTILS5 + " toString(org.apache.hc.core5.http.HttpEntity, ..)");
+    private static final MethodMatcher TO_BYTE_ARRAY5 = new MethodMatcher(FQN_ENTITY_UTILS5 + " toByteArray(org.apache.hc.core5.http.HttpEntity)");
+
+    private static final MethodMatcher JACKSON_READ = new MethodMatcher("com.fasterxml.jackson.databind.ObjectMapper read*(String, ..)", true);
+    private static final MethodMatcher JACKSON_READ_BYTES = new MethodMatcher("com.fasterxml.jackson.databind.ObjectMapper read*(byte[], ..)", true);
+
+    // Sinks that read the stream to its end or close it, which releases the connection back to the pool
+    private static final MethodMatcher PROPERTIES_LOAD = new MethodMatcher("java.util.Properties load(..)");
+    private static final MethodMatcher JACKSON_READ_STREAM = new MethodMatcher("com.fasterxml.jackson.databind.ObjectMapper read*(java.io.InputStream, ..)", true);
+    private static final MethodMatcher JACKSON_READ_READER = new MethodMatcher("com.fasterxml.jackson.databind.ObjectMapper read*(java.io.Reader, ..)", true);
+    private static final MethodMatcher FILES_COPY = new MethodMatcher("java.nio.file.Files copy(java.io.InputStream, ..)");
+
+    String displayName = "Stream response entity content instead of buffering it";
+
+    String description = "Replaces `EntityUtils.toString(..)` and `EntityUtils.toByteArray(..)` calls whose result is only " +
+            "used to create an in-memory `StringReader` or `ByteArrayInputStream` for a sink that reads it to the end, such as " +
+            "`Properties.load(..)`, `Files.copy(..)` or Jackson's `ObjectMapper`, with the streaming `HttpEntity.getContent()`. " +
+            "This avoids buffering the full response body on the heap, while the connection is still released once the " +
+            "content is consumed. Calls inside a `try` catching the HttpCore 5 `ParseException` are left alone. " +
+            "A `StringReader` becomes an `InputStreamReader` using the charset that was passed to `EntityUtils`; note that " +
+            "`EntityUtils` only applies it when the response does not declare a charset itself.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                Preconditions.or(
+                        new UsesMethod<>(TO_STRING4),
+                        new UsesMethod<>(TO_BYTE_ARRAY4),
+                        new UsesMethod<>(TO_STRING5),
+                        new UsesMethod<>(TO_BYTE_ARRAY5)),
+                new JavaVisitor<ExecutionContext>() {
+
+                    @Override
+                    public J visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
+                        if (isConsumed(newClass) && newClass.getArguments().size() == 1 &&
+                                newClass.getArguments().get(0) instanceof J.MethodInvocation &&
+                                !catchesParseException((J.MethodInvocation) newClass.getArguments().get(0))) {
+                            J.MethodInvocation buffered = (J.MethodInvocation) newClass.getArguments().get(0);
+                            if (TypeUtils.isOfClassType(newClass.getType(), "java.io.ByteArrayInputStream") && isToByteArray(buffered)) {
+                                return getContent(newClass, buffered, ctx);
+                            }
+                            if (TypeUtils.isOfClassType(newClass.getType(), "java.io.StringReader") && isToString(buffered) &&
+                                    buffered.getArguments().size() == 2) {
+                                return inputStreamReader(newClass, buffered, ctx);
+                            }
+                        }
+                        return super.visitNewClass(newClass, ctx);
+                    }
+
+                    @Override
+                    public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J.MethodInvocation m = method;
+                        if (!m.getArguments().isEmpty() && m.getArguments().get(0) instanceof J.MethodInvocation) {
+                            J.MethodInvocation buffered = (J.MethodInvocation) m.getArguments().get(0);
+                            if (((JACKSON_READ.matches(m) && isToString(buffered)) ||
+                                 (JACKSON_READ_BYTES.matches(m) && isToByteArray(buffered))) &&
+                                hasStreamOverload(m) && !catchesParseException(buffered)) {
+                                J content = getContent(buffered, buffered, ctx);
+                                m = m.withArguments(ListUtils.mapFirst(m.getArguments(), a -> (Expression) content));
+                            }
+                        }
+                        return super.visitMethodInvocation(m, ctx);
+                    }
+
+                    /**
+                     * Only hand the live stream to callees known to read it to its end or close it, as an
+                     * unconsumed stream keeps its pooled connection leased.
+                     */
+                    private boolean isConsumed(J.NewClass newClass) {
+                        Object parent = getCursor().getParentTreeCursor().getValue();
+                        if (!(parent instanceof J.MethodInvocation) || ((J.MethodInvocation) parent).getArguments().get(0) != newClass) {
+                            return false;
+                        }
+                        J.MethodInvocation sink = (J.MethodInvocation) parent;
+                        return PROPERTIES_LOAD.matches(sink) || JACKSON_READ_STREAM.matches(sink) ||
+                               JACKSON_READ_READER.matches(sink) || FILES_COPY.matches(sink);
+                    }
+
+                    /**
+                     * {@code readValue(byte[], int, int, ..)} and {@code readTree(byte[], int, int)} have no
+                     * {@code InputStream} counterpart.
+                     */
+                    private boolean hasStreamOverload(J.MethodInvocation m) {
+                        return m.getArguments().size() < 2 || m.getArguments().get(1).getType() != JavaType.Primitive.Int;
+                    }
+
+                    /**
+                     * Streaming no longer throws the HttpCore 5 {@code ParseException} of {@code EntityUtils.toString(..)},
+                     * which may leave a {@code catch (ParseException e)} without anything throwing it.
+                     */
+                    private boolean catchesParseException(J.MethodInvocation buffered) {
+                        if (!TO_STRING5.matches(buffered)) {
+                            return false;
+                        }
+                        for (Cursor c = getCursor(); c != null && !(c.getValue() instanceof J.MethodDeclaration); c = c.getParent()) {
+                            if (c.getValue() instanceof J.Try) {
+                                for (J.Try.Catch catch_ : ((J.Try) c.getValue()).getCatches()) {
+                                    if (TypeUtils.isAssignableTo("org.apache.hc.core5.http.ParseException", catch_.getParameter().getType())) {
+                                        return true;
+                                    }
+                                }
+                            }
+                        }
+                        return false;
+                    }
+
+                    private boolean isToString(J.MethodInvocation mi) {
+                        return TO_STRING4.matches(mi) || TO_STRING5.matches(mi);
+                    }
+
+                    private boolean isToByteArray(J.MethodInvocation mi) {
+                        return TO_BYTE_ARRAY4.matches(mi) || TO_BYTE_ARRAY5.matches(mi);
+                    }
+
+                    private J getContent(J replaced, J.MethodInvocation buffered, ExecutionContext ctx) {
+                        boolean v4 = TO_STRING4.matches(buffered) || TO_BYTE_ARRAY4.matches(buffered);
+                        removeEntityUtilsImport();
+                        maybeRemoveImport("java.io.ByteArrayInputStream");
+                        return JavaTemplate.builder(v4 ?
+                                        "#{any(org.apache.http.HttpEntity)}.getContent()" :
+                                        "#{any(org.apache.hc.core5.http.HttpEntity)}.getContent()")
+                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, v4 ? "httpcore-4" : "httpcore5"))
+                                .build()
+                                .apply(new Cursor(getCursor(), replaced), replaced.getCoordinates().replace(),
+                                        buffered.getArguments().get(0));
+                    }
+
+                    private J inputStreamReader(J.NewClass replaced, J.MethodInvocation buffered, ExecutionContext ctx) {
+                        boolean v4 = TO_STRING4.matches(buffered);
+                        String charset = TypeUtils.isString(buffered.getArguments().get(1).getType()) ?
+                                "#{any(String)}" : "#{any(java.nio.charset.Charset)}";
+                        removeEntityUtilsImport();
+                        maybeRemoveImport("java.io.StringReader");
+                        maybeAddImport("java.io.InputStreamReader");
+                        return JavaTemplate.builder("new InputStreamReader(" +
+                                        (v4 ? "#{any(org.apache.http.HttpEntity)}" : "#{any(org.apache.hc.core5.http.HttpEntity)}") +
+                                        ".getContent(), " + charset + ")")
+                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, v4 ? "httpcore-4" : "httpcore5"))
+                                .imports("java.io.InputStreamReader")
+                                .build()
+                                .apply(getCursor(), replaced.getCoordinates().replace(),
+                                        buffered.getArguments().get(0), buffered.getArguments().get(1));
+                    }
+
+                    private void removeEntityUtilsImport() {
+                        maybeRemoveImport(FQN_ENTITY_UTILS4);
+                        maybeRemoveImport(FQN_ENTITY_UTILS5);
+                    }
+                }
+        );
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.httpclient5;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.apache.table.BlockingAsyncExecutions;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class UseCompletableFutureForAsyncExecute extends Recipe {
+
+    private static final String FQN_FUTURE_CALLBACK4 = "org.apache.http.concurrent.FutureCallback";
+    private static final String FQN_COMPLETABLE_FUTURE = "java.util.concurrent.CompletableFuture";
+
+    private static final MethodMatcher EXECUTE4 = new MethodMatcher("org.apache.http.nio.client.HttpAsyncClient execute(..)", true);
+    private static final MethodMatcher EXECUTE5 = new MethodMatcher("org.apache.hc.client5.http.async.HttpAsyncClient execute(..)", true);
+    private static final MethodMatcher EXECUTE5_CLOSEABLE = new MethodMatcher("org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient execute(..)", true);
+    private static final MethodMatcher FUTURE_GET = new MethodMatcher("java.util.concurrent.Future get(..)", true);
+    private static final MethodMatcher COMPLETED_FUTURE = new MethodMatcher(FQN_COMPLETABLE_FUTURE + " completedFuture(..)");
+    private static final String CONVERTIBLE_RETURN = "CONVERTIBLE_RETURN";
+    private static final List<String> GET_EXCEPTIONS = Arrays.asList(
+            "java.lang.InterruptedException", "java.util.concurrent.ExecutionException");
+
+    transient BlockingAsyncExecutions blockingAsyncExecutions = new BlockingAsyncExecutions(this);
+
+    String displayName = "Use a `CompletableFuture` instead of blocking on async `execute(..)`";
+
+    String description = "Finds `get()` called right away on the `Future` returned by Apache HttpClient 4.x and 5.x " +
+            "async `execute(..)`, which blocks a thread per request and defeats the I/O reactor. Where the result is " +
+            "returned as `CompletableFuture.completedFuture(..)`, the call passes a `FutureCallback` completing a " +
+            "`CompletableFuture` that is returned instead. The remaining sites are reported in a data table.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                Preconditions.or(new UsesMethod<>(EXECUTE4), new UsesMethod<>(EXECUTE5), new UsesMethod<>(EXECUTE5_CLOSEABLE)),
+                new JavaVisitor<ExecutionContext>() {
+
+                    @Override
+                    public J visitReturn(J.Return return_, ExecutionContext ctx) {
+                        if (!(return_.getExpression() instanceof J.MethodInvocation) ||
+                                !COMPLETED_FUTURE.matches(return_.getExpression()) ||
+                                !(getCursor().getParentTreeCursor().getValue() instanceof J.Block)) {
+                            return super.visitReturn(return_, ctx);
+                        }
+                        J.MethodInvocation completedFuture = (J.MethodInvocation) return_.getExpression();
+                        J.MethodInvocation get = blockingGet(completedFuture.getArguments().get(0));
+                        if (get == null || !get.getArguments().isEmpty() && !(get.getArguments().get(0) instanceof J.Empty)) {
+                            return super.visitReturn(return_, ctx);
+                        }
+                        J.MethodInvocation execute = (J.MethodInvocation) unwrap(get.getSelect());
+                        List<Expression> arguments = execute.getArguments();
+                        JavaType.Method executeType = execute.getMethodType();
+                        JavaType result = get.getMethodType() == null ? null : get.getMethodType().getReturnType();
+                        if (execute.getSelect() == null || executeType == null ||
+                                !J.Literal.isLiteralValue(arguments.get(arguments.size() - 1), null) ||
+                                !(result instanceof JavaType.Class) || result instanceof JavaType.Parameterized ||
+                                catchesGetExceptions()) {
+                            return super.visitReturn(return_, ctx);
+                        }
+
+                        // Multiple statements replace the return, so the template is applied from the enclosing block
+                        getCursor().putMessageOnFirstEnclosing(J.Block.class, CONVERTIBLE_RETURN, return_);
+                        return return_;
+                    }
+
+                    @Override
+                    public J visitBlock(J.Block block, ExecutionContext ctx) {
+                        J.Block b = (J.Block) super.visitBlock(block, ctx);
+                        J.Return return_ = getCursor().pollMessage(CONVERTIBLE_RETURN);
+                        if (return_ == null) {
+                            return b;
+                        }
+                        J.MethodInvocation get = requireNonNull(blockingGet(((J.MethodInvocation) requireNonNull(return_.getExpression())).getArguments().get(0)));
+                        J.MethodInvocation execute = (J.MethodInvocation) requireNonNull(unwrap(get.getSelect()));
+                        List<Expression> arguments = execute.getArguments();
+                        JavaType.Method executeType = requireNonNull(execute.getMethodType());
+                        JavaType result = requireNonNull(get.getMethodType()).getReturnType();
+                        String callback = ((JavaType.FullyQualified) executeType.getParameterTypes()
+                                .get(executeType.getParameterTypes().size() - 1)).getFullyQualifiedName();
+                        String resultType = ((JavaType.Class) result).getFullyQualifiedName();
+                        String resultName = ((JavaType.Class) result).getClassName();
+                        String future = futureName();
+                        List<Object> parameters = new ArrayList<>();
+                        parameters.add(execute.getSelect());
+                        StringBuilder executeArguments = new StringBuilder();
+                        for (int i = 0; i < arguments.size() - 1; i++) {
+                            JavaType.FullyQualified parameterType = TypeUtils.asFullyQualified(executeType.getParameterTypes().get(i));
+                            executeArguments.append(parameterType == null ? "#{any()}, " : "#{any(" + parameterType.getFullyQualifiedName() + ")}, ");
+                            parameters.add(arguments.get(i));
+                        }
+                        maybeAddImport(FQN_COMPLETABLE_FUTURE);
+                        maybeAddImport(callback);
+                        maybeAddImport(resultType);
+                        return JavaTemplate.builder(
+                                        "CompletableFuture<" + resultName + "> " + future + " = new CompletableFuture<>();\n" +
+                                        "#{any(" + executeType.getDeclaringType().getFullyQualifiedName() + ")}.execute(" + executeArguments + "new FutureCallback<" + resultName + ">() {\n" +
+                                        "    @Override\n" +
+                                        "    public void completed(" + resultName + " result) {\n" +
+                                        "        " + future + ".complete(result);\n" +
+                                        "    }\n" +
+                                        "\n" +
+                                        "    @Override\n" +
+                                        "    public void failed(Exception ex) {\n" +
+                                        "        " + future + ".completeExceptionally(ex);\n" +
+                                        "    }\n" +
+                                        "\n" +
+                                        "    @Override\n" +
+                                        "    public void cancelled() {\n" +
+                                        "        " + future + ".cancel(false);\n" +
+                                        "    }\n" +
+                                        "});\n" +
+                                        "return " + future + ";")
+                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, FQN_FUTURE_CALLBACK4.equals(callback) ?
+                                        new String[]{"httpasyncclient-4", "httpcore-nio-4", "httpclient-4", "httpcore-4"} :
+                                        new String[]{"httpclient5", "httpcore5"}))
+                                .imports(FQN_COMPLETABLE_FUTURE, callback, resultType)
+                                .build()
+                                .apply(updateCursor(b), return_.getCoordinates().replace(), parameters.toArray());
+                    }
+
+                    @Override
+                    public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J.MethodInvocation m = (J.MethodInvocation) super.visitMethodInvocation(method, ctx);
+                        if (blockingGet(m) != null) {
+                            J.MethodDeclaration md = getCursor().firstEnclosing(J.MethodDeclaration.class);
+                            blockingAsyncExecutions.insertRow(ctx, new BlockingAsyncExecutions.Row(
+                                    getCursor().firstEnclosingOrThrow(SourceFile.class).getSourcePath().toString(),
+                                    md == null ? "" : md.getSimpleName(),
+                                    m.printTrimmed(getCursor()),
+                                    reason(m)));
+                        }
+                        return m;
+                    }
+
+                    private String reason(J.MethodInvocation get) {
+                        Object parent = getCursor().getParentTreeCursor().getValue();
+                        if (parent instanceof J.MethodInvocation && COMPLETED_FUTURE.matches((J.MethodInvocation) parent)) {
+                            if (catchesGetExceptions()) {
+                                return "An enclosing try catches the exceptions of get()";
+                            }
+                            return !get.getArguments().isEmpty() && !(get.getArguments().get(0) instanceof J.Empty) ?
+                                    "Waits with a timeout" : "The callback argument or result type is not supported";
+                        }
+                        return "Enclosing code does not return a future";
+                    }
+
+                    /**
+                     * Removing {@code get()} removes the only source of its checked exceptions, which would leave
+                     * an enclosing {@code catch} of one of them without anything throwing it.
+                     */
+                    private boolean catchesGetExceptions() {
+                        for (Cursor c = getCursor(); c != null && !(c.getValue() instanceof J.MethodDeclaration); c = c.getParent()) {
+                            if (c.getValue() instanceof J.Try) {
+                                for (J.Try.Catch catch_ : ((J.Try) c.getValue()).getCatches()) {
+                                    JavaType caught = catch_.getParameter().getType();
+                                    List<JavaType> alternatives = caught instanceof JavaType.MultiCatch ?
+                                            ((JavaType.MultiCatch) caught).getThrowableTypes() : Collections.singletonList(caught);
+                                    for (JavaType alternative : alternatives) {
+                                        for (String exception : GET_EXCEPTIONS) {
+                                            if (TypeUtils.isAssignableTo(exception, alternative)) {
+                                                return true;
+                                            }
+                                        }
+                                    }
+                                }
+                            }
+                        }
+                        return false;
+                    }
+
+                    private String futureName() {
+                        J.MethodDeclaration md = getCursor().firstEnclosing(J.MethodDeclaration.class);
+                        String name = "future";
+                        if (md != null) {
+                            String source = md.printTrimmed(getCursor());
+                            for (int i = 2; source.matches("(?s).*\\b" + name + "\\b.*"); i++) {
+                                name = "future" + i;
+                            }
+                        }
+                        return name;
+                    }
+                });
+    }
+
+    private static J.@Nullable MethodInvocation blockingGet(Expression expression) {
+        if (!(expression instanceof J.MethodInvocation) || !FUTURE_GET.matches(expression)) {
+            return null;
+        }
+        Expression select = unwrap(((J.MethodInvocation) expression).getSelect());
+        if (select instanceof J.MethodInvocation && (EXECUTE4.matches(select) || EXECUTE5.matches(select) ||
+                EXECUTE5_CLOSEABLE.matches(select))) {
+            return (J.MethodInvocation) expression;
+        }
+        return null;
+    }
+
+    private static @Nullable Expression unwrap(@Nullable Expression expression) {
+        while (expression instanceof J.Parentheses) {
+            expression = (Expression) ((J.Parentheses<?>) expression).getTree();
+        }
+        return expression;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.httpclient5;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.marker.SearchResult;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class UseHttp2AsyncClient extends Recipe {
+
+    private static final String FQN_HTTP_ASYNC_CLIENTS = "org.apache.hc.client5.http.impl.async.HttpAsyncClients";
+    private static final String FQN_HTTP_ASYNC_CLIENT_BUILDER = "org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder";
+
+    private static final MethodMatcher CUSTOM = new MethodMatcher(FQN_HTTP_ASYNC_CLIENTS + " custom()");
+    private static final MethodMatcher CREATE_DEFAULT = new MethodMatcher(FQN_HTTP_ASYNC_CLIENTS + " createDefault()");
+    private static final MethodMatcher CREATE_SYSTEM = new MethodMatcher(FQN_HTTP_ASYNC_CLIENTS + " createSystem()");
+    private static final MethodMatcher BUILD = new MethodMatcher(FQN_HTTP_ASYNC_CLIENT_BUILDER + " build()");
+
+    /**
+     * Builder methods of {@code HttpAsyncClientBuilder} that {@code H2AsyncClientBuilder} offers with the same signature.
+     */
+    private static final Set<String> H2_BUILDER_METHODS = new HashSet<>(Arrays.asList(
+            "addExecInterceptorAfter", "addExecInterceptorBefore", "addExecInterceptorFirst", "addExecInterceptorLast",
+            "addRequestInterceptorFirst", "addRequestInterceptorLast", "addResponseInterceptorFirst",
+            "addResponseInterceptorLast", "build", "disableAuthCaching", "disableAutomaticRetries",
+            "disableCookieManagement", "disableRedirectHandling", "disableRequestPriority", "evictIdleConnections",
+            "replaceExecInterceptor", "setCharCodingConfig", "setDefaultAuthSchemeRegistry", "setDefaultCookieSpecRegistry",
+            "setDefaultCookieStore", "setDefaultCredentialsProvider", "setDefaultHeaders", "setDefaultRequestConfig",
+            "setH2Config", "setIOReactorConfig", "setIOSessionListener", "setIoReactorExceptionCallback",
+            "setIoSessionDecorator", "setProxyAuthenticationStrategy", "setRedirectStrategy", "setRetryStrategy",
+            "setRoutePlanner", "setSchemePortResolver", "setTargetAuthenticationStrategy", "setThreadFactory",
+            "setUserAgent", "useSystemProperties"));
+
+    @Option(displayName = "Target hosts",
+            description = "Only source files containing a URI string literal for one of these hosts are changed.",
+            example = "gateway.internal.example.com")
+    List<String> targetHosts;
+
+    String displayName = "Use HTTP/2 for `HttpAsyncClients`";
+
+    String description = "Switches async clients created through `HttpAsyncClients.custom()`, `createDefault()` and " +
+            "`createSystem()` to the HTTP/2 only clients of `HttpAsyncClients.customHttp2()`, `createHttp2Default()` and " +
+            "`createHttp2System()`. With HTTP/2 many concurrent requests share one multiplexed connection per host instead " +
+            "of leasing a connection each. Builder chains using settings that `H2AsyncClientBuilder` does not support are " +
+            "left unchanged. The default `HttpAsyncClientBuilder` already negotiates HTTP/2 through ALPN over TLS, so " +
+            "only source files referencing one of the target hosts, which must be known to speak HTTP/2, are changed.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        TreeVisitor<?, ExecutionContext> precondition = Preconditions.and(
+                Preconditions.or(new UsesMethod<>(CUSTOM), new UsesMethod<>(CREATE_DEFAULT), new UsesMethod<>(CREATE_SYSTEM)),
+                new ReferencesTargetHost(targetHosts));
+        return Preconditions.check(precondition, new JavaVisitor<ExecutionContext>() {
+
+            @Override
+            public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation mi = (J.MethodInvocation) super.visitMethodInvocation(method, ctx);
+                if (CREATE_DEFAULT.matches(mi) || CREATE_SYSTEM.matches(mi)) {
+                    return template(CREATE_SYSTEM.matches(mi) ? "HttpAsyncClients.createHttp2System()" : "HttpAsyncClients.createHttp2Default()", ctx)
+                            .apply(getCursor(), mi.getCoordinates().replace());
+                }
+                if (BUILD.matches(mi) && mi.getSelect() instanceof J.MethodInvocation) {
+                    List<J.MethodInvocation> chain = builderChain(mi);
+                    if (chain.isEmpty()) {
+                        return mi;
+                    }
+                    for (J.MethodInvocation link : chain) {
+                        if (!CUSTOM.matches(link) && !H2_BUILDER_METHODS.contains(link.getSimpleName())) {
+                            return mi;
+                        }
+                    }
+                    J.MethodInvocation custom = chain.get(chain.size() - 1);
+                    J.MethodInvocation customHttp2 = template("HttpAsyncClients.customHttp2()", ctx)
+                            .apply(new Cursor(getCursor(), custom), custom.getCoordinates().replace());
+                    return rebuildChain(mi, customHttp2, TypeUtils.asFullyQualified(customHttp2.getType()));
+                }
+                return mi;
+            }
+
+            /**
+             * The builder calls from {@code build()} down to {@code HttpAsyncClients.custom()}, or an empty list
+             * when the builder is not created inline.
+             */
+            private List<J.MethodInvocation> builderChain(J.MethodInvocation build) {
+                List<J.MethodInvocation> chain = new ArrayList<>();
+                J.MethodInvocation link = build;
+                while (true) {
+                    chain.add(link);
+                    if (CUSTOM.matches(link)) {
+                        return chain;
+                    }
+                    if (!(link.getSelect() instanceof J.MethodInvocation)) {
+                        return Collections.emptyList();
+                    }
+                    link = (J.MethodInvocation) link.getSelect();
+                }
+            }
+
+            private J.MethodInvocation rebuildChain(J.MethodInvocation link, J.MethodInvocation replacement,
+                                                    JavaType.@Nullable FullyQualified builderType) {
+                if (CUSTOM.matches(link)) {
+                    return replacement.withPrefix(link.getPrefix());
+                }
+                J.MethodInvocation rebuilt = link.withSelect(rebuildChain((J.MethodInvocation) link.getSelect(), replacement, builderType));
+                JavaType.Method methodType = rebuilt.getMethodType();
+                if (builderType != null && methodType != null) {
+                    boolean returnsBuilder = TypeUtils.isOfClassType(methodType.getReturnType(), FQN_HTTP_ASYNC_CLIENT_BUILDER);
+                    methodType = methodType.withDeclaringType(builderType)
+                            .withReturnType(returnsBuilder ? builderType : methodType.getReturnType());
+                    rebuilt = rebuilt.withMethodType(methodType).withName(rebuilt.getName().withType(methodType));
+                }
+                return rebuilt;
+            }
+
+            private JavaTemplate template(String code, ExecutionContext ctx) {
+                return JavaTemplate.builder(code)
+                        .javaParser(JavaParser.fromJavaVersion()
+                                .classpathFromResources(ctx, "httpclient5", "httpcore5"))
+                        .imports(FQN_HTTP_ASYNC_CLIENTS)
+                        .build();
+            }
+        });
+    }
+
+    @Value
+    @EqualsAndHashCode(callSuper = false)
+    private static class ReferencesTargetHost extends JavaIsoVisitor<ExecutionContext> {
+        List<String> hosts;
+
+        @Override
+        public J.Literal visitLiteral(J.Literal literal, ExecutionContext ctx) {
+            if (literal.getValue() instanceof String) {
+                for (String host : hosts) {
+                    if (Pattern.compile("://" + Pattern.quote(host) + "([:/?#]|$)", Pattern.CASE_INSENSITIVE)
+                            .matcher((String) literal.getValue()).find()) {
+                        return SearchResult.found(literal);
+                    }
+                }
+            }
+            return literal;
+        }
+    }
+}
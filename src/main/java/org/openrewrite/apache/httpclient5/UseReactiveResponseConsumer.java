@@ -0,0 +1,334 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.httpclient5;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.*;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class UseReactiveResponseConsumer extends Recipe {
+
+    private static final String FQN_SIMPLE_RESPONSE = "org.apache.hc.client5.http.async.methods.SimpleHttpResponse";
+    private static final String FQN_REACTIVE_CONSUMER = "org.apache.hc.core5.reactive.ReactiveResponseConsumer";
+    private static final String FQN_MESSAGE = "org.apache.hc.core5.http.Message";
+    private static final String FQN_HTTP_RESPONSE = "org.apache.hc.core5.http.HttpResponse";
+    private static final String FQN_PUBLISHER = "org.reactivestreams.Publisher";
+
+    private static final MethodMatcher EXECUTE = new MethodMatcher("org.apache.hc.client5.http.async.HttpAsyncClient execute(..)", true);
+    private static final MethodMatcher SIMPLE_CONSUMER = new MethodMatcher("org.apache.hc.client5.http.async.methods.SimpleResponseConsumer create()");
+    private static final MethodMatcher FUTURE_GET = new MethodMatcher("java.util.concurrent.Future get()", true);
+    private static final MethodMatcher BYTE_BUFFER_WRAP = new MethodMatcher("java.nio.ByteBuffer wrap(byte[])");
+
+    /**
+     * Reactive types wrapping a buffered body, with the factory that adapts a {@code Publisher} instead.
+     */
+    private static final Map<String, String> PUBLISHER_FACTORIES = new HashMap<>();
+
+    static {
+        PUBLISHER_FACTORIES.put("reactor.core.publisher.Flux", "from");
+        PUBLISHER_FACTORIES.put("io.reactivex.Flowable", "fromPublisher");
+        PUBLISHER_FACTORIES.put("io.reactivex.rxjava3.core.Flowable", "fromPublisher");
+    }
+
+    private static final Set<String> HEAD_METHODS = new HashSet<>(Arrays.asList(
+            "getCode", "getReasonPhrase", "getVersion", "getLocale", "getHeaders", "getHeader", "getFirstHeader",
+            "getLastHeader", "containsHeader", "countHeaders", "headerIterator"));
+
+    // httpcore5-reactive and reactive-streams are not part of the bundled type table
+    private static final String[] STUBS = {
+            "package org.reactivestreams;\n" +
+            "public interface Publisher<T> {}",
+            "package org.apache.hc.core5.reactive;\n" +
+            "import java.nio.ByteBuffer;\n" +
+            "import java.util.concurrent.Future;\n" +
+            "import org.apache.hc.core5.http.HttpResponse;\n" +
+            "import org.apache.hc.core5.http.Message;\n" +
+            "import org.apache.hc.core5.http.nio.AsyncResponseConsumer;\n" +
+            "import org.reactivestreams.Publisher;\n" +
+            "public class ReactiveResponseConsumer implements AsyncResponseConsumer<Void> {\n" +
+            "    public Future<Message<HttpResponse, Publisher<ByteBuffer>>> getResponseFuture() { return null; }\n" +
+            "}"
+    };
+
+    String displayName = "Stream async response bodies with `ReactiveResponseConsumer`";
+
+    String description = "Replaces `SimpleResponseConsumer` with the `httpcore5-reactive` `ReactiveResponseConsumer` " +
+            "where a buffered `SimpleHttpResponse` body is only wrapped into a Reactor `Flux` or RxJava `Flowable` " +
+            "with `just(ByteBuffer.wrap(response.getBodyBytes()))`. The body becomes a `Publisher<ByteBuffer>` with " +
+            "back-pressure that the reactive pipeline subscribes to, instead of a byte array holding the whole " +
+            "download. Header and status accessors move to the response head. Only responses whose publisher is " +
+            "returned without any earlier statement throwing or returning are changed, as their body would " +
+            "otherwise never be subscribed to and keep the connection leased.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                Preconditions.and(new UsesMethod<>(EXECUTE), new UsesMethod<>(SIMPLE_CONSUMER)),
+                new JavaVisitor<ExecutionContext>() {
+
+                    @Override
+                    public J visitBlock(J.Block block, ExecutionContext ctx) {
+                        J.Block b = (J.Block) super.visitBlock(block, ctx);
+                        for (int i = 0; i < b.getStatements().size(); i++) {
+                            Statement statement = b.getStatements().get(i);
+                            if (statement instanceof J.VariableDeclarations) {
+                                J.Block streamed = stream(b, (J.VariableDeclarations) statement, i, ctx);
+                                if (streamed != null) {
+                                    b = streamed;
+                                }
+                            }
+                        }
+                        return b;
+                    }
+
+                    private J.@Nullable Block stream(J.Block block, J.VariableDeclarations declaration, int index, ExecutionContext ctx) {
+                        if (declaration.getVariables().size() != 1 ||
+                                !TypeUtils.isOfClassType(declaration.getType(), FQN_SIMPLE_RESPONSE)) {
+                            return null;
+                        }
+                        J.VariableDeclarations.NamedVariable response = declaration.getVariables().get(0);
+                        J.MethodInvocation execute = bufferedExecute(response.getInitializer());
+                        if (execute == null) {
+                            return null;
+                        }
+                        List<Statement> later = block.getStatements().subList(index + 1, block.getStatements().size());
+                        if (!onlyStreamsBody(later, response.getSimpleName())) {
+                            return null;
+                        }
+
+                        String name = response.getSimpleName();
+                        String consumer = name + "Consumer";
+                        List<Object> parameters = new ArrayList<>();
+                        StringBuilder arguments = new StringBuilder();
+                        for (int i = 0; i < execute.getArguments().size(); i++) {
+                            if (i > 0) {
+                                arguments.append(", ");
+                            }
+                            if (i == 1) {
+                                arguments.append(consumer);
+                            } else if (i == execute.getArguments().size() - 1) {
+                                arguments.append("null");
+                            } else {
+                                arguments.append("#{any()}");
+                                parameters.add(execute.getArguments().get(i));
+                            }
+                        }
+                        parameters.add(0, execute.getSelect());
+                        maybeAddImport(FQN_REACTIVE_CONSUMER);
+                        maybeAddImport(FQN_MESSAGE);
+                        maybeAddImport(FQN_HTTP_RESPONSE);
+                        maybeAddImport(FQN_PUBLISHER);
+                        maybeAddImport("java.nio.ByteBuffer");
+                        maybeRemoveImport(FQN_SIMPLE_RESPONSE);
+                        maybeRemoveImport("org.apache.hc.client5.http.async.methods.SimpleResponseConsumer");
+                        J.Block streamed = JavaTemplate.builder(
+                                        "ReactiveResponseConsumer " + consumer + " = new ReactiveResponseConsumer();\n" +
+                                        "#{any(org.apache.hc.client5.http.async.HttpAsyncClient)}.execute(" + arguments + ");\n" +
+                                        "Message<HttpResponse, Publisher<ByteBuffer>> " + name + " = " + consumer + ".getResponseFuture().get();")
+                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "httpclient5", "httpcore5")
+                                        .dependsOn(STUBS))
+                                .imports(FQN_REACTIVE_CONSUMER, FQN_MESSAGE, FQN_HTTP_RESPONSE, FQN_PUBLISHER, "java.nio.ByteBuffer")
+                                .build()
+                                .apply(new Cursor(getCursor().getParentOrThrow(), block), declaration.getCoordinates().replace(), parameters.toArray());
+
+                        Cursor blockCursor = new Cursor(getCursor().getParentOrThrow(), streamed);
+                        JavaVisitor<ExecutionContext> useStream = new UseResponseStream(name);
+                        int first = index + 3;
+                        return streamed.withStatements(ListUtils.map(streamed.getStatements(), (i, s) ->
+                                i < first ? s : (Statement) useStream.visitNonNull(s, ctx, blockCursor)));
+                    }
+                });
+    }
+
+    private static J.@Nullable MethodInvocation bufferedExecute(@Nullable Expression initializer) {
+        if (!(initializer instanceof J.MethodInvocation) || !FUTURE_GET.matches(initializer)) {
+            return null;
+        }
+        Expression select = ((J.MethodInvocation) initializer).getSelect();
+        if (!(select instanceof J.MethodInvocation) || !EXECUTE.matches(select)) {
+            return null;
+        }
+        J.MethodInvocation execute = (J.MethodInvocation) select;
+        List<Expression> arguments = execute.getArguments();
+        return execute.getSelect() != null && arguments.size() >= 3 && SIMPLE_CONSUMER.matches(arguments.get(1)) &&
+                J.Literal.isLiteralValue(arguments.get(arguments.size() - 1), null) ? execute : null;
+    }
+
+    /**
+     * @return true if the response is only used for its head, and its body only to create the publisher that is
+     * returned, without any earlier statement leaving the block and so never subscribing to the body
+     */
+    private static boolean onlyStreamsBody(List<Statement> statements, String response) {
+        AtomicBoolean other = new AtomicBoolean();
+        AtomicBoolean streamed = new AtomicBoolean();
+        AtomicBoolean exits = new AtomicBoolean();
+        JavaIsoVisitor<Integer> usages = new JavaIsoVisitor<Integer>() {
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, Integer p) {
+                if (!response.equals(identifier.getSimpleName()) || identifier.getFieldType() == null) {
+                    return identifier;
+                }
+                Object parent = getCursor().getParentTreeCursor().getValue();
+                if (parent instanceof J.MethodInvocation && ((J.MethodInvocation) parent).getSelect() == identifier) {
+                    J.MethodInvocation m = (J.MethodInvocation) parent;
+                    if (HEAD_METHODS.contains(m.getSimpleName())) {
+                        return identifier;
+                    }
+                    if ("getBodyBytes".equals(m.getSimpleName()) && publisherFactory(getCursor().getParentTreeCursor()) != null &&
+                            isReturned(getCursor().getParentTreeCursor())) {
+                        streamed.set(true);
+                        return identifier;
+                    }
+                }
+                other.set(true);
+                return identifier;
+            }
+
+            @Override
+            public J.Return visitReturn(J.Return return_, Integer p) {
+                exits.set(true);
+                return super.visitReturn(return_, p);
+            }
+
+            @Override
+            public J.Throw visitThrow(J.Throw thrown, Integer p) {
+                exits.set(true);
+                return super.visitThrow(thrown, p);
+            }
+
+            @Override
+            public J.Break visitBreak(J.Break breakStatement, Integer p) {
+                exits.set(true);
+                return breakStatement;
+            }
+
+            @Override
+            public J.Continue visitContinue(J.Continue continueStatement, Integer p) {
+                exits.set(true);
+                return continueStatement;
+            }
+        };
+        for (Statement statement : statements) {
+            usages.visit(statement, 0);
+            if (other.get()) {
+                return false;
+            }
+            if (streamed.get()) {
+                return true;
+            }
+            if (exits.get()) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param getBodyBytes cursor pointing to {@code response.getBodyBytes()}
+     * @return true if the publisher wrapping the body is unconditionally returned by the statement
+     */
+    private static boolean isReturned(Cursor getBodyBytes) {
+        for (Cursor c = getBodyBytes.getParentTreeCursor(); c.getValue() instanceof J; c = c.getParentTreeCursor()) {
+            Object value = c.getValue();
+            if (value instanceof J.Return) {
+                // a return nested in another statement may not be reached
+                return !(c.getParentTreeCursor().getValue() instanceof J);
+            }
+            if (!(value instanceof J.MethodInvocation || value instanceof J.Parentheses || value instanceof J.TypeCast)) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param getBodyBytes cursor pointing to {@code response.getBodyBytes()}
+     * @return the {@code just(..)} invocation wrapping the body into a publisher, if any
+     */
+    private static J.@Nullable MethodInvocation publisherFactory(Cursor getBodyBytes) {
+        Cursor wrap = getBodyBytes.getParentTreeCursor();
+        if (!(wrap.getValue() instanceof J.MethodInvocation) || !BYTE_BUFFER_WRAP.matches((J.MethodInvocation) wrap.getValue())) {
+            return null;
+        }
+        Object just = wrap.getParentTreeCursor().getValue();
+        if (just instanceof J.MethodInvocation && "just".equals(((J.MethodInvocation) just).getSimpleName()) &&
+                ((J.MethodInvocation) just).getArguments().size() == 1 &&
+                ((J.MethodInvocation) just).getMethodType() != null &&
+                PUBLISHER_FACTORIES.containsKey(((J.MethodInvocation) just).getMethodType().getDeclaringType().getFullyQualifiedName())) {
+            return (J.MethodInvocation) just;
+        }
+        return null;
+    }
+
+    private static class UseResponseStream extends JavaVisitor<ExecutionContext> {
+        private final String response;
+
+        UseResponseStream(String response) {
+            this.response = response;
+        }
+
+        @Override
+        public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+            if ("just".equals(method.getSimpleName()) && method.getMethodType() != null &&
+                    PUBLISHER_FACTORIES.containsKey(method.getMethodType().getDeclaringType().getFullyQualifiedName()) &&
+                    method.getArguments().get(0) instanceof J.MethodInvocation &&
+                    BYTE_BUFFER_WRAP.matches(method.getArguments().get(0)) &&
+                    isResponseCall(((J.MethodInvocation) method.getArguments().get(0)).getArguments().get(0), "getBodyBytes")) {
+                String factory = PUBLISHER_FACTORIES.get(method.getMethodType().getDeclaringType().getFullyQualifiedName());
+                J.MethodInvocation getBodyBytes = (J.MethodInvocation) ((J.MethodInvocation) method.getArguments().get(0)).getArguments().get(0);
+                Expression body = JavaTemplate.builder("#{any(" + FQN_MESSAGE + ")}.getBody()")
+                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "httpclient5", "httpcore5"))
+                        .build()
+                        .apply(new Cursor(getCursor(), getBodyBytes), getBodyBytes.getCoordinates().replace(), getBodyBytes.getSelect());
+                JavaType.Method type = method.getMethodType().withName(factory);
+                return method
+                        .withName(method.getName().withSimpleName(factory).withType(type))
+                        .withMethodType(type)
+                        .withArguments(Collections.singletonList(body.withPrefix(method.getArguments().get(0).getPrefix())));
+            }
+            J.MethodInvocation m = (J.MethodInvocation) super.visitMethodInvocation(method, ctx);
+            if (HEAD_METHODS.contains(m.getSimpleName()) && isResponseCall(m, m.getSimpleName()) && m.getSelect() != null) {
+                Expression select = m.getSelect();
+                return m.withSelect(JavaTemplate.builder("#{any(" + FQN_MESSAGE + ")}.getHead()")
+                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "httpclient5", "httpcore5"))
+                        .build()
+                        .apply(new Cursor(getCursor(), select), select.getCoordinates().replace(), select));
+            }
+            return m;
+        }
+
+        private boolean isResponseCall(Expression expression, String name) {
+            return expression instanceof J.MethodInvocation &&
+                    name.equals(((J.MethodInvocation) expression).getSimpleName()) &&
+                    ((J.MethodInvocation) expression).getSelect() instanceof J.Identifier &&
+                    response.equals(((J.Identifier) ((J.MethodInvocation) expression).getSelect()).getSimpleName());
+        }
+    }
+}
@@ -0,0 +1,509 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.httpclient5;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Collections.singletonList;
+import static java.util.Objects.requireNonNull;
+import static org.openrewrite.Tree.randomId;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class UseResponseHandlerForExecute extends Recipe {
+
+    private static final String FQN_CLIENT = "org.apache.hc.client5.http.impl.classic.CloseableHttpClient";
+    private static final String FQN_RESPONSE = "org.apache.hc.client5.http.impl.classic.CloseableHttpResponse";
+    private static final MethodMatcher EXECUTE = new MethodMatcher(FQN_CLIENT + " execute(..)", true);
+
+    /**
+     * Exceptions that may escape from {@code HttpClientResponseHandler#handleResponse}.
+     */
+    private static final List<String> HANDLER_EXCEPTIONS = Arrays.asList(
+            "java.io.IOException",
+            "org.apache.hc.core5.http.HttpException",
+            "java.lang.RuntimeException",
+            "java.lang.Error");
+
+    private static final String KEY_EXECUTE = "execute";
+    private static final String KEY_HANDLER_EXECUTE = "handlerExecute";
+
+    String displayName = "Use `HttpClientResponseHandler` instead of closing `CloseableHttpResponse` manually";
+
+    String description = "Rewrites `CloseableHttpResponse response = client.execute(request)` sites that are closed through " +
+            "try-with-resources or a `finally` block into `client.execute(request, response -> ...)`. The response handler " +
+            "overload always releases the connection back to the pool, including when the handler throws. Sites where the " +
+            "response escapes, control flow leaves the block early, or the handler could not compile as a lambda are left unchanged.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(new UsesMethod<>(EXECUTE), new JavaVisitor<ExecutionContext>() {
+
+            @Override
+            public J visitBlock(J.Block block, ExecutionContext ctx) {
+                // Normalize `response = execute(..); try { .. } finally { response.close(); }` into try-with-resources
+                J.Block b = block.withStatements(closeInFinallyToTryWithResources(block.getStatements()));
+                return super.visitBlock(b, ctx);
+            }
+
+            private List<Statement> closeInFinallyToTryWithResources(List<Statement> statements) {
+                List<Statement> result = new ArrayList<>(statements.size());
+                boolean changed = false;
+                for (int i = 0; i < statements.size(); i++) {
+                    Statement statement = statements.get(i);
+                    if (i + 1 < statements.size() &&
+                        statement instanceof J.VariableDeclarations &&
+                        statements.get(i + 1) instanceof J.Try) {
+                        J.VariableDeclarations vd = (J.VariableDeclarations) statement;
+                        J.Try t = (J.Try) statements.get(i + 1);
+                        if (executeOf(vd) != null &&
+                            t.getResources() == null &&
+                            t.getCatches().isEmpty() &&
+                            t.getFinally() != null &&
+                            onlyCloses(t.getFinally(), vd.getVariables().get(0).getSimpleName())) {
+                            J.Try.Resource resource = new J.Try.Resource(randomId(), Space.EMPTY, Markers.EMPTY, vd.withPrefix(Space.EMPTY), false);
+                            J.Try normalized = t.getPadding()
+                                    .withResources(JContainer.build(Space.SINGLE_SPACE, singletonList(JRightPadded.build(resource)), Markers.EMPTY))
+                                    .withFinally(null)
+                                    .withPrefix(vd.getPrefix());
+                            if (canUseResponseHandler(normalized)) {
+                                result.add(normalized);
+                                changed = true;
+                                i++;
+                                continue;
+                            }
+                        }
+                    }
+                    result.add(statement);
+                }
+                return changed ? result : statements;
+            }
+
+            @Override
+            public J visitTry(J.Try tryable, ExecutionContext ctx) {
+                if (!canUseResponseHandler(tryable)) {
+                    return super.visitTry(tryable, ctx);
+                }
+                J.VariableDeclarations resource = (J.VariableDeclarations) requireNonNull(tryable.getResources()).get(0).getVariableDeclarations();
+                getCursor().putMessage(KEY_EXECUTE, executeOf(resource));
+
+                J.Try t = (J.Try) super.visitTry(tryable, ctx);
+                J.MethodInvocation handlerExecute = getCursor().pollMessage(KEY_HANDLER_EXECUTE);
+                if (handlerExecute == null) {
+                    return t;
+                }
+
+                maybeRemoveImport(FQN_RESPONSE);
+                J.Lambda lambda = (J.Lambda) handlerExecute.getArguments().get(handlerExecute.getArguments().size() - 1);
+                List<Statement> body = t.getBody().getStatements();
+                Statement last = body.get(body.size() - 1);
+                Statement replacement;
+                if (last instanceof J.Return) {
+                    lambda = body.size() == 1 ?
+                            lambda.withBody(requireNonNull(((J.Return) last).getExpression()).withPrefix(Space.SINGLE_SPACE)) :
+                            lambda.withBody(t.getBody());
+                    replacement = ((J.Return) last).withExpression(replaceLastArgument(handlerExecute, lambda).withPrefix(Space.SINGLE_SPACE));
+                } else {
+                    J.Return returnNull = new J.Return(randomId(), Space.format("\n"), Markers.EMPTY, ((Expression) lambda.getBody()).withPrefix(Space.SINGLE_SPACE));
+                    lambda = lambda.withBody(t.getBody().withStatements(ListUtils.concat(body, returnNull)));
+                    replacement = replaceLastArgument(handlerExecute, lambda);
+                }
+
+                if (t.getCatches().isEmpty() && t.getFinally() == null) {
+                    return autoFormat(replacement.withPrefix(t.getPrefix()), ctx, getCursor().getParentOrThrow());
+                }
+                return autoFormat(t.getPadding().withResources(null)
+                        .withBody(t.getBody().withStatements(singletonList(replacement.withPrefix(Space.format("\n"))))), ctx, getCursor().getParentOrThrow());
+            }
+
+            @Override
+            public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                if (method != getCursor().getNearestMessage(KEY_EXECUTE)) {
+                    return super.visitMethodInvocation(method, ctx);
+                }
+                J.Try.Resource resource = getCursor().firstEnclosingOrThrow(J.Try.Resource.class);
+                String name = ((J.VariableDeclarations) resource.getVariableDeclarations()).getVariables().get(0).getSimpleName();
+                StringBuilder template = new StringBuilder("#{any(" + FQN_CLIENT + ")}.execute(");
+                for (int i = 0; i < method.getArguments().size(); i++) {
+                    template.append("#{any()}, ");
+                }
+                template.append(name).append(" -> null)");
+                List<Object> parameters = new ArrayList<>();
+                parameters.add(method.getSelect());
+                parameters.addAll(method.getArguments());
+                J.MethodInvocation handlerExecute = JavaTemplate.builder(template.toString())
+                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "httpclient5", "httpcore5"))
+                        .build()
+                        .apply(getCursor(), method.getCoordinates().replace(), parameters.toArray());
+                getCursor().putMessageOnFirstEnclosing(J.Try.class, KEY_HANDLER_EXECUTE, handlerExecute);
+                return handlerExecute;
+            }
+
+            private boolean canUseResponseHandler(J.Try t) {
+                if (t.getResources() == null || t.getResources().size() != 1 ||
+                    !(t.getResources().get(0).getVariableDeclarations() instanceof J.VariableDeclarations)) {
+                    return false;
+                }
+                J.VariableDeclarations resource = (J.VariableDeclarations) t.getResources().get(0).getVariableDeclarations();
+                J.MethodInvocation execute = executeOf(resource);
+                if (execute == null || execute.getSelect() == null || t.getBody().getStatements().isEmpty()) {
+                    return false;
+                }
+                if (catchesHttpException(t)) {
+                    return false;
+                }
+                J.MethodDeclaration enclosingMethod = getCursor().firstEnclosing(J.MethodDeclaration.class);
+                HandlerBodyAnalysis analysis = new HandlerBodyAnalysis(resource.getVariables().get(0).getSimpleName());
+                analysis.visit(t.getBody(), 0);
+                Statement last = t.getBody().getStatements().get(t.getBody().getStatements().size() - 1);
+                if (!analysis.eligible || analysis.returns > 1 ||
+                    analysis.returns == 1 && !(last instanceof J.Return) ||
+                    analysis.returns == 0 && last instanceof J.Throw) {
+                    return false;
+                }
+                for (String captured : analysis.capturedLocals) {
+                    if (!analysis.declared.contains(captured) && (enclosingMethod == null || isReassigned(enclosingMethod, captured))) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        });
+    }
+
+    /**
+     * {@code execute(request, handler)} wraps an {@code HttpException} of the handler into a
+     * {@code ClientProtocolException}, which would leave a catch of it without anything throwing it.
+     */
+    private static boolean catchesHttpException(J.Try t) {
+        for (J.Try.Catch catch_ : t.getCatches()) {
+            JavaType caught = catch_.getParameter().getType();
+            List<JavaType> alternatives = caught instanceof JavaType.MultiCatch ?
+                    ((JavaType.MultiCatch) caught).getThrowableTypes() : singletonList(caught);
+            for (JavaType alternative : alternatives) {
+                if (TypeUtils.isAssignableTo("org.apache.hc.core5.http.HttpException", alternative)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static J.@Nullable MethodInvocation executeOf(J.VariableDeclarations vd) {
+        if (vd.getVariables().size() != 1 || !(vd.getVariables().get(0).getInitializer() instanceof J.MethodInvocation)) {
+            return null;
+        }
+        J.MethodInvocation mi = (J.MethodInvocation) vd.getVariables().get(0).getInitializer();
+        return EXECUTE.matches(mi) && TypeUtils.isAssignableTo(FQN_RESPONSE, mi.getType()) ? mi : null;
+    }
+
+    private static boolean onlyCloses(J.Block finallyBlock, String name) {
+        if (finallyBlock.getStatements().size() != 1) {
+            return false;
+        }
+        Statement statement = finallyBlock.getStatements().get(0);
+        if (statement instanceof J.If && ((J.If) statement).getElsePart() == null) {
+            // if (response != null) response.close();
+            J.If iff = (J.If) statement;
+            Expression condition = iff.getIfCondition().getTree();
+            if (!(condition instanceof J.Binary) ||
+                ((J.Binary) condition).getOperator() != J.Binary.Type.NotEqual ||
+                !isIdentifier(((J.Binary) condition).getLeft(), name) ||
+                !J.Literal.isLiteralValue(((J.Binary) condition).getRight(), null)) {
+                return false;
+            }
+            statement = iff.getThenPart() instanceof J.Block && ((J.Block) iff.getThenPart()).getStatements().size() == 1 ?
+                    ((J.Block) iff.getThenPart()).getStatements().get(0) :
+                    iff.getThenPart();
+        }
+        return statement instanceof J.MethodInvocation &&
+               "close".equals(((J.MethodInvocation) statement).getSimpleName()) &&
+               isIdentifier(((J.MethodInvocation) statement).getSelect(), name);
+    }
+
+    private static boolean isIdentifier(@Nullable Expression expression, String name) {
+        return expression instanceof J.Identifier && name.equals(((J.Identifier) expression).getSimpleName());
+    }
+
+    private static J.MethodInvocation replaceLastArgument(J.MethodInvocation mi, Expression argument) {
+        return mi.withArguments(ListUtils.mapLast(mi.getArguments(), a -> argument));
+    }
+
+    private static boolean isReassigned(J.MethodDeclaration method, String name) {
+        AtomicBoolean reassigned = new AtomicBoolean();
+        new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.Assignment visitAssignment(J.Assignment assignment, AtomicBoolean found) {
+                if (isIdentifier(assignment.getVariable(), name)) {
+                    found.set(true);
+                }
+                return super.visitAssignment(assignment, found);
+            }
+
+            @Override
+            public J.AssignmentOperation visitAssignmentOperation(J.AssignmentOperation assignOp, AtomicBoolean found) {
+                if (isIdentifier(assignOp.getVariable(), name)) {
+                    found.set(true);
+                }
+                return super.visitAssignmentOperation(assignOp, found);
+            }
+
+            @Override
+            public J.Unary visitUnary(J.Unary unary, AtomicBoolean found) {
+                if (unary.getOperator().isModifying() && isIdentifier(unary.getExpression(), name)) {
+                    found.set(true);
+                }
+                return super.visitUnary(unary, found);
+            }
+
+            @Override
+            public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, AtomicBoolean found) {
+                if (name.equals(variable.getSimpleName()) && variable.getInitializer() == null &&
+                    getCursor().getParentTreeCursor().getParentTreeCursor().getValue() instanceof J.Block) {
+                    // Local declared without initializer, so assigned somewhere else
+                    found.set(true);
+                }
+                return super.visitVariable(variable, found);
+            }
+        }.visit(method, reassigned);
+        return reassigned.get();
+    }
+
+    /**
+     * Determines whether the body of a try-with-resources block can be moved into a response handler lambda.
+     */
+    private static class HandlerBodyAnalysis extends JavaIsoVisitor<Integer> {
+        private final String responseName;
+        private int nestedScopes;
+        private int loops;
+
+        boolean eligible = true;
+        int returns;
+        final Set<String> declared = new HashSet<>();
+        final Set<String> capturedLocals = new LinkedHashSet<>();
+
+        HandlerBodyAnalysis(String responseName) {
+            this.responseName = responseName;
+        }
+
+        @Override
+        public J.Lambda visitLambda(J.Lambda lambda, Integer p) {
+            nestedScopes++;
+            J.Lambda l = super.visitLambda(lambda, p);
+            nestedScopes--;
+            return l;
+        }
+
+        @Override
+        public J.NewClass visitNewClass(J.NewClass newClass, Integer p) {
+            checkThrows(newClass.getMethodType());
+            if (newClass.getBody() == null) {
+                return super.visitNewClass(newClass, p);
+            }
+            nestedScopes++;
+            J.NewClass nc = super.visitNewClass(newClass, p);
+            nestedScopes--;
+            return nc;
+        }
+
+        @Override
+        public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, Integer p) {
+            nestedScopes++;
+            J.ClassDeclaration c = super.visitClassDeclaration(classDecl, p);
+            nestedScopes--;
+            return c;
+        }
+
+        @Override
+        public J.ForLoop visitForLoop(J.ForLoop forLoop, Integer p) {
+            loops++;
+            J.ForLoop f = super.visitForLoop(forLoop, p);
+            loops--;
+            return f;
+        }
+
+        @Override
+        public J.ForEachLoop visitForEachLoop(J.ForEachLoop forLoop, Integer p) {
+            loops++;
+            J.ForEachLoop f = super.visitForEachLoop(forLoop, p);
+            loops--;
+            return f;
+        }
+
+        @Override
+        public J.WhileLoop visitWhileLoop(J.WhileLoop whileLoop, Integer p) {
+            loops++;
+            J.WhileLoop w = super.visitWhileLoop(whileLoop, p);
+            loops--;
+            return w;
+        }
+
+        @Override
+        public J.DoWhileLoop visitDoWhileLoop(J.DoWhileLoop doWhileLoop, Integer p) {
+            loops++;
+            J.DoWhileLoop d = super.visitDoWhileLoop(doWhileLoop, p);
+            loops--;
+            return d;
+        }
+
+        @Override
+        public J.Switch visitSwitch(J.Switch switch_, Integer p) {
+            loops++;
+            J.Switch s = super.visitSwitch(switch_, p);
+            loops--;
+            return s;
+        }
+
+        @Override
+        public J.Break visitBreak(J.Break breakStatement, Integer p) {
+            if (nestedScopes == 0 && (loops == 0 || breakStatement.getLabel() != null)) {
+                eligible = false;
+            }
+            return breakStatement;
+        }
+
+        @Override
+        public J.Continue visitContinue(J.Continue continueStatement, Integer p) {
+            if (nestedScopes == 0 && (loops == 0 || continueStatement.getLabel() != null)) {
+                eligible = false;
+            }
+            return continueStatement;
+        }
+
+        @Override
+        public J.Return visitReturn(J.Return _return, Integer p) {
+            if (nestedScopes == 0) {
+                returns++;
+                if (_return.getExpression() == null) {
+                    eligible = false;
+                }
+            }
+            return super.visitReturn(_return, p);
+        }
+
+        @Override
+        public J.Throw visitThrow(J.Throw thrown, Integer p) {
+            if (nestedScopes == 0 && !isAllowedException(thrown.getException().getType())) {
+                eligible = false;
+            }
+            return super.visitThrow(thrown, p);
+        }
+
+        @Override
+        public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, Integer p) {
+            checkThrows(method.getMethodType());
+            return super.visitMethodInvocation(method, p);
+        }
+
+        @Override
+        public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, Integer p) {
+            declared.add(variable.getSimpleName());
+            return super.visitVariable(variable, p);
+        }
+
+        @Override
+        public J.Identifier visitIdentifier(J.Identifier identifier, Integer p) {
+            JavaType.Variable fieldType = identifier.getFieldType();
+            Object parent = getCursor().getParentTreeCursor().getValue();
+            if (fieldType == null || parent instanceof J.FieldAccess && ((J.FieldAccess) parent).getName() == identifier) {
+                return identifier;
+            }
+            if (responseName.equals(identifier.getSimpleName())) {
+                if (nestedScopes > 0 ||
+                    parent instanceof J.Return ||
+                    parent instanceof J.Assignment ||
+                    parent instanceof J.VariableDeclarations.NamedVariable) {
+                    // The response must not outlive the handler
+                    eligible = false;
+                }
+            } else if (!(fieldType.getOwner() instanceof JavaType.FullyQualified)) {
+                capturedLocals.add(identifier.getSimpleName());
+            }
+            return identifier;
+        }
+
+        @Override
+        public J.Assignment visitAssignment(J.Assignment assignment, Integer p) {
+            checkLocalAssignment(assignment.getVariable());
+            return super.visitAssignment(assignment, p);
+        }
+
+        @Override
+        public J.AssignmentOperation visitAssignmentOperation(J.AssignmentOperation assignOp, Integer p) {
+            checkLocalAssignment(assignOp.getVariable());
+            return super.visitAssignmentOperation(assignOp, p);
+        }
+
+        @Override
+        public J.Unary visitUnary(J.Unary unary, Integer p) {
+            if (unary.getOperator().isModifying()) {
+                checkLocalAssignment(unary.getExpression());
+            }
+            return super.visitUnary(unary, p);
+        }
+
+        private void checkLocalAssignment(Expression variable) {
+            // Locals declared outside the lambda cannot be assigned from within it
+            if (variable instanceof J.Identifier) {
+                J.Identifier identifier = (J.Identifier) variable;
+                if (identifier.getFieldType() != null &&
+                    !(identifier.getFieldType().getOwner() instanceof JavaType.FullyQualified) &&
+                    !declared.contains(identifier.getSimpleName())) {
+                    eligible = false;
+                }
+            }
+        }
+
+        private void checkThrows(JavaType.@Nullable Method methodType) {
+            if (nestedScopes > 0) {
+                return;
+            }
+            if (methodType == null) {
+                eligible = false;
+                return;
+            }
+            for (JavaType thrown : methodType.getThrownExceptions()) {
+                if (!isAllowedException(thrown)) {
+                    eligible = false;
+                }
+            }
+        }
+
+        private static boolean isAllowedException(@Nullable JavaType type) {
+            for (String allowed : HANDLER_EXCEPTIONS) {
+                if (TypeUtils.isAssignableTo(allowed, type)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
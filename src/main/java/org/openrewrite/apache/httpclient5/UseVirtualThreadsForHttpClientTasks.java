@@ -0,0 +1,268 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.httpclient5;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesJavaVersion;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Collections.singletonList;
+import static java.util.Objects.requireNonNull;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class UseVirtualThreadsForHttpClientTasks extends Recipe {
+
+    private static final String POOL_SIZES = "POOL_SIZES";
+    private static final String FQN_POOLING_BUILDER = "org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder";
+
+    private static final MethodMatcher NEW_FIXED_THREAD_POOL = new MethodMatcher("java.util.concurrent.Executors newFixedThreadPool(int)");
+    private static final MethodMatcher EXECUTE4 = new MethodMatcher("org.apache.http.client.HttpClient execute(..)", true);
+    private static final MethodMatcher EXECUTE5 = new MethodMatcher("org.apache.hc.client5.http.classic.HttpClient execute(..)", true);
+    private static final MethodMatcher SET_MAX_CONN4 = new MethodMatcher("org.apache.http.impl.client.HttpClientBuilder setMaxConn*(int)");
+    private static final MethodMatcher SET_MAX_CONN5 = new MethodMatcher(FQN_POOLING_BUILDER + " setMaxConn*(int)");
+    private static final MethodMatcher POOLING_BUILDER_CREATE = new MethodMatcher(FQN_POOLING_BUILDER + " create()");
+    private static final MethodMatcher POOLING_BUILDER_BUILD = new MethodMatcher(FQN_POOLING_BUILDER + " build()");
+
+    // defaults of PoolingHttpClientConnectionManager
+    private static final int DEFAULT_MAX_PER_ROUTE = 5;
+    private static final int DEFAULT_MAX_TOTAL = 25;
+
+    private static final Set<String> TASK_METHODS = new HashSet<>(Arrays.asList("submit", "execute"));
+    private static final Set<String> LIFECYCLE_METHODS = new HashSet<>(Arrays.asList(
+            "shutdown", "shutdownNow", "awaitTermination", "close", "isShutdown", "isTerminated"));
+
+    String displayName = "Use virtual threads for classic HttpClient fan-out";
+
+    String description = "Replaces `Executors.newFixedThreadPool(n)` with `Executors.newVirtualThreadPerTaskExecutor()` " +
+            "when every task submitted to the executor is a lambda performing classic Apache HttpClient 4.x or 5.x " +
+            "`execute(..)` calls, so that the thread pool size no longer caps outbound concurrency. When the former " +
+            "pool size is a literal, `setMaxConnPerRoute` and `setMaxConnTotal` where the tasks' client is built in the same " +
+            "file are raised to at least that size, so that the connection pool does not become the new bottleneck.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                Preconditions.and(
+                        new UsesJavaVersion<>(21),
+                        new UsesMethod<>(NEW_FIXED_THREAD_POOL),
+                        Preconditions.or(new UsesMethod<>(EXECUTE4), new UsesMethod<>(EXECUTE5))),
+                new JavaIsoVisitor<ExecutionContext>() {
+
+                    @Override
+                    public J.CompilationUnit visitCompilationUnit(J.CompilationUnit compilationUnit, ExecutionContext ctx) {
+                        J.CompilationUnit cu = super.visitCompilationUnit(compilationUnit, ctx);
+                        Map<JavaType.Variable, Integer> poolSizes = getCursor().pollMessage(POOL_SIZES);
+                        if (poolSizes != null) {
+                            cu = (J.CompilationUnit) new RaiseConnectionLimits(poolSizes).visitNonNull(cu, ctx, getCursor().getParentOrThrow());
+                        }
+                        return cu;
+                    }
+
+                    @Override
+                    public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, ExecutionContext ctx) {
+                        J.VariableDeclarations.NamedVariable v = super.visitVariable(variable, ctx);
+                        if (!(v.getInitializer() instanceof J.MethodInvocation) || !NEW_FIXED_THREAD_POOL.matches(v.getInitializer())) {
+                            return v;
+                        }
+                        J.VariableDeclarations declarations = getCursor().firstEnclosingOrThrow(J.VariableDeclarations.class);
+                        Cursor scope = getCursor().dropParentUntil(J.Block.class::isInstance);
+                        if (scope.getParentTreeCursor().getValue() instanceof J.ClassDeclaration &&
+                                !declarations.hasModifier(J.Modifier.Type.Private)) {
+                            return v;
+                        }
+                        Set<JavaType.Variable> clients = new HashSet<>();
+                        if (!onlyRunsHttpClientTasks(scope.getValue(), v, clients)) {
+                            return v;
+                        }
+
+                        J.MethodInvocation fixedThreadPool = (J.MethodInvocation) v.getInitializer();
+                        Expression size = fixedThreadPool.getArguments().get(0);
+                        if (size instanceof J.Literal && ((J.Literal) size).getValue() instanceof Integer) {
+                            Cursor cu = getCursor().dropParentUntil(J.CompilationUnit.class::isInstance);
+                            Map<JavaType.Variable, Integer> poolSizes = cu.computeMessageIfAbsent(POOL_SIZES, k -> new HashMap<>());
+                            for (JavaType.Variable client : clients) {
+                                poolSizes.merge(client, (Integer) ((J.Literal) size).getValue(), Math::max);
+                            }
+                        }
+                        maybeAddImport("java.util.concurrent.Executors");
+                        return v.withInitializer(JavaTemplate.builder("Executors.newVirtualThreadPerTaskExecutor()")
+                                .imports("java.util.concurrent.Executors")
+                                .build()
+                                .apply(new Cursor(getCursor(), fixedThreadPool), fixedThreadPool.getCoordinates().replace()));
+                    }
+
+                    /**
+                     * The executor may only be used to run lambdas doing HttpClient I/O and for lifecycle calls. Any other use,
+                     * such as passing it elsewhere or reassigning it, keeps the fixed thread pool.
+                     */
+                    private boolean onlyRunsHttpClientTasks(J.Block scope, J.VariableDeclarations.NamedVariable executor,
+                                                            Set<JavaType.Variable> clients) {
+                        JavaType.Variable executorType = executor.getVariableType();
+                        AtomicBoolean eligible = new AtomicBoolean(true);
+                        AtomicBoolean submitsTasks = new AtomicBoolean();
+                        new JavaIsoVisitor<Integer>() {
+                            @Override
+                            public J.Identifier visitIdentifier(J.Identifier identifier, Integer p) {
+                                if (!executor.getSimpleName().equals(identifier.getSimpleName()) ||
+                                        (executorType != null && identifier.getFieldType() != null && !executorType.equals(identifier.getFieldType()))) {
+                                    return identifier;
+                                }
+                                Object parent = getCursor().getParentTreeCursor().getValue();
+                                if (parent instanceof J.VariableDeclarations.NamedVariable) {
+                                    return identifier;
+                                }
+                                if (parent instanceof J.MethodInvocation && ((J.MethodInvocation) parent).getSelect() == identifier) {
+                                    J.MethodInvocation call = (J.MethodInvocation) parent;
+                                    if (LIFECYCLE_METHODS.contains(call.getSimpleName())) {
+                                        return identifier;
+                                    }
+                                    if (TASK_METHODS.contains(call.getSimpleName()) && call.getArguments().size() == 1 &&
+                                            isHttpClientTask(call.getArguments().get(0), clients)) {
+                                        submitsTasks.set(true);
+                                        return identifier;
+                                    }
+                                }
+                                eligible.set(false);
+                                return identifier;
+                            }
+                        }.visit(scope, 0);
+                        return eligible.get() && submitsTasks.get();
+                    }
+
+                    /**
+                     * @param clients collects the variables holding the clients that the task executes requests with
+                     */
+                    private boolean isHttpClientTask(Expression task, Set<JavaType.Variable> clients) {
+                        if (!(task instanceof J.Lambda)) {
+                            return false;
+                        }
+                        AtomicBoolean executes = new AtomicBoolean();
+                        AtomicBoolean pins = new AtomicBoolean();
+                        new JavaIsoVisitor<Integer>() {
+                            @Override
+                            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, Integer p) {
+                                if (EXECUTE4.matches(method) || EXECUTE5.matches(method)) {
+                                    executes.set(true);
+                                    Expression select = method.getSelect();
+                                    J.Identifier client = select instanceof J.FieldAccess ? ((J.FieldAccess) select).getName() :
+                                            select instanceof J.Identifier ? (J.Identifier) select : null;
+                                    if (client != null && client.getFieldType() != null) {
+                                        clients.add(client.getFieldType());
+                                    }
+                                }
+                                return super.visitMethodInvocation(method, p);
+                            }
+
+                            @Override
+                            public J.Synchronized visitSynchronized(J.Synchronized sync, Integer p) {
+                                // blocking inside a synchronized block pins the carrier thread
+                                pins.set(true);
+                                return sync;
+                            }
+                        }.visit(((J.Lambda) task).getBody(), 0);
+                        return executes.get() && !pins.get();
+                    }
+                }
+        );
+    }
+
+    /**
+     * Raises the connection limits set up where the clients used by the tasks are created, not those of other clients
+     * of the file.
+     */
+    @Value
+    @EqualsAndHashCode(callSuper = false)
+    private static class RaiseConnectionLimits extends JavaIsoVisitor<ExecutionContext> {
+        Map<JavaType.Variable, Integer> poolSizes;
+
+        @Override
+        public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+            J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+            Integer clientPoolSize = poolSize();
+            if (clientPoolSize == null) {
+                return m;
+            }
+            int poolSize = clientPoolSize;
+            if ((SET_MAX_CONN4.matches(m) || SET_MAX_CONN5.matches(m)) && m.getArguments().get(0) instanceof J.Literal) {
+                J.Literal limit = (J.Literal) m.getArguments().get(0);
+                if (limit.getValue() instanceof Integer && (Integer) limit.getValue() < poolSize) {
+                    return m.withArguments(singletonList(limit.withValue(poolSize).withValueSource(String.valueOf(poolSize))));
+                }
+                return m;
+            }
+            if (POOLING_BUILDER_BUILD.matches(m)) {
+                boolean perRoute = false;
+                boolean total = false;
+                Expression select = m.getSelect();
+                while (select instanceof J.MethodInvocation && !POOLING_BUILDER_CREATE.matches(select)) {
+                    perRoute |= "setMaxConnPerRoute".equals(((J.MethodInvocation) select).getSimpleName());
+                    total |= "setMaxConnTotal".equals(((J.MethodInvocation) select).getSimpleName());
+                    select = ((J.MethodInvocation) select).getSelect();
+                }
+                if (!POOLING_BUILDER_CREATE.matches(select)) {
+                    return m;
+                }
+                String limits = (perRoute || poolSize <= DEFAULT_MAX_PER_ROUTE ? "" : ".setMaxConnPerRoute(" + poolSize + ")") +
+                        (total || poolSize <= DEFAULT_MAX_TOTAL ? "" : ".setMaxConnTotal(" + poolSize + ")");
+                if (!limits.isEmpty()) {
+                    Expression builder = requireNonNull(m.getSelect());
+                    return m.withSelect(JavaTemplate.builder("#{any(" + FQN_POOLING_BUILDER + ")}" + limits)
+                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "httpclient5", "httpcore5"))
+                            .build()
+                            .apply(new Cursor(getCursor(), builder), builder.getCoordinates().replace(), builder));
+                }
+            }
+            return m;
+        }
+
+        /**
+         * @return the pool size of the tasks using the client that the current code initializes or assigns
+         */
+        private @Nullable Integer poolSize() {
+            for (Cursor c = getCursor(); c != null; c = c.getParent()) {
+                Object value = c.getValue();
+                if (value instanceof J.VariableDeclarations.NamedVariable) {
+                    JavaType.Variable variable = ((J.VariableDeclarations.NamedVariable) value).getVariableType();
+                    return variable == null ? null : poolSizes.get(variable);
+                }
+                if (value instanceof J.Assignment) {
+                    Expression variable = ((J.Assignment) value).getVariable();
+                    J.Identifier name = variable instanceof J.FieldAccess ? ((J.FieldAccess) variable).getName() :
+                            variable instanceof J.Identifier ? (J.Identifier) variable : null;
+                    return name == null || name.getFieldType() == null ? null : poolSizes.get(name.getFieldType());
+                }
+                if (value instanceof J.MethodDeclaration || value instanceof J.ClassDeclaration) {
+                    return null;
+                }
+            }
+            return null;
+        }
+    }
+}
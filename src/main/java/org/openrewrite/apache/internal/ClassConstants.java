@@ -0,0 +1,264 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.internal;
+
+import lombok.Value;
+import org.openrewrite.Cursor;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.tree.*;
+
+import java.util.*;
+
+/**
+ * Where recipes declare the {@code static final} constants and holder classes they hoist out of methods.
+ */
+public final class ClassConstants {
+
+    private ClassConstants() {
+    }
+
+    /**
+     * @return true if static fields and nested classes can be added to the class on any Java version
+     */
+    public static boolean canDeclare(J.ClassDeclaration classDecl) {
+        // Static members of inner classes need Java 16, keep to classes that always allow them
+        return (classDecl.getKind() == J.ClassDeclaration.Kind.Type.Class ||
+                classDecl.getKind() == J.ClassDeclaration.Kind.Type.Enum) &&
+               (classDecl.getType() == null || classDecl.getType().getOwningClass() == null ||
+                classDecl.hasModifier(J.Modifier.Type.Static));
+    }
+
+    /**
+     * Constants that refer to no other field are declared as the first members, as static initializers run in
+     * declaration order: an earlier static field whose initializer calls a method using the constant would
+     * otherwise see it {@code null}. The values of an enum still come first, see {@link #position}.
+     *
+     * @return the index of the first statement declaring a constant
+     */
+    public static int firstIndex(J.ClassDeclaration classDecl) {
+        List<Statement> statements = classDecl.getBody().getStatements();
+        return !statements.isEmpty() && statements.get(0) instanceof J.EnumValueSet ? 1 : 0;
+    }
+
+    /**
+     * @return the coordinates to insert a statement at {@code index} of the class body
+     */
+    private static JavaCoordinates coordinates(J.ClassDeclaration classDecl, int index) {
+        return index == 0 ?
+                classDecl.getBody().getCoordinates().firstStatement() :
+                classDecl.getBody().getStatements().get(index - 1).getCoordinates().after();
+    }
+
+    /**
+     * Finds the code of the class that may run before constants declared at {@code index} are initialized: static
+     * initializers declared before them, and the methods these call. Where that code creates instances of the
+     * class, as the values of an enum do, constructors and instance initializers run early as well.
+     *
+     * @return where constants are declared, to ask whether code sees them initialized
+     */
+    public static Position position(J.ClassDeclaration classDecl, int index) {
+        List<Statement> statements = classDecl.getBody().getStatements();
+        Set<String> methods = new HashSet<>();
+        boolean[] instances = {false};
+        Deque<J> pending = new ArrayDeque<>();
+        for (Statement statement : statements.subList(0, Math.min(index, statements.size()))) {
+            if (statement instanceof J.EnumValueSet) {
+                instances[0] = true;
+                pending.add(statement);
+            } else if (isStatic(statement)) {
+                pending.add(statement);
+            }
+        }
+        boolean instancesQueued = false;
+        JavaIsoVisitor<Set<String>> calls = new JavaIsoVisitor<Set<String>>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, Set<String> called) {
+                if (method.getMethodType() == null ? method.getSelect() == null :
+                        isOfClass(method.getMethodType().getDeclaringType())) {
+                    called.add(method.getSimpleName());
+                }
+                return super.visitMethodInvocation(method, called);
+            }
+
+            @Override
+            public J.MemberReference visitMemberReference(J.MemberReference memberRef, Set<String> called) {
+                if (memberRef.getMethodType() != null && isOfClass(memberRef.getMethodType().getDeclaringType())) {
+                    called.add(memberRef.getReference().getSimpleName());
+                }
+                return super.visitMemberReference(memberRef, called);
+            }
+
+            @Override
+            public J.NewClass visitNewClass(J.NewClass newClass, Set<String> called) {
+                if (newClass.getConstructorType() != null && isOfClass(newClass.getConstructorType().getDeclaringType())) {
+                    instances[0] = true;
+                }
+                return super.visitNewClass(newClass, called);
+            }
+
+            private boolean isOfClass(JavaType.FullyQualified type) {
+                return classDecl.getType() != null && TypeUtils.isOfType(type, classDecl.getType());
+            }
+        };
+        while (!pending.isEmpty()) {
+            Set<String> called = new HashSet<>();
+            calls.visit(pending.poll(), called);
+            for (Statement statement : statements) {
+                if (statement instanceof J.MethodDeclaration && !((J.MethodDeclaration) statement).isConstructor() &&
+                        called.contains(((J.MethodDeclaration) statement).getSimpleName()) &&
+                        !methods.contains(((J.MethodDeclaration) statement).getSimpleName())) {
+                    pending.add(statement);
+                }
+            }
+            methods.addAll(called);
+            if (instances[0] && !instancesQueued) {
+                instancesQueued = true;
+                for (Statement statement : statements) {
+                    if (statement instanceof J.MethodDeclaration && ((J.MethodDeclaration) statement).isConstructor() ||
+                            (statement instanceof J.VariableDeclarations || statement instanceof J.Block) && !isStatic(statement)) {
+                        pending.add(statement);
+                    }
+                }
+            }
+        }
+        return new Position(index, methods, instances[0]);
+    }
+
+    /**
+     * @return the names of the fields and nested classes of the class, which new members must not clash with
+     */
+    public static Set<String> memberNames(J.ClassDeclaration classDecl) {
+        Set<String> names = new HashSet<>();
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if (statement instanceof J.VariableDeclarations) {
+                for (J.VariableDeclarations.NamedVariable variable : ((J.VariableDeclarations) statement).getVariables()) {
+                    names.add(variable.getSimpleName());
+                }
+            } else if (statement instanceof J.ClassDeclaration) {
+                names.add(((J.ClassDeclaration) statement).getSimpleName());
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Takes the prefix as name, or else the prefix with the lowest number from 2 that is still free, separated by an
+     * underscore for constant names.
+     *
+     * @param names the names taken so far, which the returned name is added to
+     */
+    public static String uniqueName(Set<String> names, String prefix) {
+        String separator = prefix.equals(prefix.toUpperCase()) ? "_" : "";
+        String name = prefix;
+        for (int i = 2; names.contains(name); i++) {
+            name = prefix + separator + i;
+        }
+        names.add(name);
+        return name;
+    }
+
+    /**
+     * @return true if the cursor is inside a method or constructor of the class, rather than a field or initializer
+     */
+    public static boolean insideMethod(Cursor cursor) {
+        for (Cursor c = cursor.getParentTreeCursor(); !(c.getValue() instanceof J.ClassDeclaration); c = c.getParentTreeCursor()) {
+            if (c.getValue() instanceof J.MethodDeclaration) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Declares the constants one after the other from {@code index} of the class body and formats them. Members
+     * other than fields, and the members that follow them, are separated by a blank line.
+     *
+     * @param visitor the visitor at the class declaration
+     */
+    public static <T, P> J.ClassDeclaration declare(JavaVisitor<P> visitor, J.ClassDeclaration classDecl, int index,
+                                                    Collection<T> constants, Declaration<T> declaration, P p) {
+        J.ClassDeclaration cd = classDecl;
+        int end = index;
+        for (T constant : constants) {
+            cd = declaration.declare(cd, constant, coordinates(cd, end++));
+        }
+        int last = end;
+        List<Statement> statements = cd.getBody().getStatements();
+        Cursor bodyCursor = new Cursor(new Cursor(visitor.getCursor().getParentOrThrow(), cd), cd.getBody());
+        return cd.withBody(cd.getBody().withStatements(ListUtils.map(statements, (i, s) -> {
+            if (i < index || i > last) {
+                return s;
+            }
+            if (i < last) {
+                s = visitor.autoFormat(s, p, bodyCursor);
+            }
+            if (i > 0 && (!(s instanceof J.VariableDeclarations) || !(statements.get(i - 1) instanceof J.VariableDeclarations)) &&
+                    !s.getPrefix().getWhitespace().startsWith("\n\n")) {
+                return s.withPrefix(s.getPrefix().withWhitespace("\n" + s.getPrefix().getWhitespace()));
+            }
+            return s;
+        })));
+    }
+
+    @FunctionalInterface
+    public interface Declaration<T> {
+        /**
+         * @return the class with the constant declared at the coordinates, usually by a {@code JavaTemplate}
+         */
+        J.ClassDeclaration declare(J.ClassDeclaration classDecl, T constant, JavaCoordinates coordinates);
+    }
+
+    private static boolean isStatic(Statement statement) {
+        return statement instanceof J.Block ? ((J.Block) statement).isStatic() :
+                statement instanceof J.VariableDeclarations && ((J.VariableDeclarations) statement).hasModifier(J.Modifier.Type.Static);
+    }
+
+    @Value
+    public static class Position {
+        int index;
+
+        // Methods of the class that may run before the constants are initialized
+        Set<String> earlyMethods;
+
+        boolean earlyInstances;
+
+        /**
+         * @return true when the member of the class containing the cursor only runs once the constants are initialized
+         */
+        public boolean isInitializedFor(Cursor cursor) {
+            Object member = null;
+            Object child = null;
+            Cursor c = cursor;
+            for (; !(c.getValue() instanceof J.ClassDeclaration); c = c.getParentTreeCursor()) {
+                if (c.getValue() instanceof J.Block && c.getParentTreeCursor().getValue() instanceof J.ClassDeclaration) {
+                    member = child;
+                }
+                child = c.getValue();
+            }
+            if (member instanceof J.MethodDeclaration) {
+                J.MethodDeclaration method = (J.MethodDeclaration) member;
+                return method.isConstructor() ? !earlyInstances : !earlyMethods.contains(method.getSimpleName());
+            } else if (member instanceof J.VariableDeclarations || member instanceof J.Block) {
+                return isStatic((Statement) member) ?
+                        ((J.ClassDeclaration) c.getValue()).getBody().getStatements().indexOf(member) >= index :
+                        !earlyInstances;
+            }
+            return false;
+        }
+    }
+}
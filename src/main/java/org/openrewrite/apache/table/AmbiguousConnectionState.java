@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class AmbiguousConnectionState extends DataTable<AmbiguousConnectionState.Row> {
+
+    public AmbiguousConnectionState(Recipe recipe) {
+        super(recipe,
+                "Ambiguous connection state",
+                "HttpClient builders whose pooled connections may legitimately carry a user token, or that are " +
+                "configured across statements, so connection state was not disabled automatically.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path",
+                description = "The path to the source file containing the builder.")
+        String sourcePath;
+
+        @Column(displayName = "Method",
+                description = "The name of the method building the client, if any.")
+        String method;
+
+        @Column(displayName = "Code",
+                description = "The `build()` invocation of the client builder.")
+        String code;
+
+        @Column(displayName = "Reason",
+                description = "Why connection state was not disabled automatically.")
+        String reason;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class BlockingAsyncExecutions extends DataTable<BlockingAsyncExecutions.Row> {
+
+    public BlockingAsyncExecutions(Recipe recipe) {
+        super(recipe,
+                "Blocking async executions",
+                "Async HttpClient `execute(..)` calls whose `Future` is immediately waited on with `get()`, and " +
+                "that could not be rewritten to a callback automatically.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path",
+                description = "The path to the source file containing the blocking call.")
+        String sourcePath;
+
+        @Column(displayName = "Method",
+                description = "The name of the method containing the blocking call, if any.")
+        String method;
+
+        @Column(displayName = "Code",
+                description = "The `get(..)` invocation on the future returned by `execute(..)`.")
+        String code;
+
+        @Column(displayName = "Reason",
+                description = "Why the call could not be rewritten automatically.")
+        String reason;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class UnclosedHttpResponses extends DataTable<UnclosedHttpResponses.Row> {
+
+    public UnclosedHttpResponses(Recipe recipe) {
+        super(recipe,
+                "Unclosed HTTP responses",
+                "`CloseableHttpResponse` instances that are neither closed nor consumed, and could not be " +
+                "wrapped in a try-with-resources block automatically.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path",
+                description = "The path to the source file containing the response.")
+        String sourcePath;
+
+        @Column(displayName = "Method",
+                description = "The name of the method declaring the response, if any.")
+        String method;
+
+        @Column(displayName = "Code",
+                description = "The `execute(..)` invocation that produces the response.")
+        String code;
+
+        @Column(displayName = "Reason",
+                description = "Why the response could not be closed automatically.")
+        String reason;
+    }
+}
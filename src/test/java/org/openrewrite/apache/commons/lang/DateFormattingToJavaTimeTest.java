@@ -0,0 +1,209 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.commons.lang;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class DateFormattingToJavaTimeTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(), "commons-lang3"))
+          .recipe(new DateFormattingToJavaTime());
+    }
+
+    @DocumentExample
+    @Test
+    void cachedFormatters() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Date;
+
+              import org.apache.commons.lang3.time.DateFormatUtils;
+              import org.apache.commons.lang3.time.DateUtils;
+
+              class Ingest {
+                  String day(Date date) {
+                      return DateFormatUtils.format(date, "yyyy-MM-dd");
+                  }
+
+                  String stamp(long millis) {
+                      return DateFormatUtils.formatUTC(millis, "yyyy-MM-dd'T'HH:mm:ss");
+                  }
+
+                  Date parse(String text) throws Exception {
+                      return DateUtils.parseDate(text, "yyyy-MM-dd HH:mm:ss");
+                  }
+              }
+              """,
+            """
+              import java.time.Instant;
+              import java.time.LocalDateTime;
+              import java.time.ZoneId;
+              import java.time.ZoneOffset;
+              import java.time.format.DateTimeFormatter;
+              import java.time.format.ResolverStyle;
+              import java.util.Date;
+
+              class Ingest {
+                  private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+                  private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+                  private static final DateTimeFormatter DATE_TIME_FORMATTER_2 = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withResolverStyle(ResolverStyle.LENIENT);
+
+                  String day(Date date) {
+                      return DATE_FORMATTER.format(Instant.ofEpochMilli(date.getTime()).atZone(ZoneId.systemDefault()));
+                  }
+
+                  String stamp(long millis) {
+                      return DATE_TIME_FORMATTER.format(Instant.ofEpochMilli(millis).atZone(ZoneOffset.UTC));
+                  }
+
+                  Date parse(String text) throws Exception {
+                      return Date.from(LocalDateTime.parse(text, DATE_TIME_FORMATTER_2).atZone(ZoneId.systemDefault()).toInstant());
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void fastDateFormatAndExistingFormatter() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.time.format.DateTimeFormatter;
+              import java.util.Date;
+
+              import org.apache.commons.lang3.time.FastDateFormat;
+
+              class Report {
+                  static final DateTimeFormatter DAY = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+
+                  String header(Date date) {
+                      return "Report of " + FastDateFormat.getInstance("dd.MM.yyyy").format(date);
+                  }
+              }
+              """,
+            """
+              import java.time.Instant;
+              import java.time.ZoneId;
+              import java.time.format.DateTimeFormatter;
+              import java.util.Date;
+
+              class Report {
+                  static final DateTimeFormatter DAY = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+
+                  String header(Date date) {
+                      return "Report of " + DAY.format(Instant.ofEpochMilli(date.getTime()).atZone(ZoneId.systemDefault()));
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepCallsThatBehaveDifferently() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.text.ParseException;
+              import java.util.Date;
+
+              import org.apache.commons.lang3.time.DateFormatUtils;
+              import org.apache.commons.lang3.time.DateUtils;
+
+              class Ingest {
+                  String zoned(Date date) {
+                      return DateFormatUtils.format(date, "yyyy-MM-dd'T'HH:mm:ssZ") + DateFormatUtils.format(date, "yy-ww");
+                  }
+
+                  Date parse(String text) {
+                      try {
+                          return DateUtils.parseDate(text, "yyyy-MM-dd");
+                      } catch (ParseException e) {
+                          return null;
+                      }
+                  }
+
+                  Date parseAny(String text) throws ParseException {
+                      return DateUtils.parseDate(text, "yyyy-MM-dd", "dd.MM.yyyy");
+                  }
+
+                  Date parseChecked(String text) throws ParseException {
+                      return DateUtils.parseDate(text, "yyyy-MM-dd");
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void flagRemainingCalls() {
+        rewriteRun(
+          spec -> spec.recipeFromResources("org.openrewrite.apache.commons.lang.MigrateDateUtilsToJavaTime"),
+          //language=java
+          java(
+            """
+              import java.text.ParseException;
+              import java.util.Date;
+
+              import org.apache.commons.lang3.time.DateUtils;
+
+              class Ingest {
+                  Date parseAny(String text) throws ParseException {
+                      return DateUtils.parseDate(text, "yyyy-MM-dd", "dd.MM.yyyy");
+                  }
+
+                  Date parseChecked(String text) throws ParseException {
+                      return DateUtils.parseDate(text, "yyyy-MM-dd");
+                  }
+              }
+              """,
+            """
+              import java.text.ParseException;
+              import java.util.Date;
+
+              import org.apache.commons.lang3.time.DateUtils;
+
+              class Ingest {
+                  Date parseAny(String text) throws ParseException {
+                      return /* TODO: Parse with a `static final DateTimeFormatter` instead, which is not created on every call. */ DateUtils.parseDate(text, "yyyy-MM-dd", "dd.MM.yyyy");
+                  }
+
+                  Date parseChecked(String text) throws ParseException {
+                      return /* TODO: Parse with a `static final DateTimeFormatter` instead, which is not created on every call. */ DateUtils.parseDate(text, "yyyy-MM-dd");
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -33,7 +33,7 @@ class DefaultIfBlankToJdkTest implements RewriteTest {
     public void defaults(RecipeSpec spec) {
         spec.parser(JavaParser.fromJavaVersion()
             .classpathFromResources(new InMemoryExecutionContext(), "commons-lang3"))
-          .recipe(new DefaultIfBlankToJdk())
+          .recipe(new DefaultIfBlankToJdk(null))
           .allSources(s -> s.markers(javaVersion(21)));
     }
 
@@ -111,4 +111,29 @@ class DefaultIfBlankToJdkTest implements RewriteTest {
               }
               """.formatted(classname, beforeLine)));
     }
+
+    @Test
+    void evaluateArgumentsOnce() {
+        rewriteRun(
+          spec -> spec.recipe(new DefaultIfBlankToJdk(true)),
+          // language=java
+          java(
+            """
+              import org.apache.commons.lang3.StringUtils;
+
+              class A {
+                  String test(String input) {
+                      return StringUtils.defaultIfBlank(input.strip(), "default");
+                  }
+              }
+              """,
+            """
+              class A {
+                  String test(String input) {
+                      return input.strip() instanceof String s && !s.isBlank() ? s : "default";
+                  }
+              }
+              """
+          ));
+    }
 }
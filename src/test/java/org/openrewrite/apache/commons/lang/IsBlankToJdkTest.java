@@ -36,7 +36,7 @@ class IsBlankToJdkTest implements RewriteTest {
                 "commons-lang3",
                 "plexus-utils",
                 "maven-shared-utils"))
-          .recipe(new IsBlankToJdk())
+          .recipe(new IsBlankToJdk(null))
           .allSources(s -> s.markers(javaVersion(21)));
     }
 
@@ -232,4 +232,110 @@ class IsBlankToJdkTest implements RewriteTest {
               }
               """.formatted(classname, beforeLine)));
     }
+
+    @CsvSource(delimiter = '#', commentCharacter = '\0', textBlock = """
+      StringUtils.isBlank(foo()) # !(foo() instanceof String s1 && !s1.isBlank())
+      StringUtils.isNotBlank(first + s) # first + s instanceof String s1 && !s1.isBlank()
+      !StringUtils.isBlank(getLabel(first)) # getLabel(first) instanceof String label && !label.isBlank()
+      !StringUtils.isNotBlank(first.strip()) # !(first.strip() instanceof String s1 && !s1.isBlank())
+      """)
+    @ParameterizedTest
+    void evaluateArgumentsOnce(String beforeLine, String afterLine) {
+        rewriteRun(
+          spec -> spec.recipe(new IsBlankToJdk(true)),
+          // language=java
+          java(
+            """
+              import org.apache.commons.lang3.StringUtils;
+
+              class A {
+                  boolean test(String first, String s) {
+                      return %s;
+                  }
+                  private String foo() {
+                      return "foo";
+                  }
+                  private String getLabel(String key) {
+                      return key;
+                  }
+              }
+              """.formatted(beforeLine),
+            """
+              class A {
+                  boolean test(String first, String s) {
+                      return %s;
+                  }
+                  private String foo() {
+                      return "foo";
+                  }
+                  private String getLabel(String key) {
+                      return key;
+                  }
+              }
+              """.formatted(afterLine)));
+    }
+
+    @Test
+    void bindingAvoidsNamesDeclaredLaterInBlock() {
+        rewriteRun(
+          spec -> spec.recipe(new IsBlankToJdk(true)),
+          // language=java
+          java(
+            """
+              import org.apache.commons.lang3.StringUtils;
+
+              class A {
+                  String greet() {
+                      if (StringUtils.isBlank(person().getName())) {
+                          return "Hello";
+                      }
+                      String name = person().getName().strip();
+                      return "Hello " + name;
+                  }
+                  private Person person() {
+                      return () -> "World";
+                  }
+                  interface Person {
+                      String getName();
+                  }
+              }
+              """,
+            """
+              class A {
+                  String greet() {
+                      if (!(person().getName() instanceof String name1 && !name1.isBlank())) {
+                          return "Hello";
+                      }
+                      String name = person().getName().strip();
+                      return "Hello " + name;
+                  }
+                  private Person person() {
+                      return () -> "World";
+                  }
+                  interface Person {
+                      String getName();
+                  }
+              }
+              """
+          ));
+    }
+
+    @Test
+    void evaluateArgumentsOnceRequiresJava21() {
+        rewriteRun(
+          spec -> spec.recipe(new IsBlankToJdk(true))
+            .allSources(s -> s.markers(javaVersion(17))),
+          // language=java
+          java(
+            """
+              import org.apache.commons.lang3.StringUtils;
+
+              class A {
+                  boolean test(String first) {
+                      return StringUtils.isBlank(first.strip());
+                  }
+              }
+              """
+          ));
+    }
 }
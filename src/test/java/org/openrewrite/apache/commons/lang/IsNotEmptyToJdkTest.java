@@ -26,6 +26,7 @@ import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
 
 import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.java.Assertions.javaVersion;
 
 class IsNotEmptyToJdkTest implements RewriteTest {
 
@@ -35,7 +36,7 @@ class IsNotEmptyToJdkTest implements RewriteTest {
           "commons-lang3",
           "plexus-utils",
           "maven-shared-utils"))
-          .recipe(new IsNotEmptyToJdk());
+          .recipe(new IsNotEmptyToJdk(null));
     }
 
     @DocumentExample
@@ -238,4 +239,46 @@ class IsNotEmptyToJdkTest implements RewriteTest {
               }
               """.formatted(classname, beforeLine)));
     }
+
+    @CsvSource(delimiter = '#', commentCharacter = '\0', textBlock = """
+      StringUtils.isEmpty(foo()) # !(foo() instanceof String s && !s.isEmpty())
+      StringUtils.isNotEmpty(first + second) # first + second instanceof String s && !s.isEmpty()
+      StringUtils.isNotEmpty(getLabel(first)) # getLabel(first) instanceof String label && !label.isEmpty()
+      """)
+    @ParameterizedTest
+    void evaluateArgumentsOnce(String beforeLine, String afterLine) {
+        rewriteRun(
+          spec -> spec.recipe(new IsNotEmptyToJdk(true)),
+          // language=java
+          java(
+            """
+              import org.apache.commons.lang3.StringUtils;
+
+              class A {
+                  boolean test(String first, String second) {
+                      return %s;
+                  }
+                  private String foo() {
+                      return "foo";
+                  }
+                  private String getLabel(String key) {
+                      return key;
+                  }
+              }
+              """.formatted(beforeLine),
+            """
+              class A {
+                  boolean test(String first, String second) {
+                      return %s;
+                  }
+                  private String foo() {
+                      return "foo";
+                  }
+                  private String getLabel(String key) {
+                      return key;
+                  }
+              }
+              """.formatted(afterLine),
+            spec -> spec.markers(javaVersion(21))));
+    }
 }
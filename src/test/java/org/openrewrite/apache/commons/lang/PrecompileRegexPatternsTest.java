@@ -0,0 +1,277 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.commons.lang;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class PrecompileRegexPatternsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new PrecompileRegexPatterns());
+    }
+
+    @DocumentExample
+    @Test
+    void precompileStringUtilsReplacements() {
+        rewriteRun(
+          spec -> spec
+            .parser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(), "commons-lang3"))
+            .recipes(new ApacheCommonsStringUtilsRecipes(), new PrecompileRegexPatterns()),
+          //language=java
+          java(
+            """
+              import org.apache.commons.lang3.StringUtils;
+
+              class A {
+                  String compact(String in) {
+                      return StringUtils.deleteWhitespace(in);
+                  }
+
+                  String[] words(String in) {
+                      return StringUtils.split(in);
+                  }
+              }
+              """,
+            """
+              import java.util.regex.Pattern;
+
+              class A {
+                  private static final Pattern WHITESPACE = Pattern.compile("\\\\s+");
+
+                  String compact(String in) {
+                      return in == null ? null : WHITESPACE.matcher(in).replaceAll("");
+                  }
+
+                  String[] words(String in) {
+                      return in == null ? null : WHITESPACE.split(in);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void reuseExistingPattern() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.regex.Pattern;
+
+              class A {
+                  static final Pattern SPACES = Pattern.compile("\\\\s+");
+
+                  String compact(String in) {
+                      return in.replaceAll("\\\\s+", "");
+                  }
+              }
+              """,
+            """
+              import java.util.regex.Pattern;
+
+              class A {
+                  static final Pattern SPACES = Pattern.compile("\\\\s+");
+
+                  String compact(String in) {
+                      return SPACES.matcher(in).replaceAll("");
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void hoistLiteralRegexes() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class A {
+                  private final int max = 3;
+
+                  boolean isCode(String in) {
+                      return in.matches("[A-Z]{3}-\\\\d+");
+                  }
+
+                  String underscore(String in) {
+                      return in.replaceAll("\\\\s+", "_").replaceFirst("^_", "");
+                  }
+
+                  String[] fields(String in) {
+                      return in.split("[,;]", max);
+                  }
+
+                  boolean isCodeToo(String in) {
+                      return in.matches("[A-Z]{3}-\\\\d+");
+                  }
+              }
+              """,
+            """
+              import java.util.regex.Pattern;
+
+              class A {
+                  private static final Pattern PATTERN = Pattern.compile("[A-Z]{3}-\\\\d+");
+                  private static final Pattern WHITESPACE = Pattern.compile("\\\\s+");
+                  private static final Pattern PATTERN_2 = Pattern.compile("^_");
+                  private static final Pattern PATTERN_3 = Pattern.compile("[,;]");
+                  private final int max = 3;
+
+                  boolean isCode(String in) {
+                      return PATTERN.matcher(in).matches();
+                  }
+
+                  String underscore(String in) {
+                      return PATTERN_2.matcher(WHITESPACE.matcher(in).replaceAll("_")).replaceFirst("");
+                  }
+
+                  String[] fields(String in) {
+                      return PATTERN_3.split(in, max);
+                  }
+
+                  boolean isCodeToo(String in) {
+                      return PATTERN.matcher(in).matches();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void declarePatternBeforeStaticFieldsUsingIt() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class A {
+                  private static final String DEFAULT_NAME = normalize("new  item");
+
+                  static String normalize(String in) {
+                      return in.replaceAll("\\\\s+", " ");
+                  }
+              }
+              """,
+            """
+              import java.util.regex.Pattern;
+
+              class A {
+                  private static final Pattern WHITESPACE = Pattern.compile("\\\\s+");
+                  private static final String DEFAULT_NAME = normalize("new  item");
+
+                  static String normalize(String in) {
+                      return WHITESPACE.matcher(in).replaceAll(" ");
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepEnumConstructorsAndMethodsTheyCall() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              enum Code {
+                  ALPHA("a-1"), BETA("b 2");
+
+                  private final String value;
+
+                  Code(String value) {
+                      this.value = normalize(value);
+                  }
+
+                  private static String normalize(String value) {
+                      return value.replaceAll("[^a-z0-9]", "");
+                  }
+
+                  boolean isNumeric() {
+                      return value.matches("[0-9]+");
+                  }
+              }
+              """,
+            """
+              import java.util.regex.Pattern;
+
+              enum Code {
+                  ALPHA("a-1"), BETA("b 2");
+
+                  private static final Pattern PATTERN = Pattern.compile("[0-9]+");
+
+                  private final String value;
+
+                  Code(String value) {
+                      this.value = normalize(value);
+                  }
+
+                  private static String normalize(String value) {
+                      return value.replaceAll("[^a-z0-9]", "");
+                  }
+
+                  boolean isNumeric() {
+                      return PATTERN.matcher(value).matches();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepSplitFastPath() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class A {
+                  String[] split(String in) {
+                      String[] a = in.split(",");
+                      String[] b = in.split("\\\\.");
+                      return in.split("\\\\|", 2);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepDynamicAndInvalidRegexes() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class A {
+                  boolean matches(String in, String regex) {
+                      return in.matches(regex) || in.matches("[unclosed");
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.commons.lang;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class RandomUtilsToJdkTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(), "commons-lang3"))
+          .recipe(new RandomUtilsToJdk());
+    }
+
+    @DocumentExample
+    @Test
+    void threadLocalRandom() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.commons.lang3.RandomStringUtils;
+              import org.apache.commons.lang3.RandomUtils;
+
+              class Ids {
+                  int shard() {
+                      return RandomUtils.nextInt(0, 16);
+                  }
+
+                  long id() {
+                      return RandomUtils.nextLong();
+                  }
+
+                  String requestId() {
+                      return RandomStringUtils.randomAlphanumeric(8);
+                  }
+              }
+              """,
+            """
+              import java.util.concurrent.ThreadLocalRandom;
+
+              class Ids {
+                  int shard() {
+                      return ThreadLocalRandom.current().nextInt(16);
+                  }
+
+                  long id() {
+                      return ThreadLocalRandom.current().nextLong(Long.MAX_VALUE);
+                  }
+
+                  String requestId() {
+                      return ThreadLocalRandom.current().ints(8, 0, 62).map("ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789"::charAt).collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append).toString();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void secureRandomForSecrets() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.commons.lang3.RandomStringUtils;
+              import org.apache.commons.lang3.RandomUtils;
+
+              class Accounts {
+                  String create() {
+                      String password = RandomStringUtils.randomAlphanumeric(16);
+                      return password;
+                  }
+
+                  byte[] hash(String password) {
+                      byte[] salt = RandomUtils.nextBytes(16);
+                      return salt;
+                  }
+              }
+              """,
+            """
+              import java.security.SecureRandom;
+
+              class Accounts {
+                  private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+                  String create() {
+                      String password = SECURE_RANDOM.ints(16, 0, 62).map("ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789"::charAt).collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append).toString();
+                      return password;
+                  }
+
+                  byte[] hash(String password) {
+                      byte[] salt = new byte[16];
+                      SECURE_RANDOM.nextBytes(salt);
+                      return salt;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void declareSecureRandomBeforeFieldsUsingIt() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.commons.lang3.RandomStringUtils;
+
+              class Client {
+                  private static final String API_TOKEN = RandomStringUtils.randomAlphanumeric(32);
+              }
+              """,
+            """
+              import java.security.SecureRandom;
+
+              class Client {
+                  private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+                  private static final String API_TOKEN = SECURE_RANDOM.ints(32, 0, 62).map("ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789"::charAt).collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append).toString();
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void reuseSecureRandomField() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.security.SecureRandom;
+
+              import org.apache.commons.lang3.RandomUtils;
+
+              class Otp {
+                  private static final SecureRandom RANDOM = new SecureRandom();
+
+                  int otpCode() {
+                      return RandomUtils.nextInt(0, 1000000);
+                  }
+              }
+              """,
+            """
+              import java.security.SecureRandom;
+
+              class Otp {
+                  private static final SecureRandom RANDOM = new SecureRandom();
+
+                  int otpCode() {
+                      return RANDOM.nextInt(1000000);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepRangesThatRandomUtilsTreatsDifferently() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.commons.lang3.RandomUtils;
+
+              class Dice {
+                  int pick(int n) {
+                      return RandomUtils.nextInt(0, n) + RandomUtils.nextInt(3, 3);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.commons.lang;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+import org.openrewrite.test.SourceSpecs;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.java.Assertions.javaVersion;
+
+class ReflectionUtilsToCachedHandlesTest implements RewriteTest {
+
+    //language=java
+    private static final SourceSpecs PERSON = java(
+      """
+        package com.example;
+
+        public class Person {
+            public String name;
+            private int age;
+
+            public Person(String name) {
+                this.name = name;
+            }
+
+            public Person(String name, int age) {
+                this.name = name;
+                this.age = age;
+            }
+
+            public void rename(String name) {
+                this.name = name;
+            }
+
+            public void birthday() {
+                age++;
+            }
+
+            public void birthday(int years) {
+                age += years;
+            }
+        }
+        """
+    );
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(), "commons-lang3"))
+          .allSources(s -> s.markers(javaVersion(11)))
+          .recipe(new ReflectionUtilsToCachedHandles());
+    }
+
+    @DocumentExample
+    @Test
+    void cacheHandles() {
+        rewriteRun(
+          PERSON,
+          //language=java
+          java(
+            """
+              package com.example.mapping;
+
+              import com.example.Person;
+              import org.apache.commons.lang3.reflect.ConstructorUtils;
+              import org.apache.commons.lang3.reflect.FieldUtils;
+              import org.apache.commons.lang3.reflect.MethodUtils;
+
+              class PersonMapper {
+                  Object name(Person person) throws IllegalAccessException {
+                      return FieldUtils.readField(person, "name");
+                  }
+
+                  void age(Person person, int age) throws IllegalAccessException {
+                      FieldUtils.writeField(person, "age", age, true);
+                  }
+
+                  Object rename(Person person, String name) throws ReflectiveOperationException {
+                      return MethodUtils.invokeMethod(person, "rename", name);
+                  }
+
+                  Person create(String name) throws ReflectiveOperationException {
+                      return ConstructorUtils.invokeConstructor(Person.class, name);
+                  }
+              }
+              """,
+            """
+              package com.example.mapping;
+
+              import com.example.Person;
+
+              import java.lang.invoke.MethodHandles;
+              import java.lang.invoke.VarHandle;
+              import java.lang.reflect.Constructor;
+              import java.lang.reflect.Method;
+
+              class PersonMapper {
+                  private static final VarHandle PERSON_NAME;
+                  private static final VarHandle PERSON_AGE;
+                  private static final Method PERSON_RENAME;
+                  private static final Constructor<Person> PERSON_CONSTRUCTOR;
+
+                  static {
+                      try {
+                          PERSON_NAME = MethodHandles.lookup().findVarHandle(Person.class, "name", String.class);
+                          PERSON_AGE = MethodHandles.privateLookupIn(Person.class, MethodHandles.lookup()).findVarHandle(Person.class, "age", int.class);
+                          PERSON_RENAME = Person.class.getMethod("rename", String.class);
+                          PERSON_CONSTRUCTOR = Person.class.getConstructor(String.class);
+                      } catch (ReflectiveOperationException e) {
+                          throw new ExceptionInInitializerError(e);
+                      }
+                  }
+
+                  Object name(Person person) throws IllegalAccessException {
+                      return PERSON_NAME.get(person);
+                  }
+
+                  void age(Person person, int age) throws IllegalAccessException {
+                      PERSON_AGE.set(person, age);
+                  }
+
+                  Object rename(Person person, String name) throws ReflectiveOperationException {
+                      return PERSON_RENAME.invoke(person, name);
+                  }
+
+                  Person create(String name) throws ReflectiveOperationException {
+                      return PERSON_CONSTRUCTOR.newInstance(name);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepCallsResolvedAtRuntime() {
+        rewriteRun(
+          PERSON,
+          //language=java
+          java(
+            """
+              package com.example.mapping;
+
+              import com.example.Person;
+              import org.apache.commons.lang3.reflect.FieldUtils;
+              import org.apache.commons.lang3.reflect.MethodUtils;
+
+              class PersonMapper {
+                  Object read(Object bean, String property) throws IllegalAccessException {
+                      return FieldUtils.readField(bean, property);
+                  }
+
+                  Object age(Person person) throws IllegalAccessException {
+                      return FieldUtils.readField(person, "age");
+                  }
+
+                  Object birthday(Person person, Object years) throws ReflectiveOperationException {
+                      return MethodUtils.invokeMethod(person, "birthday", years);
+                  }
+
+                  Object name(Person person) {
+                      try {
+                          return FieldUtils.readField(person, "name");
+                      } catch (IllegalAccessException e) {
+                          return null;
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void volatileAccessForVolatileFields() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              public class Counter {
+                  public volatile int count;
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example.mapping;
+
+              import com.example.Counter;
+              import org.apache.commons.lang3.reflect.FieldUtils;
+
+              class CounterMapper {
+                  Object count(Counter counter) throws IllegalAccessException {
+                      return FieldUtils.readField(counter, "count");
+                  }
+
+                  void reset(Counter counter) throws IllegalAccessException {
+                      FieldUtils.writeField(counter, "count", 0, true);
+                  }
+              }
+              """,
+            """
+              package com.example.mapping;
+
+              import com.example.Counter;
+
+              import java.lang.invoke.MethodHandles;
+              import java.lang.invoke.VarHandle;
+
+              class CounterMapper {
+                  private static final VarHandle COUNTER_COUNT;
+
+                  static {
+                      try {
+                          COUNTER_COUNT = MethodHandles.lookup().findVarHandle(Counter.class, "count", int.class);
+                      } catch (ReflectiveOperationException e) {
+                          throw new ExceptionInInitializerError(e);
+                      }
+                  }
+
+                  Object count(Counter counter) throws IllegalAccessException {
+                      return COUNTER_COUNT.getVolatile(counter);
+                  }
+
+                  void reset(Counter counter) throws IllegalAccessException {
+                      COUNTER_COUNT.setVolatile(counter, 0);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepMethodsDeclaredByNonPublicSuperclass() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              class AbstractAccount {
+                  public void close() {
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              public class Account extends AbstractAccount {
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example.mapping;
+
+              import com.example.Account;
+              import org.apache.commons.lang3.reflect.MethodUtils;
+
+              class AccountMapper {
+                  Object close(Account account) throws ReflectiveOperationException {
+                      return MethodUtils.invokeMethod(account, "close");
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noVarHandleBeforeJava9() {
+        rewriteRun(
+          spec -> spec.allSources(s -> s.markers(javaVersion(8))),
+          PERSON,
+          //language=java
+          java(
+            """
+              import com.example.Person;
+              import org.apache.commons.lang3.reflect.FieldUtils;
+
+              class PersonMapper {
+                  Object name(Person person) throws IllegalAccessException {
+                      return FieldUtils.readField(person, "name");
+                  }
+              }
+              """
+          )
+        );
+    }
+}
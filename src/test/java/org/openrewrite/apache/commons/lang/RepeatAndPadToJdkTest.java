@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.commons.lang;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.java.Assertions.javaVersion;
+
+class RepeatAndPadToJdkTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(), "commons-lang3"))
+          .recipe(new RepeatAndPadToJdk())
+          .allSources(s -> s.markers(javaVersion(11)));
+    }
+
+    @DocumentExample
+    @Test
+    void padColumns() {
+        rewriteRun(
+          // language=java
+          java(
+            """
+              import org.apache.commons.lang3.StringUtils;
+
+              class A {
+                  String row(String name, String amount, String title, int width) {
+                      String left = StringUtils.rightPad(name, width);
+                      return left + StringUtils.leftPad(amount, 10) + StringUtils.center(title, width);
+                  }
+              }
+              """,
+            """
+              class A {
+                  String row(String name, String amount, String title, int width) {
+                      String left = name == null || name.length() >= width ? name : name + " ".repeat(width - name.length());
+                      return left + (amount == null || amount.length() >= 10 ? amount : " ".repeat(10 - amount.length()) + amount) + (title == null || title.length() >= width ? title : " ".repeat((width - title.length()) / 2) + title + " ".repeat(width - title.length() - (width - title.length()) / 2));
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void repeat() {
+        rewriteRun(
+          // language=java
+          java(
+            """
+              import org.apache.commons.lang3.StringUtils;
+
+              class A {
+                  String rule(String dash, int count) {
+                      return StringUtils.repeat(dash, 40) + StringUtils.repeat(dash, count);
+                  }
+              }
+              """,
+            """
+              class A {
+                  String rule(String dash, int count) {
+                      return (dash == null ? null : dash.repeat(40)) + (dash == null ? null : dash.repeat(Math.max(0, count)));
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepComplexArguments() {
+        rewriteRun(
+          // language=java
+          java(
+            """
+              import org.apache.commons.lang3.StringUtils;
+
+              class A {
+                  String pad(String s, int width) {
+                      return StringUtils.leftPad(s.trim(), width) + StringUtils.rightPad(s, width + 2);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void requiresJava11() {
+        rewriteRun(
+          spec -> spec.allSources(s -> s.markers(javaVersion(8))),
+          // language=java
+          java(
+            """
+              import org.apache.commons.lang3.StringUtils;
+
+              class A {
+                  String pad(String s) {
+                      return StringUtils.leftPad(s, 8);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.commons.lang;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class ReplaceBuilderChainsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(), "commons-lang3"))
+          .recipe(new ReplaceBuilderChains());
+    }
+
+    @DocumentExample
+    @Test
+    void builderChains() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.commons.lang3.builder.EqualsBuilder;
+              import org.apache.commons.lang3.builder.HashCodeBuilder;
+              import org.apache.commons.lang3.builder.ToStringBuilder;
+
+              class Point {
+                  private int x;
+                  private String label;
+                  private String[] tags;
+
+                  @Override
+                  public boolean equals(Object o) {
+                      if (!(o instanceof Point)) {
+                          return false;
+                      }
+                      Point other = (Point) o;
+                      return new EqualsBuilder()
+                              .append(x, other.x)
+                              .append(label, other.label)
+                              .append(tags, other.tags)
+                              .isEquals();
+                  }
+
+                  @Override
+                  public int hashCode() {
+                      return new HashCodeBuilder(17, 37).append(x).append(label).append(tags).toHashCode();
+                  }
+
+                  @Override
+                  public String toString() {
+                      return new ToStringBuilder(this).append("x", x).append("label", label).toString();
+                  }
+              }
+              """,
+            """
+              import java.util.Arrays;
+              import java.util.Objects;
+
+              class Point {
+                  private int x;
+                  private String label;
+                  private String[] tags;
+
+                  @Override
+                  public boolean equals(Object o) {
+                      if (!(o instanceof Point)) {
+                          return false;
+                      }
+                      Point other = (Point) o;
+                      return x == other.x && Objects.equals(label, other.label) && Arrays.deepEquals(tags, other.tags);
+                  }
+
+                  @Override
+                  public int hashCode() {
+                      return Objects.hash(x, label, Arrays.deepHashCode(tags));
+                  }
+
+                  @Override
+                  public String toString() {
+                      return getClass().getName() + "@" + Integer.toHexString(System.identityHashCode(this)) + "[x=" + x + ",label=" + Objects.toString(label, "<null>") + "]";
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void appendSuper() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.commons.lang3.builder.EqualsBuilder;
+              import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+              class Point {
+                  private double x;
+
+                  boolean same(Point other) {
+                      return !new EqualsBuilder().appendSuper(super.equals(other)).append(x, other.x).isEquals();
+                  }
+
+                  @Override
+                  public int hashCode() {
+                      return new HashCodeBuilder().appendSuper(super.hashCode()).append(x).toHashCode();
+                  }
+              }
+              """,
+            """
+              import java.util.Objects;
+
+              class Point {
+                  private double x;
+
+                  boolean same(Point other) {
+                      return !(super.equals(other) && Double.compare(x, other.x) == 0);
+                  }
+
+                  @Override
+                  public int hashCode() {
+                      return Objects.hash(super.hashCode(), x);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepCustomStylesAndUntypedValues() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.commons.lang3.builder.HashCodeBuilder;
+              import org.apache.commons.lang3.builder.ToStringBuilder;
+              import org.apache.commons.lang3.builder.ToStringStyle;
+
+              class Point {
+                  private int x;
+                  private Object value;
+
+                  @Override
+                  public int hashCode() {
+                      return new HashCodeBuilder().append(x).append(value).toHashCode();
+                  }
+
+                  @Override
+                  public String toString() {
+                      return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE).append("x", x).toString();
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.commons.lang;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class ReplaceReflectionBuildersTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(), "commons-lang3"))
+          .recipe(new ReplaceReflectionBuilders());
+    }
+
+    @DocumentExample
+    @Test
+    void equalsAndHashCode() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.commons.lang3.builder.EqualsBuilder;
+              import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+              final class Point {
+                  private static int count;
+                  private int x;
+                  private double y;
+                  private String label;
+                  private int[] path;
+                  private transient int cached;
+
+                  @Override
+                  public boolean equals(Object o) {
+                      return EqualsBuilder.reflectionEquals(this, o);
+                  }
+
+                  @Override
+                  public int hashCode() {
+                      return HashCodeBuilder.reflectionHashCode(this);
+                  }
+              }
+              """,
+            """
+              import java.util.Arrays;
+              import java.util.Objects;
+
+              final class Point {
+                  private static int count;
+                  private int x;
+                  private double y;
+                  private String label;
+                  private int[] path;
+                  private transient int cached;
+
+                  @Override
+                  public boolean equals(Object o) {
+                      if (this == o) {
+                          return true;
+                      }
+                      if (o == null || getClass() != o.getClass()) {
+                          return false;
+                      }
+                      Point that = (Point) o;
+                      return x == that.x && Double.compare(y, that.y) == 0 && Objects.equals(label, that.label) && Arrays.equals(path, that.path);
+                  }
+
+                  @Override
+                  public int hashCode() {
+                      return Objects.hash(x, y, label, Arrays.hashCode(path));
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void reflectionToString() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.commons.lang3.builder.ToStringBuilder;
+
+              final class Point {
+                  private int x;
+                  private String label;
+
+                  @Override
+                  public String toString() {
+                      return ToStringBuilder.reflectionToString(this);
+                  }
+              }
+              """,
+            """
+              import java.util.Objects;
+
+              final class Point {
+                  private int x;
+                  private String label;
+
+                  @Override
+                  public String toString() {
+                      return getClass().getName() + "@" + Integer.toHexString(System.identityHashCode(this)) + "[x=" + x + ",label=" + Objects.toString(label, "<null>") + "]";
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void commonsLang2() {
+        rewriteRun(
+          spec -> spec.parser(JavaParser.fromJavaVersion().classpath("commons-lang")),
+          //language=java
+          java(
+            """
+              import org.apache.commons.lang.builder.HashCodeBuilder;
+
+              final class Point {
+                  private int x;
+                  private String label;
+
+                  @Override
+                  public int hashCode() {
+                      return HashCodeBuilder.reflectionHashCode(this);
+                  }
+              }
+              """,
+            """
+              import java.util.Objects;
+
+              final class Point {
+                  private int x;
+                  private String label;
+
+                  @Override
+                  public int hashCode() {
+                      return Objects.hash(x, label);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepInheritedAndUntypedFields() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+              class Base {
+                  protected int id;
+              }
+
+              final class Point extends Base {
+                  private int x;
+
+                  @Override
+                  public int hashCode() {
+                      return HashCodeBuilder.reflectionHashCode(this);
+                  }
+              }
+
+              final class Holder {
+                  private Object value;
+
+                  @Override
+                  public int hashCode() {
+                      return HashCodeBuilder.reflectionHashCode(this);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepExcludedFieldNames() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+              final class Point {
+                  private int x;
+
+                  @Override
+                  public int hashCode() {
+                      return HashCodeBuilder.reflectionHashCode(this, "x");
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepNonFinalClass() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+              class Point {
+                  private int x;
+
+                  @Override
+                  public int hashCode() {
+                      return HashCodeBuilder.reflectionHashCode(this);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.httpclient5;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.apache.table.UnclosedHttpResponses;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class CloseHttpResponsesTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .parser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(),
+            "httpclient-4", "httpcore-4", "httpclient5", "httpcore5"))
+          .recipe(new CloseHttpResponses());
+    }
+
+    @DocumentExample
+    @Test
+    void wrapsUnclosedResponseInTryWithResources() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.http.client.methods.CloseableHttpResponse;
+              import org.apache.http.client.methods.HttpGet;
+              import org.apache.http.impl.client.CloseableHttpClient;
+              import org.apache.http.util.EntityUtils;
+
+              import java.io.IOException;
+
+              class A {
+                  String fetch(CloseableHttpClient client, String url) throws IOException {
+                      CloseableHttpResponse response = client.execute(new HttpGet(url));
+                      String body = EntityUtils.toString(response.getEntity());
+                      return body;
+                  }
+              }
+              """,
+            """
+              import org.apache.http.client.methods.CloseableHttpResponse;
+              import org.apache.http.client.methods.HttpGet;
+              import org.apache.http.impl.client.CloseableHttpClient;
+              import org.apache.http.util.EntityUtils;
+
+              import java.io.IOException;
+
+              class A {
+                  String fetch(CloseableHttpClient client, String url) throws IOException {
+                      try (CloseableHttpResponse response = client.execute(new HttpGet(url))) {
+                          String body = EntityUtils.toString(response.getEntity());
+                          return body;
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void onlyWrapsStatementsUsingTheResponse() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.classic.methods.HttpGet;
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+
+              import java.io.IOException;
+
+              class A {
+                  void status(CloseableHttpClient client, HttpGet get) throws IOException {
+                      CloseableHttpResponse response = client.execute(get);
+                      System.out.println(response.getCode());
+                      System.out.println("done");
+                  }
+              }
+              """,
+            """
+              import org.apache.hc.client5.http.classic.methods.HttpGet;
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+
+              import java.io.IOException;
+
+              class A {
+                  void status(CloseableHttpClient client, HttpGet get) throws IOException {
+                      try (CloseableHttpResponse response = client.execute(get)) {
+                          System.out.println(response.getCode());
+                      }
+                      System.out.println("done");
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noChangeWhenClosedInFinally() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.http.client.methods.CloseableHttpResponse;
+              import org.apache.http.client.methods.HttpGet;
+              import org.apache.http.impl.client.CloseableHttpClient;
+              import org.apache.http.util.EntityUtils;
+
+              import java.io.IOException;
+
+              class A {
+                  String fetch(CloseableHttpClient client, HttpGet get) throws IOException {
+                      CloseableHttpResponse response = client.execute(get);
+                      try {
+                          return EntityUtils.toString(response.getEntity());
+                      } finally {
+                          response.close();
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noChangeWhenEntityConsumed() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.http.client.methods.CloseableHttpResponse;
+              import org.apache.http.client.methods.HttpGet;
+              import org.apache.http.impl.client.CloseableHttpClient;
+              import org.apache.http.util.EntityUtils;
+
+              import java.io.IOException;
+
+              class A {
+                  int fetch(CloseableHttpClient client, HttpGet get) throws IOException {
+                      CloseableHttpResponse response = client.execute(get);
+                      int status = response.getStatusLine().getStatusCode();
+                      EntityUtils.consume(response.getEntity());
+                      return status;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noChangeWhenResponseEscapes() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.http.client.methods.CloseableHttpResponse;
+              import org.apache.http.client.methods.HttpGet;
+              import org.apache.http.impl.client.CloseableHttpClient;
+
+              import java.io.IOException;
+
+              class A {
+                  CloseableHttpResponse fetch(CloseableHttpClient client, HttpGet get) throws IOException {
+                      CloseableHttpResponse response = client.execute(get);
+                      return response;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void reportsDiscardedResponse() {
+        rewriteRun(
+          spec -> spec.dataTable(UnclosedHttpResponses.Row.class, rows -> assertThat(rows)
+            .singleElement()
+            .satisfies(row -> {
+                assertThat(row.getMethod()).isEqualTo("ping");
+                assertThat(row.getCode()).isEqualTo("client.execute(get)");
+                assertThat(row.getReason()).isEqualTo("Response is discarded without being closed");
+            })),
+          //language=java
+          java(
+            """
+              import org.apache.http.client.methods.HttpGet;
+              import org.apache.http.impl.client.CloseableHttpClient;
+
+              import java.io.IOException;
+
+              class A {
+                  void ping(CloseableHttpClient client, HttpGet get) throws IOException {
+                      client.execute(get);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
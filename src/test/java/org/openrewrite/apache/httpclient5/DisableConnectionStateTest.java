@@ -0,0 +1,247 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.httpclient5;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.apache.table.AmbiguousConnectionState;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class DisableConnectionStateTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .parser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(),
+            "httpclient-4", "httpcore-4", "httpclient5", "httpcore5"))
+          .recipe(new DisableConnectionState("A client(..)", null, null));
+    }
+
+    @DocumentExample
+    @Test
+    void disableConnectionState() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+              import org.apache.hc.client5.http.impl.classic.HttpClients;
+
+              class A {
+                  CloseableHttpClient client() {
+                      return HttpClients.custom()
+                              .setUserAgent("inventory-service")
+                              .build();
+                  }
+              }
+              """,
+            """
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+              import org.apache.hc.client5.http.impl.classic.HttpClients;
+
+              class A {
+                  CloseableHttpClient client() {
+                      return HttpClients.custom()
+                              .setUserAgent("inventory-service").disableConnectionState()
+                              .build();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noopUserTokenHandlerAndNoCookies() {
+        rewriteRun(
+          spec -> spec.recipe(new DisableConnectionState("A client(..)", "noopUserTokenHandler", true)),
+          //language=java
+          java(
+            """
+              import org.apache.http.impl.client.CloseableHttpClient;
+              import org.apache.http.impl.client.HttpClientBuilder;
+
+              class A {
+                  CloseableHttpClient client() {
+                      return HttpClientBuilder.create().build();
+                  }
+              }
+              """,
+            """
+              import org.apache.http.impl.client.CloseableHttpClient;
+              import org.apache.http.impl.client.HttpClientBuilder;
+              import org.apache.http.impl.client.NoopUserTokenHandler;
+
+              class A {
+                  CloseableHttpClient client() {
+                      return HttpClientBuilder.create().setUserTokenHandler(NoopUserTokenHandler.INSTANCE).disableCookieManagement().build();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepExplicitConnectionState() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+              import org.apache.hc.client5.http.impl.classic.HttpClients;
+
+              class A {
+                  CloseableHttpClient client() {
+                      return HttpClients.custom().disableConnectionState().build();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void reportCredentialsProvider() {
+        rewriteRun(
+          spec -> spec.dataTable(AmbiguousConnectionState.Row.class, rows -> assertThat(rows)
+            .singleElement()
+            .satisfies(row -> {
+                assertThat(row.getMethod()).isEqualTo("client");
+                assertThat(row.getReason()).isEqualTo("Builder configures authentication that may be connection based");
+            })),
+          //language=java
+          java(
+            """
+              import org.apache.http.client.CredentialsProvider;
+              import org.apache.http.impl.client.CloseableHttpClient;
+              import org.apache.http.impl.client.HttpClients;
+
+              class A {
+                  CloseableHttpClient client(CredentialsProvider credentials) {
+                      return HttpClients.custom().setDefaultCredentialsProvider(credentials).build();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void reportBuilderConfiguredAcrossStatements() {
+        rewriteRun(
+          spec -> spec.dataTable(AmbiguousConnectionState.Row.class, rows -> assertThat(rows)
+            .singleElement()
+            .satisfies(row -> assertThat(row.getReason()).isEqualTo("Builder is configured across statements"))),
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+              import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+
+              class A {
+                  CloseableHttpClient client(HttpClientBuilder builder) {
+                      return builder.build();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepClientsNotSelectedAsStateless() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+              import org.apache.hc.client5.http.impl.classic.HttpClients;
+
+              class A {
+                  CloseableHttpClient ntlmClient() {
+                      return HttpClients.custom().build();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void disableConnectionStateWithInlinePoolingConnectionManager() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+              import org.apache.hc.client5.http.impl.classic.HttpClients;
+              import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+
+              class A {
+                  CloseableHttpClient client() {
+                      return HttpClients.custom()
+                              .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create().setMaxConnTotal(50).build())
+                              .build();
+                  }
+              }
+              """,
+            """
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+              import org.apache.hc.client5.http.impl.classic.HttpClients;
+              import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+
+              class A {
+                  CloseableHttpClient client() {
+                      return HttpClients.custom()
+                              .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create().setMaxConnTotal(50).build()).disableConnectionState()
+                              .build();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void reportConnectionManager() {
+        rewriteRun(
+          spec -> spec.dataTable(AmbiguousConnectionState.Row.class, rows -> assertThat(rows)
+            .singleElement()
+            .satisfies(row -> assertThat(row.getReason()).isEqualTo("Builder sets a connection manager that may present a client certificate"))),
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+              import org.apache.hc.client5.http.impl.classic.HttpClients;
+              import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+
+              class A {
+                  CloseableHttpClient client(HttpClientConnectionManager connectionManager) {
+                      return HttpClients.custom().setConnectionManager(connectionManager).build();
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.httpclient5;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class HoistConstantRequestConfigTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .parser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(),
+            "httpclient-4", "httpcore-4", "httpclient5", "httpcore5"))
+          .recipe(new HoistConstantRequestConfig());
+    }
+
+    @DocumentExample
+    @Test
+    void hoistHttpClient4RequestConfig() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.http.client.config.RequestConfig;
+              import org.apache.http.client.methods.HttpGet;
+
+              class A {
+                  private static final int TIMEOUT = 5000;
+
+                  HttpGet get(String uri) {
+                      HttpGet get = new HttpGet(uri);
+                      get.setConfig(RequestConfig.custom().setConnectTimeout(TIMEOUT).setSocketTimeout(2 * TIMEOUT).build());
+                      return get;
+                  }
+              }
+              """,
+            """
+              import org.apache.http.client.config.RequestConfig;
+              import org.apache.http.client.methods.HttpGet;
+
+              class A {
+                  private static final int TIMEOUT = 5000;
+                  private static final RequestConfig REQUEST_CONFIG = RequestConfig.custom().setConnectTimeout(TIMEOUT).setSocketTimeout(2 * TIMEOUT).build();
+
+                  HttpGet get(String uri) {
+                      HttpGet get = new HttpGet(uri);
+                      get.setConfig(REQUEST_CONFIG);
+                      return get;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void identicalHttpClient5ChainsShareConstant() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.classic.methods.HttpGet;
+              import org.apache.hc.client5.http.classic.methods.HttpPost;
+              import org.apache.hc.client5.http.config.RequestConfig;
+              import org.apache.hc.core5.util.Timeout;
+
+              class A {
+                  HttpGet get(String uri) {
+                      HttpGet get = new HttpGet(uri);
+                      get.setConfig(RequestConfig.custom().setResponseTimeout(Timeout.ofSeconds(5)).build());
+                      return get;
+                  }
+
+                  HttpPost post(String uri) {
+                      HttpPost post = new HttpPost(uri);
+                      post.setConfig(RequestConfig.custom().setResponseTimeout(Timeout.ofSeconds(5)).build());
+                      return post;
+                  }
+              }
+              """,
+            """
+              import org.apache.hc.client5.http.classic.methods.HttpGet;
+              import org.apache.hc.client5.http.classic.methods.HttpPost;
+              import org.apache.hc.client5.http.config.RequestConfig;
+              import org.apache.hc.core5.util.Timeout;
+
+              class A {
+                  private static final RequestConfig REQUEST_CONFIG = RequestConfig.custom().setResponseTimeout(Timeout.ofSeconds(5)).build();
+
+                  HttpGet get(String uri) {
+                      HttpGet get = new HttpGet(uri);
+                      get.setConfig(REQUEST_CONFIG);
+                      return get;
+                  }
+
+                  HttpPost post(String uri) {
+                      HttpPost post = new HttpPost(uri);
+                      post.setConfig(REQUEST_CONFIG);
+                      return post;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepChainInConstructorRunBeforeConstant() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.http.client.config.RequestConfig;
+              import org.apache.http.client.methods.HttpGet;
+
+              class Requests {
+                  static final Requests INSTANCE = new Requests();
+
+                  private final RequestConfig config;
+
+                  Requests() {
+                      config = RequestConfig.custom().setSocketTimeout(5000).build();
+                  }
+
+                  HttpGet get(String uri) {
+                      HttpGet get = new HttpGet(uri);
+                      get.setConfig(RequestConfig.custom().setConnectTimeout(1000).build());
+                      return get;
+                  }
+              }
+              """,
+            """
+              import org.apache.http.client.config.RequestConfig;
+              import org.apache.http.client.methods.HttpGet;
+
+              class Requests {
+                  static final Requests INSTANCE = new Requests();
+
+                  private final RequestConfig config;
+                  private static final RequestConfig REQUEST_CONFIG = RequestConfig.custom().setConnectTimeout(1000).build();
+
+                  Requests() {
+                      config = RequestConfig.custom().setSocketTimeout(5000).build();
+                  }
+
+                  HttpGet get(String uri) {
+                      HttpGet get = new HttpGet(uri);
+                      get.setConfig(REQUEST_CONFIG);
+                      return get;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepChainWithRuntimeArguments() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.http.client.config.RequestConfig;
+              import org.apache.http.client.methods.HttpGet;
+
+              class A {
+                  HttpGet get(String uri, int timeout) {
+                      HttpGet get = new HttpGet(uri);
+                      get.setConfig(RequestConfig.custom().setSocketTimeout(timeout).build());
+                      return get;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepDefaultRequestConfig() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.http.client.config.RequestConfig;
+              import org.apache.http.impl.client.CloseableHttpClient;
+              import org.apache.http.impl.client.HttpClients;
+
+              class A {
+                  CloseableHttpClient client() {
+                      return HttpClients.custom()
+                              .setDefaultRequestConfig(RequestConfig.custom().setSocketTimeout(5000).build())
+                              .build();
+                  }
+              }
+              """
+          )
+        );
+    }
+}
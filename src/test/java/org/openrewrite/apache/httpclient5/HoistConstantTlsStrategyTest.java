@@ -0,0 +1,272 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.httpclient5;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class HoistConstantTlsStrategyTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .parser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(),
+            "httpclient5", "httpcore5"))
+          .recipe(new HoistConstantTlsStrategy());
+    }
+
+    @DocumentExample
+    @Test
+    void hoistTrustStoreAndTlsStrategy() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+              import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+              import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
+              import org.apache.hc.client5.http.ssl.TlsSocketStrategy;
+              import org.apache.hc.core5.ssl.SSLContexts;
+
+              import javax.net.ssl.SSLContext;
+              import java.io.File;
+
+              class ClientFactory {
+                  HttpClientConnectionManager connectionManager() throws Exception {
+                      SSLContext sslContext = SSLContexts.custom()
+                              .loadTrustMaterial(new File("truststore.jks"), "changeit".toCharArray())
+                              .build();
+                      TlsSocketStrategy tlsSocketStrategy = new DefaultClientTlsStrategy(sslContext);
+                      return PoolingHttpClientConnectionManagerBuilder.create().setTlsSocketStrategy(tlsSocketStrategy).build();
+                  }
+              }
+              """,
+            """
+              import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+              import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+              import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
+              import org.apache.hc.client5.http.ssl.TlsSocketStrategy;
+              import org.apache.hc.core5.ssl.SSLContexts;
+
+              import javax.net.ssl.SSLContext;
+              import java.io.File;
+              import java.io.IOException;
+              import java.security.GeneralSecurityException;
+
+              class ClientFactory {
+                  HttpClientConnectionManager connectionManager() throws Exception {
+                      SSLContext sslContext = TlsHolder.SSL_CONTEXT;
+                      TlsSocketStrategy tlsSocketStrategy = TlsHolder.TLS_STRATEGY;
+                      return PoolingHttpClientConnectionManagerBuilder.create().setTlsSocketStrategy(tlsSocketStrategy).build();
+                  }
+
+                  private static final class TlsHolder {
+                      static final SSLContext SSL_CONTEXT;
+
+                      static {
+                          try {
+                              SSL_CONTEXT = SSLContexts.custom()
+                                      .loadTrustMaterial(new File("truststore.jks"), "changeit".toCharArray())
+                                      .build();
+                          } catch (GeneralSecurityException | IOException e) {
+                              throw new ExceptionInInitializerError(e);
+                          }
+                      }
+
+                      static final DefaultClientTlsStrategy TLS_STRATEGY = new DefaultClientTlsStrategy(SSL_CONTEXT);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void shareDefaultSslContext() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
+              import org.apache.hc.client5.http.ssl.TlsSocketStrategy;
+              import org.apache.hc.core5.ssl.SSLContexts;
+
+              class ClientFactory {
+                  TlsSocketStrategy tenant() {
+                      return new DefaultClientTlsStrategy(SSLContexts.createDefault());
+                  }
+
+                  TlsSocketStrategy request() {
+                      return new DefaultClientTlsStrategy(SSLContexts.createDefault());
+                  }
+              }
+              """,
+            """
+              import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
+              import org.apache.hc.client5.http.ssl.TlsSocketStrategy;
+              import org.apache.hc.core5.ssl.SSLContexts;
+
+              import javax.net.ssl.SSLContext;
+
+              class ClientFactory {
+                  TlsSocketStrategy tenant() {
+                      return TlsHolder.TLS_STRATEGY;
+                  }
+
+                  TlsSocketStrategy request() {
+                      return TlsHolder.TLS_STRATEGY;
+                  }
+
+                  private static final class TlsHolder {
+                      static final SSLContext SSL_CONTEXT = SSLContexts.createDefault();
+                      static final DefaultClientTlsStrategy TLS_STRATEGY = new DefaultClientTlsStrategy(SSL_CONTEXT);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepSslContextFromParameters() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
+              import org.apache.hc.client5.http.ssl.TlsSocketStrategy;
+              import org.apache.hc.core5.ssl.SSLContexts;
+
+              import javax.net.ssl.SSLContext;
+              import java.io.File;
+
+              class ClientFactory {
+                  TlsSocketStrategy tenant(File trustStore, char[] password) throws Exception {
+                      SSLContext sslContext = SSLContexts.custom().loadTrustMaterial(trustStore, password).build();
+                      return new DefaultClientTlsStrategy(sslContext);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepSslContextInsideTryCatchingItsExceptions() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
+              import org.apache.hc.client5.http.ssl.TlsSocketStrategy;
+              import org.apache.hc.core5.ssl.SSLContexts;
+
+              import java.io.File;
+              import java.io.IOException;
+              import java.security.GeneralSecurityException;
+
+              class ClientFactory {
+                  TlsSocketStrategy tlsSocketStrategy() {
+                      try {
+                          return new DefaultClientTlsStrategy(SSLContexts.custom()
+                                  .loadTrustMaterial(new File("truststore.jks"), "changeit".toCharArray())
+                                  .build());
+                      } catch (IOException | GeneralSecurityException e) {
+                          throw new IllegalStateException("Cannot load the trust store", e);
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepSslContextInMethodDeclaringItsExceptions() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
+              import org.apache.hc.client5.http.ssl.TlsSocketStrategy;
+              import org.apache.hc.core5.ssl.SSLContexts;
+
+              import java.io.File;
+              import java.io.IOException;
+              import java.security.GeneralSecurityException;
+
+              class ClientFactory {
+                  TlsSocketStrategy tlsSocketStrategy() throws IOException, GeneralSecurityException {
+                      return new DefaultClientTlsStrategy(SSLContexts.custom()
+                              .loadTrustMaterial(new File("truststore.jks"), "changeit".toCharArray())
+                              .build());
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void shareTlsStrategyWithAsyncConnectionManager() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+              import org.apache.hc.client5.http.nio.AsyncClientConnectionManager;
+              import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
+              import org.apache.hc.core5.ssl.SSLContexts;
+
+              class ClientFactory {
+                  AsyncClientConnectionManager connectionManager() {
+                      return PoolingAsyncClientConnectionManagerBuilder.create()
+                              .setTlsStrategy(new DefaultClientTlsStrategy(SSLContexts.createDefault()))
+                              .build();
+                  }
+              }
+              """,
+            """
+              import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+              import org.apache.hc.client5.http.nio.AsyncClientConnectionManager;
+              import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
+              import org.apache.hc.core5.ssl.SSLContexts;
+
+              import javax.net.ssl.SSLContext;
+
+              class ClientFactory {
+                  AsyncClientConnectionManager connectionManager() {
+                      return PoolingAsyncClientConnectionManagerBuilder.create()
+                              .setTlsStrategy(TlsHolder.TLS_STRATEGY)
+                              .build();
+                  }
+
+                  private static final class TlsHolder {
+                      static final SSLContext SSL_CONTEXT = SSLContexts.createDefault();
+                      static final DefaultClientTlsStrategy TLS_STRATEGY = new DefaultClientTlsStrategy(SSL_CONTEXT);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
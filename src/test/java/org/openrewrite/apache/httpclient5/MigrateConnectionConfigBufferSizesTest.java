@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.httpclient5;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class MigrateConnectionConfigBufferSizesTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .parser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(),
+            "httpclient-4", "httpcore-4", "httpclient5", "httpcore5"))
+          .recipe(new MigrateConnectionConfigBufferSizes());
+    }
+
+    @DocumentExample
+    @Test
+    void connectionManagerBufferSizes() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.http.config.ConnectionConfig;
+              import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+              class A {
+                  PoolingHttpClientConnectionManager connectionManager() {
+                      PoolingHttpClientConnectionManager cm = new PoolingHttpClientConnectionManager();
+                      cm.setDefaultConnectionConfig(ConnectionConfig.custom()
+                              .setBufferSize(64 * 1024)
+                              .setFragmentSizeHint(8 * 1024)
+                              .build());
+                      return cm;
+                  }
+              }
+              """,
+            """
+              import org.apache.hc.client5.http.impl.io.ManagedHttpClientConnectionFactory;
+              import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+              import org.apache.hc.core5.http.config.Http1Config;
+              import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+              class A {
+                  PoolingHttpClientConnectionManager connectionManager() {
+                      PoolingHttpClientConnectionManager cm = PoolingHttpClientConnectionManagerBuilder.create().setConnectionFactory(ManagedHttpClientConnectionFactory.builder().http1Config(Http1Config.custom().setBufferSize(64 * 1024).setChunkSizeHint(8 * 1024).build()).build()).build();
+                      return cm;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void clientBuilderBufferSizeAndCharset() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.http.config.ConnectionConfig;
+              import org.apache.http.impl.client.CloseableHttpClient;
+              import org.apache.http.impl.client.HttpClients;
+
+              import java.nio.charset.StandardCharsets;
+
+              class A {
+                  CloseableHttpClient client() {
+                      return HttpClients.custom()
+                              .setDefaultConnectionConfig(ConnectionConfig.custom().setBufferSize(32768).setCharset(StandardCharsets.UTF_8).build())
+                              .build();
+                  }
+              }
+              """,
+            """
+              import org.apache.hc.client5.http.impl.io.ManagedHttpClientConnectionFactory;
+              import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+              import org.apache.hc.core5.http.config.CharCodingConfig;
+              import org.apache.hc.core5.http.config.Http1Config;
+              import org.apache.http.impl.client.CloseableHttpClient;
+              import org.apache.http.impl.client.HttpClients;
+
+              import java.nio.charset.StandardCharsets;
+
+              class A {
+                  CloseableHttpClient client() {
+                      return HttpClients.custom()
+                              .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create().setConnectionFactory(ManagedHttpClientConnectionFactory.builder().http1Config(Http1Config.custom().setBufferSize(32768).build()).charCodingConfig(CharCodingConfig.custom().setCharset(StandardCharsets.UTF_8).build()).build()).build())
+                              .build();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepWhenClientBuilderConfiguresInternalConnectionManager() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.http.config.ConnectionConfig;
+              import org.apache.http.impl.client.CloseableHttpClient;
+              import org.apache.http.impl.client.HttpClients;
+
+              class A {
+                  CloseableHttpClient client() {
+                      return HttpClients.custom()
+                              .setMaxConnTotal(100)
+                              .setDefaultConnectionConfig(ConnectionConfig.custom().setBufferSize(32768).build())
+                              .build();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepWhenBuilderVariableConfiguresInternalConnectionManager() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.http.config.ConnectionConfig;
+              import org.apache.http.impl.client.CloseableHttpClient;
+              import org.apache.http.impl.client.HttpClientBuilder;
+              import org.apache.http.impl.client.HttpClients;
+
+              class A {
+                  CloseableHttpClient client() {
+                      HttpClientBuilder builder = HttpClients.custom().useSystemProperties();
+                      builder.setMaxConnPerRoute(20);
+                      builder.setDefaultConnectionConfig(ConnectionConfig.custom().setBufferSize(32768).build());
+                      return builder.build();
+                  }
+              }
+              """
+          )
+        );
+    }
+}
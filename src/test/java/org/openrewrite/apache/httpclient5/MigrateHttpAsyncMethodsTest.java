@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.httpclient5;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class MigrateHttpAsyncMethodsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .parser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(),
+            "httpcore-4", "httpasyncclient-4", "httpcore-nio-4", "httpclient5", "httpcore5"))
+          .recipe(new MigrateHttpAsyncMethods(true));
+    }
+
+    @DocumentExample
+    @Test
+    void migrateAnonymousCharConsumer() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.http.HttpResponse;
+              import org.apache.http.nio.IOControl;
+              import org.apache.http.nio.client.methods.AsyncCharConsumer;
+              import org.apache.http.nio.protocol.HttpAsyncResponseConsumer;
+              import org.apache.http.protocol.HttpContext;
+
+              import java.io.IOException;
+              import java.nio.CharBuffer;
+
+              class A {
+                  HttpAsyncResponseConsumer<Integer> lineCounter() {
+                      return new AsyncCharConsumer<Integer>() {
+                          private int lines;
+
+                          @Override
+                          protected void onResponseReceived(HttpResponse response) {
+                              lines = 0;
+                          }
+
+                          @Override
+                          protected void onCharReceived(CharBuffer buf, IOControl ioctrl) throws IOException {
+                              while (buf.hasRemaining()) {
+                                  if (buf.get() == '\\n') {
+                                      lines++;
+                                  }
+                              }
+                          }
+
+                          @Override
+                          protected Integer buildResult(HttpContext context) throws IOException {
+                              return lines;
+                          }
+                      };
+                  }
+              }
+              """,
+            """
+              import org.apache.hc.client5.http.async.methods.AbstractCharResponseConsumer;
+              import org.apache.hc.core5.http.ContentType;
+              import org.apache.http.HttpResponse;
+              import org.apache.http.nio.protocol.HttpAsyncResponseConsumer;
+
+              import java.io.IOException;
+              import java.nio.CharBuffer;
+
+              class A {
+                  HttpAsyncResponseConsumer<Integer> lineCounter() {
+                      return new AbstractCharResponseConsumer<Integer>() {
+                          private int lines;
+
+                          @Override
+                          protected void start(HttpResponse response, ContentType contentType) {
+                              lines = 0;
+                          }
+
+                          @Override
+                          protected void data(CharBuffer buf, boolean endOfStream) throws IOException {
+                              while (buf.hasRemaining()) {
+                                  if (buf.get() == '\\n') {
+                                      lines++;
+                                  }
+                              }
+                          }
+
+                          @Override
+                          protected int capacityIncrement() {
+                              return 8192;
+                          }
+
+                          @Override
+                          protected Integer buildResult() throws IOException {
+                              return lines;
+                          }
+
+                          @Override
+                          public void releaseResources() {
+                          }
+                      };
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepConsumerUsingIOControl() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.http.HttpResponse;
+              import org.apache.http.nio.IOControl;
+              import org.apache.http.nio.client.methods.AsyncByteConsumer;
+              import org.apache.http.protocol.HttpContext;
+
+              import java.io.IOException;
+              import java.nio.ByteBuffer;
+
+              class Discarding extends AsyncByteConsumer<Void> {
+                  @Override
+                  protected void onResponseReceived(HttpResponse response) {
+                  }
+
+                  @Override
+                  protected void onByteReceived(ByteBuffer buf, IOControl ioctrl) throws IOException {
+                      ioctrl.suspendInput();
+                  }
+
+                  @Override
+                  protected Void buildResult(HttpContext context) {
+                      return null;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noChangeWhenOptionIsDisabled() {
+        rewriteRun(
+          spec -> spec.recipe(new MigrateHttpAsyncMethods(null)),
+          //language=java
+          java(
+            """
+              import org.apache.http.HttpResponse;
+              import org.apache.http.nio.IOControl;
+              import org.apache.http.nio.client.methods.AsyncByteConsumer;
+              import org.apache.http.protocol.HttpContext;
+
+              import java.nio.ByteBuffer;
+
+              class Discarding extends AsyncByteConsumer<Void> {
+                  @Override
+                  protected void onResponseReceived(HttpResponse response) {
+                  }
+
+                  @Override
+                  protected void onByteReceived(ByteBuffer buf, IOControl ioctrl) {
+                  }
+
+                  @Override
+                  protected Void buildResult(HttpContext context) {
+                      return null;
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.httpclient5;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class MigrateRetryHandlersTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .parser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(),
+            "httpclient-4", "httpcore-4", "httpclient5", "httpcore5"))
+          .recipe(new MigrateRetryHandlers());
+    }
+
+    @DocumentExample
+    @Test
+    void defaultRetryHandler() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.http.impl.client.CloseableHttpClient;
+              import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
+              import org.apache.http.impl.client.HttpClients;
+
+              class A {
+                  CloseableHttpClient client() {
+                      return HttpClients.custom()
+                              .setRetryHandler(new DefaultHttpRequestRetryHandler(5, false))
+                              .build();
+                  }
+              }
+              """,
+            """
+              import org.apache.hc.client5.http.impl.DefaultHttpRequestRetryStrategy;
+              import org.apache.hc.core5.util.TimeValue;
+              import org.apache.http.impl.client.CloseableHttpClient;
+              import org.apache.http.impl.client.HttpClients;
+
+              class A {
+                  CloseableHttpClient client() {
+                      return HttpClients.custom()
+                              .setRetryStrategy(new DefaultHttpRequestRetryStrategy(5, TimeValue.ofSeconds(1L)))
+                              .build();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void serviceUnavailableRetryStrategy() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.http.impl.client.CloseableHttpClient;
+              import org.apache.http.impl.client.DefaultServiceUnavailableRetryStrategy;
+              import org.apache.http.impl.client.HttpClients;
+
+              class A {
+                  CloseableHttpClient client() {
+                      return HttpClients.custom()
+                              .setServiceUnavailableRetryStrategy(new DefaultServiceUnavailableRetryStrategy(3, 500))
+                              .build();
+                  }
+              }
+              """,
+            """
+              import org.apache.hc.client5.http.impl.DefaultHttpRequestRetryStrategy;
+              import org.apache.hc.core5.util.TimeValue;
+              import org.apache.http.impl.client.CloseableHttpClient;
+              import org.apache.http.impl.client.HttpClients;
+
+              class A {
+                  CloseableHttpClient client() {
+                      return HttpClients.custom()
+                              .setRetryStrategy(new DefaultHttpRequestRetryStrategy(3, TimeValue.ofMilliseconds(500)))
+                              .build();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void retryHandlerLambda() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.http.impl.client.CloseableHttpClient;
+              import org.apache.http.impl.client.HttpClients;
+
+              class A {
+                  CloseableHttpClient client() {
+                      return HttpClients.custom()
+                              .setRetryHandler((exception, executionCount, context) -> executionCount < 2)
+                              .build();
+                  }
+              }
+              """,
+            """
+              import org.apache.hc.client5.http.HttpRequestRetryStrategy;
+              import org.apache.hc.core5.util.TimeValue;
+              import org.apache.http.HttpRequest;
+              import org.apache.http.HttpResponse;
+              import org.apache.http.impl.client.CloseableHttpClient;
+              import org.apache.http.impl.client.HttpClients;
+              import org.apache.http.protocol.HttpContext;
+
+              import java.io.IOException;
+
+              class A {
+                  CloseableHttpClient client() {
+                      return HttpClients.custom()
+                              .setRetryStrategy(new HttpRequestRetryStrategy() {
+                                  @Override
+                                  public boolean retryRequest(HttpRequest request, IOException exception, int executionCount, HttpContext context) {
+                                      return executionCount < 2;
+                                  }
+
+                                  @Override
+                                  public boolean retryRequest(HttpResponse response, int execCount, HttpContext context) {
+                                      return false;
+                                  }
+
+                                  @Override
+                                  public TimeValue getRetryInterval(HttpResponse response, int execCount, HttpContext context) {
+                                      return TimeValue.ofSeconds(1L);
+                                  }
+                              })
+                              .build();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void retryHandlerDeclaringRequestVariable() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.http.HttpEntityEnclosingRequest;
+              import org.apache.http.HttpRequest;
+              import org.apache.http.client.HttpRequestRetryHandler;
+              import org.apache.http.client.protocol.HttpClientContext;
+              import org.apache.http.protocol.HttpContext;
+
+              import java.io.IOException;
+
+              class IdempotentRetryHandler implements HttpRequestRetryHandler {
+                  @Override
+                  public boolean retryRequest(IOException exception, int executionCount, HttpContext context) {
+                      if (executionCount >= 5) {
+                          return false;
+                      }
+                      HttpClientContext clientContext = HttpClientContext.adapt(context);
+                      HttpRequest request = clientContext.getRequest();
+                      return !(request instanceof HttpEntityEnclosingRequest);
+                  }
+              }
+              """,
+            """
+              import org.apache.hc.client5.http.HttpRequestRetryStrategy;
+              import org.apache.hc.core5.util.TimeValue;
+              import org.apache.http.HttpEntityEnclosingRequest;
+              import org.apache.http.HttpRequest;
+              import org.apache.http.HttpResponse;
+              import org.apache.http.client.protocol.HttpClientContext;
+              import org.apache.http.protocol.HttpContext;
+
+              import java.io.IOException;
+
+              class IdempotentRetryHandler implements HttpRequestRetryStrategy {
+                  @Override
+                  public boolean retryRequest(HttpRequest request1, IOException exception, int executionCount, HttpContext context) {
+                      if (executionCount >= 5) {
+                          return false;
+                      }
+                      HttpClientContext clientContext = HttpClientContext.adapt(context);
+                      HttpRequest request = clientContext.getRequest();
+                      return !(request instanceof HttpEntityEnclosingRequest);
+                  }
+
+                  @Override
+                  public boolean retryRequest(HttpResponse response, int execCount, HttpContext context) {
+                      return false;
+                  }
+
+                  @Override
+                  public TimeValue getRetryInterval(HttpResponse response, int execCount, HttpContext context) {
+                      return TimeValue.ofSeconds(1L);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void customServiceUnavailableRetryStrategy() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.http.HttpResponse;
+              import org.apache.http.client.ServiceUnavailableRetryStrategy;
+              import org.apache.http.protocol.HttpContext;
+
+              class TooManyRequestsRetry implements ServiceUnavailableRetryStrategy {
+                  @Override
+                  public boolean retryRequest(HttpResponse response, int executionCount, HttpContext context) {
+                      return executionCount <= 3 && response.getStatusLine().getStatusCode() == 429;
+                  }
+
+                  @Override
+                  public long getRetryInterval() {
+                      return 2000L;
+                  }
+              }
+              """,
+            """
+              import org.apache.hc.client5.http.HttpRequestRetryStrategy;
+              import org.apache.hc.core5.util.TimeValue;
+              import org.apache.http.HttpRequest;
+              import org.apache.http.HttpResponse;
+              import org.apache.http.protocol.HttpContext;
+
+              import java.io.IOException;
+
+              class TooManyRequestsRetry implements HttpRequestRetryStrategy {
+                  @Override
+                  public boolean retryRequest(HttpResponse response, int executionCount, HttpContext context) {
+                      return executionCount <= 3 && response.getStatusLine().getStatusCode() == 429;
+                  }
+
+                  @Override
+                  public boolean retryRequest(HttpRequest request, IOException exception, int execCount, HttpContext context) {
+                      return false;
+                  }
+
+                  @Override
+                  public TimeValue getRetryInterval(HttpResponse response, int execCount, HttpContext context) {
+                      return TimeValue.ofMilliseconds(2000L);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void bothStrategiesOnOneBuilderAreLeftForReview() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.http.client.HttpRequestRetryHandler;
+              import org.apache.http.client.ServiceUnavailableRetryStrategy;
+              import org.apache.http.impl.client.CloseableHttpClient;
+              import org.apache.http.impl.client.HttpClients;
+
+              class A {
+                  CloseableHttpClient client(HttpRequestRetryHandler handler, ServiceUnavailableRetryStrategy strategy) {
+                      return HttpClients.custom()
+                              .setServiceUnavailableRetryStrategy(strategy)
+                              .setRetryHandler(handler)
+                              .build();
+                  }
+              }
+              """,
+            """
+              import org.apache.http.client.HttpRequestRetryHandler;
+              import org.apache.http.client.ServiceUnavailableRetryStrategy;
+              import org.apache.http.impl.client.CloseableHttpClient;
+              import org.apache.http.impl.client.HttpClients;
+
+              class A {
+                  CloseableHttpClient client(HttpRequestRetryHandler handler, ServiceUnavailableRetryStrategy strategy) {
+                      return HttpClients.custom()
+                              .setServiceUnavailableRetryStrategy(strategy)
+                              .setRetryStrategy(handler)
+                              .build();
+                  }
+              }
+              """
+          )
+        );
+    }
+}
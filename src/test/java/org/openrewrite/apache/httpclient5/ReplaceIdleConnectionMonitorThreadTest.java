@@ -0,0 +1,217 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.httpclient5;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+import org.openrewrite.test.SourceSpecs;
+
+import static org.openrewrite.java.Assertions.java;
+
+class ReplaceIdleConnectionMonitorThreadTest implements RewriteTest {
+
+    //language=java
+    private static final SourceSpecs MONITOR = java(
+      """
+        import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+        import org.apache.hc.core5.util.TimeValue;
+
+        public class IdleConnectionMonitorThread extends Thread {
+            private final PoolingHttpClientConnectionManager connMgr;
+            private volatile boolean shutdown;
+
+            public IdleConnectionMonitorThread(PoolingHttpClientConnectionManager connMgr) {
+                this.connMgr = connMgr;
+            }
+
+            @Override
+            public void run() {
+                try {
+                    while (!shutdown) {
+                        synchronized (this) {
+                            wait(5000);
+                            connMgr.closeExpired();
+                            connMgr.closeIdle(TimeValue.ofSeconds(30));
+                        }
+                    }
+                } catch (InterruptedException ex) {
+                    // terminate
+                }
+            }
+        }
+        """
+    );
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .parser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(),
+            "httpclient5", "httpcore5"))
+          .recipe(new ReplaceIdleConnectionMonitorThread());
+    }
+
+    @DocumentExample
+    @Test
+    void replaceMonitorWithBuilderEviction() {
+        rewriteRun(
+          MONITOR,
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+              import org.apache.hc.client5.http.impl.classic.HttpClients;
+              import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+
+              class A {
+                  CloseableHttpClient client() {
+                      PoolingHttpClientConnectionManager cm = new PoolingHttpClientConnectionManager();
+                      IdleConnectionMonitorThread monitor = new IdleConnectionMonitorThread(cm);
+                      monitor.setDaemon(true);
+                      monitor.start();
+                      return HttpClients.custom()
+                              .setConnectionManager(cm)
+                              .build();
+                  }
+              }
+              """,
+            """
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+              import org.apache.hc.client5.http.impl.classic.HttpClients;
+              import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+              import org.apache.hc.core5.util.TimeValue;
+
+              class A {
+                  CloseableHttpClient client() {
+                      PoolingHttpClientConnectionManager cm = new PoolingHttpClientConnectionManager();
+                      return HttpClients.custom()
+                              .setConnectionManager(cm).evictExpiredConnections().evictIdleConnections(TimeValue.ofSeconds(30))
+                              .build();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepMonitorWithoutBuilderInSameBlock() {
+        rewriteRun(
+          MONITOR,
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+
+              class A {
+                  void monitor(PoolingHttpClientConnectionManager cm) {
+                      new IdleConnectionMonitorThread(cm).start();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepMonitorThatIsShutDownLater() {
+        rewriteRun(
+          MONITOR,
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+              import org.apache.hc.client5.http.impl.classic.HttpClients;
+              import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+
+              class A {
+                  IdleConnectionMonitorThread monitor;
+
+                  CloseableHttpClient client() {
+                      PoolingHttpClientConnectionManager cm = new PoolingHttpClientConnectionManager();
+                      monitor = new IdleConnectionMonitorThread(cm);
+                      monitor.start();
+                      return HttpClients.custom()
+                              .setConnectionManager(cm)
+                              .build();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepMonitorWithPrivateIdleTimeConstant() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+              import org.apache.hc.core5.util.TimeValue;
+
+              public class IdleConnectionMonitorThread extends Thread {
+                  private static final long IDLE_SECONDS = 30;
+
+                  private final PoolingHttpClientConnectionManager connMgr;
+                  private volatile boolean shutdown;
+
+                  public IdleConnectionMonitorThread(PoolingHttpClientConnectionManager connMgr) {
+                      this.connMgr = connMgr;
+                  }
+
+                  @Override
+                  public void run() {
+                      try {
+                          while (!shutdown) {
+                              synchronized (this) {
+                                  wait(5000);
+                                  connMgr.closeExpired();
+                                  connMgr.closeIdle(TimeValue.ofSeconds(IDLE_SECONDS));
+                              }
+                          }
+                      } catch (InterruptedException ex) {
+                          // terminate
+                      }
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+              import org.apache.hc.client5.http.impl.classic.HttpClients;
+              import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+
+              class A {
+                  CloseableHttpClient client() {
+                      PoolingHttpClientConnectionManager cm = new PoolingHttpClientConnectionManager();
+                      IdleConnectionMonitorThread monitor = new IdleConnectionMonitorThread(cm);
+                      monitor.start();
+                      return HttpClients.custom()
+                              .setConnectionManager(cm)
+                              .build();
+                  }
+              }
+              """
+          )
+        );
+    }
+}
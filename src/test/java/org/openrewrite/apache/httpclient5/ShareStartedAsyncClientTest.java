@@ -0,0 +1,199 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.httpclient5;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class ShareStartedAsyncClientTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .parser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(),
+            "httpasyncclient-4", "httpcore-nio-4", "httpclient-4", "httpcore-4", "httpclient5", "httpcore5"))
+          .recipe(new ShareStartedAsyncClient());
+    }
+
+    @DocumentExample
+    @Test
+    void shareHttpClient5AsyncClient() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+              import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+              import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+              import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+
+              class A {
+                  SimpleHttpResponse fetch(SimpleHttpRequest request) throws Exception {
+                      try (CloseableHttpAsyncClient client = HttpAsyncClients.createDefault()) {
+                          client.start();
+                          return client.execute(request, null).get();
+                      }
+                  }
+              }
+              """,
+            """
+              import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+              import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+              import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+              import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+              import org.apache.hc.core5.io.CloseMode;
+
+              class A {
+                  SimpleHttpResponse fetch(SimpleHttpRequest request) throws Exception {
+                      CloseableHttpAsyncClient client = AsyncClientHolder.CLIENT;
+                      return client.execute(request, null).get();
+                  }
+
+                  private static final class AsyncClientHolder {
+                      static final CloseableHttpAsyncClient CLIENT = HttpAsyncClients.createDefault();
+
+                      static {
+                          CLIENT.start();
+                          Runtime.getRuntime().addShutdownHook(new Thread(() -> CLIENT.close(CloseMode.GRACEFUL)));
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void shareHttpClient4AsyncClientClosedInFinally() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.http.HttpResponse;
+              import org.apache.http.client.methods.HttpGet;
+              import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+              import org.apache.http.impl.nio.client.HttpAsyncClients;
+
+              class A {
+                  HttpResponse fetch(String uri) throws Exception {
+                      CloseableHttpAsyncClient client = HttpAsyncClients.createDefault();
+                      client.start();
+                      try {
+                          return client.execute(new HttpGet(uri), null).get();
+                      } finally {
+                          client.close();
+                      }
+                  }
+              }
+              """,
+            """
+              import org.apache.http.HttpResponse;
+              import org.apache.http.client.methods.HttpGet;
+              import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+              import org.apache.http.impl.nio.client.HttpAsyncClients;
+
+              import java.io.IOException;
+
+              class A {
+                  HttpResponse fetch(String uri) throws Exception {
+                      CloseableHttpAsyncClient client = AsyncClientHolder.CLIENT;
+                      return client.execute(new HttpGet(uri), null).get();
+                  }
+
+                  private static final class AsyncClientHolder {
+                      static final CloseableHttpAsyncClient CLIENT = HttpAsyncClients.createDefault();
+
+                      static {
+                          CLIENT.start();
+                          Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                              try {
+                                  CLIENT.close();
+                              } catch (IOException ignored) {
+                                  // the JVM is shutting down
+                              }
+                          }));
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepClientThatIsNotClosed() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+              import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+
+              class A {
+                  CloseableHttpAsyncClient client() {
+                      CloseableHttpAsyncClient client = HttpAsyncClients.createDefault();
+                      client.start();
+                      return client;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepClientThatEscapes() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+              import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+              import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+              import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+
+              import java.util.concurrent.Callable;
+
+              class A {
+                  SimpleHttpResponse fetch(SimpleHttpRequest request) throws Exception {
+                      try (CloseableHttpAsyncClient client = HttpAsyncClients.createDefault()) {
+                          client.start();
+                          register(client);
+                          return client.execute(request, null).get();
+                      }
+                  }
+
+                  Callable<SimpleHttpResponse> later(SimpleHttpRequest request) throws Exception {
+                      try (CloseableHttpAsyncClient client = HttpAsyncClients.createDefault()) {
+                          client.start();
+                          return () -> client.execute(request, null).get();
+                      }
+                  }
+
+                  void register(CloseableHttpAsyncClient client) {
+                  }
+              }
+              """
+          )
+        );
+    }
+}
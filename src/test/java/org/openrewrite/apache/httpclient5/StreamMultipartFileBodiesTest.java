@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.httpclient5;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class StreamMultipartFileBodiesTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .parser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(),
+            "httpmime-4", "httpcore-4", "httpclient5", "httpcore5"))
+          .recipe(new StreamMultipartFileBodies());
+    }
+
+    @DocumentExample
+    @Test
+    void streamFilesInHttpClient5() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.entity.mime.ByteArrayBody;
+              import org.apache.hc.client5.http.entity.mime.MultipartEntityBuilder;
+              import org.apache.hc.core5.http.ContentType;
+              import org.apache.hc.core5.http.HttpEntity;
+
+              import java.io.File;
+              import java.io.IOException;
+              import java.nio.file.Files;
+              import java.nio.file.Path;
+
+              class A {
+                  HttpEntity upload(Path archive, File document) throws IOException {
+                      return MultipartEntityBuilder.create()
+                              .addBinaryBody("archive", Files.readAllBytes(archive))
+                              .addPart("document", new ByteArrayBody(Files.readAllBytes(document.toPath()), ContentType.APPLICATION_PDF, "document.pdf"))
+                              .build();
+                  }
+              }
+              """,
+            """
+              import org.apache.hc.client5.http.entity.mime.FileBody;
+              import org.apache.hc.client5.http.entity.mime.MultipartEntityBuilder;
+              import org.apache.hc.core5.http.ContentType;
+              import org.apache.hc.core5.http.HttpEntity;
+
+              import java.io.File;
+              import java.io.IOException;
+              import java.nio.file.Path;
+
+              class A {
+                  HttpEntity upload(Path archive, File document) throws IOException {
+                      return MultipartEntityBuilder.create()
+                              .addBinaryBody("archive", archive.toFile())
+                              .addPart("document", new FileBody(document, ContentType.APPLICATION_PDF, "document.pdf"))
+                              .build();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void streamFilesInHttpClient4() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.http.entity.ContentType;
+              import org.apache.http.entity.mime.MultipartEntityBuilder;
+              import org.apache.http.entity.mime.content.ByteArrayBody;
+
+              import java.io.IOException;
+              import java.nio.file.Files;
+              import java.nio.file.Path;
+
+              class A {
+                  void upload(MultipartEntityBuilder builder, Path report, Path image) throws IOException {
+                      builder.addBinaryBody("report", Files.readAllBytes(report), ContentType.TEXT_PLAIN, "report.txt");
+                      builder.addPart("image", new ByteArrayBody(Files.readAllBytes(image), "image.png"));
+                  }
+              }
+              """,
+            """
+              import org.apache.http.entity.ContentType;
+              import org.apache.http.entity.mime.MultipartEntityBuilder;
+              import org.apache.http.entity.mime.content.FileBody;
+
+              import java.io.IOException;
+              import java.nio.file.Path;
+
+              class A {
+                  void upload(MultipartEntityBuilder builder, Path report, Path image) throws IOException {
+                      builder.addBinaryBody("report", report.toFile(), ContentType.TEXT_PLAIN, "report.txt");
+                      builder.addPart("image", new FileBody(image.toFile(), ContentType.DEFAULT_BINARY, "image.png"));
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepReadWhenIOExceptionIsCaught() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.entity.mime.MultipartEntityBuilder;
+
+              import java.io.IOException;
+              import java.io.UncheckedIOException;
+              import java.nio.file.Files;
+              import java.nio.file.Path;
+
+              class A {
+                  void upload(MultipartEntityBuilder builder, Path archive) {
+                      try {
+                          builder.addBinaryBody("archive", Files.readAllBytes(archive));
+                      } catch (IOException e) {
+                          throw new UncheckedIOException(e);
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepByteArrayBodyVariable() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.entity.mime.ByteArrayBody;
+
+              import java.io.IOException;
+              import java.nio.file.Files;
+              import java.nio.file.Path;
+
+              class A {
+                  ByteArrayBody body(Path archive) throws IOException {
+                      ByteArrayBody body = new ByteArrayBody(Files.readAllBytes(archive), "archive.zip");
+                      return body;
+                  }
+              }
+              """
+          )
+        );
+    }
+}
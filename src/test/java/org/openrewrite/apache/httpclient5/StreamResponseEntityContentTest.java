@@ -0,0 +1,293 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.httpclient5;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class StreamResponseEntityContentTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .parser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(),
+            "httpclient-4", "httpcore-4", "httpclient5", "httpcore5"))
+          .recipe(new StreamResponseEntityContent());
+    }
+
+    @DocumentExample
+    @Test
+    void byteArrayInputStreamToContent() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.core5.http.ClassicHttpResponse;
+              import org.apache.hc.core5.http.io.entity.EntityUtils;
+
+              import java.io.ByteArrayInputStream;
+              import java.io.IOException;
+              import java.util.Properties;
+
+              class A {
+                  Properties read(ClassicHttpResponse response) throws IOException {
+                      Properties properties = new Properties();
+                      properties.load(new ByteArrayInputStream(EntityUtils.toByteArray(response.getEntity())));
+                      return properties;
+                  }
+              }
+              """,
+            """
+              import org.apache.hc.core5.http.ClassicHttpResponse;
+
+              import java.io.IOException;
+              import java.util.Properties;
+
+              class A {
+                  Properties read(ClassicHttpResponse response) throws IOException {
+                      Properties properties = new Properties();
+                      properties.load(response.getEntity().getContent());
+                      return properties;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void stringReaderToInputStreamReader() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.http.HttpResponse;
+              import org.apache.http.util.EntityUtils;
+
+              import java.io.IOException;
+              import java.io.StringReader;
+              import java.nio.charset.StandardCharsets;
+              import java.util.Properties;
+
+              class A {
+                  Properties read(HttpResponse response) throws IOException {
+                      Properties properties = new Properties();
+                      properties.load(new StringReader(EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8)));
+                      return properties;
+                  }
+              }
+              """,
+            """
+              import org.apache.http.HttpResponse;
+
+              import java.io.IOException;
+              import java.io.InputStreamReader;
+              import java.nio.charset.StandardCharsets;
+              import java.util.Properties;
+
+              class A {
+                  Properties read(HttpResponse response) throws IOException {
+                      Properties properties = new Properties();
+                      properties.load(new InputStreamReader(response.getEntity().getContent(), StandardCharsets.UTF_8));
+                      return properties;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void jacksonReadValueFromContent() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.fasterxml.jackson.databind;
+
+              import java.io.InputStream;
+
+              public class ObjectMapper {
+                  public <T> T readValue(String content, Class<T> valueType) {
+                      return null;
+                  }
+
+                  public <T> T readValue(InputStream src, Class<T> valueType) {
+                      return null;
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import org.apache.hc.core5.http.ClassicHttpResponse;
+              import org.apache.hc.core5.http.ParseException;
+              import org.apache.hc.core5.http.io.entity.EntityUtils;
+
+              import java.io.IOException;
+
+              class A {
+                  <T> T read(ObjectMapper mapper, ClassicHttpResponse response, Class<T> type) throws IOException, ParseException {
+                      return mapper.readValue(EntityUtils.toString(response.getEntity()), type);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import org.apache.hc.core5.http.ClassicHttpResponse;
+              import org.apache.hc.core5.http.ParseException;
+
+              import java.io.IOException;
+
+              class A {
+                  <T> T read(ObjectMapper mapper, ClassicHttpResponse response, Class<T> type) throws IOException, ParseException {
+                      return mapper.readValue(response.getEntity().getContent(), type);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noChangeWhenBufferedValueIsStored() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.core5.http.ClassicHttpResponse;
+              import org.apache.hc.core5.http.io.entity.EntityUtils;
+
+              import java.io.ByteArrayInputStream;
+              import java.io.IOException;
+              import java.io.InputStream;
+
+              class A {
+                  InputStream read(ClassicHttpResponse response) throws IOException {
+                      InputStream in = new ByteArrayInputStream(EntityUtils.toByteArray(response.getEntity()));
+                      return in;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noChangeWhenCalleeMayNotConsumeTheStream() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.core5.http.ClassicHttpResponse;
+              import org.apache.hc.core5.http.io.entity.EntityUtils;
+
+              import java.io.ByteArrayInputStream;
+              import java.io.IOException;
+              import java.io.InputStream;
+
+              class A {
+                  void read(ClassicHttpResponse response) throws IOException {
+                      process(new ByteArrayInputStream(EntityUtils.toByteArray(response.getEntity())));
+                  }
+
+                  void process(InputStream in) {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noChangeWhenParseExceptionIsCaught() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.core5.http.ClassicHttpResponse;
+              import org.apache.hc.core5.http.ParseException;
+              import org.apache.hc.core5.http.io.entity.EntityUtils;
+
+              import java.io.IOException;
+              import java.io.StringReader;
+              import java.nio.charset.StandardCharsets;
+              import java.util.Properties;
+
+              class A {
+                  Properties read(ClassicHttpResponse response) throws IOException {
+                      Properties properties = new Properties();
+                      try {
+                          properties.load(new StringReader(EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8)));
+                      } catch (ParseException e) {
+                          throw new IOException(e);
+                      }
+                      return properties;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noChangeForJacksonByteRange() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.fasterxml.jackson.databind;
+
+              import java.io.InputStream;
+
+              public class ObjectMapper {
+                  public <T> T readValue(byte[] src, int offset, int len, Class<T> valueType) {
+                      return null;
+                  }
+
+                  public <T> T readValue(InputStream src, Class<T> valueType) {
+                      return null;
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import org.apache.hc.core5.http.ClassicHttpResponse;
+              import org.apache.hc.core5.http.io.entity.EntityUtils;
+
+              import java.io.IOException;
+
+              class A {
+                  <T> T read(ObjectMapper mapper, ClassicHttpResponse response, Class<T> type) throws IOException {
+                      return mapper.readValue(EntityUtils.toByteArray(response.getEntity()), 0, 16, type);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
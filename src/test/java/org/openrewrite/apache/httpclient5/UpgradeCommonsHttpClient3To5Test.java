@@ -0,0 +1,317 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.httpclient5;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class UpgradeCommonsHttpClient3To5Test implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .parser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(),
+              "httpclient5", "httpcore5")
+            //language=java
+            .dependsOn(
+              """
+                package org.apache.commons.httpclient;
+                public class HttpException extends java.io.IOException {}
+                """,
+              """
+                package org.apache.commons.httpclient;
+                public interface HttpMethod {
+                    void setRequestHeader(String name, String value);
+                    int getStatusCode();
+                    String getStatusText();
+                    String getResponseBodyAsString() throws java.io.IOException;
+                    void releaseConnection();
+                }
+                """,
+              """
+                package org.apache.commons.httpclient;
+                public abstract class HttpMethodBase implements HttpMethod {
+                    public void setRequestHeader(String name, String value) {}
+                    public int getStatusCode() { return 0; }
+                    public String getStatusText() { return null; }
+                    public String getResponseBodyAsString() throws java.io.IOException { return null; }
+                    public void releaseConnection() {}
+                }
+                """,
+              """
+                package org.apache.commons.httpclient.methods;
+                public interface RequestEntity {}
+                """,
+              """
+                package org.apache.commons.httpclient.methods;
+                public class StringRequestEntity implements RequestEntity {
+                    public StringRequestEntity(String content, String contentType, String charset) throws java.io.UnsupportedEncodingException {}
+                }
+                """,
+              """
+                package org.apache.commons.httpclient.methods;
+                public abstract class EntityEnclosingMethod extends org.apache.commons.httpclient.HttpMethodBase {
+                    public void setRequestEntity(RequestEntity requestEntity) {}
+                }
+                """,
+              """
+                package org.apache.commons.httpclient.methods;
+                public class GetMethod extends org.apache.commons.httpclient.HttpMethodBase {
+                    public GetMethod(String uri) {}
+                }
+                """,
+              """
+                package org.apache.commons.httpclient.methods;
+                public class PostMethod extends EntityEnclosingMethod {
+                    public PostMethod(String uri) {}
+                }
+                """,
+              """
+                package org.apache.commons.httpclient.params;
+                public class HttpConnectionManagerParams {
+                    public void setMaxTotalConnections(int maxTotalConnections) {}
+                    public void setDefaultMaxConnectionsPerHost(int maxHostConnections) {}
+                }
+                """,
+              """
+                package org.apache.commons.httpclient;
+                public interface HttpConnectionManager {}
+                """,
+              """
+                package org.apache.commons.httpclient;
+                import org.apache.commons.httpclient.params.HttpConnectionManagerParams;
+                public class MultiThreadedHttpConnectionManager implements HttpConnectionManager {
+                    public HttpConnectionManagerParams getParams() { return null; }
+                }
+                """,
+              """
+                package org.apache.commons.httpclient;
+                public class HttpStatus {
+                    public static final int SC_OK = 200;
+                }
+                """,
+              """
+                package org.apache.commons.httpclient;
+                public class HttpClient {
+                    public HttpClient() {}
+                    public HttpClient(HttpConnectionManager httpConnectionManager) {}
+                    public int executeMethod(HttpMethod method) throws java.io.IOException, HttpException { return 0; }
+                }
+                """
+            ))
+          .recipeFromResources("org.openrewrite.apache.httpclient5.UpgradeCommonsHttpClient_3_5");
+    }
+
+    @DocumentExample
+    @Test
+    void executeMethodReleasedInFinally() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.commons.httpclient.HttpClient;
+              import org.apache.commons.httpclient.MultiThreadedHttpConnectionManager;
+              import org.apache.commons.httpclient.methods.GetMethod;
+
+              import java.io.IOException;
+
+              class A {
+                  private final HttpClient client = new HttpClient(new MultiThreadedHttpConnectionManager());
+
+                  String fetch(String url) throws IOException {
+                      GetMethod method = new GetMethod(url);
+                      try {
+                          client.executeMethod(method);
+                          return method.getResponseBodyAsString();
+                      } finally {
+                          method.releaseConnection();
+                      }
+                  }
+              }
+              """,
+            """
+              import org.apache.hc.client5.http.classic.methods.HttpGet;
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+              import org.apache.hc.client5.http.impl.classic.HttpClients;
+              import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+              import org.apache.hc.core5.http.io.entity.EntityUtils;
+
+              import java.io.IOException;
+
+              class A {
+                  private final CloseableHttpClient client = HttpClients.custom().setConnectionManager(new PoolingHttpClientConnectionManager()).build();
+
+                  String fetch(String url) throws IOException {
+                      HttpGet method = new HttpGet(url);
+                      return client.execute(method, response -> EntityUtils.toString(response.getEntity()));
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void executeMethodReleasedLaterInBlock() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.commons.httpclient.HttpClient;
+              import org.apache.commons.httpclient.HttpStatus;
+              import org.apache.commons.httpclient.methods.PostMethod;
+              import org.apache.commons.httpclient.methods.StringRequestEntity;
+
+              import java.io.IOException;
+
+              class A {
+                  private final HttpClient client = new HttpClient();
+
+                  void send(String url, String json) throws IOException {
+                      PostMethod post = new PostMethod(url);
+                      post.setRequestHeader("Accept", "application/json");
+                      post.setRequestEntity(new StringRequestEntity(json, "application/json", "UTF-8"));
+                      int status = client.executeMethod(post);
+                      if (status != HttpStatus.SC_OK) {
+                          throw new IOException("Unexpected status " + status + ": " + post.getStatusText());
+                      }
+                      post.releaseConnection();
+                  }
+              }
+              """,
+            """
+              import org.apache.hc.client5.http.classic.methods.HttpPost;
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+              import org.apache.hc.client5.http.impl.classic.HttpClients;
+              import org.apache.hc.core5.http.ContentType;
+              import org.apache.hc.core5.http.HttpStatus;
+              import org.apache.hc.core5.http.io.entity.StringEntity;
+
+              import java.io.IOException;
+
+              class A {
+                  private final CloseableHttpClient client = HttpClients.createDefault();
+
+                  void send(String url, String json) throws IOException {
+                      HttpPost post = new HttpPost(url);
+                      post.setHeader("Accept", "application/json");
+                      post.setEntity(new StringEntity(json, ContentType.create("application/json", "UTF-8")));
+                      client.execute(post, response -> {
+                          int status = response.getCode();
+                          if (status != HttpStatus.SC_OK) {
+                              throw new IOException("Unexpected status " + status + ": " + response.getReasonPhrase());
+                          }
+                          return null;
+                      });
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void stringEntityWithCharsetInContentTypeOrWithoutContentType() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.commons.httpclient.methods.RequestEntity;
+              import org.apache.commons.httpclient.methods.StringRequestEntity;
+
+              import java.io.IOException;
+
+              class A {
+                  RequestEntity json(String body) throws IOException {
+                      return new StringRequestEntity(body, "application/json; charset=UTF-8", null);
+                  }
+
+                  RequestEntity untyped(String body) throws IOException {
+                      return new StringRequestEntity(body, null, null);
+                  }
+
+                  RequestEntity untypedWithCharset(String body) throws IOException {
+                      return new StringRequestEntity(body, null, "UTF-8");
+                  }
+              }
+              """,
+            """
+              import org.apache.hc.core5.http.ContentType;
+              import org.apache.hc.core5.http.HttpEntity;
+              import org.apache.hc.core5.http.io.entity.StringEntity;
+
+              import java.io.IOException;
+
+              class A {
+                  HttpEntity json(String body) throws IOException {
+                      return new StringEntity(body, ContentType.parse("application/json; charset=UTF-8"));
+                  }
+
+                  HttpEntity untyped(String body) throws IOException {
+                      return new StringEntity(body, (ContentType) null);
+                  }
+
+                  HttpEntity untypedWithCharset(String body) throws IOException {
+                      return new StringEntity(body, ContentType.TEXT_PLAIN.withCharset("UTF-8"));
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void connectionManagerLimits() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.commons.httpclient.HttpClient;
+              import org.apache.commons.httpclient.MultiThreadedHttpConnectionManager;
+
+              class A {
+                  HttpClient create() {
+                      MultiThreadedHttpConnectionManager connectionManager = new MultiThreadedHttpConnectionManager();
+                      connectionManager.getParams().setMaxTotalConnections(50);
+                      connectionManager.getParams().setDefaultMaxConnectionsPerHost(10);
+                      return new HttpClient(connectionManager);
+                  }
+              }
+              """,
+            """
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+              import org.apache.hc.client5.http.impl.classic.HttpClients;
+              import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+
+              class A {
+                  CloseableHttpClient create() {
+                      PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+                      connectionManager.setMaxTotal(50);
+                      connectionManager.setDefaultMaxPerRoute(10);
+                      return HttpClients.custom().setConnectionManager(connectionManager).build();
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.httpclient5;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.apache.table.BlockingAsyncExecutions;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class UseCompletableFutureForAsyncExecuteTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .parser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(),
+            "httpclient5", "httpcore5"))
+          .recipe(new UseCompletableFutureForAsyncExecute());
+    }
+
+    @DocumentExample
+    @Test
+    void completeFutureFromCallback() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+              import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+              import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+
+              import java.util.concurrent.CompletableFuture;
+
+              class A {
+                  CompletableFuture<SimpleHttpResponse> fetch(CloseableHttpAsyncClient client, SimpleHttpRequest request) throws Exception {
+                      return CompletableFuture.completedFuture(client.execute(request, null).get());
+                  }
+              }
+              """,
+            """
+              import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+              import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+              import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+              import org.apache.hc.core5.concurrent.FutureCallback;
+
+              import java.util.concurrent.CompletableFuture;
+
+              class A {
+                  CompletableFuture<SimpleHttpResponse> fetch(CloseableHttpAsyncClient client, SimpleHttpRequest request) throws Exception {
+                      CompletableFuture<SimpleHttpResponse> future = new CompletableFuture<>();
+                      client.execute(request, new FutureCallback<SimpleHttpResponse>() {
+                          @Override
+                          public void completed(SimpleHttpResponse result) {
+                              future.complete(result);
+                          }
+
+                          @Override
+                          public void failed(Exception ex) {
+                              future.completeExceptionally(ex);
+                          }
+
+                          @Override
+                          public void cancelled() {
+                              future.cancel(false);
+                          }
+                      });
+                      return future;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void reportBlockingGet() {
+        rewriteRun(
+          spec -> spec.dataTable(BlockingAsyncExecutions.Row.class, rows -> assertThat(rows)
+            .singleElement()
+            .satisfies(row -> {
+                assertThat(row.getMethod()).isEqualTo("fetch");
+                assertThat(row.getReason()).isEqualTo("Enclosing code does not return a future");
+            })),
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+              import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+              import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+
+              class A {
+                  SimpleHttpResponse fetch(CloseableHttpAsyncClient client, SimpleHttpRequest request) throws Exception {
+                      return client.execute(request, null).get();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepGetInsideTryCatchingItsExceptions() {
+        rewriteRun(
+          spec -> spec.dataTable(BlockingAsyncExecutions.Row.class, rows -> assertThat(rows)
+            .singleElement()
+            .satisfies(row -> assertThat(row.getReason()).isEqualTo("An enclosing try catches the exceptions of get()"))),
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+              import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+              import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+
+              import java.util.concurrent.CompletableFuture;
+              import java.util.concurrent.ExecutionException;
+
+              class A {
+                  CompletableFuture<SimpleHttpResponse> fetch(CloseableHttpAsyncClient client, SimpleHttpRequest request) {
+                      try {
+                          return CompletableFuture.completedFuture(client.execute(request, null).get());
+                      } catch (InterruptedException | ExecutionException e) {
+                          throw new IllegalStateException(e);
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.httpclient5;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static java.util.Collections.singletonList;
+import static org.openrewrite.java.Assertions.java;
+
+class UseHttp2AsyncClientTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .parser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(),
+            "httpclient5", "httpcore5"))
+          .recipe(new UseHttp2AsyncClient(singletonList("gateway.internal")));
+    }
+
+    @DocumentExample
+    @Test
+    void customHttp2() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+              import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+
+              class A {
+                  static final String URL = "https://gateway.internal/api";
+
+                  CloseableHttpAsyncClient client() {
+                      return HttpAsyncClients.custom()
+                              .setUserAgent("a")
+                              .build();
+                  }
+              }
+              """,
+            """
+              import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+              import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+
+              class A {
+                  static final String URL = "https://gateway.internal/api";
+
+                  CloseableHttpAsyncClient client() {
+                      return HttpAsyncClients.customHttp2()
+                              .setUserAgent("a")
+                              .build();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void createHttp2DefaultAndSystem() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+              import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+
+              class A {
+                  static final String URL = "https://gateway.internal/api";
+
+                  CloseableHttpAsyncClient defaultClient() {
+                      return HttpAsyncClients.createDefault();
+                  }
+
+                  CloseableHttpAsyncClient systemClient() {
+                      return HttpAsyncClients.createSystem();
+                  }
+              }
+              """,
+            """
+              import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+              import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+
+              class A {
+                  static final String URL = "https://gateway.internal/api";
+
+                  CloseableHttpAsyncClient defaultClient() {
+                      return HttpAsyncClients.createHttp2Default();
+                  }
+
+                  CloseableHttpAsyncClient systemClient() {
+                      return HttpAsyncClients.createHttp2System();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepBuilderWithConnectionManager() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+              import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+              import org.apache.hc.client5.http.nio.AsyncClientConnectionManager;
+
+              class A {
+                  static final String URL = "https://gateway.internal/api";
+
+                  CloseableHttpAsyncClient client(AsyncClientConnectionManager cm) {
+                      return HttpAsyncClients.custom()
+                              .setConnectionManager(cm)
+                              .build();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void onlyForTargetHosts() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+              import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+
+              class A {
+                  static final String URL = "https://example.com/api";
+
+                  CloseableHttpAsyncClient client() {
+                      return HttpAsyncClients.createDefault();
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.httpclient5;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class UseReactiveResponseConsumerTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .parser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(),
+              "httpclient5", "httpcore5")
+            //language=java
+            .dependsOn(
+              """
+                package org.reactivestreams;
+                public interface Publisher<T> {}
+                """,
+              """
+                package reactor.core.publisher;
+                import org.reactivestreams.Publisher;
+                public abstract class Flux<T> implements Publisher<T> {
+                    public static <T> Flux<T> just(T data) { return null; }
+                    public static <T> Flux<T> from(Publisher<? extends T> source) { return null; }
+                }
+                """
+            ))
+          .recipe(new UseReactiveResponseConsumer());
+    }
+
+    @DocumentExample
+    @Test
+    void streamBodyIntoFlux() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.async.methods.SimpleRequestProducer;
+              import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+              import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+              import org.apache.hc.client5.http.async.methods.SimpleResponseConsumer;
+              import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+              import reactor.core.publisher.Flux;
+
+              import java.nio.ByteBuffer;
+
+              class A {
+                  Flux<ByteBuffer> download(CloseableHttpAsyncClient client, SimpleHttpRequest request) throws Exception {
+                      SimpleHttpResponse response = client.execute(SimpleRequestProducer.create(request), SimpleResponseConsumer.create(), null).get();
+                      System.out.println("Download status " + response.getCode());
+                      return Flux.just(ByteBuffer.wrap(response.getBodyBytes()));
+                  }
+              }
+              """,
+            """
+              import org.apache.hc.client5.http.async.methods.SimpleRequestProducer;
+              import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+              import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+              import org.apache.hc.core5.http.HttpResponse;
+              import org.apache.hc.core5.http.Message;
+              import org.apache.hc.core5.reactive.ReactiveResponseConsumer;
+              import org.reactivestreams.Publisher;
+              import reactor.core.publisher.Flux;
+
+              import java.nio.ByteBuffer;
+
+              class A {
+                  Flux<ByteBuffer> download(CloseableHttpAsyncClient client, SimpleHttpRequest request) throws Exception {
+                      ReactiveResponseConsumer responseConsumer = new ReactiveResponseConsumer();
+                      client.execute(SimpleRequestProducer.create(request), responseConsumer, null);
+                      Message<HttpResponse, Publisher<ByteBuffer>> response = responseConsumer.getResponseFuture().get();
+                      System.out.println("Download status " + response.getHead().getCode());
+                      return Flux.from(response.getBody());
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepBufferedBodyUsedOtherwise() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.async.methods.SimpleRequestProducer;
+              import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+              import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+              import org.apache.hc.client5.http.async.methods.SimpleResponseConsumer;
+              import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+
+              class A {
+                  String fetch(CloseableHttpAsyncClient client, SimpleHttpRequest request) throws Exception {
+                      SimpleHttpResponse response = client.execute(SimpleRequestProducer.create(request), SimpleResponseConsumer.create(), null).get();
+                      return response.getBodyText();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepBufferedBodyWhenEarlierStatementThrows() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.async.methods.SimpleRequestProducer;
+              import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+              import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+              import org.apache.hc.client5.http.async.methods.SimpleResponseConsumer;
+              import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+              import reactor.core.publisher.Flux;
+
+              import java.nio.ByteBuffer;
+
+              class A {
+                  Flux<ByteBuffer> download(CloseableHttpAsyncClient client, SimpleHttpRequest request) throws Exception {
+                      SimpleHttpResponse response = client.execute(SimpleRequestProducer.create(request), SimpleResponseConsumer.create(), null).get();
+                      if (response.getCode() != 200) {
+                          throw new IllegalStateException("Download failed");
+                      }
+                      return Flux.just(ByteBuffer.wrap(response.getBodyBytes()));
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepBufferedBodyWhenPublisherIsNotReturned() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.async.methods.SimpleRequestProducer;
+              import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+              import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+              import org.apache.hc.client5.http.async.methods.SimpleResponseConsumer;
+              import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+              import reactor.core.publisher.Flux;
+
+              import java.nio.ByteBuffer;
+
+              class A {
+                  Flux<ByteBuffer> download(CloseableHttpAsyncClient client, SimpleHttpRequest request) throws Exception {
+                      SimpleHttpResponse response = client.execute(SimpleRequestProducer.create(request), SimpleResponseConsumer.create(), null).get();
+                      Flux<ByteBuffer> body = Flux.just(ByteBuffer.wrap(response.getBodyBytes()));
+                      if (response.getCode() != 200) {
+                          throw new IllegalStateException("Download failed");
+                      }
+                      return body;
+                  }
+              }
+              """
+          )
+        );
+    }
+}
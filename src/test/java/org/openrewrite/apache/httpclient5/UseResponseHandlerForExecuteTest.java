@@ -0,0 +1,243 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.httpclient5;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class UseResponseHandlerForExecuteTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .parser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(),
+            "httpclient5", "httpcore5"))
+          .recipe(new UseResponseHandlerForExecute());
+    }
+
+    @DocumentExample
+    @Test
+    void tryWithResourcesToResponseHandler() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.classic.methods.HttpGet;
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+              import org.apache.hc.core5.http.ParseException;
+              import org.apache.hc.core5.http.io.entity.EntityUtils;
+
+              import java.io.IOException;
+
+              class A {
+                  String fetch(CloseableHttpClient client, HttpGet request) throws IOException, ParseException {
+                      try (CloseableHttpResponse response = client.execute(request)) {
+                          return EntityUtils.toString(response.getEntity());
+                      }
+                  }
+              }
+              """,
+            """
+              import org.apache.hc.client5.http.classic.methods.HttpGet;
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+              import org.apache.hc.core5.http.ParseException;
+              import org.apache.hc.core5.http.io.entity.EntityUtils;
+
+              import java.io.IOException;
+
+              class A {
+                  String fetch(CloseableHttpClient client, HttpGet request) throws IOException, ParseException {
+                      return client.execute(request, response -> EntityUtils.toString(response.getEntity()));
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void closeInFinallyToResponseHandler() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.classic.methods.HttpGet;
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+
+              import java.io.IOException;
+
+              class A {
+                  void log(CloseableHttpClient client, HttpGet request) throws IOException {
+                      CloseableHttpResponse response = client.execute(request);
+                      try {
+                          System.out.println(response.getCode());
+                      } finally {
+                          response.close();
+                      }
+                  }
+              }
+              """,
+            """
+              import org.apache.hc.client5.http.classic.methods.HttpGet;
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+
+              import java.io.IOException;
+
+              class A {
+                  void log(CloseableHttpClient client, HttpGet request) throws IOException {
+                      client.execute(request, response -> {
+                          System.out.println(response.getCode());
+                          return null;
+                      });
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepsCatchClauses() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.classic.methods.HttpGet;
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+
+              import java.io.IOException;
+
+              class A {
+                  int status(CloseableHttpClient client, HttpGet request) {
+                      try (CloseableHttpResponse response = client.execute(request)) {
+                          int code = response.getCode();
+                          return code;
+                      } catch (IOException e) {
+                          return -1;
+                      }
+                  }
+              }
+              """,
+            """
+              import org.apache.hc.client5.http.classic.methods.HttpGet;
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+
+              import java.io.IOException;
+
+              class A {
+                  int status(CloseableHttpClient client, HttpGet request) {
+                      try {
+                          return client.execute(request, response -> {
+                              int code = response.getCode();
+                              return code;
+                          });
+                      } catch (IOException e) {
+                          return -1;
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noChangeWhenHttpExceptionIsCaught() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.classic.methods.HttpGet;
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+              import org.apache.hc.core5.http.ParseException;
+              import org.apache.hc.core5.http.io.entity.EntityUtils;
+
+              import java.io.IOException;
+
+              class A {
+                  String body(CloseableHttpClient client, HttpGet request) {
+                      try (CloseableHttpResponse response = client.execute(request)) {
+                          return EntityUtils.toString(response.getEntity());
+                      } catch (IOException | ParseException e) {
+                          return null;
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noChangeWhenOuterLocalIsAssigned() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.classic.methods.HttpGet;
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+
+              import java.io.IOException;
+
+              class A {
+                  int status(CloseableHttpClient client, HttpGet request) throws IOException {
+                      int code = 0;
+                      try (CloseableHttpResponse response = client.execute(request)) {
+                          code = response.getCode();
+                      }
+                      return code;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noChangeWhenResponseEscapes() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.classic.methods.HttpGet;
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+
+              import java.io.IOException;
+
+              class A {
+                  CloseableHttpResponse fetch(CloseableHttpClient client, HttpGet request) throws IOException {
+                      try (CloseableHttpResponse response = client.execute(request)) {
+                          return response;
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.apache.httpclient5;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.java.Assertions.javaVersion;
+
+class UseVirtualThreadsForHttpClientTasksTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .parser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(),
+            "httpclient5", "httpcore5"))
+          .recipe(new UseVirtualThreadsForHttpClientTasks())
+          .allSources(s -> s.markers(javaVersion(21)));
+    }
+
+    @DocumentExample
+    @Test
+    void virtualThreadsAndRaisedConnectionLimits() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.classic.methods.HttpGet;
+              import org.apache.hc.client5.http.impl.classic.BasicHttpClientResponseHandler;
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+              import org.apache.hc.client5.http.impl.classic.HttpClients;
+              import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+
+              import java.util.List;
+              import java.util.concurrent.ExecutorService;
+              import java.util.concurrent.Executors;
+
+              class A {
+                  void fetchAll(List<String> urls) {
+                      CloseableHttpClient client = HttpClients.custom()
+                              .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                                      .setMaxConnPerRoute(20)
+                                      .build())
+                              .build();
+                      ExecutorService pool = Executors.newFixedThreadPool(50);
+                      for (String url : urls) {
+                          pool.submit(() -> client.execute(new HttpGet(url), new BasicHttpClientResponseHandler()));
+                      }
+                      pool.shutdown();
+                  }
+              }
+              """,
+            """
+              import org.apache.hc.client5.http.classic.methods.HttpGet;
+              import org.apache.hc.client5.http.impl.classic.BasicHttpClientResponseHandler;
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+              import org.apache.hc.client5.http.impl.classic.HttpClients;
+              import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+
+              import java.util.List;
+              import java.util.concurrent.ExecutorService;
+              import java.util.concurrent.Executors;
+
+              class A {
+                  void fetchAll(List<String> urls) {
+                      CloseableHttpClient client = HttpClients.custom()
+                              .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                                      .setMaxConnPerRoute(50).setMaxConnTotal(50)
+                                      .build())
+                              .build();
+                      ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor();
+                      for (String url : urls) {
+                          pool.submit(() -> client.execute(new HttpGet(url), new BasicHttpClientResponseHandler()));
+                      }
+                      pool.shutdown();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void raiseOnlyLimitsOfTheTasksClient() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.classic.methods.HttpGet;
+              import org.apache.hc.client5.http.impl.classic.BasicHttpClientResponseHandler;
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+              import org.apache.hc.client5.http.impl.classic.HttpClients;
+              import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+
+              import java.util.List;
+              import java.util.concurrent.ExecutorService;
+              import java.util.concurrent.Executors;
+
+              class A {
+                  private final CloseableHttpClient client = HttpClients.custom()
+                          .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                                  .setMaxConnPerRoute(20)
+                                  .setMaxConnTotal(20)
+                                  .build())
+                          .build();
+                  private final CloseableHttpClient auditClient = HttpClients.custom()
+                          .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                                  .setMaxConnPerRoute(2)
+                                  .setMaxConnTotal(2)
+                                  .build())
+                          .build();
+
+                  void fetchAll(List<String> urls) {
+                      ExecutorService pool = Executors.newFixedThreadPool(50);
+                      for (String url : urls) {
+                          pool.submit(() -> client.execute(new HttpGet(url), new BasicHttpClientResponseHandler()));
+                      }
+                      pool.shutdown();
+                  }
+              }
+              """,
+            """
+              import org.apache.hc.client5.http.classic.methods.HttpGet;
+              import org.apache.hc.client5.http.impl.classic.BasicHttpClientResponseHandler;
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+              import org.apache.hc.client5.http.impl.classic.HttpClients;
+              import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+
+              import java.util.List;
+              import java.util.concurrent.ExecutorService;
+              import java.util.concurrent.Executors;
+
+              class A {
+                  private final CloseableHttpClient client = HttpClients.custom()
+                          .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                                  .setMaxConnPerRoute(50)
+                                  .setMaxConnTotal(50)
+                                  .build())
+                          .build();
+                  private final CloseableHttpClient auditClient = HttpClients.custom()
+                          .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                                  .setMaxConnPerRoute(2)
+                                  .setMaxConnTotal(2)
+                                  .build())
+                          .build();
+
+                  void fetchAll(List<String> urls) {
+                      ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor();
+                      for (String url : urls) {
+                          pool.submit(() -> client.execute(new HttpGet(url), new BasicHttpClientResponseHandler()));
+                      }
+                      pool.shutdown();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepFixedPoolForOtherTasks() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.classic.methods.HttpGet;
+              import org.apache.hc.client5.http.impl.classic.BasicHttpClientResponseHandler;
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+
+              import java.util.concurrent.ExecutorService;
+              import java.util.concurrent.Executors;
+
+              class A {
+                  void fetch(CloseableHttpClient client, Runnable cpuBound) {
+                      ExecutorService pool = Executors.newFixedThreadPool(8);
+                      pool.submit(() -> client.execute(new HttpGet("https://example.com"), new BasicHttpClientResponseHandler()));
+                      pool.submit(cpuBound);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepFixedPoolBeforeJava21() {
+        rewriteRun(
+          spec -> spec.allSources(s -> s.markers(javaVersion(17))),
+          //language=java
+          java(
+            """
+              import org.apache.hc.client5.http.classic.methods.HttpGet;
+              import org.apache.hc.client5.http.impl.classic.BasicHttpClientResponseHandler;
+              import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+
+              import java.util.concurrent.ExecutorService;
+              import java.util.concurrent.Executors;
+
+              class A {
+                  void fetch(CloseableHttpClient client) {
+                      ExecutorService pool = Executors.newFixedThreadPool(8);
+                      pool.submit(() -> client.execute(new HttpGet("https://example.com"), new BasicHttpClientResponseHandler()));
+                  }
+              }
+              """
+          )
+        );
+    }
+}